@@ -0,0 +1,263 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.benchmarks;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableIterator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/// Generate dataset fixtures used by benchmarks.
+///
+/// Each fixture contains a single table, `bench`, with the given number of rows and the following columns:
+/// - `id`: Integer.
+/// - `name`: String.
+/// - `amount`: Decimal.
+/// - `active`: Boolean.
+/// - `created_at`: Timestamp.
+/// - `description`: String, `null` for one row out of ten.
+///
+/// Fixtures are written to a temporary directory, deleted when the JVM exits.
+public final class BenchmarkFixtures {
+
+	/// The table name.
+	public static final String TABLE = "bench";
+
+	/// The column names.
+	private static final String[] COLUMNS = {
+		"id",
+		"name",
+		"amount",
+		"active",
+		"created_at",
+		"description",
+	};
+
+	/// The timestamp of the first row.
+	private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+
+	/// The timestamp format.
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	private BenchmarkFixtures() {
+	}
+
+	/// Generate a JSON fixture.
+	///
+	/// @param rows The number of rows.
+	/// @return The fixture path.
+	/// @throws IOException If the fixture cannot be written.
+	public static Path json(int rows) throws IOException {
+		Path path = createFile("bench.json");
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("{\n  \"" + TABLE + "\": [\n");
+			for (int i = 0; i < rows; i++) {
+				writer.write(i == 0 ? "    {" : ",\n    {");
+				for (int c = 0; c < COLUMNS.length; c++) {
+					Object value = value(i, c);
+					writer.write(c == 0 ? "" : ", ");
+					writer.write("\"" + COLUMNS[c] + "\": " + (value instanceof String ? "\"" + value + "\"" : value));
+				}
+
+				writer.write("}");
+			}
+
+			writer.write("\n  ]\n}\n");
+		}
+
+		return path;
+	}
+
+	/// Generate a YAML fixture.
+	///
+	/// @param rows The number of rows.
+	/// @return The fixture path.
+	/// @throws IOException If the fixture cannot be written.
+	public static Path yaml(int rows) throws IOException {
+		Path path = createFile("bench.yml");
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write(TABLE + ":\n");
+			for (int i = 0; i < rows; i++) {
+				for (int c = 0; c < COLUMNS.length; c++) {
+					Object value = value(i, c);
+					writer.write(c == 0 ? "  - " : "    ");
+					writer.write(COLUMNS[c] + ": " + (value instanceof String ? "\"" + value + "\"" : value) + "\n");
+				}
+			}
+		}
+
+		return path;
+	}
+
+	/// Generate a flat XML fixture.
+	///
+	/// @param rows The number of rows.
+	/// @return The fixture path.
+	/// @throws IOException If the fixture cannot be written.
+	public static Path xml(int rows) throws IOException {
+		Path path = createFile("bench.xml");
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<dataset>\n");
+			for (int i = 0; i < rows; i++) {
+				writer.write("  <" + TABLE);
+				for (int c = 0; c < COLUMNS.length; c++) {
+					Object value = value(i, c);
+					if (value != null) {
+						writer.write(" " + COLUMNS[c] + "=\"" + value + "\"");
+					}
+				}
+
+				writer.write("/>\n");
+			}
+
+			writer.write("</dataset>\n");
+		}
+
+		return path;
+	}
+
+	/// Generate a CSV fixture, with its `table-ordering.txt` file.
+	///
+	/// @param rows The number of rows.
+	/// @return The fixture path.
+	/// @throws IOException If the fixture cannot be written.
+	public static Path csv(int rows) throws IOException {
+		Path path = createFile(TABLE + ".csv");
+		Path ordering = path.resolveSibling("table-ordering.txt");
+		Files.write(ordering, (TABLE + "\n").getBytes(StandardCharsets.UTF_8));
+		ordering.toFile().deleteOnExit();
+
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write(String.join(",", COLUMNS) + "\n");
+			for (int i = 0; i < rows; i++) {
+				for (int c = 0; c < COLUMNS.length; c++) {
+					Object value = value(i, c);
+					writer.write(c == 0 ? "" : ",");
+					writer.write(value == null ? "null" : "\"" + value + "\"");
+				}
+
+				writer.write("\n");
+			}
+		}
+
+		return path;
+	}
+
+	/// Generate an SQL script: the `bench` table DDL, followed by one `INSERT` statement per row (with a line
+	/// comment every 100 rows, and a block comment every 1000 rows).
+	///
+	/// @param rows The number of rows.
+	/// @return The fixture path.
+	/// @throws IOException If the fixture cannot be written.
+	public static Path sql(int rows) throws IOException {
+		Path path = createFile(TABLE + ".sql");
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("/*\n * Benchmark fixture.\n */\n");
+			writer.write("CREATE TABLE " + TABLE + " (\n");
+			writer.write("  id INT PRIMARY KEY,\n  name VARCHAR(100),\n  amount DECIMAL(10, 2),\n  active BOOLEAN,\n  created_at TIMESTAMP,\n  description VARCHAR(200)\n);\n");
+
+			for (int i = 0; i < rows; i++) {
+				if (i % 1000 == 0) {
+					writer.write("/* Rows " + i + " to " + (i + 999) + " */\n");
+				}
+				else if (i % 100 == 0) {
+					writer.write("-- Row " + i + "\n");
+				}
+
+				writer.write("INSERT INTO " + TABLE + " (" + String.join(", ", COLUMNS) + ") VALUES (");
+				for (int c = 0; c < COLUMNS.length; c++) {
+					Object value = value(i, c);
+					writer.write(c == 0 ? "" : ", ");
+					writer.write(value instanceof String ? "'" + value + "'" : String.valueOf(value));
+				}
+
+				writer.write(");\n");
+			}
+		}
+
+		return path;
+	}
+
+	/// Get the column names.
+	///
+	/// @return The column names.
+	public static String[] columns() {
+		return COLUMNS.clone();
+	}
+
+	/// Get the value of given column, for given row.
+	///
+	/// @param row The row index.
+	/// @param column The column index.
+	/// @return The value.
+	public static Object value(int row, int column) {
+		switch (column) {
+			case 0:
+				return row;
+			case 1:
+				return "name-" + row;
+			case 2:
+				return BigDecimal.valueOf(row * 31L % 100000, 2);
+			case 3:
+				return row % 2 == 0;
+			case 4:
+				return TIMESTAMP.format(EPOCH.plusSeconds(row));
+			default:
+				return row % 10 == 0 ? null : "Description of row " + row;
+		}
+	}
+
+	/// Count the rows of all tables of given dataset, so that lazy datasets are fully read.
+	///
+	/// @param dataSet The dataset.
+	/// @return The number of rows.
+	/// @throws DataSetException If the dataset cannot be read.
+	public static int countRows(IDataSet dataSet) throws DataSetException {
+		int rows = 0;
+		ITableIterator it = dataSet.iterator();
+		while (it.next()) {
+			rows += it.getTable().getRowCount();
+		}
+
+		return rows;
+	}
+
+	private static Path createFile(String name) throws IOException {
+		Path dir = Files.createTempDirectory("dbunit-jmh-");
+		dir.toFile().deleteOnExit();
+
+		Path path = dir.resolve(name);
+		path.toFile().deleteOnExit();
+		return path;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.benchmarks;
+
+import com.github.mjeanroy.dbunit.core.dataset.DataSetBuilder;
+import com.github.mjeanroy.dbunit.core.dataset.DataSetBuilderRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Measure [DataSetBuilder#build()], with the rows of the generated fixtures (see [BenchmarkFixtures]).
+///
+/// Run with:
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="DataSetBuilderBenchmark -prof gc -prof com.github.mjeanroy.dbunit.benchmarks.PeakHeapProfiler"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DataSetBuilderBenchmark {
+
+	@Param({"1000", "100000", "1000000"})
+	public int rows;
+
+	private List<DataSetBuilderRow> tableRows;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		String[] columns = BenchmarkFixtures.columns();
+		tableRows = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			Map<String, Object> values = new LinkedHashMap<>();
+			for (int c = 0; c < columns.length; c++) {
+				values.put(columns[c], BenchmarkFixtures.value(i, c));
+			}
+
+			tableRows.add(DataSetBuilder.row(values));
+		}
+	}
+
+	@Benchmark
+	public int build() throws Exception {
+		return BenchmarkFixtures.countRows(
+			DataSetBuilder.builder().addTable(BenchmarkFixtures.TABLE, tableRows).build()
+		);
+	}
+}
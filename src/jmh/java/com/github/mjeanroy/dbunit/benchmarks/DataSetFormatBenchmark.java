@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.benchmarks;
+
+import com.github.mjeanroy.dbunit.core.dataset.DataSetFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/// Measure the creation of XML and CSV datasets with [DataSetFactory], from generated fixtures
+/// (see [BenchmarkFixtures]).
+///
+/// JSON and YAML datasets are measured per parser backend, see `JsonDataSetBenchmark` and `YamlDataSetBenchmark`.
+///
+/// Run with:
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="DataSetFormatBenchmark -prof gc -prof com.github.mjeanroy.dbunit.benchmarks.PeakHeapProfiler"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DataSetFormatBenchmark {
+
+	@Param({"xml", "csv"})
+	public String format;
+
+	@Param({"1000", "100000", "1000000"})
+	public int rows;
+
+	private String[] paths;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		Path path = "xml".equals(format) ? BenchmarkFixtures.xml(rows) : BenchmarkFixtures.csv(rows);
+		paths = new String[] {
+			"file:" + path,
+		};
+	}
+
+	@Benchmark
+	public int create() throws Exception {
+		return BenchmarkFixtures.countRows(
+			DataSetFactory.createDataSet(paths)
+		);
+	}
+}
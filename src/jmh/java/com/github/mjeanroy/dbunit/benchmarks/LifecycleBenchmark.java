@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.benchmarks;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitTearDown;
+import com.github.mjeanroy.dbunit.core.dataset.DataSetBuilder;
+import com.github.mjeanroy.dbunit.core.dataset.DataSetBuilderRow;
+import com.github.mjeanroy.dbunit.core.dataset.DataSetProvider;
+import com.github.mjeanroy.dbunit.core.jdbc.AutoDetectForeignKeyManager;
+import com.github.mjeanroy.dbunit.core.operation.DbUnitOperation;
+import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
+import org.dbunit.dataset.IDataSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Measure the whole fixture lifecycle ([DbUnitRunner#beforeTest(Method)] followed by [DbUnitRunner#afterTest(Method)])
+/// against in-memory H2 and HSQLDB databases.
+///
+/// The schema and the dataset are generated for each trial: `tables` tables (`t0`, `t1`, ...) with `rows` rows each,
+/// a ratio `fkDensity` of the tables having a foreign key to the previous table. The `scenario` parameter selects the
+/// DbUnit configuration:
+/// - `default`: `CLEAN_INSERT` setup, no tear down.
+/// - `batched`: Batched statements, with a batch size of 1000.
+/// - `fkManagers`: Foreign keys disabled during setup (see [AutoDetectForeignKeyManager]).
+/// - `compiled`: Compiled setup plans (see [DbUnitConfig#compiledPlans()]).
+/// - `deleteAll`: `DELETE_ALL` tear down.
+/// - `truncate`: `TRUNCATE_TABLE` tear down, with foreign keys disabled.
+///
+/// Since annotations are read once per test class, each parameter combination must run in its own fork (which is
+/// the JMH default).
+///
+/// Run with (use `-p` to select parameters, for example `-p database=h2 -p scenario=default,batched`):
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="LifecycleBenchmark -prof gc"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LifecycleBenchmark {
+
+	@Param({"h2", "hsql"})
+	public String database;
+
+	@Param({"default", "batched", "fkManagers", "compiled", "deleteAll", "truncate"})
+	public String scenario;
+
+	@Param({"1", "10"})
+	public int tables;
+
+	@Param({"10", "1000"})
+	public int rows;
+
+	@Param({"0.0", "1.0"})
+	public double fkDensity;
+
+	private EmbeddedDatabase db;
+	private DbUnitRunner runner;
+	private Method testMethod;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		db = new EmbeddedDatabaseBuilder()
+			.setType("h2".equals(database) ? EmbeddedDatabaseType.H2 : EmbeddedDatabaseType.HSQL)
+			.generateUniqueName(true)
+			.build();
+
+		int fkTables = (int) Math.round(fkDensity * (tables - 1));
+		try (Connection connection = db.getConnection(); Statement statement = connection.createStatement()) {
+			for (int i = 0; i < tables; i++) {
+				String fk = i > 0 && i <= fkTables
+					? ", CONSTRAINT fk_t" + i + " FOREIGN KEY (parent_id) REFERENCES t" + (i - 1) + " (id)"
+					: "";
+
+				statement.execute(
+					"CREATE TABLE t" + i + " (id INT PRIMARY KEY, name VARCHAR(64), amount DECIMAL(10, 2), parent_id INT" + fk + ")"
+				);
+			}
+		}
+
+		GeneratedDataSet.tables = tables;
+		GeneratedDataSet.rows = rows;
+
+		Class<?> testClass = testClass(scenario);
+		testMethod = testClass.getMethod("method1");
+		runner = new DbUnitRunner(testClass, db);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		db.shutdown();
+	}
+
+	@Benchmark
+	public void lifecycle() {
+		runner.beforeTest(testMethod);
+		runner.afterTest(testMethod);
+	}
+
+	private static Class<?> testClass(String scenario) {
+		switch (scenario) {
+			case "default":
+				return WithDefault.class;
+			case "batched":
+				return WithBatchedStatements.class;
+			case "fkManagers":
+				return WithFkManagers.class;
+			case "compiled":
+				return WithCompiledPlans.class;
+			case "deleteAll":
+				return WithDeleteAll.class;
+			case "truncate":
+				return WithTruncate.class;
+			default:
+				throw new IllegalArgumentException("Unknown scenario: " + scenario);
+		}
+	}
+
+	/// Dataset generated with the shape of the current trial.
+	public static class GeneratedDataSet implements DataSetProvider {
+		static volatile int tables;
+		static volatile int rows;
+
+		@Override
+		public IDataSet get() throws Exception {
+			DataSetBuilder builder = DataSetBuilder.builder();
+			for (int i = 0; i < tables; i++) {
+				List<DataSetBuilderRow> tableRows = new ArrayList<>(rows);
+				for (int j = 0; j < rows; j++) {
+					Map<String, Object> values = new LinkedHashMap<>();
+					values.put("id", j);
+					values.put("name", "name-" + j);
+					values.put("amount", BigDecimal.valueOf(j * 31L % 100000, 2));
+					values.put("parent_id", i == 0 ? null : j);
+					tableRows.add(DataSetBuilder.row(values));
+				}
+
+				builder.addTable("t" + i, tableRows);
+			}
+
+			return builder.build();
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	public static class WithDefault {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	@DbUnitConfig(batchedStatements = true, batchSize = 1000)
+	public static class WithBatchedStatements {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	@DbUnitConfig(fkManagers = AutoDetectForeignKeyManager.class)
+	public static class WithFkManagers {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	@DbUnitConfig(compiledPlans = true)
+	public static class WithCompiledPlans {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	@DbUnitTearDown(DbUnitOperation.DELETE_ALL)
+	public static class WithDeleteAll {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(providers = GeneratedDataSet.class)
+	@DbUnitConfig(fkManagers = AutoDetectForeignKeyManager.class)
+	@DbUnitTearDown(DbUnitOperation.TRUNCATE_TABLE)
+	public static class WithTruncate {
+		public void method1() {
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.benchmarks;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.XML_DATASET;
+
+/// Compare the default `CLEAN_INSERT` setup with the compiled setup plans (see [DbUnitConfig#compiledPlans()]).
+///
+/// Run with:
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="SetupPlanBenchmark"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SetupPlanBenchmark {
+
+	@Param({"default", "compiled"})
+	public String mode;
+
+	private EmbeddedDatabase db;
+	private DbUnitRunner runner;
+	private Method testMethod;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		db = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.HSQL)
+			.generateUniqueName(true)
+			.addScript("classpath:/sql/schema.sql")
+			.build();
+
+		Class<?> testClass = "compiled".equals(mode) ? WithCompiledPlans.class : WithDefaultSetup.class;
+		testMethod = testClass.getMethod("method1");
+		runner = new DbUnitRunner(testClass, db);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		db.shutdown();
+	}
+
+	@Benchmark
+	public void beforeTest() {
+		runner.beforeTest(testMethod);
+	}
+
+	@DbUnitDataSet(XML_DATASET)
+	public static class WithDefaultSetup {
+		public void method1() {
+		}
+	}
+
+	@DbUnitDataSet(XML_DATASET)
+	@DbUnitConfig(compiledPlans = true)
+	public static class WithCompiledPlans {
+		public void method1() {
+		}
+	}
+}
@@ -27,6 +27,9 @@ package com.github.mjeanroy.dbunit.core.sql;
 import com.github.mjeanroy.dbunit.commons.io.ReaderVisitor;
 
 /// Visit line from SQL scripts.
+///
+/// This is the line based parser (with [SqlQueryState] and [SqlScriptParserContext]) that was used before
+/// [SqlScriptTokenizer]: it is only kept here as the baseline of [SqlScriptParserBenchmark].
 class SqlLineVisitor implements ReaderVisitor {
 
 	/// Parser Context.
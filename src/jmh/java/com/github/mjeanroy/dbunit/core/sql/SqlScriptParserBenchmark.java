@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.benchmarks.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/// Compare the line based SQL parser ([SqlLineVisitor] and [SqlQueryState]) with the
+/// char buffer tokenizer ([SqlScriptTokenizer]), on generated SQL scripts (see [BenchmarkFixtures#sql(int)]):
+/// 10k, 100k and 1M rows are respectively about 1.6 MB, 16 MB and 160 MB.
+///
+/// Scripts are read from memory, so that I/O is not measured.
+///
+/// This benchmark is located in the `core.sql` package, since parsers are not public.
+///
+/// Run with:
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="SqlScriptParserBenchmark -prof gc"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SqlScriptParserBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	public int rows;
+
+	private String script;
+	private SqlScriptParserConfiguration configuration;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Path path = BenchmarkFixtures.sql(rows);
+		script = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		configuration = SqlScriptParserConfiguration.defaultConfiguration();
+	}
+
+	@Benchmark
+	public int lines() throws IOException {
+		SqlScriptParserContext ctx = new SqlScriptParserContext();
+		SqlLineVisitor visitor = new SqlLineVisitor(ctx, configuration);
+
+		int count = 0;
+		try (BufferedReader reader = new BufferedReader(new StringReader(script))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				visitor.visit(line);
+
+				// Consume queries as soon as they are parsed, as the tokenizer does.
+				while (ctx.poll() != null) {
+					count++;
+				}
+			}
+		}
+
+		ctx.flush();
+		return count + ctx.getQueries().size();
+	}
+
+	@Benchmark
+	public int tokenizer() throws IOException {
+		int count = 0;
+		try (Reader reader = new StringReader(script); SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(reader, configuration)) {
+			while (tokenizer.next() != null) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+}
@@ -119,6 +119,14 @@ class SqlScriptParserContext {
 		return unmodifiableList(queries);
 	}
 
+	/// Remove and return the oldest parsed query, so that queries can be consumed
+	/// while the script is still being parsed.
+	///
+	/// @return The oldest parsed query, `null` if no query has been parsed yet.
+	String poll() {
+		return queries.isEmpty() ? null : queries.remove(0);
+	}
+
 	/// Get current state of parsing.
 	///
 	/// @return State.
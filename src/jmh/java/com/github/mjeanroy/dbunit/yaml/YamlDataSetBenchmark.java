@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.yaml;
+
+import com.github.mjeanroy.dbunit.benchmarks.BenchmarkFixtures;
+import com.github.mjeanroy.dbunit.core.dataset.YamlDataSetBuilder;
+import com.github.mjeanroy.dbunit.core.parsers.YamlDatasetParser;
+import com.github.mjeanroy.dbunit.core.resources.Resource;
+import com.github.mjeanroy.dbunit.core.resources.ResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/// Compare YAML parser backends, when building a [com.github.mjeanroy.dbunit.core.dataset.YamlDataSet]
+/// from generated fixtures (see [BenchmarkFixtures]).
+///
+/// This benchmark is located in the `yaml` package, since parser backends are not public.
+///
+/// Note that fixtures are limited to 10,000 rows: YAML backends reject documents larger than 3 MB with
+/// their default loader settings.
+///
+/// Run with:
+///
+/// ```
+/// mvn -P jmh test-compile exec:exec -Djmh.args="YamlDataSetBenchmark -prof gc -prof com.github.mjeanroy.dbunit.benchmarks.PeakHeapProfiler"
+/// ```
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class YamlDataSetBenchmark {
+
+	@Param({"snakeyaml", "jackson2", "jackson3"})
+	public String backend;
+
+	@Param({"1000", "10000"})
+	public int rows;
+
+	private Resource resource;
+	private YamlDatasetParser parser;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		resource = ResourceLoader.FILE_SYSTEM.load("file:" + BenchmarkFixtures.yaml(rows));
+		parser = new YamlDatasetParser(parser(backend));
+	}
+
+	@Benchmark
+	public int build() throws Exception {
+		return BenchmarkFixtures.countRows(
+			new YamlDataSetBuilder(resource).setParser(parser).build()
+		);
+	}
+
+	private static YamlParser parser(String backend) {
+		switch (backend) {
+			case "snakeyaml":
+				return SnakeYamlParser.getInstance();
+			case "jackson2":
+				return Jackson2YamlParser.getInstance();
+			case "jackson3":
+				return Jackson3YamlParser.getInstance();
+			default:
+				throw new IllegalArgumentException("Unknown YAML backend: " + backend);
+		}
+	}
+}
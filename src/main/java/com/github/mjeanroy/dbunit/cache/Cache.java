@@ -43,6 +43,27 @@ public interface Cache<K, V> {
 	/// @return The cache value.
 	V load(K key);
 
+	/// Get entry in cache.
+	///
+	/// If entry is not in the cache, the cache value should be computed with given loader and
+	/// added to the cache.
+	///
+	/// @param key Value identifier.
+	/// @param loader The loader used to compute the value, instead of the cache loader.
+	/// @return The cache value.
+	V load(K key, CacheLoader<K, V> loader);
+
+	/// Get entry in cache, without computing it.
+	///
+	/// @param key Value identifier.
+	/// @return The cache value, `null` if entry is not in the cache.
+	V getIfPresent(K key);
+
+	/// Remove entry from the cache, if any.
+	///
+	/// @param key Value identifier.
+	void invalidate(K key);
+
 	/// Clear cache.
 	void clear();
 
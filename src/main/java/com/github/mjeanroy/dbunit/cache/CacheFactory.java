@@ -49,4 +49,20 @@ public final class CacheFactory {
 	public static <K, V> Cache<K, V> newCache(CacheLoader<K, V> loader) {
 		return GUAVA_AVAILABLE ? new GuavaCache<>(loader) : new DefaultCache<>(loader);
 	}
+
+	/// Create new cache, holding at most `maximumSize` entries: when this size is exceeded, the oldest
+	/// entries are evicted.
+	///
+	/// Note that:
+	/// - If Guava is available, a [Cache] implemented with Guava is returned (least recently used entries are evicted first).
+	/// - If Guava is not available, a dependency-free [Cache] is returned (least recently added entries are evicted first).
+	///
+	/// @param loader The cache loader.
+	/// @param maximumSize The maximum number of entries, a negative value meaning that cache is not bounded.
+	/// @param <K> Type of keys in the cache.
+	/// @param <V> Type of values in the cache.
+	/// @return The new cache instance.
+	public static <K, V> Cache<K, V> newCache(CacheLoader<K, V> loader, long maximumSize) {
+		return GUAVA_AVAILABLE ? new GuavaCache<>(loader, maximumSize) : new DefaultCache<>(loader, maximumSize);
+	}
 }
@@ -27,6 +27,7 @@ package com.github.mjeanroy.dbunit.cache;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -36,6 +37,8 @@ import static com.github.mjeanroy.dbunit.commons.lang.Exceptions.launderThrowabl
 
 /// Dependency free [Cache] implementation.
 ///
+/// If the cache is bounded, the least recently added entries are evicted first.
+///
 /// @param <K> Type of keys.
 /// @param <V> Type of values.
 class DefaultCache<K, V> implements Cache<K, V> {
@@ -43,19 +46,40 @@ class DefaultCache<K, V> implements Cache<K, V> {
 	/// Internal cache.
 	private final ConcurrentMap<K, Future<V>> map;
 
+	/// Keys, in insertion order: used to evict oldest entries when cache is bounded.
+	private final ConcurrentLinkedQueue<K> keys;
+
 	/// Cache loader, used to compute values in the cache.
 	private final CacheLoader<K, V> loader;
 
+	/// The maximum number of entries, a negative value meaning that cache is not bounded.
+	private final long maximumSize;
+
 	/// Create cache.
 	///
 	/// @param loader The cache loader.
 	DefaultCache(CacheLoader<K, V> loader) {
+		this(loader, -1);
+	}
+
+	/// Create cache, holding at most `maximumSize` entries.
+	///
+	/// @param loader The cache loader.
+	/// @param maximumSize The maximum number of entries, a negative value meaning that cache is not bounded.
+	DefaultCache(CacheLoader<K, V> loader, long maximumSize) {
 		this.map = new ConcurrentHashMap<>();
+		this.keys = new ConcurrentLinkedQueue<>();
 		this.loader = loader;
+		this.maximumSize = maximumSize;
+	}
+
+	@Override
+	public V load(K key) {
+		return load(key, loader);
 	}
 
 	@Override
-	public V load(final K key) {
+	public V load(final K key, final CacheLoader<K, V> loader) {
 		// Use while true to retry parsing in case of CancellationException
 		boolean interrupted = false;
 		V value = null;
@@ -69,6 +93,7 @@ class DefaultCache<K, V> implements Cache<K, V> {
 				if (task == null) {
 					task = newTask;
 					newTask.run();
+					evict(key, newTask);
 				}
 			}
 
@@ -76,15 +101,17 @@ class DefaultCache<K, V> implements Cache<K, V> {
 				value = task.get();
 			}
 			catch (CancellationException e) {
-				map.remove(key, task);
+				remove(key, task);
 				// Do not return anything and retry
 			}
 			catch (InterruptedException ex) {
-				map.remove(key, task);
+				remove(key, task);
 				interrupted = true;
 				// Do not return anything and retry
 			}
 			catch (ExecutionException ex) {
+				// Do not keep failures in the cache: next lookup will compute the value again.
+				remove(key, task);
 				throw launderThrowable(ex.getCause());
 			}
 		}
@@ -97,9 +124,38 @@ class DefaultCache<K, V> implements Cache<K, V> {
 		return value;
 	}
 
+	@Override
+	public V getIfPresent(K key) {
+		Future<V> task = map.get(key);
+		if (task == null) {
+			return null;
+		}
+
+		try {
+			return task.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (CancellationException | ExecutionException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public void invalidate(K key) {
+		map.remove(key);
+
+		if (maximumSize >= 0) {
+			keys.remove(key);
+		}
+	}
+
 	@Override
 	public void clear() {
 		map.clear();
+		keys.clear();
 	}
 
 	@Override
@@ -107,6 +163,39 @@ class DefaultCache<K, V> implements Cache<K, V> {
 		return map.size();
 	}
 
+	/// Remove given entry, if it is still mapped to given task.
+	///
+	/// @param key The key.
+	/// @param task The task.
+	private void remove(K key, Future<V> task) {
+		if (map.remove(key, task) && maximumSize >= 0) {
+			keys.remove(key);
+		}
+	}
+
+	/// Register new entry, and evict oldest entries if the cache size is exceeded.
+	///
+	/// The entry is not registered if it has been removed (or replaced) while it was loaded.
+	///
+	/// @param key The new entry.
+	/// @param task The task that loaded the entry.
+	private void evict(K key, Future<V> task) {
+		if (maximumSize < 0 || map.get(key) != task) {
+			return;
+		}
+
+		keys.add(key);
+
+		while (map.size() > maximumSize) {
+			K oldest = keys.poll();
+			if (oldest == null) {
+				break;
+			}
+
+			map.remove(oldest);
+		}
+	}
+
 	/// Adapter used to translate [CacheLoader] to JDK [Callable].
 	///
 	/// @param <K> Type of keys.
@@ -26,6 +26,12 @@ package com.github.mjeanroy.dbunit.cache;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.concurrent.ExecutionException;
+
+import static com.github.mjeanroy.dbunit.commons.lang.Exceptions.launderThrowable;
 
 /// [Cache] implementation using Guava [LoadingCache].
 ///
@@ -40,7 +46,20 @@ class GuavaCache<K, V> implements Cache<K, V> {
 	///
 	/// @param loader Loader used to compute values in the cache.
 	GuavaCache(CacheLoader<K, V> loader) {
-		this.cache = CacheBuilder.newBuilder().build(new GuavaCacheLoaderAdapter<>(loader));
+		this(loader, -1);
+	}
+
+	/// Create cache, holding at most `maximumSize` entries.
+	///
+	/// @param loader Loader used to compute values in the cache.
+	/// @param maximumSize The maximum number of entries, a negative value meaning that cache is not bounded.
+	GuavaCache(CacheLoader<K, V> loader, long maximumSize) {
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+		if (maximumSize >= 0) {
+			builder.maximumSize(maximumSize);
+		}
+
+		this.cache = builder.build(new GuavaCacheLoaderAdapter<>(loader));
 	}
 
 	@Override
@@ -48,6 +67,26 @@ class GuavaCache<K, V> implements Cache<K, V> {
 		return cache.getUnchecked(key);
 	}
 
+	@Override
+	public V load(K key, CacheLoader<K, V> loader) {
+		try {
+			return cache.get(key, () -> loader.load(key));
+		}
+		catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+			throw launderThrowable(ex.getCause());
+		}
+	}
+
+	@Override
+	public V getIfPresent(K key) {
+		return cache.getIfPresent(key);
+	}
+
+	@Override
+	public void invalidate(K key) {
+		cache.invalidate(key);
+	}
+
 	@Override
 	public void clear() {
 		cache.invalidateAll();
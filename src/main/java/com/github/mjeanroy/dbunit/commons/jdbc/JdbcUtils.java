@@ -29,12 +29,17 @@ import com.github.mjeanroy.dbunit.loggers.Logger;
 import com.github.mjeanroy.dbunit.loggers.Loggers;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.checkArgument;
 
 /// Static JDBC Utilities, should only be used internally.
 public final class JdbcUtils {
@@ -59,6 +64,28 @@ public final class JdbcUtils {
 		}
 	}
 
+	/// Convert given (unquoted) identifier to the case used by the database to store identifiers.
+	///
+	/// @param metaData The database metadata.
+	/// @param identifier The identifier, may be `null`.
+	/// @return The identifier, as stored by the database.
+	/// @throws SQLException If reading database metadata failed.
+	public static String toStoredIdentifier(DatabaseMetaData metaData, String identifier) throws SQLException {
+		if (identifier == null) {
+			return null;
+		}
+
+		if (metaData.storesUpperCaseIdentifiers()) {
+			return identifier.toUpperCase(Locale.ROOT);
+		}
+
+		if (metaData.storesLowerCaseIdentifiers()) {
+			return identifier.toLowerCase(Locale.ROOT);
+		}
+
+		return identifier;
+	}
+
 	/// Execute SQL Query and returns result.
 	///
 	/// @param connection JDBC Connection.
@@ -147,4 +174,101 @@ public final class JdbcUtils {
 			log.debug("Batched queries executed: {}", queries);
 		}
 	}
+
+	/// Execute SQL Queries in successive batch statements of (at most) `chunkSize` queries.
+	///
+	/// Queries are consumed lazily: at most `chunkSize` queries are kept in the pending batch, so
+	/// that arbitrary large scripts can be executed without hitting driver limits.
+	///
+	/// If `commit` is `true`, each chunk is committed once executed (auto-commit mode is disabled
+	/// during execution, and restored afterward): a failing chunk is rolled back, but previous chunks
+	/// remain committed.
+	///
+	/// @param connection JDBC Connection.
+	/// @param queries SQL Queries.
+	/// @param chunkSize Maximum number of queries per batch.
+	/// @param commit Commit after each chunk.
+	/// @return The number of executed queries.
+	/// @throws IllegalArgumentException If `chunkSize` is not strictly positive.
+	/// @throws JdbcException If a chunk cannot be executed.
+	public static long executeQueries(Connection connection, Iterator<String> queries, int chunkSize, boolean commit) {
+		checkArgument(chunkSize > 0, "Chunk size must be strictly positive");
+
+		long count = 0;
+		int chunks = 0;
+		int pending = 0;
+		boolean restoreAutoCommit = false;
+
+		try {
+			if (commit && connection.getAutoCommit()) {
+				connection.setAutoCommit(false);
+				restoreAutoCommit = true;
+			}
+
+			try (Statement statement = connection.createStatement()) {
+				while (queries.hasNext()) {
+					String query = queries.next();
+					log.trace("Adding batched query: {}", query);
+					statement.addBatch(query);
+					pending++;
+
+					if (pending == chunkSize) {
+						executeChunk(connection, statement, ++chunks, pending, commit);
+						count += pending;
+						pending = 0;
+					}
+				}
+
+				if (pending > 0) {
+					executeChunk(connection, statement, ++chunks, pending, commit);
+					count += pending;
+				}
+			}
+
+			log.debug("Executed #{} queries in #{} chunk(s)", count, chunks);
+			return count;
+		}
+		catch (SQLException ex) {
+			log.error("Error while executing chunk #{} (#{} queries already executed)", chunks, count);
+
+			if (commit) {
+				rollback(connection);
+			}
+
+			throw new JdbcException("Cannot execute chunk #" + chunks + " (" + count + " queries already executed)", ex);
+		}
+		finally {
+			if (restoreAutoCommit) {
+				restoreAutoCommit(connection);
+			}
+		}
+	}
+
+	private static void executeChunk(Connection connection, Statement statement, int chunk, int size, boolean commit) throws SQLException {
+		log.debug("Executing chunk #{} with #{} queries", chunk, size);
+		statement.executeBatch();
+		statement.clearBatch();
+
+		if (commit) {
+			connection.commit();
+		}
+	}
+
+	private static void rollback(Connection connection) {
+		try {
+			connection.rollback();
+		}
+		catch (SQLException ex) {
+			log.warn("Cannot rollback failing chunk: {}", ex.getMessage());
+		}
+	}
+
+	private static void restoreAutoCommit(Connection connection) {
+		try {
+			connection.setAutoCommit(true);
+		}
+		catch (SQLException ex) {
+			log.warn("Cannot restore auto-commit mode: {}", ex.getMessage());
+		}
+	}
 }
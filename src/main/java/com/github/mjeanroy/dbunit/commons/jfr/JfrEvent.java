@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.commons.jfr;
+
+/// A Java Flight Recorder event, started with [JfrEvents#begin(JfrEventType)].
+///
+/// When JFR is not available, or when the event type is not enabled in any recording, a no-op event is returned:
+/// [#isEnabled()] can be used to skip computing expensive fields.
+///
+/// **This class is for internal use only and is not part of the public API.**
+public final class JfrEvent {
+
+	/// The no-op event.
+	static final JfrEvent NOOP = new JfrEvent(null, null, null);
+
+	/// The event type.
+	private final JfrEventType type;
+
+	/// The underlying `jdk.jfr.Event`, `null` for the no-op event.
+	private final Object event;
+
+	/// The JFR bridge.
+	private final JfrEvents.Bridge bridge;
+
+	JfrEvent(JfrEventType type, Object event, JfrEvents.Bridge bridge) {
+		this.type = type;
+		this.event = event;
+		this.bridge = bridge;
+	}
+
+	/// Check if this event is recorded.
+	///
+	/// @return `true` if the event is recorded, `false` otherwise.
+	public boolean isEnabled() {
+		return event != null;
+	}
+
+	/// Set given field of this event.
+	///
+	/// @param field The field name, as declared by the event type.
+	/// @param value The field value.
+	/// @return This event.
+	public JfrEvent set(String field, Object value) {
+		if (event != null) {
+			bridge.set(event, type.indexOf(field), value);
+		}
+
+		return this;
+	}
+
+	/// End and commit this event.
+	public void commit() {
+		if (event != null) {
+			bridge.commit(event);
+		}
+	}
+}
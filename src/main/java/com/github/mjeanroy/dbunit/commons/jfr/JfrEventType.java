@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.commons.jfr;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/// The Java Flight Recorder event types emitted by DbUnit (see [JfrEvents]).
+///
+/// All events belong to the `DbUnit` category, and are named `com.github.mjeanroy.dbunit.<Name>`.
+///
+/// **This class is for internal use only and is not part of the public API.**
+public enum JfrEventType {
+
+	/// Parse a dataset resource.
+	DATASET_PARSE(
+		"DatasetParse", "Dataset Parse",
+		new Field(String.class, "resource", "Resource"),
+		new Field(int.class, "tables", "Tables"),
+		new Field(long.class, "bytes", "Bytes")
+	),
+
+	/// Load the dataset of a test.
+	FIXTURE_SETUP(
+		"FixtureSetup", "Fixture Setup",
+		new Field(Class.class, "testClass", "Test Class"),
+		new Field(String.class, "testMethod", "Test Method"),
+		new Field(int.class, "tables", "Tables"),
+		new Field(int.class, "rows", "Rows")
+	),
+
+	/// Unload the dataset of a test.
+	FIXTURE_TEARDOWN(
+		"FixtureTeardown", "Fixture Teardown",
+		new Field(Class.class, "testClass", "Test Class"),
+		new Field(String.class, "testMethod", "Test Method"),
+		new Field(int.class, "tables", "Tables"),
+		new Field(int.class, "rows", "Rows")
+	),
+
+	/// Disable or enable foreign keys.
+	FOREIGN_KEY_TOGGLE(
+		"ForeignKeyToggle", "Foreign Key Toggle",
+		new Field(String.class, "manager", "Manager"),
+		new Field(boolean.class, "enabled", "Enabled")
+	),
+
+	/// Execute an initialization SQL script.
+	INIT_SCRIPT(
+		"InitScript", "Init Script",
+		new Field(int.class, "statements", "Statements"),
+		new Field(String.class, "firstStatement", "First Statement")
+	),
+
+	/// Execute a liquibase changelog.
+	LIQUIBASE_UPDATE(
+		"LiquibaseUpdate", "Liquibase Update",
+		new Field(String.class, "changeLog", "Change Log")
+	);
+
+	/// The event name, prefixed with the DbUnit package.
+	private final String name;
+
+	/// The event label.
+	private final String label;
+
+	/// The event fields.
+	private final List<Field> fields;
+
+	JfrEventType(String name, String label, Field... fields) {
+		this.name = "com.github.mjeanroy.dbunit." + name;
+		this.label = label;
+		this.fields = unmodifiableList(Arrays.asList(fields));
+	}
+
+	/// Get [#name]
+	///
+	/// @return Returns [#name]
+	public String getName() {
+		return name;
+	}
+
+	/// Get [#label]
+	///
+	/// @return Returns [#label]
+	public String getLabel() {
+		return label;
+	}
+
+	/// Get [#fields]
+	///
+	/// @return Returns [#fields]
+	public List<Field> getFields() {
+		return fields;
+	}
+
+	/// Get the index of given field.
+	///
+	/// @param name The field name.
+	/// @return The field index, `-1` if the field does not exist.
+	int indexOf(String name) {
+		for (int i = 0; i < fields.size(); i++) {
+			if (fields.get(i).name.equals(name)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/// A field of an event type.
+	public static final class Field {
+		/// The field type.
+		private final Class<?> type;
+
+		/// The field name.
+		private final String name;
+
+		/// The field label.
+		private final String label;
+
+		private Field(Class<?> type, String name, String label) {
+			this.type = type;
+			this.name = name;
+			this.label = label;
+		}
+
+		/// Get [#type]
+		///
+		/// @return Returns [#type]
+		public Class<?> getType() {
+			return type;
+		}
+
+		/// Get [#name]
+		///
+		/// @return Returns [#name]
+		public String getName() {
+			return name;
+		}
+
+		/// Get [#label]
+		///
+		/// @return Returns [#label]
+		public String getLabel() {
+			return label;
+		}
+	}
+}
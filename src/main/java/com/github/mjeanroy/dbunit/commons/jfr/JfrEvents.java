@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.commons.jfr;
+
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+/// Emit Java Flight Recorder events (see [JfrEventType]).
+///
+/// Event types are created at runtime with `jdk.jfr.EventFactory`, through reflection, so that this library can still
+/// be used with Java 8 runtimes without JFR: on such runtimes, [#begin(JfrEventType)] always returns a no-op event.
+///
+/// **This class is for internal use only and is not part of the public API.**
+public final class JfrEvents {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(JfrEvents.class);
+
+	// Ensure non instantiation.
+	private JfrEvents() {
+	}
+
+	/// Check if JFR is available on the current runtime.
+	///
+	/// @return `true` if JFR is available, `false` otherwise.
+	public static boolean isAvailable() {
+		return Holder.BRIDGE != null;
+	}
+
+	/// Begin an event of given type.
+	///
+	/// @param type The event type.
+	/// @return The event, a no-op event if JFR is not available or if the event type is not enabled.
+	public static JfrEvent begin(JfrEventType type) {
+		Bridge bridge = Holder.BRIDGE;
+		return bridge == null ? JfrEvent.NOOP : bridge.begin(type);
+	}
+
+	/// Reflection bridge to the `jdk.jfr` API.
+	static final class Bridge {
+		private static Bridge load() throws ReflectiveOperationException {
+			Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+			Class<?> eventClass = Class.forName("jdk.jfr.Event");
+			Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+			Constructor<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+			Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+			Class<?> name = Class.forName("jdk.jfr.Name");
+			Class<?> label = Class.forName("jdk.jfr.Label");
+			Class<?> category = Class.forName("jdk.jfr.Category");
+			Method create = eventFactoryClass.getMethod("create", List.class, List.class);
+
+			Map<JfrEventType, Object> factories = new EnumMap<>(JfrEventType.class);
+			for (JfrEventType type : JfrEventType.values()) {
+				List<Object> annotations = asList(
+					annotationElement.newInstance(name, type.getName()),
+					annotationElement.newInstance(label, type.getLabel()),
+					annotationElement.newInstance(category, new String[]{"DbUnit"})
+				);
+
+				List<Object> fields = new ArrayList<>(type.getFields().size());
+				for (JfrEventType.Field field : type.getFields()) {
+					List<Object> fieldAnnotations = singletonList(annotationElement.newInstance(label, field.getLabel()));
+					fields.add(valueDescriptor.newInstance(field.getType(), field.getName(), fieldAnnotations));
+				}
+
+				factories.put(type, create.invoke(null, annotations, fields));
+			}
+
+			return new Bridge(
+				factories,
+				eventFactoryClass.getMethod("newEvent"),
+				eventClass.getMethod("isEnabled"),
+				eventClass.getMethod("begin"),
+				eventClass.getMethod("set", int.class, Object.class),
+				eventClass.getMethod("end"),
+				eventClass.getMethod("shouldCommit"),
+				eventClass.getMethod("commit")
+			);
+		}
+
+		/// The event factories, by type.
+		private final Map<JfrEventType, Object> factories;
+
+		private final Method newEvent;
+		private final Method isEnabled;
+		private final Method begin;
+		private final Method set;
+		private final Method end;
+		private final Method shouldCommit;
+		private final Method commit;
+
+		private Bridge(
+			Map<JfrEventType, Object> factories,
+			Method newEvent,
+			Method isEnabled,
+			Method begin,
+			Method set,
+			Method end,
+			Method shouldCommit,
+			Method commit
+		) {
+			this.factories = factories;
+			this.newEvent = newEvent;
+			this.isEnabled = isEnabled;
+			this.begin = begin;
+			this.set = set;
+			this.end = end;
+			this.shouldCommit = shouldCommit;
+			this.commit = commit;
+		}
+
+		private JfrEvent begin(JfrEventType type) {
+			try {
+				Object event = newEvent.invoke(factories.get(type));
+				if (!Boolean.TRUE.equals(isEnabled.invoke(event))) {
+					return JfrEvent.NOOP;
+				}
+
+				begin.invoke(event);
+				return new JfrEvent(type, event, this);
+			}
+			catch (IllegalAccessException | InvocationTargetException ex) {
+				log.debug("Cannot begin JFR event {}: {}", type, ex.getMessage());
+				return JfrEvent.NOOP;
+			}
+		}
+
+		void set(Object event, int index, Object value) {
+			if (index < 0) {
+				return;
+			}
+
+			try {
+				set.invoke(event, index, value);
+			}
+			catch (IllegalAccessException | InvocationTargetException ex) {
+				log.debug("Cannot set JFR event field: {}", ex.getMessage());
+			}
+		}
+
+		void commit(Object event) {
+			try {
+				end.invoke(event);
+				if (Boolean.TRUE.equals(shouldCommit.invoke(event))) {
+					commit.invoke(event);
+				}
+			}
+			catch (IllegalAccessException | InvocationTargetException ex) {
+				log.debug("Cannot commit JFR event: {}", ex.getMessage());
+			}
+		}
+	}
+
+	/// Lazy holder of the JFR bridge, `null` if JFR is not available.
+	private static final class Holder {
+		private static final Bridge BRIDGE = load();
+
+		private static Bridge load() {
+			try {
+				return Bridge.load();
+			}
+			catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+				log.debug("Java Flight Recorder is not available: {}", ex.getMessage());
+				return null;
+			}
+		}
+	}
+}
@@ -161,7 +161,7 @@ public final class Strings {
 		}
 
 		Pattern pattern = Pattern.compile(
-			Pattern.quote(prefix) + "(.*)" + Pattern.quote(suffix)
+			Pattern.quote(prefix) + "(.*?)" + Pattern.quote(suffix)
 		);
 
 		String output = input;
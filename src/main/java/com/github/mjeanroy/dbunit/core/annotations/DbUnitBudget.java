@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Define the performance budget of the setup operation of a test.
+///
+/// Once the dataset has been loaded, the measured setup (elapsed time, number of rows and number of tables
+/// of the dataset) is checked against the budget: when a limit is exceeded, the test fails with a
+/// [com.github.mjeanroy.dbunit.exception.DbUnitException] (or a warning is logged, see [#fail()]).
+///
+/// Setups skipped by read-only tests (see [DbUnitReadOnly]) or replayed (see [DbUnitConfig#replay()]) are
+/// not checked.
+///
+/// When no budget is defined on a test, the global budget defined by the following system properties is
+/// used (each property being optional):
+/// - `dbunit.budget.maxSetupMillis`: See [#maxSetupMillis()].
+/// - `dbunit.budget.maxRows`: See [#maxRows()].
+/// - `dbunit.budget.maxTables`: See [#maxTables()].
+/// - `dbunit.budget.fail`: See [#fail()].
+///
+/// This annotation can be used on:
+/// - Method (i.e test method).
+/// - Class (i.e test class), meaning that the budget applies to all tests in the class.
+/// - Annotation (i.e as a meta-annotation).
+///
+/// Note that method annotation overrides class annotation.
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Target({
+	ElementType.METHOD,
+	ElementType.TYPE,
+})
+public @interface DbUnitBudget {
+
+	/// The maximum elapsed time of the setup operation (including the dataset parsing), in milliseconds.
+	///
+	/// @return The maximum time, default is `-1` (no limit).
+	long maxSetupMillis() default -1;
+
+	/// The maximum number of rows of the dataset.
+	///
+	/// @return The maximum number of rows, default is `-1` (no limit).
+	int maxRows() default -1;
+
+	/// The maximum number of tables of the dataset.
+	///
+	/// @return The maximum number of tables, default is `-1` (no limit).
+	int maxTables() default -1;
+
+	/// Fail the test when the budget is exceeded: when disabled, a warning is logged instead.
+	///
+	/// @return Failure flag, default is `true`.
+	boolean fail() default true;
+}
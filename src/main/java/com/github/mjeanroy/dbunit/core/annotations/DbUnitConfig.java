@@ -79,6 +79,14 @@ public @interface DbUnitConfig {
 
 	/// Schema to use with DBUnit Connection.
 	///
+	/// The schema may contain variables, such as `${name}`, substituted with system properties or environment variables.
+	///
+	/// The special `${dbunit.worker}` variable enables schema-per-worker isolation: each worker (i.e. each test thread of each
+	/// forked JVM) gets its own schema, for example `dbunit_${dbunit.worker}`. The worker schema is created and initialized
+	/// (with [DbUnitInit] scripts and [DbUnitLiquibase] changelogs) the first time it is used, reused across test classes, and
+	/// used as the default schema of SQL connections opened by the runner. The forked JVM is identified by the `dbunit.fork`
+	/// system property (defaulting to the `surefire.forkNumber` or `org.gradle.test.worker` system properties).
+	///
 	/// @return Schema.
 	String schema() default "";
 
@@ -136,6 +144,122 @@ public @interface DbUnitConfig {
 	/// @return The batch size.
 	int batchSize() default 100;
 
+	/// Enable or disable delta setup, default is `false`.
+	///
+	/// When enabled, a `CLEAN_INSERT` setup operation remembers the dataset loaded into
+	/// the target database, and the next setup only applies the rows that differ (keyed by primary key)
+	/// instead of reloading every table.
+	///
+	/// The delta is always computed against the actual table content, and the runner falls back to
+	/// a full `CLEAN_INSERT` as soon as it cannot prove that the delta is safe, for example:
+	/// - A table was not loaded by the previous setup.
+	/// - A table row count changed since the previous setup.
+	/// - A table does not have a primary key.
+	/// - The dataset does not define every column of a table.
+	///
+	/// @return Feature activation flag.
+	boolean deltaSetup() default false;
+
+	/// Number of connections used to load dataset tables concurrently during a `CLEAN_INSERT` setup, default is `1`
+	/// (i.e. tables are loaded sequentially on a single connection).
+	///
+	/// When greater than `1`, tables are partitioned into levels of the foreign key dependency graph: tables
+	/// of a given level only reference tables of previous levels, so they can be loaded concurrently, each on
+	/// its own connection from the connection factory. If any table fails to load, the setup fails and
+	/// dataset tables are cleared so that no partial dataset is left in the database.
+	///
+	/// Note that:
+	/// - The database must accept as many concurrent connections.
+	/// - Parallel loading cannot be combined with compiled plans (see [#compiledPlans()]).
+	///
+	/// @return The number of concurrent connections.
+	int parallelism() default 1;
+
+	/// Enable or disable initialization coordination between processes sharing the same database, default is `false`.
+	///
+	/// When enabled, [DbUnitInit] scripts and [DbUnitLiquibase] changelogs are run once per database, even when several
+	/// processes (such as Surefire forks) start at the same time: processes are serialized using a lock file (in the
+	/// temporary directory), and the first process records the hash of each executed script in a `DBUNIT_INIT` marker table,
+	/// so that other processes skip scripts already executed.
+	///
+	/// Note that:
+	/// - Lock files only coordinate processes running on the same host.
+	/// - Since a script is executed only once per database, scripts must not depend on being re-executed (for example, to
+	///   drop and re-create tables).
+	///
+	/// @return Feature activation flag.
+	boolean sharedInit() default false;
+
+	/// Enable or disable record and replay of setup statements, default is `false`.
+	///
+	/// When enabled, the SQL statements (and bound values) executed by a `CLEAN_INSERT` setup operation are recorded the first time
+	/// a dataset is loaded into a database schema. The next setup of the same dataset (see [DbUnitReadOnly] for the definition
+	/// of "same dataset") replays recorded statements directly, using JDBC batches: the dataset is not parsed, and DbUnit
+	/// database metadata and operations are bypassed.
+	///
+	/// Note that:
+	/// - Recorded statements are kept in memory, per database and schema, and are discarded as soon as a replay fails (for
+	///   example, if the database schema changed).
+	/// - Setup operations executing queries, or binding streams, are never recorded: the reason is logged at `INFO` level.
+	/// - Statements executed by foreign key managers (see [#fkManagers()]) are not recorded: foreign key managers are
+	///   executed again around each replay.
+	/// - Datasets are identified by their annotations: if a [com.github.mjeanroy.dbunit.core.dataset.DataSetProvider] or a
+	///   [com.github.mjeanroy.dbunit.core.replacement.ReplacementsProvider] does not always return the same values, this
+	///   feature should not be used.
+	/// - This feature is ignored when delta setup or parallel loading is enabled.
+	///
+	/// @return Feature activation flag.
+	boolean replay() default false;
+
+	/// Enable or disable compiled plans, default is `false`.
+	///
+	/// When enabled, the first `CLEAN_INSERT` setup of a dataset against a database compiles
+	/// a plan of the dataset: ordered tables, `INSERT` and `DELETE` statements, and values already converted to the
+	/// [org.dbunit.dataset.datatype.DataType] of each column. Following setup and tear down operations of the same dataset
+	/// (see [DbUnitReadOnly] for the definition of "same dataset") against the same database and schema execute this plan
+	/// directly, using JDBC batches, instead of querying database metadata and converting values again.
+	///
+	/// If a plan cannot be executed (for example, if the database schema changed), it is discarded and the DbUnit operation
+	/// is applied instead.
+	///
+	/// Note that:
+	/// - Values are converted once, when the plan is compiled: values computed by a
+	///   [com.github.mjeanroy.dbunit.core.dataset.DataSetProvider] or a [com.github.mjeanroy.dbunit.core.replacement.ReplacementsProvider]
+	///   (such as the current date) are frozen into the plan. If a provider does not always return the same values, this feature
+	///   should not be used.
+	/// - A `DELETE_ALL` tear down only executes the plan compiled by a previous setup, it never compiles a plan.
+	/// - This feature is ignored when delta setup is enabled, and cannot be combined with parallel loading (see [#parallelism()]).
+	///
+	/// @return Feature activation flag.
+	boolean compiledPlans() default false;
+
+	/// Maximum number of prepared statements cached per connection, default is `0` (i.e. statements are not cached).
+	///
+	/// When greater than `0`, prepared statements are cached by SQL text, and closing a statement returns it to the
+	/// cache instead of closing it: the next `INSERT` (or `DELETE`) of the same table reuses the statement instead of
+	/// preparing it again, which saves a server round trip with some drivers. Least recently used statements are
+	/// closed when the cache is full.
+	///
+	/// The cache is attached to the connection returned by the connection factory: statements are only reused across
+	/// tests if the factory returns the same (open) connection.
+	///
+	/// @return The maximum number of cached statements.
+	int statementCacheSize() default 0;
+
+	/// Enable or disable adaptive batch size, default is `false`.
+	///
+	/// When enabled, and if the database supports batch updates, batched statements are enabled (whatever the value of
+	/// [#batchedStatements()]) and the batch size is tuned while loading datasets: starting from [#batchSize()], the execution
+	/// time of each batch is measured, and the batch size converges on the size giving the best throughput. Tuned sizes
+	/// are kept in memory, per table and per database target (URL, user and schema).
+	///
+	/// Batches are only measured while executing compiled plans, so this flag requires [#compiledPlans()]: it is rejected
+	/// otherwise. Operations that are not compiled (such as delta setups) use a single batch size: the median of the sizes
+	/// tuned for the database target.
+	///
+	/// @return Feature activation flag.
+	boolean adaptiveBatchSize() default false;
+
 	/// Used to configure the DataType factory. You can replace the default factory to add support for non-standard database vendor data types.
 	/// The following factories are currently available:
 	/// - [org.dbunit.ext.db2.Db2DataTypeFactory]
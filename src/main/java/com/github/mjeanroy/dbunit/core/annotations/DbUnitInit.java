@@ -71,4 +71,23 @@ public @interface DbUnitInit {
 	///
 	/// @return Delimiter.
 	char delimiter() default SqlScriptParserConfiguration.DEFAULT_DELIMITER;
+
+	/// Maximum number of queries executed in a single batch, default is `0`.
+	///
+	/// By default, each SQL script is parsed when the test class is read, and all its queries are executed in a
+	/// single batch. When a strictly positive value is set, each SQL script is streamed instead: queries are parsed
+	/// while the script is executed, in successive batches of (at most) `chunkSize` queries, so that memory use does
+	/// not depend on the size of the script.
+	///
+	/// @return Maximum number of queries per batch, `0` to execute each script in a single batch.
+	int chunkSize() default 0;
+
+	/// Commit after each chunk of queries, default is `false`.
+	///
+	/// When enabled (and when [#chunkSize()] is strictly positive), auto-commit mode is disabled while a script is
+	/// executed, and each chunk is committed once executed: a failing chunk is rolled back, but previous chunks remain
+	/// committed. This flag is ignored if [#chunkSize()] is not strictly positive.
+	///
+	/// @return Commit flag.
+	boolean commit() default false;
 }
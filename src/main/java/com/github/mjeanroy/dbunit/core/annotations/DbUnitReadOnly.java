@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Flag a test that only reads data loaded by its dataset.
+///
+/// The tear down operation of a read-only test is deferred: if the next test of the same test class executed
+/// against the same database resolves to the same dataset (same [DbUnitDataSet], [DbUnitReplacements], [DbUnitConfig]
+/// and [DbUnitSetup] annotations) with a `CLEAN_INSERT` setup operation, both the deferred tear down
+/// and the setup of the next test are skipped. Otherwise, the deferred tear down is applied before the next setup.
+/// Remaining deferred tear down operations are applied once all tests of the test class have been executed.
+///
+/// Note that datasets are identified by their annotations: if a [com.github.mjeanroy.dbunit.core.dataset.DataSetProvider]
+/// does not always return the same dataset, read-only tests should not be used.
+///
+/// This annotation can be used on:
+/// - Method (i.e test method).
+/// - Class (i.e test class), meaning that all tests in the class are read-only.
+/// - Annotation (i.e as a meta-annotation).
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Target({
+	ElementType.METHOD,
+	ElementType.TYPE,
+})
+public @interface DbUnitReadOnly {
+
+	/// Verify, after test execution, that the test did not modify the tables of its dataset.
+	///
+	/// When enabled, the content of each table is compared to the dataset (rows are matched by primary key), and a
+	/// [com.github.mjeanroy.dbunit.exception.DbUnitException] is thrown if the test modified the database: in this case, the
+	/// tear down operation is applied immediately. If the comparison cannot be made (for example, when a table does not have any
+	/// primary key), the tear down operation is not deferred.
+	///
+	/// @return Verification flag, default is `false`.
+	boolean verify() default false;
+}
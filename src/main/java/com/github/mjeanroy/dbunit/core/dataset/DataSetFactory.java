@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.dbunit.core.dataset;
 
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvent;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEventType;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvents;
 import com.github.mjeanroy.dbunit.core.resources.Resource;
 import com.github.mjeanroy.dbunit.core.resources.ResourceLoader;
 import com.github.mjeanroy.dbunit.loggers.Logger;
@@ -33,6 +36,7 @@ import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.IDataSet;
 import org.dbunit.dataset.csv.CsvDataSet;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -172,7 +176,32 @@ public final class DataSetFactory {
 		log.trace(" - Found type: {}", type);
 		log.trace(" -> Create associated DataSet implementation");
 
-		return type.create(resource);
+		JfrEvent event = JfrEvents.begin(JfrEventType.DATASET_PARSE);
+		IDataSet dataSet = type.create(resource);
+
+		if (event.isEnabled()) {
+			event.set("resource", resource.getPath())
+				.set("tables", dataSet.getTableNames().length)
+				.set("bytes", length(resource))
+				.commit();
+		}
+
+		return dataSet;
+	}
+
+	/// Get the size of given resource, in bytes.
+	///
+	/// @param resource Resource.
+	/// @return The size of the resource, `-1` if it is not a file.
+	private static long length(Resource resource) {
+		try {
+			File file = resource.toFile();
+			return file != null && file.isFile() ? file.length() : -1L;
+		}
+		catch (RuntimeException ex) {
+			// Resources inside a JAR file cannot be read as a file.
+			return -1L;
+		}
 	}
 
 	/// Extract type from given file.
@@ -29,63 +29,111 @@ import com.github.mjeanroy.dbunit.loggers.Logger;
 import com.github.mjeanroy.dbunit.loggers.Loggers;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.executeQueries;
 
+/// Foreign key manager dropping foreign keys, and re-creating them later.
+///
+/// Dropping foreign keys is a DDL operation, visible to every connection of the same database, so
+/// dropped foreign keys are tracked per database (not per manager instance): concurrent tests using
+/// the same database share the same state, where the first `disable` drops foreign keys and the
+/// last `enable` re-creates them.
+///
+/// @param <T> Type of foreign key definition.
 abstract class AbstractJdbcDropCreateForeignKeyManager<T> implements JdbcForeignKeyManager {
 
 	private static final Logger log = Loggers.getLogger(AbstractJdbcDropCreateForeignKeyManager.class);
 
-	private List<T> foreignKeys;
+	/// Dropped foreign keys, indexed by database.
+	private static final ConcurrentMap<String, DroppedForeignKeys> STATES = new ConcurrentHashMap<>();
 
 	AbstractJdbcDropCreateForeignKeyManager() {
-		// Initial state.
-		this.foreignKeys = null;
 	}
 
 	@Override
-	public final synchronized void disable(Connection connection) {
-		log.info("Disabling foreign keys...");
-		checkInitialState();
-
-		// Introspect foreign keys, so we can drop them
-		// and re-create them in the exact same configuration later.
-		log.debug("Introspecting foreign keys...");
-		foreignKeys = introspectForeignKeys(connection);
-		log.debug("Foreign keys detected: {}", foreignKeys);
-
-		// We can now drop foreign these foreign keys.
-		log.debug("Dropping/Disabling foreign keys...");
-		dropForeignKeys(connection);
+	public final void disable(Connection connection) {
+		DroppedForeignKeys state = STATES.computeIfAbsent(stateKey(connection), key -> new DroppedForeignKeys());
+
+		synchronized (state) {
+			if (state.count > 0) {
+				log.info("Foreign keys already disabled by {} other operation(s)", state.count);
+				state.count++;
+				return;
+			}
+
+			log.info("Disabling foreign keys...");
+
+			// Introspect foreign keys, so we can drop them
+			// and re-create them in the exact same configuration later.
+			log.debug("Introspecting foreign keys...");
+			List<T> foreignKeys = introspectForeignKeys(connection);
+			log.debug("Foreign keys detected: {}", foreignKeys);
+
+			// We can now drop foreign these foreign keys.
+			log.debug("Dropping/Disabling foreign keys...");
+			dropForeignKeys(connection, foreignKeys);
+
+			state.foreignKeys = foreignKeys;
+			state.count = 1;
+		}
 	}
 
 	@Override
-	public final synchronized void enable(Connection connection) {
-		log.info("Enabling foreign keys...");
-		// Re-create foreign keys with the same initial configuration.
-		reCreateForeignKeys(connection);
-
-		// Go back to initial state.
-		foreignKeys = null;
-	}
-
-	private void checkInitialState() {
-		if (foreignKeys != null) {
+	public final void enable(Connection connection) {
+		DroppedForeignKeys state = STATES.get(stateKey(connection));
+		if (state == null) {
 			throw new IllegalStateException(
-				"Cannot disable constraints, foreign keys have been dropped, please re-enable them before"
+				"Cannot enable constraints, foreign keys have not been introspected, try disabling constraints first"
 			);
 		}
+
+		synchronized (state) {
+			if (state.count == 0) {
+				throw new IllegalStateException(
+					"Cannot enable constraints, foreign keys have not been introspected, try disabling constraints first"
+				);
+			}
+
+			state.count--;
+			if (state.count > 0) {
+				log.info("Foreign keys still disabled by {} other operation(s)", state.count);
+				return;
+			}
+
+			@SuppressWarnings("unchecked")
+			List<T> foreignKeys = (List<T>) state.foreignKeys;
+
+			// Go back to initial state, even if foreign keys cannot be re-created.
+			state.foreignKeys = null;
+
+			log.info("Enabling foreign keys...");
+			// Re-create foreign keys with the same initial configuration.
+			reCreateForeignKeys(connection, foreignKeys);
+		}
 	}
 
-	private void dropForeignKeys(Connection connection) {
-		if (foreignKeys == null) {
-			throw new IllegalStateException(
-				"Cannot disable constraints, foreign keys have not been introspected"
-			);
+	/// Compute the key identifying the database (and the manager implementation) of given connection.
+	///
+	/// @param connection The connection.
+	/// @return The key.
+	private String stateKey(Connection connection) {
+		try {
+			DatabaseMetaData metaData = connection.getMetaData();
+			return getClass().getName() + ":" + metaData.getURL() + ":" + metaData.getUserName();
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new JdbcException("Cannot read database metadata", ex);
 		}
+	}
 
+	private void dropForeignKeys(Connection connection, List<T> foreignKeys) {
 		List<String> queries = new ArrayList<>(foreignKeys.size());
 		for (T foreignKey : foreignKeys) {
 			log.debug("Generating drop queries for foreign key: {}", foreignKey);
@@ -103,13 +151,7 @@ abstract class AbstractJdbcDropCreateForeignKeyManager<T> implements JdbcForeign
 		}
 	}
 
-	private void reCreateForeignKeys(Connection connection) {
-		if (foreignKeys == null) {
-			throw new IllegalStateException(
-				"Cannot enable constraints, foreign keys have not been introspected, try disabling constraints first"
-			);
-		}
-
+	private void reCreateForeignKeys(Connection connection, List<T> foreignKeys) {
 		List<String> queries = new ArrayList<>(foreignKeys.size());
 		for (T foreignKey : foreignKeys) {
 			log.debug("Generating recreation queries for foreign key: {}", foreignKey);
@@ -132,4 +174,13 @@ abstract class AbstractJdbcDropCreateForeignKeyManager<T> implements JdbcForeign
 	abstract List<String> generateDropForeignKeyQueries(T foreignKey);
 
 	abstract List<String> generateAddForeignKeyQueries(T foreignKey);
+
+	/// Foreign keys dropped on a given database, guarded by its own monitor.
+	private static final class DroppedForeignKeys {
+		/// The dropped foreign keys, `null` if foreign keys are enabled.
+		private List<?> foreignKeys;
+
+		/// Number of operations that disabled foreign keys, and did not re-enable them yet.
+		private int count;
+	}
 }
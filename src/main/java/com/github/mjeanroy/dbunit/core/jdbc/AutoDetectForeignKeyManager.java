@@ -26,6 +26,8 @@ package com.github.mjeanroy.dbunit.core.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /// Instance of [JdbcForeignKeyManager] that will auto-detect the underlying implementation
 /// to use based on the JDBC connection URL.
@@ -39,48 +41,29 @@ import java.sql.SQLException;
 /// @see HsqldbForeignKeyManager
 public final class AutoDetectForeignKeyManager implements JdbcForeignKeyManager {
 
-	private JdbcDriver driver;
-	private JdbcForeignKeyManager fkManager;
+	/// Foreign key managers, indexed by detected JDBC driver.
+	///
+	/// Managers do not keep per-invocation state, so they can be shared by concurrent invocations.
+	private final ConcurrentMap<JdbcDriver, JdbcForeignKeyManager> fkManagers;
 
 	/// Create foreign key manager.
 	public AutoDetectForeignKeyManager() {
-		super();
+		this.fkManagers = new ConcurrentHashMap<>();
 	}
 
 	@Override
-	public synchronized void disable(Connection connection) throws SQLException {
-		checkInitialState();
-		autoDetectJdbcDriver(connection);
-		disableForeignKeys(connection);
+	public void disable(Connection connection) throws SQLException {
+		autoDetectFkManager(connection).disable(connection);
 	}
 
 	@Override
-	public synchronized void enable(Connection connection) throws SQLException {
-		checkState();
-		checkJdbcDriver(connection);
-		enableForeignKeys(connection);
-		restoreInitialState();
+	public void enable(Connection connection) throws SQLException {
+		autoDetectFkManager(connection).enable(connection);
 	}
 
-	private void disableForeignKeys(Connection connection) throws SQLException {
-		fkManager.disable(connection);
-	}
-
-	private void enableForeignKeys(Connection connection) throws SQLException {
-		fkManager.enable(connection);
-	}
-
-	private void checkInitialState() {
-		if (driver != null || fkManager != null) {
-			throw new IllegalStateException(
-				"Cannot disable foreign keys, please re-enable them before"
-			);
-		}
-	}
-
-	private void autoDetectJdbcDriver(Connection connection) throws SQLException {
+	private JdbcForeignKeyManager autoDetectFkManager(Connection connection) throws SQLException {
 		String jdbcUrl = connection.getMetaData().getURL();
-		driver = JdbcDriver.findOne(jdbcUrl);
+		JdbcDriver driver = JdbcDriver.findOne(jdbcUrl);
 
 		if (driver == null) {
 			throw new UnsupportedOperationException(
@@ -90,32 +73,6 @@ public final class AutoDetectForeignKeyManager implements JdbcForeignKeyManager
 			);
 		}
 
-		fkManager = driver.fkManager();
-	}
-
-	private void checkJdbcDriver(Connection connection) throws SQLException {
-		String jdbcUrl = connection.getMetaData().getURL();
-		JdbcDriver currentDriver = JdbcDriver.findOne(jdbcUrl);
-
-		if (currentDriver != driver) {
-			throw new IllegalStateException(
-				"Cannot load " + getClass().getSimpleName() + ", " +
-					"jdbc driver has changed during the process " +
-					"(previous: " + driver + ", now: " + currentDriver + ")"
-			);
-		}
-	}
-
-	private void checkState() {
-		if (driver == null || fkManager == null) {
-			throw new IllegalStateException(
-				"Cannot enable foreign keys, please disable them before"
-			);
-		}
-	}
-
-	private void restoreInitialState() {
-		this.driver = null;
-		this.fkManager = null;
+		return fkManagers.computeIfAbsent(driver, JdbcDriver::fkManager);
 	}
 }
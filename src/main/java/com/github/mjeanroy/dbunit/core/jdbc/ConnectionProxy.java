@@ -66,28 +66,118 @@ final class ConnectionProxy implements Connection {
 			return (ConnectionProxy) connection;
 		}
 
-		return new ConnectionProxy(connection);
+		return new ConnectionProxy(connection, null, null, null, null);
+	}
+
+	/// Wrap given `connection` in a proxy recording executed statements with given recorder.
+	///
+	/// @param connection Connection.
+	/// @param recorder The recorder.
+	/// @return The proxied connection.
+	static ConnectionProxy recording(Connection connection, JdbcRecorder recorder) {
+		notNull(recorder, "Recorder must not be null");
+
+		if (connection instanceof ConnectionProxy) {
+			ConnectionProxy cp = (ConnectionProxy) connection;
+			return new ConnectionProxy(cp.connection, recorder, cp.statements, cp.metrics, cp.schema);
+		}
+
+		return new ConnectionProxy(connection, recorder, null, null, null);
+	}
+
+	/// Wrap given `connection` in a proxy caching prepared statements in given cache.
+	///
+	/// @param connection Connection.
+	/// @param statements The statement cache.
+	/// @return The proxied connection.
+	static ConnectionProxy caching(Connection connection, JdbcStatementCache statements) {
+		notNull(statements, "Statement cache must not be null");
+
+		if (connection instanceof ConnectionProxy) {
+			ConnectionProxy cp = (ConnectionProxy) connection;
+			return new ConnectionProxy(cp.connection, cp.recorder, statements, cp.metrics, cp.schema);
+		}
+
+		return new ConnectionProxy(connection, null, statements, null, null);
+	}
+
+	/// Wrap given `connection` in a proxy measuring executed statements with given metrics.
+	///
+	/// @param connection Connection.
+	/// @param metrics The statement metrics.
+	/// @return The proxied connection.
+	static ConnectionProxy instrumenting(Connection connection, JdbcStatementMetrics metrics) {
+		notNull(metrics, "Statement metrics must not be null");
+
+		if (connection instanceof ConnectionProxy) {
+			ConnectionProxy cp = (ConnectionProxy) connection;
+			return new ConnectionProxy(cp.connection, cp.recorder, cp.statements, metrics, cp.schema);
+		}
+
+		return new ConnectionProxy(connection, null, null, metrics, null);
+	}
+
+	/// Wrap given `connection` in a proxy restoring given schema as the default schema of the connection
+	/// when it is closed.
+	///
+	/// @param connection Connection.
+	/// @param schema The schema to restore.
+	/// @return The proxied connection.
+	static ConnectionProxy restoring(Connection connection, String schema) {
+		notNull(schema, "Schema must not be null");
+
+		if (connection instanceof ConnectionProxy) {
+			ConnectionProxy cp = (ConnectionProxy) connection;
+			return new ConnectionProxy(cp.connection, cp.recorder, cp.statements, cp.metrics, schema);
+		}
+
+		return new ConnectionProxy(connection, null, null, null, schema);
+	}
+
+	/// Returns the connection wrapped by given `connection` if it is a proxy, otherwise returns `connection`.
+	///
+	/// @param connection Connection.
+	/// @return The underlying connection.
+	static Connection unwrap(Connection connection) {
+		return connection instanceof ConnectionProxy ? ((ConnectionProxy) connection).connection : connection;
 	}
 
 	private final Connection connection;
 
-	private ConnectionProxy(Connection connection) {
+	/// The statement recorder, `null` if statements are not recorded.
+	private final JdbcRecorder recorder;
+
+	/// The prepared statement cache, `null` if statements are not cached.
+	private final JdbcStatementCache statements;
+
+	/// The statement metrics, `null` if statements are not measured.
+	private final JdbcStatementMetrics metrics;
+
+	/// The schema restored when the connection is closed, `null` if the schema of the connection is not restored.
+	private final String schema;
+
+	private ConnectionProxy(Connection connection, JdbcRecorder recorder, JdbcStatementCache statements, JdbcStatementMetrics metrics, String schema) {
 		this.connection = notNull(connection, "Connection must not be null");
+		this.recorder = recorder;
+		this.statements = statements;
+		this.metrics = metrics;
+		this.schema = schema;
 	}
 
 	@Override
 	public Statement createStatement() throws SQLException {
-		return connection.createStatement();
+		return record(connection.createStatement());
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql) throws SQLException {
-		return connection.prepareStatement(sql);
+		PreparedStatement statement = statements == null ? connection.prepareStatement(sql) : statements.prepareStatement(connection, sql);
+		return record(statement, sql);
 	}
 
 	@Override
 	public CallableStatement prepareCall(String sql) throws SQLException {
-		return connection.prepareCall(sql);
+		return record(connection.prepareCall(sql));
 	}
 
 	@Override
@@ -120,7 +210,20 @@ final class ConnectionProxy implements Connection {
 	@Override
 	public void close() throws SQLException {
 		log.debug("Closing connection");
-		connection.close();
+
+		try {
+			if (schema != null && !connection.isClosed()) {
+				log.debug("Restoring schema: {}", schema);
+				connection.setSchema(schema);
+			}
+		}
+		finally {
+			connection.close();
+
+			if (statements != null) {
+				statements.release(connection);
+			}
+		}
 	}
 
 	@Override
@@ -175,17 +278,17 @@ final class ConnectionProxy implements Connection {
 
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
-		return connection.createStatement(resultSetType, resultSetConcurrency);
+		return record(connection.createStatement(resultSetType, resultSetConcurrency));
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-		return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		return record(connection.prepareStatement(sql, resultSetType, resultSetConcurrency), sql);
 	}
 
 	@Override
 	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-		return connection.prepareCall(sql, resultSetType, resultSetConcurrency);
+		return record(connection.prepareCall(sql, resultSetType, resultSetConcurrency));
 	}
 
 	@Override
@@ -230,32 +333,32 @@ final class ConnectionProxy implements Connection {
 
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-		return connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		return record(connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-		return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return record(connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), sql);
 	}
 
 	@Override
 	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-		return connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return record(connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-		return connection.prepareStatement(sql, autoGeneratedKeys);
+		return record(connection.prepareStatement(sql, autoGeneratedKeys), sql);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-		return connection.prepareStatement(sql, columnIndexes);
+		return record(connection.prepareStatement(sql, columnIndexes), sql);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-		return connection.prepareStatement(sql, columnNames);
+		return record(connection.prepareStatement(sql, columnNames), sql);
 	}
 
 	@Override
@@ -348,6 +451,24 @@ final class ConnectionProxy implements Connection {
 		return connection.isWrapperFor(iface);
 	}
 
+	private Statement record(Statement statement) {
+		Statement recorded = recorder == null ? statement : recorder.record(statement);
+		return metrics == null ? recorded : metrics.instrument(recorded);
+	}
+
+	private PreparedStatement record(PreparedStatement statement, String sql) {
+		PreparedStatement recorded = recorder == null ? statement : recorder.record(statement, sql);
+		return metrics == null ? recorded : metrics.instrument(recorded, sql);
+	}
+
+	private CallableStatement record(CallableStatement statement) {
+		if (recorder != null) {
+			recorder.invalidate("Callable statements cannot be recorded");
+		}
+
+		return statement;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -356,7 +477,11 @@ final class ConnectionProxy implements Connection {
 
 		if (o instanceof ConnectionProxy) {
 			ConnectionProxy cp = (ConnectionProxy) o;
-			return Objects.equals(connection, cp.connection);
+			return Objects.equals(connection, cp.connection)
+				&& Objects.equals(recorder, cp.recorder)
+				&& Objects.equals(statements, cp.statements)
+				&& Objects.equals(metrics, cp.metrics)
+				&& Objects.equals(schema, cp.schema);
 		}
 
 		return false;
@@ -364,13 +489,17 @@ final class ConnectionProxy implements Connection {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(connection);
+		return Objects.hash(connection, recorder, statements, metrics, schema);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
 			.append("connection", connection)
+			.append("recorder", recorder)
+			.append("statements", statements)
+			.append("metrics", metrics)
+			.append("schema", schema)
 			.build();
 	}
 }
@@ -27,7 +27,7 @@ package com.github.mjeanroy.dbunit.core.jdbc;
 import java.sql.Connection;
 import java.sql.SQLException;
 
-/// A foreign key manager is a (stateful) manager that can be used to
+/// A foreign key manager is a manager that can be used to
 /// - Disable foreign keys.
 /// - Re-enable foreign keys.
 ///
@@ -37,6 +37,10 @@ import java.sql.SQLException;
 ///
 /// Executing `enable` before `disable` (i.e in the wrong order) **does not give any guarantee**.
 ///
+/// A single manager instance is shared by all tests of a given class, and may be used concurrently (for
+/// example, with JUnit Jupiter parallel execution): implementations must not keep per-invocation state in
+/// instance fields, and must coordinate themselves when the underlying database is shared.
+///
 /// Following implementations are currently supported out of the box:
 /// - MySQL: [MySQLForeignKeyManager]
 /// - MariaDB: [MariaDBForeignKeyManager]
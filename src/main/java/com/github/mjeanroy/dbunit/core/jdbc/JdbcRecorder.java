@@ -0,0 +1,359 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Record SQL statements, and bound values, executed through a connection, so that they can be replayed later
+/// without the code that generated them (see [JdbcReplayPlan]).
+///
+/// Only updates can be replayed: as soon as a query is executed, or a value that cannot be replayed (such as a stream) is
+/// bound, the recording is invalidated.
+///
+/// This class is not thread-safe: a recorded connection must be used by a single thread.
+public final class JdbcRecorder {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(JdbcRecorder.class);
+
+	/// The recorded steps.
+	private final List<JdbcReplayPlan.Step> steps;
+
+	/// The reason why the recording cannot be replayed, `null` if it is valid.
+	private String invalidation;
+
+	/// Create new recorder.
+	public JdbcRecorder() {
+		this.steps = new ArrayList<>();
+	}
+
+	/// Wrap given connection, so that statements executed through the returned connection are recorded.
+	///
+	/// @param connection The connection.
+	/// @return The recorded connection.
+	public Connection record(Connection connection) {
+		return ConnectionProxy.recording(connection, this);
+	}
+
+	/// Check if the recorded statements can be replayed.
+	///
+	/// @return `true` if the recording is valid, `false` otherwise.
+	public boolean isValid() {
+		return invalidation == null;
+	}
+
+	/// Get the reason why the recorded statements cannot be replayed.
+	///
+	/// @return The reason, `null` if the recording is valid.
+	public String getInvalidation() {
+		return invalidation;
+	}
+
+	/// Create the replay plan of recorded statements.
+	///
+	/// @return The replay plan, `null` if the recording cannot be replayed.
+	public JdbcReplayPlan toPlan() {
+		if (invalidation != null) {
+			log.debug("Statements cannot be replayed: {}", invalidation);
+			return null;
+		}
+
+		return new JdbcReplayPlan(steps);
+	}
+
+	/// Invalidate the recording.
+	///
+	/// @param reason The reason why the recording cannot be replayed.
+	void invalidate(String reason) {
+		if (invalidation == null) {
+			log.debug("Invalidating statements recording: {}", reason);
+			invalidation = reason;
+		}
+	}
+
+	/// Record statements executed with given statement.
+	///
+	/// @param statement The statement.
+	/// @return The recorded statement.
+	Statement record(Statement statement) {
+		notNull(statement, "Statement must not be null");
+		return (Statement) Proxy.newProxyInstance(
+			JdbcRecorder.class.getClassLoader(),
+			new Class<?>[]{Statement.class},
+			new StatementHandler(statement)
+		);
+	}
+
+	/// Record executions of given prepared statement.
+	///
+	/// @param statement The prepared statement.
+	/// @param sql The SQL of the prepared statement.
+	/// @return The recorded statement.
+	PreparedStatement record(PreparedStatement statement, String sql) {
+		notNull(statement, "Statement must not be null");
+		return (PreparedStatement) Proxy.newProxyInstance(
+			JdbcRecorder.class.getClassLoader(),
+			new Class<?>[]{PreparedStatement.class},
+			new PreparedStatementHandler(statement, sql)
+		);
+	}
+
+	private void addStatement(String sql) {
+		JdbcReplayPlan.Step last = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+		if (last instanceof JdbcReplayPlan.StatementStep) {
+			((JdbcReplayPlan.StatementStep) last).add(sql);
+		}
+		else {
+			JdbcReplayPlan.StatementStep step = new JdbcReplayPlan.StatementStep();
+			step.add(sql);
+			steps.add(step);
+		}
+	}
+
+	private void addRow(String sql, List<JdbcReplayPlan.Parameter> row) {
+		JdbcReplayPlan.Step last = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+		if (last instanceof JdbcReplayPlan.PreparedStatementStep && ((JdbcReplayPlan.PreparedStatementStep) last).getSql().equals(sql)) {
+			((JdbcReplayPlan.PreparedStatementStep) last).add(row);
+		}
+		else {
+			JdbcReplayPlan.PreparedStatementStep step = new JdbcReplayPlan.PreparedStatementStep(sql);
+			step.add(row);
+			steps.add(step);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("steps", steps.size())
+			.append("invalidation", invalidation)
+			.build();
+	}
+
+	/// Invoke given method on given target, unwrapping exception thrown by the method.
+	///
+	/// @param target The target.
+	/// @param method The method.
+	/// @param args The method arguments.
+	/// @return The method result.
+	/// @throws Throwable The exception thrown by the method.
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private static boolean isStream(Object value) {
+		return value instanceof InputStream
+			|| value instanceof Reader
+			|| value instanceof Blob
+			|| value instanceof Clob
+			|| value instanceof SQLXML
+			|| value instanceof Array
+			|| value instanceof Ref
+			|| value instanceof Struct;
+	}
+
+	/// Record SQL executed through a statement.
+	private class StatementHandler implements InvocationHandler {
+		/// The recorded statement.
+		final Statement statement;
+
+		/// The SQL added to the current batch.
+		private final List<String> batch;
+
+		StatementHandler(Statement statement) {
+			this.statement = statement;
+			this.batch = new ArrayList<>();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (method.getDeclaringClass() == Object.class) {
+				return invokeObjectMethod(proxy, method, args);
+			}
+
+			Object result = JdbcRecorder.invoke(statement, method, args);
+
+			if (name.equals("executeQuery")) {
+				invalidate("Query executed: " + (args == null ? "" : args[0]));
+			}
+			else if (args != null && args.length > 0 && args[0] instanceof String && name.startsWith("execute")) {
+				if (Boolean.TRUE.equals(result) && name.equals("execute")) {
+					invalidate("Query executed: " + args[0]);
+				}
+				else {
+					addStatement((String) args[0]);
+				}
+			}
+			else if (name.equals("addBatch") && args != null && args.length == 1) {
+				batch.add((String) args[0]);
+			}
+			else if (name.equals("clearBatch")) {
+				batch.clear();
+			}
+			else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+				for (String sql : batch) {
+					addStatement(sql);
+				}
+
+				batch.clear();
+			}
+			else if (name.equals("getResultSet") || name.equals("getGeneratedKeys")) {
+				invalidate("Results read through method: " + name);
+			}
+
+			return result;
+		}
+
+		private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+			if (method.getName().equals("equals")) {
+				return proxy == args[0];
+			}
+
+			if (method.getName().equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			return statement.toString();
+		}
+	}
+
+	/// Record executions of a prepared statement.
+	private final class PreparedStatementHandler extends StatementHandler {
+		/// The SQL of the prepared statement.
+		private final String sql;
+
+		/// The values bound to the current row, indexed by parameter index.
+		private final Map<Integer, JdbcReplayPlan.Parameter> parameters;
+
+		/// The rows added to the current batch.
+		private final List<List<JdbcReplayPlan.Parameter>> rows;
+
+		PreparedStatementHandler(PreparedStatement statement, String sql) {
+			super(statement);
+			this.sql = sql;
+			this.parameters = new TreeMap<>();
+			this.rows = new ArrayList<>();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			if (name.startsWith("set") && args != null && args.length >= 2 && method.getParameterTypes()[0] == int.class) {
+				Object result = JdbcRecorder.invoke(statement, method, args);
+				bind(method, args);
+				return result;
+			}
+
+			if (args != null && args.length > 0 || method.getDeclaringClass() == Object.class) {
+				return super.invoke(proxy, method, args);
+			}
+
+			Object result = JdbcRecorder.invoke(statement, method, args);
+
+			if (name.equals("executeQuery") || (name.equals("execute") && Boolean.TRUE.equals(result))) {
+				invalidate("Query executed: " + sql);
+			}
+			else if (name.equals("execute") || name.equals("executeUpdate") || name.equals("executeLargeUpdate")) {
+				addRow(sql, new ArrayList<>(parameters.values()));
+			}
+			else if (name.equals("addBatch")) {
+				rows.add(new ArrayList<>(parameters.values()));
+			}
+			else if (name.equals("clearParameters")) {
+				parameters.clear();
+			}
+			else if (name.equals("clearBatch")) {
+				rows.clear();
+			}
+			else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+				for (List<JdbcReplayPlan.Parameter> row : rows) {
+					addRow(sql, row);
+				}
+
+				rows.clear();
+			}
+			else if (name.equals("getResultSet") || name.equals("getGeneratedKeys")) {
+				invalidate("Results read through method: " + name);
+			}
+
+			return result;
+		}
+
+		private void bind(Method method, Object[] args) {
+			Object[] values = args.clone();
+			for (int i = 1; i < values.length; i++) {
+				Object value = values[i];
+				if (isStream(value)) {
+					invalidate("Value cannot be replayed: " + value.getClass().getName());
+				}
+				else if (value instanceof byte[]) {
+					values[i] = ((byte[]) value).clone();
+				}
+				else if (value instanceof Date) {
+					// Also handles java.sql.Date, java.sql.Time and java.sql.Timestamp (including nanoseconds).
+					values[i] = ((Date) value).clone();
+				}
+				else if (value instanceof Calendar) {
+					values[i] = ((Calendar) value).clone();
+				}
+			}
+
+			parameters.put((Integer) args[0], new JdbcReplayPlan.Parameter(method, values));
+		}
+	}
+}
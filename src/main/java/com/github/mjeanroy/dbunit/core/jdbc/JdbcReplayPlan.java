@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/// Statements recorded by a [JdbcRecorder], that can be replayed over JDBC.
+///
+/// Statements are replayed in the recorded order, using JDBC batches (if the database supports it): consecutive executions
+/// of the same prepared statement are replayed in a single batch.
+///
+/// This class is immutable and thread-safe.
+public final class JdbcReplayPlan {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(JdbcReplayPlan.class);
+
+	/// The steps to replay.
+	private final List<Step> steps;
+
+	JdbcReplayPlan(List<Step> steps) {
+		this.steps = unmodifiableList(new ArrayList<>(steps));
+	}
+
+	/// Replay recorded statements using given connection.
+	///
+	/// @param connection The connection.
+	/// @throws SQLException If an error occurred while executing statements.
+	public void replay(Connection connection) throws SQLException {
+		boolean batch = connection.getMetaData().supportsBatchUpdates();
+		log.debug("Replaying {} step(s), using batches: {}", steps.size(), batch);
+
+		for (Step step : steps) {
+			step.replay(connection, batch);
+		}
+	}
+
+	/// Get the number of recorded statement executions.
+	///
+	/// @return The number of executions.
+	public int size() {
+		int size = 0;
+		for (Step step : steps) {
+			size += step.size();
+		}
+
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("steps", steps)
+			.build();
+	}
+
+	/// A step of the replay plan.
+	abstract static class Step {
+		/// Replay this step.
+		///
+		/// @param connection The connection.
+		/// @param batch `true` to use JDBC batches, `false` otherwise.
+		/// @throws SQLException If an error occurred while executing statements.
+		abstract void replay(Connection connection, boolean batch) throws SQLException;
+
+		/// Get the number of statement executions of this step.
+		///
+		/// @return The number of executions.
+		abstract int size();
+	}
+
+	/// Consecutive SQL statements, executed without parameters.
+	static final class StatementStep extends Step {
+		/// The SQL statements.
+		private final List<String> sqls;
+
+		StatementStep() {
+			this.sqls = new ArrayList<>();
+		}
+
+		void add(String sql) {
+			sqls.add(sql);
+		}
+
+		@Override
+		void replay(Connection connection, boolean batch) throws SQLException {
+			try (Statement statement = connection.createStatement()) {
+				if (!batch || sqls.size() == 1) {
+					for (String sql : sqls) {
+						statement.execute(sql);
+					}
+
+					return;
+				}
+
+				for (String sql : sqls) {
+					statement.addBatch(sql);
+				}
+
+				statement.executeBatch();
+			}
+		}
+
+		@Override
+		int size() {
+			return sqls.size();
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("sqls", sqls)
+				.build();
+		}
+	}
+
+	/// Consecutive executions of a prepared statement.
+	static final class PreparedStatementStep extends Step {
+		/// The SQL of the prepared statement.
+		private final String sql;
+
+		/// The bound values of each execution.
+		private final List<List<Parameter>> rows;
+
+		PreparedStatementStep(String sql) {
+			this.sql = sql;
+			this.rows = new ArrayList<>();
+		}
+
+		/// Get [#sql]
+		///
+		/// @return Returns [#sql]
+		String getSql() {
+			return sql;
+		}
+
+		void add(List<Parameter> row) {
+			rows.add(row);
+		}
+
+		@Override
+		void replay(Connection connection, boolean batch) throws SQLException {
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				for (List<Parameter> row : rows) {
+					statement.clearParameters();
+					for (Parameter parameter : row) {
+						parameter.bind(statement);
+					}
+
+					if (batch) {
+						statement.addBatch();
+					}
+					else {
+						statement.executeUpdate();
+					}
+				}
+
+				if (batch) {
+					statement.executeBatch();
+				}
+			}
+		}
+
+		@Override
+		int size() {
+			return rows.size();
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("sql", sql)
+				.append("rows", rows.size())
+				.build();
+		}
+	}
+
+	/// A value bound to a prepared statement.
+	static final class Parameter {
+		/// The setter of the prepared statement (such as [PreparedStatement#setString(int, String)]).
+		private final Method setter;
+
+		/// The setter arguments, starting with the parameter index.
+		private final Object[] args;
+
+		Parameter(Method setter, Object[] args) {
+			this.setter = setter;
+			this.args = args;
+		}
+
+		void bind(PreparedStatement statement) throws SQLException {
+			try {
+				setter.invoke(statement, args);
+			}
+			catch (InvocationTargetException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof SQLException) {
+					throw (SQLException) cause;
+				}
+
+				throw new SQLException(cause);
+			}
+			catch (IllegalAccessException ex) {
+				throw new SQLException(ex);
+			}
+		}
+	}
+}
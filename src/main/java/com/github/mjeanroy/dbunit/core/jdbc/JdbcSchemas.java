@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Static utilities to change the default schema of SQL connections.
+public final class JdbcSchemas {
+
+	// Ensure non instantiation.
+	private JdbcSchemas() {
+	}
+
+	/// Use given schema as the default schema of given connection.
+	///
+	/// The returned connection restores the previous default schema of the connection when it is closed, so that
+	/// a connection returned to a pool does not keep the schema.
+	///
+	/// @param connection The connection.
+	/// @param schema The schema.
+	/// @return The connection using given schema.
+	/// @throws SQLException If reading or changing the schema of the connection failed.
+	public static Connection useSchema(Connection connection, String schema) throws SQLException {
+		notNull(connection, "Connection must not be null");
+		notNull(schema, "Schema must not be null");
+
+		String previous = connection.getSchema();
+		connection.setSchema(schema);
+		return previous == null || previous.equals(schema) ? connection : ConnectionProxy.restoring(connection, previous);
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitCache;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.checkArgument;
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Cache of prepared statements, keyed by SQL text, of a JDBC connection.
+///
+/// Closing a cached statement does not close it: parameters and batch are cleared, and the statement
+/// is returned to the cache so that the next `prepareStatement` call with the same SQL reuses it. The least
+/// recently used statements are closed when the cache is full.
+///
+/// The cache is attached to the underlying connection: as long as this connection is not closed (for example,
+/// when a connection factory always returns the same connection), statements are reused across tests.
+///
+/// Cached statements reference their connection, so caches are not weakly referenced: a cache is removed when its
+/// connection is closed through the caching connection, or (if the connection has been closed directly) the next time a
+/// cache is requested.
+public final class JdbcStatementCache {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(JdbcStatementCache.class);
+
+	/// The caches, by (underlying) connection.
+	private static final Map<Connection, JdbcStatementCache> CACHES = new IdentityHashMap<>();
+
+	/// Wrap given connection, so that prepared statements are cached.
+	///
+	/// @param connection The connection.
+	/// @param maxSize The maximum number of cached statements.
+	/// @return The connection caching prepared statements.
+	public static Connection of(Connection connection, int maxSize) {
+		notNull(connection, "Connection must not be null");
+		checkArgument(maxSize > 0, "Statement cache size must be positive");
+
+		Connection target = ConnectionProxy.unwrap(connection);
+		JdbcStatementCache cache;
+		synchronized (CACHES) {
+			removeClosedConnections();
+			cache = CACHES.computeIfAbsent(target, c -> new JdbcStatementCache());
+		}
+
+		cache.resize(maxSize);
+		return ConnectionProxy.caching(connection, cache);
+	}
+
+	/// Remove caches of connections that have been closed without their caching connection (for example, by a pool).
+	private static void removeClosedConnections() {
+		Iterator<Map.Entry<Connection, JdbcStatementCache>> it = CACHES.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Connection, JdbcStatementCache> entry = it.next();
+			if (isClosed(entry.getKey())) {
+				log.debug("Connection has been closed, removing its statement cache");
+				it.remove();
+				entry.getValue().clear();
+			}
+		}
+	}
+
+	private static boolean isClosed(Connection connection) {
+		try {
+			return connection.isClosed();
+		}
+		catch (SQLException ex) {
+			log.debug("Cannot check if connection is closed: {}", ex.getMessage());
+			return true;
+		}
+	}
+
+	/// The cached statements, in access order.
+	private final LinkedHashMap<String, Entry> entries;
+
+	/// The maximum number of cached statements.
+	private int maxSize;
+
+	private JdbcStatementCache() {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+		this.maxSize = 1;
+	}
+
+	/// Get the number of cached statements.
+	///
+	/// @return The number of cached statements.
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/// Prepare given SQL statement, reusing the cached statement if it is available.
+	///
+	/// @param connection The connection.
+	/// @param sql The SQL statement.
+	/// @return The prepared statement.
+	/// @throws SQLException If an error occurred while preparing the statement.
+	synchronized PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+		Entry entry = entries.get(sql);
+		if (entry != null && entry.inUse) {
+			log.trace("Statement already in use, preparing uncached statement: {}", sql);
+			DbUnitCache.STATEMENT.lookup(false);
+			return connection.prepareStatement(sql);
+		}
+
+		if (entry != null && !entry.statement.isClosed()) {
+			log.trace("Reusing cached statement: {}", sql);
+			DbUnitCache.STATEMENT.lookup(true);
+		}
+		else {
+			DbUnitCache.STATEMENT.lookup(false);
+			entry = new Entry(sql, connection.prepareStatement(sql));
+			entries.put(sql, entry);
+			evict();
+		}
+
+		entry.inUse = true;
+		return (PreparedStatement) Proxy.newProxyInstance(
+			JdbcStatementCache.class.getClassLoader(),
+			new Class<?>[]{PreparedStatement.class},
+			new CachedStatementHandler(entry)
+		);
+	}
+
+	/// Release the cache of given connection once the connection has been closed.
+	///
+	/// @param connection The connection.
+	/// @throws SQLException If an error occurred while checking the connection.
+	void release(Connection connection) throws SQLException {
+		if (connection.isClosed()) {
+			synchronized (CACHES) {
+				CACHES.remove(connection);
+			}
+
+			clear();
+		}
+	}
+
+	private synchronized void clear() {
+		entries.clear();
+	}
+
+	private synchronized void resize(int maxSize) {
+		this.maxSize = maxSize;
+		evict();
+	}
+
+	private synchronized void checkIn(Entry entry) {
+		entry.inUse = false;
+
+		try {
+			if (entries.get(entry.sql) != entry) {
+				entry.statement.close();
+			}
+			else {
+				entry.statement.clearParameters();
+				entry.statement.clearBatch();
+			}
+		}
+		catch (SQLException ex) {
+			log.debug("Cannot reuse statement {}: {}", entry.sql, ex.getMessage());
+			entries.remove(entry.sql, entry);
+			closeQuietly(entry);
+		}
+	}
+
+	private void evict() {
+		List<Entry> evicted = new ArrayList<>();
+		Iterator<Entry> it = entries.values().iterator();
+		while (entries.size() - evicted.size() > maxSize && it.hasNext()) {
+			Entry entry = it.next();
+			evicted.add(entry);
+		}
+
+		for (Entry entry : evicted) {
+			entries.remove(entry.sql);
+
+			// Statements in use are closed when they are returned to the cache.
+			if (!entry.inUse) {
+				closeQuietly(entry);
+			}
+		}
+	}
+
+	private static void closeQuietly(Entry entry) {
+		try {
+			entry.statement.close();
+		}
+		catch (SQLException ex) {
+			log.debug("Cannot close statement {}: {}", entry.sql, ex.getMessage());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("size", size())
+			.append("maxSize", maxSize)
+			.build();
+	}
+
+	/// A cached statement.
+	private static final class Entry {
+		/// The SQL of the statement.
+		private final String sql;
+
+		/// The prepared statement.
+		private final PreparedStatement statement;
+
+		/// Flag set when the statement is used, until it is closed.
+		private boolean inUse;
+
+		private Entry(String sql, PreparedStatement statement) {
+			this.sql = sql;
+			this.statement = statement;
+		}
+	}
+
+	/// Intercept `close` of a cached statement, to return it to the cache.
+	private final class CachedStatementHandler implements InvocationHandler {
+		/// The cached statement.
+		private final Entry entry;
+
+		/// Flag set when the statement has been returned to the cache.
+		private boolean closed;
+
+		private CachedStatementHandler(Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			if (method.getDeclaringClass() == Object.class) {
+				if (name.equals("equals")) {
+					return proxy == args[0];
+				}
+
+				if (name.equals("hashCode")) {
+					return System.identityHashCode(proxy);
+				}
+
+				return entry.statement.toString();
+			}
+
+			if (name.equals("close")) {
+				if (!closed) {
+					closed = true;
+					checkIn(entry);
+				}
+
+				return null;
+			}
+
+			if (name.equals("isClosed")) {
+				return closed || entry.statement.isClosed();
+			}
+
+			if (closed) {
+				throw new SQLException("Statement is closed");
+			}
+
+			try {
+				return method.invoke(entry.statement, args);
+			}
+			catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		}
+	}
+}
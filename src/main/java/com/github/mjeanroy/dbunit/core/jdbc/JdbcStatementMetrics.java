@@ -0,0 +1,334 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Collect execution counters of SQL statements executed through instrumented connections, aggregated
+/// per SQL shape (see [JdbcStatementStats]).
+///
+/// The shape of a prepared statement is its SQL; the shape of a plain statement is its SQL where
+/// string and numeric literals are replaced with `?`, so that statements differing only by their values are
+/// aggregated together.
+///
+/// Executions slower than the given threshold are logged with a warning.
+///
+/// This class is thread-safe: several connections may be instrumented with the same instance.
+public final class JdbcStatementMetrics {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(JdbcStatementMetrics.class);
+
+	/// String literals.
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+	/// Numeric literals, not part of an identifier.
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+	/// Whitespaces.
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+	/// The counters, indexed by SQL shape.
+	private final ConcurrentMap<String, Counters> counters;
+
+	/// The threshold above which an execution is logged, in nanoseconds (negative to disable logging).
+	private final long slowNanos;
+
+	/// Create metrics.
+	///
+	/// @param slowMillis The threshold above which an execution is logged with a warning, in milliseconds (negative to disable logging).
+	public JdbcStatementMetrics(long slowMillis) {
+		this.counters = new ConcurrentHashMap<>();
+		this.slowNanos = slowMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(slowMillis);
+	}
+
+	/// Wrap given connection, so that statements executed through the returned connection are measured.
+	///
+	/// @param connection The connection.
+	/// @return The instrumented connection.
+	public Connection instrument(Connection connection) {
+		return ConnectionProxy.instrumenting(connection, this);
+	}
+
+	/// Get the counters of executed statements, the most expensive first.
+	///
+	/// @return The counters.
+	public List<JdbcStatementStats> getStatements() {
+		List<JdbcStatementStats> outputs = new ArrayList<>(counters.size());
+		for (Counters c : counters.values()) {
+			outputs.add(c.toStats());
+		}
+
+		outputs.sort(Comparator.comparingLong(JdbcStatementStats::getNanos).reversed().thenComparing(JdbcStatementStats::getSql));
+		return outputs;
+	}
+
+	/// Measure executions of given statement.
+	///
+	/// @param statement The statement.
+	/// @return The instrumented statement.
+	Statement instrument(Statement statement) {
+		notNull(statement, "Statement must not be null");
+		return (Statement) Proxy.newProxyInstance(
+			JdbcStatementMetrics.class.getClassLoader(),
+			new Class<?>[]{Statement.class},
+			new StatementHandler(statement)
+		);
+	}
+
+	/// Measure executions of given prepared statement.
+	///
+	/// @param statement The prepared statement.
+	/// @param sql The SQL of the prepared statement.
+	/// @return The instrumented statement.
+	PreparedStatement instrument(PreparedStatement statement, String sql) {
+		notNull(statement, "Statement must not be null");
+		return (PreparedStatement) Proxy.newProxyInstance(
+			JdbcStatementMetrics.class.getClassLoader(),
+			new Class<?>[]{PreparedStatement.class},
+			new PreparedStatementHandler(statement, sql)
+		);
+	}
+
+	/// Compute the shape of given SQL.
+	///
+	/// @param sql The SQL.
+	/// @return The shape.
+	static String shape(String sql) {
+		String output = STRING_LITERAL.matcher(sql).replaceAll("?");
+		output = NUMERIC_LITERAL.matcher(output).replaceAll("?");
+		return WHITESPACES.matcher(output).replaceAll(" ").trim();
+	}
+
+	private void add(String sql, long nanos, long batchSize, long rowsAffected) {
+		counters.computeIfAbsent(sql, Counters::new).add(nanos, batchSize, rowsAffected);
+
+		if (slowNanos >= 0 && nanos > slowNanos) {
+			log.warn("Slow SQL statement ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("statements", counters.size())
+			.append("slowNanos", slowNanos)
+			.build();
+	}
+
+	private static long sum(Object updateCounts) {
+		long rows = 0;
+		if (updateCounts instanceof int[]) {
+			for (int count : (int[]) updateCounts) {
+				rows += Math.max(count, 0);
+			}
+		}
+		else if (updateCounts instanceof long[]) {
+			for (long count : (long[]) updateCounts) {
+				rows += Math.max(count, 0);
+			}
+		}
+
+		return rows;
+	}
+
+	private static long count(Object updateCount) {
+		return updateCount instanceof Number ? Math.max(((Number) updateCount).longValue(), 0) : 0;
+	}
+
+	/// Invoke given method on given target, unwrapping exception thrown by the method.
+	///
+	/// @param target The target.
+	/// @param method The method.
+	/// @param args The method arguments.
+	/// @return The method result.
+	/// @throws Throwable The exception thrown by the method.
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/// Mutable counters of a SQL shape.
+	private static final class Counters {
+		private final String sql;
+		private long executions;
+		private long batches;
+		private long batchedRows;
+		private long rowsAffected;
+		private long nanos;
+		private long maxNanos;
+
+		private Counters(String sql) {
+			this.sql = sql;
+		}
+
+		private synchronized void add(long nanos, long batchSize, long rowsAffected) {
+			this.executions++;
+			this.nanos += nanos;
+			this.maxNanos = Math.max(maxNanos, nanos);
+			this.rowsAffected += rowsAffected;
+			if (batchSize >= 0) {
+				this.batches++;
+				this.batchedRows += batchSize;
+			}
+		}
+
+		private synchronized JdbcStatementStats toStats() {
+			return new JdbcStatementStats(sql, executions, batches, batchedRows, rowsAffected, nanos, maxNanos);
+		}
+	}
+
+	/// Measure executions of a statement.
+	private class StatementHandler implements InvocationHandler {
+		/// The measured statement.
+		final Statement statement;
+
+		/// The shapes of the SQL added to the current batch.
+		private final Set<String> batch;
+
+		/// The number of statements added to the current batch.
+		int batchSize;
+
+		StatementHandler(Statement statement) {
+			this.statement = statement;
+			this.batch = new LinkedHashSet<>();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getDeclaringClass() == Object.class) {
+				return invokeObjectMethod(proxy, method, args);
+			}
+
+			String name = method.getName();
+			if (name.startsWith("execute") && args != null && args.length > 0 && args[0] instanceof String) {
+				long start = System.nanoTime();
+				Object result = JdbcStatementMetrics.invoke(statement, method, args);
+				add(shape((String) args[0]), System.nanoTime() - start, -1, name.endsWith("Update") ? count(result) : 0);
+				return result;
+			}
+
+			if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+				long start = System.nanoTime();
+				Object result = JdbcStatementMetrics.invoke(statement, method, args);
+				add(batchSql(), System.nanoTime() - start, batchSize, sum(result));
+				clear();
+				return result;
+			}
+
+			Object result = JdbcStatementMetrics.invoke(statement, method, args);
+			if (name.equals("addBatch")) {
+				batchSize++;
+				if (args != null && args.length == 1) {
+					batch.add(shape((String) args[0]));
+				}
+			}
+			else if (name.equals("clearBatch")) {
+				clear();
+			}
+
+			return result;
+		}
+
+		/// Get the shape of the current batch.
+		///
+		/// @return The shape.
+		String batchSql() {
+			return String.join("; ", batch);
+		}
+
+		private void clear() {
+			batch.clear();
+			batchSize = 0;
+		}
+
+		private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+			if (method.getName().equals("equals")) {
+				return proxy == args[0];
+			}
+
+			if (method.getName().equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			return statement.toString();
+		}
+	}
+
+	/// Measure executions of a prepared statement.
+	private final class PreparedStatementHandler extends StatementHandler {
+		/// The shape of the prepared statement.
+		private final String sql;
+
+		PreparedStatementHandler(PreparedStatement statement, String sql) {
+			super(statement);
+			this.sql = WHITESPACES.matcher(sql).replaceAll(" ").trim();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			boolean noArgs = args == null || args.length == 0;
+			if (noArgs && (name.equals("execute") || name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("executeLargeUpdate"))) {
+				long start = System.nanoTime();
+				Object result = JdbcStatementMetrics.invoke(statement, method, null);
+				add(sql, System.nanoTime() - start, -1, name.endsWith("Update") ? count(result) : 0);
+				return result;
+			}
+
+			return super.invoke(proxy, method, args);
+		}
+
+		@Override
+		String batchSql() {
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+
+import java.util.Objects;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// The counters of SQL statements with the same shape, executed through a connection instrumented
+/// by [JdbcStatementMetrics].
+///
+/// This class is immutable and thread-safe.
+public final class JdbcStatementStats {
+
+	/// The SQL shape, i.e. the SQL where literal values are replaced with `?`.
+	private final String sql;
+
+	/// The number of executions (a batch being a single execution).
+	private final long executions;
+
+	/// The number of executed batches.
+	private final long batches;
+
+	/// The total number of statements (or parameter sets) in executed batches.
+	private final long batchedRows;
+
+	/// The total number of rows affected, as reported by the JDBC driver.
+	private final long rowsAffected;
+
+	/// The total execution time, in nanoseconds.
+	private final long nanos;
+
+	/// The execution time of the slowest execution, in nanoseconds.
+	private final long maxNanos;
+
+	/// Create counters.
+	///
+	/// @param sql The SQL shape.
+	/// @param executions The number of executions.
+	/// @param batches The number of executed batches.
+	/// @param batchedRows The total number of statements in executed batches.
+	/// @param rowsAffected The total number of rows affected.
+	/// @param nanos The total execution time, in nanoseconds.
+	/// @param maxNanos The execution time of the slowest execution, in nanoseconds.
+	public JdbcStatementStats(String sql, long executions, long batches, long batchedRows, long rowsAffected, long nanos, long maxNanos) {
+		this.sql = notNull(sql, "SQL must not be null");
+		this.executions = executions;
+		this.batches = batches;
+		this.batchedRows = batchedRows;
+		this.rowsAffected = rowsAffected;
+		this.nanos = nanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/// Get [#sql]
+	///
+	/// @return Returns [#sql]
+	public String getSql() {
+		return sql;
+	}
+
+	/// Get [#executions]
+	///
+	/// @return Returns [#executions]
+	public long getExecutions() {
+		return executions;
+	}
+
+	/// Get [#batches]
+	///
+	/// @return Returns [#batches]
+	public long getBatches() {
+		return batches;
+	}
+
+	/// Get [#batchedRows]
+	///
+	/// @return Returns [#batchedRows]
+	public long getBatchedRows() {
+		return batchedRows;
+	}
+
+	/// Get [#rowsAffected]
+	///
+	/// @return Returns [#rowsAffected]
+	public long getRowsAffected() {
+		return rowsAffected;
+	}
+
+	/// Get [#nanos]
+	///
+	/// @return Returns [#nanos]
+	public long getNanos() {
+		return nanos;
+	}
+
+	/// Get [#maxNanos]
+	///
+	/// @return Returns [#maxNanos]
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof JdbcStatementStats) {
+			JdbcStatementStats s = (JdbcStatementStats) o;
+			return Objects.equals(sql, s.sql)
+				&& executions == s.executions
+				&& batches == s.batches
+				&& batchedRows == s.batchedRows
+				&& rowsAffected == s.rowsAffected
+				&& nanos == s.nanos
+				&& maxNanos == s.maxNanos;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sql, executions, batches, batchedRows, rowsAffected, nanos, maxNanos);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("sql", sql)
+			.append("executions", executions)
+			.append("batches", batches)
+			.append("batchedRows", batchedRows)
+			.append("rowsAffected", rowsAffected)
+			.append("nanos", nanos)
+			.append("maxNanos", maxNanos)
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/// The caches used while loading DbUnit fixtures.
+///
+/// Lookups are counted until they are reported to listeners, with [DbUnitPhase#CACHE_HIT] and [DbUnitPhase#CACHE_MISS]
+/// events, once a setup or tear down operation has been applied.
+///
+/// This class is thread-safe.
+public enum DbUnitCache {
+
+	/// Compiled dataset plans (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig#compiledPlans()]).
+	COMPILED_PLAN,
+
+	/// Prepared statements (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig#statementCacheSize()]).
+	STATEMENT,
+
+	/// Parsed SQL scripts (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitInit]).
+	SQL_SCRIPT;
+
+	/// The number of lookups that found the value in the cache, since the last report.
+	private final AtomicLong hits = new AtomicLong();
+
+	/// The number of lookups that computed the value, since the last report.
+	private final AtomicLong misses = new AtomicLong();
+
+	/// Count a lookup of this cache.
+	///
+	/// @param hit `true` if the value was found in the cache, `false` if it has been computed.
+	public void lookup(boolean hit) {
+		(hit ? hits : misses).incrementAndGet();
+	}
+
+	/// Get the number of lookups that found the value in the cache since the last call, and reset it.
+	///
+	/// @return The number of hits.
+	public long drainHits() {
+		return hits.getAndSet(0);
+	}
+
+	/// Get the number of lookups that computed the value since the last call, and reset it.
+	///
+	/// @return The number of misses.
+	public long drainMisses() {
+		return misses.getAndSet(0);
+	}
+}
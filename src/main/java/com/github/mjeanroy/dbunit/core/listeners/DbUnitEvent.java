@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcStatementStats;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// The timing of a phase of a DbUnit setup or tear down operation.
+///
+/// This class is immutable and thread-safe.
+public final class DbUnitEvent {
+
+	/// The operation being executed.
+	public enum Stage {
+		/// Setup operation, executed before the test.
+		SETUP,
+
+		/// Tear down operation, executed after the test.
+		TEAR_DOWN,
+
+		/// Test body, executed between the setup and the tear down operations.
+		TEST
+	}
+
+	/// The test class.
+	private final Class<?> testClass;
+
+	/// The test method.
+	private final Method testMethod;
+
+	/// The operation being executed.
+	private final Stage stage;
+
+	/// The description of the dataset of the test (i.e. the dataset resources), `null` if unknown.
+	private final String dataSet;
+
+	/// The executed phase.
+	private final DbUnitPhase phase;
+
+	/// The table (for [DbUnitPhase#TABLE] phase), the foreign key manager (for [DbUnitPhase#FK_DISABLE] and
+	/// [DbUnitPhase#FK_ENABLE] phases), the SQL shape (for [DbUnitPhase#STATEMENT] phase) or the cache (for
+	/// [DbUnitPhase#CACHE_HIT] and [DbUnitPhase#CACHE_MISS] phases), `null` otherwise.
+	private final String name;
+
+	/// The iteration of the dataset during which the table has been processed (for [DbUnitPhase#TABLE] phase), starting
+	/// at `1`, `0` otherwise: an operation may iterate the dataset several times, for example, `CLEAN_INSERT` deletes
+	/// tables during the first pass, and inserts rows during the second one.
+	private final int pass;
+
+	/// The number of rows of the table (or the number of rows affected by SQL statements), `-1` if unknown.
+	private final int rowCount;
+
+	/// The execution time of the phase, in nanoseconds.
+	private final long nanos;
+
+	/// The counters of the SQL statements (for [DbUnitPhase#STATEMENT] phase), `null` otherwise.
+	private final JdbcStatementStats statement;
+
+	/// Create event.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @param phase The executed phase.
+	/// @param name The table or foreign key manager name, may be `null`.
+	/// @param rowCount The number of rows of the table, `-1` if unknown.
+	/// @param nanos The execution time of the phase, in nanoseconds.
+	public DbUnitEvent(Class<?> testClass, Method testMethod, Stage stage, DbUnitPhase phase, String name, int rowCount, long nanos) {
+		this(testClass, testMethod, stage, null, phase, name, rowCount, nanos);
+	}
+
+	/// Create event.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @param dataSet The description of the dataset of the test, may be `null`.
+	/// @param phase The executed phase.
+	/// @param name The table or foreign key manager name, may be `null`.
+	/// @param rowCount The number of rows of the table, `-1` if unknown.
+	/// @param nanos The execution time of the phase, in nanoseconds.
+	public DbUnitEvent(Class<?> testClass, Method testMethod, Stage stage, String dataSet, DbUnitPhase phase, String name, int rowCount, long nanos) {
+		this(testClass, testMethod, stage, dataSet, phase, name, rowCount, nanos, null);
+	}
+
+	/// Create event.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @param dataSet The description of the dataset of the test, may be `null`.
+	/// @param phase The executed phase.
+	/// @param name The table, foreign key manager name or SQL shape, may be `null`.
+	/// @param rowCount The number of rows of the table (or the number of rows affected by SQL statements), `-1` if unknown.
+	/// @param nanos The execution time of the phase, in nanoseconds.
+	/// @param statement The counters of the SQL statements, may be `null`.
+	public DbUnitEvent(Class<?> testClass, Method testMethod, Stage stage, String dataSet, DbUnitPhase phase, String name, int rowCount, long nanos, JdbcStatementStats statement) {
+		this(testClass, testMethod, stage, dataSet, phase, name, 0, rowCount, nanos, statement);
+	}
+
+	/// Create event.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @param dataSet The description of the dataset of the test, may be `null`.
+	/// @param phase The executed phase.
+	/// @param name The table, foreign key manager name or SQL shape, may be `null`.
+	/// @param pass The iteration of the dataset during which the table has been processed, `0` if not applicable.
+	/// @param rowCount The number of rows of the table (or the number of rows affected by SQL statements), `-1` if unknown.
+	/// @param nanos The execution time of the phase, in nanoseconds.
+	/// @param statement The counters of the SQL statements, may be `null`.
+	public DbUnitEvent(Class<?> testClass, Method testMethod, Stage stage, String dataSet, DbUnitPhase phase, String name, int pass, int rowCount, long nanos, JdbcStatementStats statement) {
+		this.testClass = notNull(testClass, "Test class must not be null");
+		this.testMethod = notNull(testMethod, "Test method must not be null");
+		this.stage = notNull(stage, "Stage must not be null");
+		this.dataSet = dataSet;
+		this.phase = notNull(phase, "Phase must not be null");
+		this.name = name;
+		this.pass = pass;
+		this.rowCount = rowCount;
+		this.nanos = nanos;
+		this.statement = statement;
+	}
+
+	/// Get [#testClass]
+	///
+	/// @return Returns [#testClass]
+	public Class<?> getTestClass() {
+		return testClass;
+	}
+
+	/// Get [#testMethod]
+	///
+	/// @return Returns [#testMethod]
+	public Method getTestMethod() {
+		return testMethod;
+	}
+
+	/// Get [#stage]
+	///
+	/// @return Returns [#stage]
+	public Stage getStage() {
+		return stage;
+	}
+
+	/// Get [#dataSet]
+	///
+	/// @return Returns [#dataSet]
+	public String getDataSet() {
+		return dataSet;
+	}
+
+	/// Get [#phase]
+	///
+	/// @return Returns [#phase]
+	public DbUnitPhase getPhase() {
+		return phase;
+	}
+
+	/// Get [#name]
+	///
+	/// @return Returns [#name]
+	public String getName() {
+		return name;
+	}
+
+	/// Get [#pass]
+	///
+	/// @return Returns [#pass]
+	public int getPass() {
+		return pass;
+	}
+
+	/// Get [#rowCount]
+	///
+	/// @return Returns [#rowCount]
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/// Get [#nanos]
+	///
+	/// @return Returns [#nanos]
+	public long getNanos() {
+		return nanos;
+	}
+
+	/// Get [#statement]
+	///
+	/// @return Returns [#statement]
+	public JdbcStatementStats getStatement() {
+		return statement;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof DbUnitEvent) {
+			DbUnitEvent e = (DbUnitEvent) o;
+			return Objects.equals(testClass, e.testClass)
+				&& Objects.equals(testMethod, e.testMethod)
+				&& Objects.equals(stage, e.stage)
+				&& Objects.equals(dataSet, e.dataSet)
+				&& Objects.equals(phase, e.phase)
+				&& Objects.equals(name, e.name)
+				&& pass == e.pass
+				&& rowCount == e.rowCount
+				&& nanos == e.nanos
+				&& Objects.equals(statement, e.statement);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(testClass, testMethod, stage, dataSet, phase, name, pass, rowCount, nanos, statement);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("testClass", testClass)
+			.append("testMethod", testMethod)
+			.append("stage", stage)
+			.append("dataSet", dataSet)
+			.append("phase", phase)
+			.append("name", name)
+			.append("pass", pass)
+			.append("rowCount", rowCount)
+			.append("nanos", nanos)
+			.append("statement", statement)
+			.build();
+	}
+}
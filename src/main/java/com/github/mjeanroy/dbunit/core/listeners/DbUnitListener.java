@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+/// A listener notified of the timing of each phase of DbUnit setup and tear down operations.
+///
+/// Listeners are discovered with the [java.util.ServiceLoader] mechanism: implementations must declare a public
+/// no-argument constructor, and be registered in a `META-INF/services/com.github.mjeanroy.dbunit.core.listeners.DbUnitListener`
+/// file. When no listener is registered, phases are not timed at all.
+///
+/// Listeners may be notified concurrently (for example, when tables are loaded in parallel), and must be thread-safe.
+/// An exception thrown by a listener is logged, and does not fail the test.
+///
+/// Typical usage:
+///
+/// ```
+/// public class SlowPhaseListener implements DbUnitListener {
+///   private static final Logger log = Loggers.getLogger(SlowPhaseListener.class);
+///
+///   @Override
+///   public void onEvent(DbUnitEvent event) {
+///     if (event.getNanos() > 100_000_000L) {
+///       log.warn("Slow phase: {}", event);
+///     }
+///   }
+/// }
+/// ```
+@FunctionalInterface
+public interface DbUnitListener {
+
+	/// Notify listener that a phase has been executed.
+	///
+	/// @param event The phase event.
+	void onEvent(DbUnitEvent event);
+}
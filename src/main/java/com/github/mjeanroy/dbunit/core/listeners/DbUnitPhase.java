@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+/// The phases of a DbUnit setup or tear down operation.
+public enum DbUnitPhase {
+
+	/// Resolve and parse the dataset of the test, and apply replacements.
+	DATASET,
+
+	/// Get the SQL connection from the connection factory.
+	CONNECTION,
+
+	/// Create the DbUnit connection and apply configuration interceptors.
+	CONFIGURATION,
+
+	/// Disable foreign keys, with a given foreign key manager.
+	FK_DISABLE,
+
+	/// Apply the database operation on a given table.
+	///
+	/// This is the time elapsed while the operation iterates over the table (see [DbUnitEvent#getPass()]), so it only
+	/// measures the work done on the table by operations that process each table while iterating the dataset (such as
+	/// `INSERT`, `UPDATE` or `REFRESH`). In particular, it does not measure the database work of:
+	/// - `DELETE_ALL` (including the first pass of `CLEAN_INSERT`), that reads table names before deleting them.
+	/// - Compiled plans, that iterate the dataset only once, to compile the plan.
+	/// - Parallel loading, that does not iterate the dataset.
+	///
+	/// Use [#STATEMENT] events to get the time actually spent by the database.
+	TABLE,
+
+	/// Enable foreign keys, with a given foreign key manager.
+	FK_ENABLE,
+
+	/// Execute SQL statements with the same shape, during the database operation (counters are aggregated over
+	/// the whole operation, see [com.github.mjeanroy.dbunit.core.jdbc.JdbcStatementStats]).
+	STATEMENT,
+
+	/// Apply the database operation on the whole dataset (including foreign key management).
+	OPERATION,
+
+	/// Close the SQL connection.
+	CLOSE,
+
+	/// Skip the setup operation, since the dataset has been loaded by the previous read-only test.
+	REUSE,
+
+	/// Replay the setup operation recorded when the dataset has been loaded for the first time.
+	REPLAY,
+
+	/// Find values in a cache (see [DbUnitCache]): the event name is the cache name, and the row count is the number
+	/// of lookups since the previous event of the same cache.
+	CACHE_HIT,
+
+	/// Compute values missing from a cache (see [DbUnitCache]): the event name is the cache name, and the row count is
+	/// the number of lookups since the previous event of the same cache.
+	CACHE_MISS,
+
+	/// Execute the test body.
+	TEST
+}
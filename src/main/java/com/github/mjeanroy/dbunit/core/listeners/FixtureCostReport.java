@@ -0,0 +1,374 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.checkArgument;
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// A [DbUnitListener] aggregating the cost of DbUnit fixtures over the whole test suite, and writing a report
+/// when the JVM exits.
+///
+/// To enable the report, register this listener with the [java.util.ServiceLoader] mechanism, i.e. add a
+/// `META-INF/services/com.github.mjeanroy.dbunit.core.listeners.DbUnitListener` file containing
+/// `com.github.mjeanroy.dbunit.core.listeners.FixtureCostReport` to the test classpath.
+///
+/// The report is written to the directory defined by the `dbunit.report.dir` system property (default
+/// is `target`), and lists:
+/// - The total time spent in DbUnit versus in test bodies.
+/// - The dataset hit rate, i.e. the number of setups skipped (read-only tests) or replayed, versus
+///   the number of full setups.
+/// - The hit rate of each cache (see [DbUnitCache]): compiled plans, prepared statements and parsed SQL scripts.
+/// - The slowest datasets.
+/// - The test classes loading the same dataset most often.
+///
+/// The number of listed datasets and test classes is defined by the `dbunit.report.top` system
+/// property (default is `10`).
+///
+/// Three files are written: `dbunit-fixtures.json` (the whole report), `dbunit-fixtures-datasets.csv` (the
+/// cost of all datasets) and `dbunit-fixtures-classes.csv` (the number of loads of each dataset, per test class).
+///
+/// This class is thread-safe.
+public final class FixtureCostReport implements DbUnitListener {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(FixtureCostReport.class);
+
+	/// The system property defining the output directory.
+	static final String DIR_PROPERTY = "dbunit.report.dir";
+
+	/// The system property defining the number of listed datasets and test classes.
+	static final String TOP_PROPERTY = "dbunit.report.top";
+
+	/// The JSON report file name.
+	static final String JSON_FILE = "dbunit-fixtures.json";
+
+	/// The datasets CSV report file name.
+	static final String DATASETS_CSV_FILE = "dbunit-fixtures-datasets.csv";
+
+	/// The test classes CSV report file name.
+	static final String CLASSES_CSV_FILE = "dbunit-fixtures-classes.csv";
+
+	/// The phases accounting for the time spent in DbUnit: other phases are nested in [DbUnitPhase#OPERATION].
+	private static final Set<DbUnitPhase> DBUNIT_PHASES = EnumSet.of(
+		DbUnitPhase.DATASET,
+		DbUnitPhase.CONNECTION,
+		DbUnitPhase.CONFIGURATION,
+		DbUnitPhase.OPERATION,
+		DbUnitPhase.CLOSE,
+		DbUnitPhase.REUSE,
+		DbUnitPhase.REPLAY
+	);
+
+	/// The output directory.
+	private final Path dir;
+
+	/// The number of listed datasets and test classes.
+	private final int top;
+
+	/// The cost of each dataset, indexed by dataset description.
+	private final Map<String, DataSetCost> dataSets;
+
+	/// The number of full setups of each dataset, per test class.
+	private final Map<Class<?>, Map<String, Integer>> loads;
+
+	/// The number of hits (first value) and misses (second value) of each cache.
+	private final Map<DbUnitCache, long[]> caches;
+
+	/// The total time spent in DbUnit, in nanoseconds.
+	private long dbUnitNanos;
+
+	/// The total time spent in test bodies, in nanoseconds.
+	private long testNanos;
+
+	/// Create the report, written to the directory defined by the `dbunit.report.dir` system property
+	/// when the JVM exits.
+	public FixtureCostReport() {
+		this(
+			Paths.get(System.getProperty(DIR_PROPERTY, "target")),
+			Integer.parseInt(System.getProperty(TOP_PROPERTY, "10"))
+		);
+
+		Runtime.getRuntime().addShutdownHook(new Thread(this::writeQuietly, "dbunit-fixture-cost-report"));
+	}
+
+	/// Create the report.
+	///
+	/// @param dir The output directory.
+	/// @param top The number of listed datasets and test classes.
+	FixtureCostReport(Path dir, int top) {
+		checkArgument(top > 0, "Report size must be positive");
+		this.dir = notNull(dir, "Report directory must not be null");
+		this.top = top;
+		this.dataSets = new HashMap<>();
+		this.loads = new HashMap<>();
+		this.caches = new EnumMap<>(DbUnitCache.class);
+		for (DbUnitCache cache : DbUnitCache.values()) {
+			this.caches.put(cache, new long[2]);
+		}
+	}
+
+	@Override
+	public synchronized void onEvent(DbUnitEvent event) {
+		DbUnitPhase phase = event.getPhase();
+		if (phase == DbUnitPhase.TEST) {
+			testNanos += event.getNanos();
+			return;
+		}
+
+		if (phase == DbUnitPhase.CACHE_HIT || phase == DbUnitPhase.CACHE_MISS) {
+			caches.get(DbUnitCache.valueOf(event.getName()))[phase == DbUnitPhase.CACHE_HIT ? 0 : 1] += event.getRowCount();
+			return;
+		}
+
+		if (!DBUNIT_PHASES.contains(phase)) {
+			return;
+		}
+
+		dbUnitNanos += event.getNanos();
+
+		String dataSet = event.getDataSet();
+		if (dataSet == null) {
+			return;
+		}
+
+		DataSetCost cost = dataSets.computeIfAbsent(dataSet, DataSetCost::new);
+		cost.nanos += event.getNanos();
+
+		if (phase == DbUnitPhase.REUSE) {
+			cost.reused++;
+		}
+		else if (phase == DbUnitPhase.REPLAY) {
+			cost.replayed++;
+		}
+		else if (phase == DbUnitPhase.OPERATION && event.getStage() == DbUnitEvent.Stage.SETUP) {
+			cost.loads++;
+			loads.computeIfAbsent(event.getTestClass(), k -> new HashMap<>()).merge(dataSet, 1, Integer::sum);
+		}
+	}
+
+	/// Write the report files.
+	///
+	/// @throws IOException If a report file cannot be written.
+	synchronized void write() throws IOException {
+		List<DataSetCost> slowest = new ArrayList<>(dataSets.values());
+		slowest.sort(Comparator.comparingLong((DataSetCost cost) -> cost.nanos).reversed().thenComparing(cost -> cost.dataSet));
+
+		List<ClassLoads> reloads = new ArrayList<>();
+		for (Map.Entry<Class<?>, Map<String, Integer>> classEntry : loads.entrySet()) {
+			for (Map.Entry<String, Integer> entry : classEntry.getValue().entrySet()) {
+				reloads.add(new ClassLoads(classEntry.getKey().getName(), entry.getKey(), entry.getValue()));
+			}
+		}
+
+		reloads.sort(Comparator.comparingInt((ClassLoads l) -> l.loads).reversed().thenComparing(l -> l.testClass).thenComparing(l -> l.dataSet));
+
+		Files.createDirectories(dir);
+		write(JSON_FILE, json(slowest, reloads));
+		write(DATASETS_CSV_FILE, dataSetsCsv(slowest));
+		write(CLASSES_CSV_FILE, classesCsv(reloads));
+	}
+
+	private void writeQuietly() {
+		try {
+			write();
+		}
+		catch (IOException ex) {
+			log.warn("Cannot write DbUnit fixture cost report to {}: {}", dir, ex.getMessage());
+		}
+	}
+
+	private void write(String fileName, String content) throws IOException {
+		Files.write(dir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String json(List<DataSetCost> slowest, List<ClassLoads> reloads) {
+		int setups = 0;
+		int hits = 0;
+		for (DataSetCost cost : slowest) {
+			setups += cost.loads;
+			hits += cost.reused + cost.replayed;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n");
+		sb.append("  \"dbUnitNanos\": ").append(dbUnitNanos).append(",\n");
+		sb.append("  \"testNanos\": ").append(testNanos).append(",\n");
+		sb.append("  \"dbUnitRatio\": ").append(ratio(dbUnitNanos, dbUnitNanos + testNanos)).append(",\n");
+		sb.append("  \"setups\": ").append(setups).append(",\n");
+		sb.append("  \"hits\": ").append(hits).append(",\n");
+		sb.append("  \"hitRate\": ").append(ratio(hits, setups + hits)).append(",\n");
+
+		sb.append("  \"caches\": [");
+		String separator = "\n";
+		for (Map.Entry<DbUnitCache, long[]> entry : caches.entrySet()) {
+			long cacheHits = entry.getValue()[0];
+			long cacheMisses = entry.getValue()[1];
+			sb.append(separator);
+			sb.append("    {");
+			sb.append("\"cache\": ").append(quote(entry.getKey().name())).append(", ");
+			sb.append("\"hits\": ").append(cacheHits).append(", ");
+			sb.append("\"misses\": ").append(cacheMisses).append(", ");
+			sb.append("\"hitRate\": ").append(ratio(cacheHits, cacheHits + cacheMisses));
+			sb.append("}");
+			separator = ",\n";
+		}
+
+		sb.append("\n  ],\n");
+
+		sb.append("  \"slowestDataSets\": [");
+		for (int i = 0, size = Math.min(top, slowest.size()); i < size; i++) {
+			DataSetCost cost = slowest.get(i);
+			sb.append(i == 0 ? "\n" : ",\n");
+			sb.append("    {");
+			sb.append("\"dataSet\": ").append(quote(cost.dataSet)).append(", ");
+			sb.append("\"nanos\": ").append(cost.nanos).append(", ");
+			sb.append("\"loads\": ").append(cost.loads).append(", ");
+			sb.append("\"reused\": ").append(cost.reused).append(", ");
+			sb.append("\"replayed\": ").append(cost.replayed);
+			sb.append("}");
+		}
+
+		sb.append(slowest.isEmpty() ? "],\n" : "\n  ],\n");
+
+		sb.append("  \"mostReloaded\": [");
+		for (int i = 0, size = Math.min(top, reloads.size()); i < size; i++) {
+			ClassLoads l = reloads.get(i);
+			sb.append(i == 0 ? "\n" : ",\n");
+			sb.append("    {");
+			sb.append("\"testClass\": ").append(quote(l.testClass)).append(", ");
+			sb.append("\"dataSet\": ").append(quote(l.dataSet)).append(", ");
+			sb.append("\"loads\": ").append(l.loads);
+			sb.append("}");
+		}
+
+		sb.append(reloads.isEmpty() ? "]\n" : "\n  ]\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	private static String dataSetsCsv(List<DataSetCost> costs) {
+		StringBuilder sb = new StringBuilder("dataSet,nanos,loads,reused,replayed\n");
+		for (DataSetCost cost : costs) {
+			sb.append(csv(cost.dataSet)).append(',')
+				.append(cost.nanos).append(',')
+				.append(cost.loads).append(',')
+				.append(cost.reused).append(',')
+				.append(cost.replayed).append('\n');
+		}
+
+		return sb.toString();
+	}
+
+	private static String classesCsv(List<ClassLoads> reloads) {
+		StringBuilder sb = new StringBuilder("testClass,dataSet,loads\n");
+		for (ClassLoads l : reloads) {
+			sb.append(csv(l.testClass)).append(',')
+				.append(csv(l.dataSet)).append(',')
+				.append(l.loads).append('\n');
+		}
+
+		return sb.toString();
+	}
+
+	private static String ratio(long value, long total) {
+		return String.format(Locale.ROOT, "%.4f", total == 0 ? 0.0 : (double) value / total);
+	}
+
+	private static String quote(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				sb.append(c);
+			}
+		}
+
+		return sb.append('"').toString();
+	}
+
+	private static String csv(String value) {
+		boolean escape = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0;
+		return escape ? '"' + value.replace("\"", "\"\"") + '"' : value;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("dir", dir)
+			.append("top", top)
+			.build();
+	}
+
+	/// The aggregated cost of a dataset.
+	private static final class DataSetCost {
+		private final String dataSet;
+		private long nanos;
+		private int loads;
+		private int reused;
+		private int replayed;
+
+		private DataSetCost(String dataSet) {
+			this.dataSet = dataSet;
+		}
+	}
+
+	/// The number of full setups of a dataset by a test class.
+	private static final class ClassLoads {
+		private final String testClass;
+		private final String dataSet;
+		private final int loads;
+
+		private ClassLoads(String testClass, String dataSet, int loads) {
+			this.testClass = testClass;
+			this.dataSet = dataSet;
+			this.loads = loads;
+		}
+	}
+}
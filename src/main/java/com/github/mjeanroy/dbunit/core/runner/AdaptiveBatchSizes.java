@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/// Batch sizes tuned (see [BatchSizeTuner]) per table of a database target (URL, user and schema).
+///
+/// Tuned sizes are kept in memory for the lifetime of the JVM, so that following setups of the same
+/// tables start with the best known size.
+///
+/// This class is thread-safe.
+final class AdaptiveBatchSizes {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(AdaptiveBatchSizes.class);
+
+	/// The tuned batch sizes, by database target.
+	private static final ConcurrentMap<Target, AdaptiveBatchSizes> TARGETS = new ConcurrentHashMap<>();
+
+	/// Get the tuned batch sizes of the target of given connection.
+	///
+	/// @param connection The database connection.
+	/// @return The tuned batch sizes.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static AdaptiveBatchSizes of(IDatabaseConnection connection) throws SQLException {
+		return TARGETS.computeIfAbsent(Target.of(connection), target -> new AdaptiveBatchSizes());
+	}
+
+	/// Forget the tuned batch sizes of all database targets.
+	static void clear() {
+		TARGETS.clear();
+	}
+
+	/// Enable DbUnit batched statements on given connection if the database supports batch updates, and use the
+	/// tuned batch size of the connection target.
+	///
+	/// This does not tune anything: sizes are only tuned by compiled plans, that measure each batch they execute. This
+	/// only applies the tuned sizes to operations executed by DbUnit (that are not compiled), and since DbUnit uses a single
+	/// batch size for all tables, the median of the tuned sizes of the target is used.
+	///
+	/// @param connection The database connection.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static void configure(IDatabaseConnection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+		if (!metaData.supportsBatchUpdates()) {
+			log.debug("Batch updates are not supported, adaptive batch size is disabled");
+			return;
+		}
+
+		DatabaseConfig config = connection.getConfig();
+		config.setProperty(DatabaseConfig.FEATURE_BATCHED_STATEMENTS, true);
+		config.setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, of(connection).median(initialSize(connection)));
+	}
+
+	/// Get the batch size configured on given connection, used as the initial size of new tuners.
+	///
+	/// @param connection The database connection.
+	/// @return The configured batch size.
+	static int initialSize(IDatabaseConnection connection) {
+		Object batchSize = connection.getConfig().getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+		return batchSize instanceof Integer ? (Integer) batchSize : 100;
+	}
+
+	/// The tuners, by table.
+	private final ConcurrentMap<String, BatchSizeTuner> tuners;
+
+	private AdaptiveBatchSizes() {
+		this.tuners = new ConcurrentHashMap<>();
+	}
+
+	/// Get the tuner of given table.
+	///
+	/// @param tableName The table name.
+	/// @param initialSize The initial batch size, if the table has not been tuned yet.
+	/// @return The tuner.
+	BatchSizeTuner get(String tableName, int initialSize) {
+		return tuners.computeIfAbsent(tableName, name -> new BatchSizeTuner(name, initialSize));
+	}
+
+	/// Get the median of the best sizes of tuned tables.
+	///
+	/// @param defaultSize The size to return if no table has been tuned yet.
+	/// @return The median size.
+	int median(int defaultSize) {
+		int[] sizes = tuners.values().stream().mapToInt(BatchSizeTuner::getBestSize).toArray();
+		if (sizes.length == 0) {
+			return defaultSize;
+		}
+
+		Arrays.sort(sizes);
+		return sizes[sizes.length / 2];
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("tuners", tuners.values())
+			.build();
+	}
+
+	/// A database target.
+	private static final class Target {
+		private static Target of(IDatabaseConnection connection) throws SQLException {
+			DatabaseMetaData metaData = connection.getConnection().getMetaData();
+			return new Target(metaData.getURL(), metaData.getUserName(), connection.getSchema());
+		}
+
+		/// The database URL.
+		private final String url;
+
+		/// The database user.
+		private final String user;
+
+		/// The schema, may be `null`.
+		private final String schema;
+
+		private Target(String url, String user, String schema) {
+			this.url = url;
+			this.user = user;
+			this.schema = schema;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Target) {
+				Target t = (Target) o;
+				return Objects.equals(url, t.url)
+					&& Objects.equals(user, t.user)
+					&& Objects.equals(schema, t.schema);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(url, user, schema);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.util.Arrays;
+
+/// Converge on the JDBC batch size giving the best throughput (rows per second).
+///
+/// Starting from an initial size, the size is doubled as long as the throughput of full batches increases. When
+/// it stops increasing, the size is halved, starting from the best size, until the throughput decreases: the best
+/// measured size is then kept for good.
+///
+/// The throughput of a size is the median of [#SAMPLES] full batches, so that a single outlier (such as a garbage
+/// collection pause, or a cold cache) does not decide of the size.
+///
+/// This class is thread-safe.
+final class BatchSizeTuner {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(BatchSizeTuner.class);
+
+	/// The minimum batch size.
+	static final int MIN_SIZE = 1;
+
+	/// The maximum batch size.
+	static final int MAX_SIZE = 10_000;
+
+	/// The number of full batches measured for each size.
+	static final int SAMPLES = 3;
+
+	/// The minimum throughput gain, in percent, for a batch size to be considered better.
+	private static final double MIN_GAIN = 0.05;
+
+	/// The name of the tuned table, used in logs.
+	private final String name;
+
+	/// The current batch size.
+	private int size;
+
+	/// The batch size with the best measured throughput.
+	private int bestSize;
+
+	/// The best measured throughput, in rows per nanosecond.
+	private double bestThroughput;
+
+	/// The throughputs measured for the current size, in rows per nanosecond.
+	private final double[] samples;
+
+	/// The number of throughputs measured for the current size.
+	private int sampleCount;
+
+	/// Flag set while the size is increased, unset while the size is decreased.
+	private boolean increasing;
+
+	/// Flag set once the search direction has been reversed.
+	private boolean reversed;
+
+	/// Flag set once the best size has been found.
+	private boolean converged;
+
+	/// Create tuner.
+	///
+	/// @param name The name of the tuned table.
+	/// @param initialSize The initial batch size.
+	BatchSizeTuner(String name, int initialSize) {
+		this.name = name;
+		this.size = Math.min(Math.max(initialSize, MIN_SIZE), MAX_SIZE);
+		this.bestSize = size;
+		this.increasing = true;
+		this.samples = new double[SAMPLES];
+	}
+
+	/// Get the batch size to use for the next batch.
+	///
+	/// @return The batch size.
+	synchronized int getSize() {
+		return size;
+	}
+
+	/// Get the size with the best measured throughput.
+	///
+	/// @return The best size.
+	synchronized int getBestSize() {
+		return bestSize;
+	}
+
+	/// Check if the tuner converged.
+	///
+	/// @return `true` if the best size has been found, `false` otherwise.
+	synchronized boolean isConverged() {
+		return converged;
+	}
+
+	/// Record the execution of a batch: only full batches (i.e. batches of the current size) are used to tune the size, and
+	/// the size is only changed once [#SAMPLES] batches have been measured.
+	///
+	/// @param rows The number of rows of the batch.
+	/// @param nanos The execution time of the batch, in nanoseconds.
+	synchronized void record(int rows, long nanos) {
+		if (converged || rows != size || nanos <= 0) {
+			return;
+		}
+
+		samples[sampleCount++] = (double) rows / nanos;
+		if (sampleCount < SAMPLES) {
+			return;
+		}
+
+		sampleCount = 0;
+		double throughput = median(samples);
+		if (throughput > bestThroughput * (1 + MIN_GAIN)) {
+			bestThroughput = throughput;
+			bestSize = size;
+			move(size);
+		}
+		else if (!reversed) {
+			reverse();
+			move(bestSize);
+		}
+		else {
+			converge();
+		}
+	}
+
+	private static double median(double[] values) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private void move(int from) {
+		int next = next(from);
+		if (next == from && !reversed) {
+			reverse();
+			next = next(from);
+		}
+
+		if (next == from) {
+			converge();
+		}
+		else {
+			size = next;
+		}
+	}
+
+	private int next(int from) {
+		return increasing ? Math.min(from * 2, MAX_SIZE) : Math.max(from / 2, MIN_SIZE);
+	}
+
+	private void reverse() {
+		reversed = true;
+		increasing = !increasing;
+	}
+
+	private void converge() {
+		converged = true;
+		size = bestSize;
+		log.debug("Batch size of {} converged to: {}", name, size);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("name", name)
+			.append("size", size)
+			.append("bestSize", bestSize)
+			.append("converged", converged)
+			.build();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.operation.DatabaseOperation;
+
+import java.sql.SQLException;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// A `CLEAN_INSERT` or `DELETE_ALL` operation executing the compiled plan of the dataset (see [CompiledDataSetPlan]).
+///
+/// If the plan cannot be compiled or executed, it is discarded and the DbUnit operation is applied instead.
+///
+/// Note that plans are only compiled by `CLEAN_INSERT` operations: compiling a plan (i.e. converting every value of the
+/// dataset) is not worth it to delete rows, so `DELETE_ALL` operations apply the DbUnit operation if the plan of the dataset
+/// has not been compiled yet.
+final class CompiledDataSetOperation extends DatabaseOperation {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(CompiledDataSetOperation.class);
+
+	/// Create `CLEAN_INSERT` operation.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param adaptiveBatchSize Flag to tune the batch size of each table (see [AdaptiveBatchSizes]).
+	/// @return The operation.
+	static CompiledDataSetOperation cleanInsert(DataSetFingerprint fingerprint, boolean adaptiveBatchSize) {
+		return new CompiledDataSetOperation(fingerprint, DatabaseOperation.CLEAN_INSERT, adaptiveBatchSize);
+	}
+
+	/// Create `DELETE_ALL` operation.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @return The operation.
+	static CompiledDataSetOperation deleteAll(DataSetFingerprint fingerprint) {
+		return new CompiledDataSetOperation(fingerprint, DatabaseOperation.DELETE_ALL, false);
+	}
+
+	/// The dataset fingerprint.
+	private final DataSetFingerprint fingerprint;
+
+	/// The DbUnit operation, applied when the plan cannot be executed.
+	private final DatabaseOperation operation;
+
+	/// Flag to tune the batch size of each table.
+	private final boolean adaptiveBatchSize;
+
+	private CompiledDataSetOperation(DataSetFingerprint fingerprint, DatabaseOperation operation, boolean adaptiveBatchSize) {
+		this.fingerprint = notNull(fingerprint, "Dataset fingerprint must be defined");
+		this.operation = notNull(operation, "Database operation must be defined");
+		this.adaptiveBatchSize = adaptiveBatchSize;
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		if (operation == DatabaseOperation.DELETE_ALL && CompiledDataSetPlan.get(fingerprint, connection) == null) {
+			log.debug("Dataset plan has not been compiled, applying {} operation", operation);
+			operation.execute(connection, dataSet);
+			return;
+		}
+
+		try {
+			CompiledDataSetPlan plan = CompiledDataSetPlan.of(fingerprint, connection, dataSet);
+			if (operation == DatabaseOperation.CLEAN_INSERT) {
+				plan.cleanInsert(connection, adaptiveBatchSize ? AdaptiveBatchSizes.of(connection) : null);
+			}
+			else {
+				plan.deleteAll(connection);
+			}
+		}
+		catch (Exception ex) {
+			log.warn("Cannot execute compiled dataset plan, applying {} operation: {}", operation, ex.getMessage());
+			CompiledDataSetPlan.invalidate(fingerprint, connection);
+			operation.execute(connection, dataSet);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("fingerprint", fingerprint)
+			.append("operation", operation)
+			.append("adaptiveBatchSize", adaptiveBatchSize)
+			.build();
+	}
+}
@@ -0,0 +1,470 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.cache.Cache;
+import com.github.mjeanroy.dbunit.cache.CacheFactory;
+import com.github.mjeanroy.dbunit.cache.CacheLoader;
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitCache;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.util.QualifiedTableName;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/// Compiled plan of a dataset, for a given database: ordered tables, `INSERT` and `DELETE` statements and
+/// values already converted to the [DataType] of each column.
+///
+/// Plans are compiled once per dataset fingerprint, database (URL and user) and schema, and are kept in memory: executing
+/// a plan does not query database metadata, nor converts values again. At most 128 plans are kept in memory, the oldest
+/// plans being evicted (and compiled again if needed) first.
+///
+/// Just like DbUnit `CLEAN_INSERT` operation:
+/// - Tables are deleted in reverse order, then rows are inserted in dataset order.
+/// - Columns without value (see [ITable#NO_VALUE]) are not inserted.
+///
+/// This class is immutable and thread-safe.
+final class CompiledDataSetPlan {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(CompiledDataSetPlan.class);
+
+	/// The maximum number of compiled plans kept in memory.
+	private static final long MAXIMUM_SIZE = 128;
+
+	/// Compiled plans: the oldest plans are evicted first.
+	///
+	/// A plan needs the dataset and the database connection to be compiled, so plans are always loaded with the
+	/// loader given to [Cache#load(Object, CacheLoader)] (see [#of(DataSetFingerprint, IDatabaseConnection, IDataSet)]).
+	private static final Cache<Key, CompiledDataSetPlan> PLANS = CacheFactory.newCache(CompiledDataSetPlan::missing, MAXIMUM_SIZE);
+
+	/// Get the compiled plan of given dataset, compile it if needed.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param connection The database connection.
+	/// @param dataSet The dataset.
+	/// @return The compiled plan.
+	/// @throws DatabaseUnitException If a table or a column does not exist, or if a value cannot be converted.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static CompiledDataSetPlan of(DataSetFingerprint fingerprint, IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Key key = Key.of(fingerprint, connection);
+		CompiledDataSetPlan plan = PLANS.getIfPresent(key);
+		DbUnitCache.COMPILED_PLAN.lookup(plan != null);
+		if (plan != null) {
+			return plan;
+		}
+
+		try {
+			return PLANS.load(key, k -> compile(connection, dataSet));
+		}
+		catch (IllegalStateException ex) {
+			// Checked exceptions thrown by the loader are wrapped by the cache.
+			Throwable cause = ex.getCause();
+			if (cause instanceof DatabaseUnitException) {
+				throw (DatabaseUnitException) cause;
+			}
+
+			if (cause instanceof SQLException) {
+				throw (SQLException) cause;
+			}
+
+			throw ex;
+		}
+	}
+
+	/// Get the compiled plan of given dataset, if it has already been compiled.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param connection The database connection.
+	/// @return The compiled plan, `null` if it has not been compiled yet.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static CompiledDataSetPlan get(DataSetFingerprint fingerprint, IDatabaseConnection connection) throws SQLException {
+		return PLANS.getIfPresent(Key.of(fingerprint, connection));
+	}
+
+	/// Discard the compiled plan of given dataset, if any.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param connection The database connection.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static void invalidate(DataSetFingerprint fingerprint, IDatabaseConnection connection) throws SQLException {
+		PLANS.invalidate(Key.of(fingerprint, connection));
+	}
+
+	/// Loader of [#PLANS] cache: plans cannot be compiled without their dataset and database connection.
+	///
+	/// @param key The cache key.
+	/// @return Nothing, always fail.
+	private static CompiledDataSetPlan missing(Key key) {
+		throw new UnsupportedOperationException("Compiled plan must be loaded with its dataset: " + key);
+	}
+
+	/// Compile plan of given dataset.
+	///
+	/// @param connection The database connection.
+	/// @param dataSet The dataset.
+	/// @return The compiled plan.
+	/// @throws DatabaseUnitException If a table or a column does not exist, or if a value cannot be converted.
+	/// @throws SQLException If an error occurred while reading database metadata.
+	static CompiledDataSetPlan compile(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		log.debug("Compiling dataset plan");
+
+		IDataSet databaseDataSet = connection.createDataSet();
+		String schema = connection.getSchema();
+		String escapePattern = (String) connection.getConfig().getProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN);
+
+		List<TablePlan> tables = new ArrayList<>();
+		ITableIterator iterator = dataSet.iterator();
+		while (iterator.next()) {
+			ITable table = iterator.getTable();
+			ITableMetaData metaData = table.getTableMetaData();
+			ITableMetaData databaseMetaData = databaseDataSet.getTableMetaData(metaData.getTableName());
+
+			Column[] columns = metaData.getColumns();
+			Column[] databaseColumns = databaseMetaData.getColumns();
+			Column[] targetColumns = new Column[columns.length];
+			for (int i = 0; i < columns.length; i++) {
+				targetColumns[i] = databaseColumns[databaseMetaData.getColumnIndex(columns[i].getColumnName())];
+			}
+
+			String tableName = new QualifiedTableName(databaseMetaData.getTableName(), schema, escapePattern).getQualifiedName();
+			tables.add(TablePlan.compile(tableName, table, columns, targetColumns, escapePattern));
+		}
+
+		return new CompiledDataSetPlan(tables);
+	}
+
+	/// The compiled tables, in dataset order.
+	private final List<TablePlan> tables;
+
+	private CompiledDataSetPlan(List<TablePlan> tables) {
+		this.tables = unmodifiableList(tables);
+	}
+
+	/// Delete all rows of dataset tables, then insert dataset rows.
+	///
+	/// @param connection The database connection.
+	/// @throws DatabaseUnitException If a value cannot be bound.
+	/// @throws SQLException If an error occurred while executing statements.
+	void cleanInsert(IDatabaseConnection connection) throws DatabaseUnitException, SQLException {
+		cleanInsert(connection, null);
+	}
+
+	/// Delete all rows of dataset tables, then insert dataset rows, using batch sizes tuned for each table.
+	///
+	/// @param connection The database connection.
+	/// @param batchSizes The tuned batch sizes, `null` to use the batch size of the DbUnit configuration.
+	/// @throws DatabaseUnitException If a value cannot be bound.
+	/// @throws SQLException If an error occurred while executing statements.
+	void cleanInsert(IDatabaseConnection connection, AdaptiveBatchSizes batchSizes) throws DatabaseUnitException, SQLException {
+		deleteAll(connection);
+
+		Connection sqlConnection = connection.getConnection();
+		int batchSize = batchSize(connection);
+		for (TablePlan table : tables) {
+			BatchSizeTuner tuner = batchSizes == null || batchSize == 1 ? null : batchSizes.get(table.tableName, batchSize);
+			table.insert(sqlConnection, batchSize, tuner);
+		}
+	}
+
+	/// Delete all rows of dataset tables, in reverse order.
+	///
+	/// @param connection The database connection.
+	/// @throws SQLException If an error occurred while executing statements.
+	void deleteAll(IDatabaseConnection connection) throws SQLException {
+		Set<String> tableNames = new LinkedHashSet<>();
+		for (int i = tables.size() - 1; i >= 0; i--) {
+			tableNames.add(tables.get(i).tableName);
+		}
+
+		try (Statement statement = connection.getConnection().createStatement()) {
+			for (String tableName : tableNames) {
+				statement.executeUpdate("delete from " + tableName);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("tables", tables)
+			.build();
+	}
+
+	private static int batchSize(IDatabaseConnection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+		if (!metaData.supportsBatchUpdates()) {
+			return 1;
+		}
+
+		Object batchSize = connection.getConfig().getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+		return batchSize instanceof Integer ? Math.max((Integer) batchSize, 1) : 100;
+	}
+
+	/// Compiled plan of a dataset table.
+	private static final class TablePlan {
+		private static TablePlan compile(String tableName, ITable table, Column[] columns, Column[] targetColumns, String escapePattern) throws DataSetException {
+			List<InsertPlan> inserts = new ArrayList<>();
+			InsertPlan current = null;
+
+			int rowCount = table.getRowCount();
+			for (int row = 0; row < rowCount; row++) {
+				// Columns without value are not inserted, use a new statement each time the set of inserted columns changes.
+				BitSet ignored = new BitSet(columns.length);
+				for (int i = 0; i < columns.length; i++) {
+					if (table.getValue(row, columns[i].getColumnName()) == ITable.NO_VALUE) {
+						ignored.set(i);
+					}
+				}
+
+				if (current == null || !current.ignored.equals(ignored)) {
+					current = InsertPlan.compile(tableName, targetColumns, ignored, escapePattern);
+					inserts.add(current);
+				}
+
+				current.add(table, row, columns);
+			}
+
+			return new TablePlan(tableName, inserts);
+		}
+
+		/// The qualified table name.
+		private final String tableName;
+
+		/// The insert statements.
+		private final List<InsertPlan> inserts;
+
+		private TablePlan(String tableName, List<InsertPlan> inserts) {
+			this.tableName = tableName;
+			this.inserts = inserts;
+		}
+
+		private void insert(Connection connection, int batchSize, BatchSizeTuner tuner) throws DatabaseUnitException, SQLException {
+			for (InsertPlan insert : inserts) {
+				insert.execute(connection, batchSize, tuner);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("tableName", tableName)
+				.append("inserts", inserts)
+				.build();
+		}
+	}
+
+	/// Compiled `INSERT` statement, with the rows to insert.
+	private static final class InsertPlan {
+		private static InsertPlan compile(String tableName, Column[] columns, BitSet ignored, String escapePattern) {
+			StringBuilder names = new StringBuilder();
+			StringBuilder values = new StringBuilder();
+			List<DataType> dataTypes = new ArrayList<>(columns.length);
+
+			for (int i = 0; i < columns.length; i++) {
+				if (ignored.get(i)) {
+					continue;
+				}
+
+				if (!dataTypes.isEmpty()) {
+					names.append(", ");
+					values.append(", ");
+				}
+
+				names.append(new QualifiedTableName(columns[i].getColumnName(), null, escapePattern).getQualifiedName());
+				values.append("?");
+				dataTypes.add(columns[i].getDataType());
+			}
+
+			String sql = "insert into " + tableName + " (" + names + ") values (" + values + ")";
+			return new InsertPlan(sql, ignored, dataTypes.toArray(new DataType[0]));
+		}
+
+		/// The SQL statement.
+		private final String sql;
+
+		/// The columns without value.
+		private final BitSet ignored;
+
+		/// The data type of each inserted column.
+		private final DataType[] dataTypes;
+
+		/// The rows to insert, each value being already converted to the data type of its column.
+		private final List<Object[]> rows;
+
+		private InsertPlan(String sql, BitSet ignored, DataType[] dataTypes) {
+			this.sql = sql;
+			this.ignored = ignored;
+			this.dataTypes = dataTypes;
+			this.rows = new ArrayList<>();
+		}
+
+		private void add(ITable table, int row, Column[] columns) throws DataSetException {
+			Object[] values = new Object[dataTypes.length];
+			int index = 0;
+			for (int i = 0; i < columns.length; i++) {
+				if (!ignored.get(i)) {
+					Object value = table.getValue(row, columns[i].getColumnName());
+					values[index] = dataTypes[index].typeCast(value);
+					index++;
+				}
+			}
+
+			rows.add(values);
+		}
+
+		private void execute(Connection connection, int batchSize, BatchSizeTuner tuner) throws DatabaseUnitException, SQLException {
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				int size = tuner == null ? batchSize : tuner.getSize();
+				int pending = 0;
+				for (Object[] values : rows) {
+					for (int i = 0; i < values.length; i++) {
+						dataTypes[i].setSqlValue(values[i], i + 1, statement);
+					}
+
+					if (size == 1) {
+						statement.executeUpdate();
+						continue;
+					}
+
+					statement.addBatch();
+					pending++;
+
+					if (pending == size) {
+						executeBatch(statement, pending, tuner);
+						size = tuner == null ? batchSize : tuner.getSize();
+						pending = 0;
+					}
+				}
+
+				if (pending > 0) {
+					executeBatch(statement, pending, tuner);
+				}
+			}
+		}
+
+		private static void executeBatch(PreparedStatement statement, int rows, BatchSizeTuner tuner) throws SQLException {
+			if (tuner == null) {
+				statement.executeBatch();
+				return;
+			}
+
+			long start = System.nanoTime();
+			statement.executeBatch();
+			tuner.record(rows, System.nanoTime() - start);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("sql", sql)
+				.append("rows", rows.size())
+				.build();
+		}
+	}
+
+	/// Identify a compiled plan.
+	private static final class Key {
+		private static Key of(DataSetFingerprint fingerprint, IDatabaseConnection connection) throws SQLException {
+			DatabaseMetaData metaData = connection.getConnection().getMetaData();
+			return new Key(fingerprint, metaData.getURL(), metaData.getUserName(), connection.getSchema());
+		}
+
+		/// The dataset fingerprint.
+		private final DataSetFingerprint fingerprint;
+
+		/// The database URL.
+		private final String url;
+
+		/// The database user.
+		private final String user;
+
+		/// The schema, may be `null`.
+		private final String schema;
+
+		private Key(DataSetFingerprint fingerprint, String url, String user, String schema) {
+			this.fingerprint = notNull(fingerprint, "Dataset fingerprint must not be null");
+			this.url = url;
+			this.user = user;
+			this.schema = schema;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Key) {
+				Key k = (Key) o;
+				return Objects.equals(fingerprint, k.fingerprint)
+					&& Objects.equals(url, k.url)
+					&& Objects.equals(user, k.user)
+					&& Objects.equals(schema, k.schema);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fingerprint, url, user, schema);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("fingerprint", fingerprint)
+				.append("url", url)
+				.append("user", user)
+				.append("schema", schema)
+				.build();
+		}
+	}
+}
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 
@@ -48,18 +49,88 @@ final class Config {
 	/// - After the setup/teardown operations.
 	private final List<JdbcForeignKeyManager> fkManagers;
 
-	Config(List<DbUnitConfigInterceptor> interceptors) {
-		this(null, interceptors, emptyList());
+	/// Flag to enable delta setup between consecutive setup operations.
+	private final boolean deltaSetup;
+
+	/// Number of connections used to load dataset tables concurrently.
+	private final int parallelism;
+
+	/// Flag to coordinate initialization (SQL scripts and liquibase changelogs) between processes sharing the same database.
+	private final boolean sharedInit;
+
+	/// Flag to record setup statements, and replay them for the next setup of the same dataset.
+	private final boolean replay;
+
+	/// Flag to execute compiled plans of datasets, instead of DbUnit `CLEAN_INSERT` and `DELETE_ALL` operations.
+	private final boolean compiledPlans;
+
+	/// Maximum number of prepared statements cached per connection, `0` if statements are not cached.
+	private final int statementCacheSize;
+
+	/// Flag to tune the JDBC batch size while loading datasets.
+	private final boolean adaptiveBatchSize;
+
+	/// Flag to also use [#schema] as the default schema of SQL connections.
+	private final boolean defaultSchema;
+
+	/// Create new builder.
+	///
+	/// @return The builder.
+	static Builder builder() {
+		return new Builder();
 	}
 
-	Config(
+	private Config(
 		String schema,
 		List<DbUnitConfigInterceptor> interceptors,
-		List<JdbcForeignKeyManager> fkManagers
+		List<JdbcForeignKeyManager> fkManagers,
+		boolean deltaSetup,
+		int parallelism,
+		boolean sharedInit,
+		boolean replay,
+		boolean compiledPlans,
+		int statementCacheSize,
+		boolean adaptiveBatchSize,
+		boolean defaultSchema
 	) {
 		this.schema = Strings.trimToNull(schema);
 		this.interceptors = new ArrayList<>(interceptors);
 		this.fkManagers = new ArrayList<>(fkManagers);
+		this.deltaSetup = deltaSetup;
+		this.parallelism = Math.max(parallelism, 1);
+		this.sharedInit = sharedInit;
+		this.replay = replay;
+		this.compiledPlans = compiledPlans;
+		this.statementCacheSize = Math.max(statementCacheSize, 0);
+		this.adaptiveBatchSize = adaptiveBatchSize;
+		this.defaultSchema = defaultSchema;
+	}
+
+	/// Create a copy of this configuration, using given schema as the DbUnit schema and as the
+	/// default schema of SQL connections.
+	///
+	/// @param schema The schema.
+	/// @return The new configuration.
+	Config withDefaultSchema(String schema) {
+		return toBuilder().setSchema(schema).setDefaultSchema(true).build();
+	}
+
+	/// Create new builder, initialized with this configuration.
+	///
+	/// @return The builder.
+	Builder toBuilder() {
+		return new Builder()
+			.setSchema(schema)
+			.setInterceptors(interceptors)
+			.setFkManagers(fkManagers)
+			.setDeltaSetup(deltaSetup)
+			.setParallelism(parallelism)
+			.setSharedInit(sharedInit)
+			.setReplay(replay)
+			.setCompiledPlans(compiledPlans)
+			.setStatementCacheSize(statementCacheSize)
+			.setAdaptiveBatchSize(adaptiveBatchSize)
+			.setDefaultSchema(defaultSchema);
 	}
 
 	/// Get [#schema]
@@ -83,6 +154,62 @@ final class Config {
 		return unmodifiableList(fkManagers);
 	}
 
+	/// Get [#deltaSetup]
+	///
+	/// @return Returns [#deltaSetup]
+	boolean isDeltaSetup() {
+		return deltaSetup;
+	}
+
+	/// Get [#parallelism]
+	///
+	/// @return Returns [#parallelism]
+	int getParallelism() {
+		return parallelism;
+	}
+
+	/// Get [#sharedInit]
+	///
+	/// @return Returns [#sharedInit]
+	boolean isSharedInit() {
+		return sharedInit;
+	}
+
+	/// Get [#replay]
+	///
+	/// @return Returns [#replay]
+	boolean isReplay() {
+		return replay;
+	}
+
+	/// Get [#compiledPlans]
+	///
+	/// @return Returns [#compiledPlans]
+	boolean isCompiledPlans() {
+		return compiledPlans;
+	}
+
+	/// Get [#statementCacheSize]
+	///
+	/// @return Returns [#statementCacheSize]
+	int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/// Get [#adaptiveBatchSize]
+	///
+	/// @return Returns [#adaptiveBatchSize]
+	boolean isAdaptiveBatchSize() {
+		return adaptiveBatchSize;
+	}
+
+	/// Get [#defaultSchema]
+	///
+	/// @return Returns [#defaultSchema]
+	boolean isDefaultSchema() {
+		return defaultSchema;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -93,7 +220,15 @@ final class Config {
 			Config c = (Config) o;
 			return Objects.equals(schema, c.schema)
 				&& Objects.equals(interceptors, c.interceptors)
-				&& Objects.equals(fkManagers, c.fkManagers);
+				&& Objects.equals(fkManagers, c.fkManagers)
+				&& deltaSetup == c.deltaSetup
+				&& parallelism == c.parallelism
+				&& sharedInit == c.sharedInit
+				&& replay == c.replay
+				&& compiledPlans == c.compiledPlans
+				&& statementCacheSize == c.statementCacheSize
+				&& adaptiveBatchSize == c.adaptiveBatchSize
+				&& defaultSchema == c.defaultSchema;
 		}
 
 		return false;
@@ -101,7 +236,7 @@ final class Config {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(schema, interceptors, fkManagers);
+		return Objects.hash(schema, interceptors, fkManagers, deltaSetup, parallelism, sharedInit, replay, compiledPlans, statementCacheSize, adaptiveBatchSize, defaultSchema);
 	}
 
 	@Override
@@ -110,6 +245,175 @@ final class Config {
 			.append("schema", schema)
 			.append("interceptors", interceptors)
 			.append("fkManagers", fkManagers)
+			.append("deltaSetup", deltaSetup)
+			.append("parallelism", parallelism)
+			.append("sharedInit", sharedInit)
+			.append("replay", replay)
+			.append("compiledPlans", compiledPlans)
+			.append("statementCacheSize", statementCacheSize)
+			.append("adaptiveBatchSize", adaptiveBatchSize)
+			.append("defaultSchema", defaultSchema)
 			.build();
 	}
+
+	/// Builder for [Config].
+	static final class Builder {
+
+		/// Database schema, see [Config#schema].
+		private String schema;
+
+		/// DBUnit interceptors, see [Config#interceptors].
+		private List<DbUnitConfigInterceptor> interceptors;
+
+		/// Foreign key managers, see [Config#fkManagers].
+		private List<JdbcForeignKeyManager> fkManagers;
+
+		/// Delta setup flag, see [Config#deltaSetup].
+		private boolean deltaSetup;
+
+		/// Number of connections, see [Config#parallelism].
+		private int parallelism;
+
+		/// Shared initialization flag, see [Config#sharedInit].
+		private boolean sharedInit;
+
+		/// Replay flag, see [Config#replay].
+		private boolean replay;
+
+		/// Compiled plans flag, see [Config#compiledPlans].
+		private boolean compiledPlans;
+
+		/// Statement cache size, see [Config#statementCacheSize].
+		private int statementCacheSize;
+
+		/// Adaptive batch size flag, see [Config#adaptiveBatchSize].
+		private boolean adaptiveBatchSize;
+
+		/// Default schema flag, see [Config#defaultSchema].
+		private boolean defaultSchema;
+
+		private Builder() {
+			this.interceptors = emptyList();
+			this.fkManagers = emptyList();
+			this.parallelism = 1;
+		}
+
+		/// Set [#schema].
+		///
+		/// @param schema The schema.
+		/// @return The builder.
+		Builder setSchema(String schema) {
+			this.schema = schema;
+			return this;
+		}
+
+		/// Set [#interceptors].
+		///
+		/// @param interceptors The interceptors.
+		/// @return The builder.
+		Builder setInterceptors(List<DbUnitConfigInterceptor> interceptors) {
+			this.interceptors = notNull(interceptors, "Interceptors must not be null");
+			return this;
+		}
+
+		/// Set [#fkManagers].
+		///
+		/// @param fkManagers The foreign key managers.
+		/// @return The builder.
+		Builder setFkManagers(List<JdbcForeignKeyManager> fkManagers) {
+			this.fkManagers = notNull(fkManagers, "Foreign key managers must not be null");
+			return this;
+		}
+
+		/// Set [#deltaSetup].
+		///
+		/// @param deltaSetup The delta setup flag.
+		/// @return The builder.
+		Builder setDeltaSetup(boolean deltaSetup) {
+			this.deltaSetup = deltaSetup;
+			return this;
+		}
+
+		/// Set [#parallelism].
+		///
+		/// @param parallelism The number of connections.
+		/// @return The builder.
+		Builder setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/// Set [#sharedInit].
+		///
+		/// @param sharedInit The shared initialization flag.
+		/// @return The builder.
+		Builder setSharedInit(boolean sharedInit) {
+			this.sharedInit = sharedInit;
+			return this;
+		}
+
+		/// Set [#replay].
+		///
+		/// @param replay The replay flag.
+		/// @return The builder.
+		Builder setReplay(boolean replay) {
+			this.replay = replay;
+			return this;
+		}
+
+		/// Set [#compiledPlans].
+		///
+		/// @param compiledPlans The compiled plans flag.
+		/// @return The builder.
+		Builder setCompiledPlans(boolean compiledPlans) {
+			this.compiledPlans = compiledPlans;
+			return this;
+		}
+
+		/// Set [#statementCacheSize].
+		///
+		/// @param statementCacheSize The statement cache size.
+		/// @return The builder.
+		Builder setStatementCacheSize(int statementCacheSize) {
+			this.statementCacheSize = statementCacheSize;
+			return this;
+		}
+
+		/// Set [#adaptiveBatchSize].
+		///
+		/// @param adaptiveBatchSize The adaptive batch size flag.
+		/// @return The builder.
+		Builder setAdaptiveBatchSize(boolean adaptiveBatchSize) {
+			this.adaptiveBatchSize = adaptiveBatchSize;
+			return this;
+		}
+
+		/// Set [#defaultSchema].
+		///
+		/// @param defaultSchema The default schema flag.
+		/// @return The builder.
+		Builder setDefaultSchema(boolean defaultSchema) {
+			this.defaultSchema = defaultSchema;
+			return this;
+		}
+
+		/// Build new instance of [Config].
+		///
+		/// @return New configuration.
+		Config build() {
+			return new Config(
+				schema,
+				interceptors,
+				fkManagers,
+				deltaSetup,
+				parallelism,
+				sharedInit,
+				replay,
+				compiledPlans,
+				statementCacheSize,
+				adaptiveBatchSize,
+				defaultSchema
+			);
+		}
+	}
 }
@@ -0,0 +1,369 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.NoSuchColumnException;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.dbunit.operation.DatabaseOperation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/// Row-level difference between the actual content of database tables and a dataset.
+///
+/// The delta is keyed by primary key and is always computed against the actual table content,
+/// so rows updated in place by a test are detected. Applying the delta gives the same result
+/// as a `CLEAN_INSERT` of the dataset.
+final class DataSetDelta {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DataSetDelta.class);
+
+	/// Compute the delta between actual table content and given dataset.
+	///
+	/// The delta cannot be computed (and `null` is returned) if:
+	/// - A table of the dataset is not part of the `snapshot` (i.e. it was not loaded by the previous setup).
+	/// - The row count of a table is not the one stored in `snapshot`.
+	/// - A table does not have a primary key, or a primary key value is missing in the dataset.
+	/// - A table is not fully described by the dataset (i.e. some columns are missing).
+	/// - A table appears more than once in the dataset.
+	///
+	/// @param connection The database connection.
+	/// @param dataSet The dataset to load.
+	/// @param snapshot The row count of each table loaded by the previous setup.
+	/// @return The delta, `null` if it cannot be safely computed.
+	/// @throws DatabaseUnitException If reading dataset or database tables failed.
+	/// @throws SQLException If reading database tables failed.
+	static DataSetDelta compute(IDatabaseConnection connection, IDataSet dataSet, Map<String, Integer> snapshot) throws DatabaseUnitException, SQLException {
+		IDataSet databaseDataSet = connection.createDataSet();
+		DefaultDataSet deletions = new DefaultDataSet();
+		DefaultDataSet updates = new DefaultDataSet();
+		DefaultDataSet insertions = new DefaultDataSet();
+		Map<String, Integer> visited = new HashMap<>();
+
+		ITableIterator it = dataSet.iterator();
+		while (it.next()) {
+			ITable table = it.getTable();
+			String tableName = table.getTableMetaData().getTableName();
+			String key = normalize(tableName);
+			if (visited.put(key, table.getRowCount()) != null) {
+				log.debug("Table {} appears more than once in dataset, delta cannot be computed", tableName);
+				return null;
+			}
+
+			Integer expectedRowCount = snapshot.get(key);
+			if (expectedRowCount == null) {
+				log.debug("Table {} was not loaded by previous setup, delta cannot be computed", tableName);
+				return null;
+			}
+
+			int actualRowCount = connection.getRowCount(tableName);
+			if (actualRowCount != expectedRowCount) {
+				log.debug("Table {} contains {} rows instead of {}, delta cannot be computed", tableName, actualRowCount, expectedRowCount);
+				return null;
+			}
+
+			ITable actual = databaseDataSet.getTable(tableName);
+			if (!diff(actual, table, deletions, updates, insertions)) {
+				return null;
+			}
+		}
+
+		boolean empty = deletions.getTableNames().length == 0
+			&& updates.getTableNames().length == 0
+			&& insertions.getTableNames().length == 0;
+
+		return new DataSetDelta(deletions, updates, insertions, empty);
+	}
+
+	/// Compute the row count of each table in given dataset, indexed by table name.
+	///
+	/// @param dataSet The dataset.
+	/// @return The row count of each table.
+	/// @throws DataSetException If reading dataset failed.
+	static Map<String, Integer> rowCounts(IDataSet dataSet) throws DataSetException {
+		Map<String, Integer> rowCounts = new LinkedHashMap<>();
+		ITableIterator it = dataSet.iterator();
+		while (it.next()) {
+			ITable table = it.getTable();
+			rowCounts.merge(normalize(table.getTableMetaData().getTableName()), table.getRowCount(), Integer::sum);
+		}
+
+		return rowCounts;
+	}
+
+	/// Normalize table name, so that it can be used as a key of a snapshot.
+	///
+	/// @param tableName The table name.
+	/// @return The normalized table name.
+	static String normalize(String tableName) {
+		return tableName.toUpperCase(Locale.ROOT);
+	}
+
+	/// Compute the difference between the actual content of a table and the expected one.
+	///
+	/// @param actual The actual table content.
+	/// @param expected The expected table content.
+	/// @param deletions The rows to delete.
+	/// @param updates The rows to update.
+	/// @param insertions The rows to insert.
+	/// @return `true` if the difference has been computed, `false` if the table is not eligible to delta setup.
+	private static boolean diff(
+		ITable actual,
+		ITable expected,
+		DefaultDataSet deletions,
+		DefaultDataSet updates,
+		DefaultDataSet insertions
+	) throws DataSetException {
+		ITableMetaData actualMetaData = actual.getTableMetaData();
+		ITableMetaData expectedMetaData = expected.getTableMetaData();
+		String tableName = expectedMetaData.getTableName();
+
+		Column[] primaryKeys = actualMetaData.getPrimaryKeys();
+		if (primaryKeys.length == 0) {
+			log.debug("Table {} does not have any primary key, delta cannot be computed", tableName);
+			return false;
+		}
+
+		Column[] columns = actualMetaData.getColumns();
+		if (!hasSameColumns(columns, expectedMetaData)) {
+			log.debug("Table {} is not fully described by the dataset, delta cannot be computed", tableName);
+			return false;
+		}
+
+		Map<List<Object>, Integer> actualRows = new HashMap<>();
+		for (int row = 0; row < actual.getRowCount(); row++) {
+			List<Object> pk = primaryKey(actual, row, primaryKeys);
+			if (pk == null || actualRows.put(pk, row) != null) {
+				return false;
+			}
+		}
+
+		DefaultTable tableDeletions = new DefaultTable(actualMetaData);
+		DefaultTable tableUpdates = new DefaultTable(expectedMetaData);
+		DefaultTable tableInsertions = new DefaultTable(expectedMetaData);
+		Column[] expectedColumns = expectedMetaData.getColumns();
+		BitSet matched = new BitSet(actual.getRowCount());
+
+		for (int row = 0; row < expected.getRowCount(); row++) {
+			List<Object> pk = primaryKey(expected, row, primaryKeys);
+			if (pk == null) {
+				log.debug("Table {} contains a row without primary key, delta cannot be computed", tableName);
+				return false;
+			}
+
+			Integer actualRow = actualRows.get(pk);
+			if (actualRow == null) {
+				tableInsertions.addRow(values(expected, row, expectedColumns));
+			}
+			else if (matched.get(actualRow)) {
+				log.debug("Table {} contains duplicated primary keys, delta cannot be computed", tableName);
+				return false;
+			}
+			else {
+				matched.set(actualRow);
+				if (!isSameRow(actual, actualRow, expected, row, columns)) {
+					tableUpdates.addRow(values(expected, row, expectedColumns));
+				}
+			}
+		}
+
+		for (int row = 0; row < actual.getRowCount(); row++) {
+			if (!matched.get(row)) {
+				tableDeletions.addRow(values(actual, row, columns));
+			}
+		}
+
+		log.debug(
+			"Delta computed for table {}: {} deletion(s), {} update(s), {} insertion(s)",
+			tableName, tableDeletions.getRowCount(), tableUpdates.getRowCount(), tableInsertions.getRowCount()
+		);
+
+		addTable(deletions, tableDeletions);
+		addTable(updates, tableUpdates);
+		addTable(insertions, tableInsertions);
+		return true;
+	}
+
+	private static boolean hasSameColumns(Column[] columns, ITableMetaData expectedMetaData) throws DataSetException {
+		if (columns.length != expectedMetaData.getColumns().length) {
+			return false;
+		}
+
+		for (Column column : columns) {
+			try {
+				expectedMetaData.getColumnIndex(column.getColumnName());
+			}
+			catch (NoSuchColumnException ex) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static List<Object> primaryKey(ITable table, int row, Column[] primaryKeys) throws DataSetException {
+		List<Object> pk = new ArrayList<>(primaryKeys.length);
+		for (Column primaryKey : primaryKeys) {
+			Object value = table.getValue(row, primaryKey.getColumnName());
+			if (value == null) {
+				return null;
+			}
+
+			try {
+				pk.add(primaryKey.getDataType().typeCast(value));
+			}
+			catch (TypeCastException ex) {
+				log.debug("Cannot cast primary key value {}: {}", value, ex.getMessage());
+				return null;
+			}
+		}
+
+		return pk;
+	}
+
+	private static boolean isSameRow(ITable actual, int actualRow, ITable expected, int expectedRow, Column[] columns) throws DataSetException {
+		for (Column column : columns) {
+			String columnName = column.getColumnName();
+			Object actualValue = actual.getValue(actualRow, columnName);
+			Object expectedValue = expected.getValue(expectedRow, columnName);
+
+			try {
+				DataType dataType = column.getDataType();
+				if (dataType.compare(actualValue, expectedValue) != 0) {
+					return false;
+				}
+			}
+			catch (TypeCastException ex) {
+				log.debug("Cannot compare values {} and {}: {}", actualValue, expectedValue, ex.getMessage());
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static Object[] values(ITable table, int row, Column[] columns) throws DataSetException {
+		Object[] values = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			values[i] = table.getValue(row, columns[i].getColumnName());
+		}
+
+		return values;
+	}
+
+	private static void addTable(DefaultDataSet dataSet, DefaultTable table) throws DataSetException {
+		if (table.getRowCount() > 0) {
+			dataSet.addTable(table);
+		}
+	}
+
+	/// Rows to delete.
+	private final IDataSet deletions;
+
+	/// Rows to update.
+	private final IDataSet updates;
+
+	/// Rows to insert.
+	private final IDataSet insertions;
+
+	/// Flag indicating if there is nothing to delete, update or insert.
+	private final boolean empty;
+
+	private DataSetDelta(IDataSet deletions, IDataSet updates, IDataSet insertions, boolean empty) {
+		this.deletions = deletions;
+		this.updates = updates;
+		this.insertions = insertions;
+		this.empty = empty;
+	}
+
+	/// Apply the delta: rows are deleted (in reverse table order), then updated, then inserted.
+	///
+	/// @param connection The database connection.
+	/// @throws DatabaseUnitException If an error occurred.
+	/// @throws SQLException If an error occurred.
+	void apply(IDatabaseConnection connection) throws DatabaseUnitException, SQLException {
+		DatabaseOperation.DELETE.execute(connection, deletions);
+		DatabaseOperation.UPDATE.execute(connection, updates);
+		DatabaseOperation.INSERT.execute(connection, insertions);
+	}
+
+	/// Check if the delta is empty, i.e. database content is the same as the dataset.
+	///
+	/// @return `true` if there is nothing to delete, update or insert, `false` otherwise.
+	boolean isEmpty() {
+		return empty;
+	}
+
+	/// Get [#deletions]
+	///
+	/// @return Returns [#deletions]
+	IDataSet getDeletions() {
+		return deletions;
+	}
+
+	/// Get [#updates]
+	///
+	/// @return Returns [#updates]
+	IDataSet getUpdates() {
+		return updates;
+	}
+
+	/// Get [#insertions]
+	///
+	/// @return Returns [#insertions]
+	IDataSet getInsertions() {
+		return insertions;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("deletions", deletions)
+			.append("updates", updates)
+			.append("insertions", insertions)
+			.build();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitReplacements;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitSetup;
+import com.github.mjeanroy.dbunit.core.operation.DbUnitOperation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotations;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/// Fingerprint of the dataset resolved for a given test method.
+///
+/// Two tests with the same fingerprint load the same dataset, with the same replacements, the
+/// same configuration and the same setup operation. The fingerprint is computed from annotations
+/// only, so it does not depend on the test class itself and does not require parsing the dataset.
+public final class DataSetFingerprint {
+
+	/// Compute fingerprint of the dataset resolved for given test method.
+	///
+	/// @param testClass The test class.
+	/// @param method The test method, may be `null` (in this case, the class level dataset is used).
+	/// @return The fingerprint.
+	public static DataSetFingerprint of(Class<?> testClass, Method method) {
+		notNull(testClass, "Test Class must not be null");
+
+		List<DbUnitDataSet> methodDataSets = new ArrayList<>();
+		boolean inherit = true;
+		for (DbUnitDataSet annotation : findAnnotations(method, DbUnitDataSet.class)) {
+			methodDataSets.add(annotation);
+			inherit = annotation.inherit();
+			if (!inherit) {
+				break;
+			}
+		}
+
+		List<DbUnitDataSet> classDataSets = inherit ? findAnnotations(testClass, DbUnitDataSet.class) : emptyList();
+		List<DbUnitReplacements> replacements = findAnnotations(testClass, DbUnitReplacements.class);
+		DbUnitConfig config = findAnnotation(testClass, method, DbUnitConfig.class);
+		DbUnitSetup setup = findAnnotation(testClass, method, DbUnitSetup.class);
+
+		return new DataSetFingerprint(
+			classDataSets,
+			methodDataSets,
+			replacements,
+			config,
+			setup
+		);
+	}
+
+	/// The dataset annotations inherited from the test class.
+	private final List<DbUnitDataSet> classDataSets;
+
+	/// The dataset annotations of the test method.
+	private final List<DbUnitDataSet> methodDataSets;
+
+	/// The replacements annotations.
+	private final List<DbUnitReplacements> replacements;
+
+	/// The DbUnit configuration annotation, may be `null`.
+	private final DbUnitConfig config;
+
+	/// The setup annotation, may be `null`.
+	private final DbUnitSetup setup;
+
+	private DataSetFingerprint(
+		List<DbUnitDataSet> classDataSets,
+		List<DbUnitDataSet> methodDataSets,
+		List<DbUnitReplacements> replacements,
+		DbUnitConfig config,
+		DbUnitSetup setup
+	) {
+		this.classDataSets = unmodifiableList(new ArrayList<>(classDataSets));
+		this.methodDataSets = unmodifiableList(new ArrayList<>(methodDataSets));
+		this.replacements = unmodifiableList(new ArrayList<>(replacements));
+		this.config = config;
+		this.setup = setup;
+	}
+
+	/// Check if the fingerprint does not define any dataset.
+	///
+	/// @return `true` if no dataset is defined, `false` otherwise.
+	public boolean isEmpty() {
+		return classDataSets.isEmpty() && methodDataSets.isEmpty();
+	}
+
+	/// Describe the dataset, i.e. the comma separated list of the dataset resources.
+	///
+	/// @return The description, `null` if no dataset is defined.
+	String describe() {
+		List<String> resources = new ArrayList<>();
+		for (DbUnitDataSet dataSet : classDataSets) {
+			Collections.addAll(resources, dataSet.value());
+		}
+
+		for (DbUnitDataSet dataSet : methodDataSets) {
+			Collections.addAll(resources, dataSet.value());
+		}
+
+		return isEmpty() ? null : String.join(", ", resources);
+	}
+
+	/// Check if the resolved setup operation is `CLEAN_INSERT`, meaning that applying it twice
+	/// gives the same result as applying it once.
+	///
+	/// @return `true` if the setup operation is `CLEAN_INSERT`, `false` otherwise.
+	boolean isCleanInsert() {
+		return setup == null || setup.value() == DbUnitOperation.CLEAN_INSERT;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof DataSetFingerprint) {
+			DataSetFingerprint f = (DataSetFingerprint) o;
+			return Objects.equals(classDataSets, f.classDataSets)
+				&& Objects.equals(methodDataSets, f.methodDataSets)
+				&& Objects.equals(replacements, f.replacements)
+				&& Objects.equals(config, f.config)
+				&& Objects.equals(setup, f.setup);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(classDataSets, methodDataSets, replacements, config, setup);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("classDataSets", classDataSets)
+			.append("methodDataSets", methodDataSets)
+			.append("replacements", replacements)
+			.append("config", config)
+			.append("setup", setup)
+			.build();
+	}
+}
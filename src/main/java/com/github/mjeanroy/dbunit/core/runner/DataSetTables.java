@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitConnection;
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+/// Resolve the database tables touched by a given test, i.e the tables of the dataset
+/// resolved for this test.
+public final class DataSetTables {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DataSetTables.class);
+
+	/// The target used when the test class is not annotated with [DbUnitConnection].
+	private static final String DEFAULT_TARGET = "default";
+
+	// Ensure non instantiation.
+	private DataSetTables() {
+	}
+
+	/// Get the (upper-cased) table names of the dataset resolved for given test method.
+	///
+	/// @param testClass The test class.
+	/// @param method The test method, may be `null` (in this case, the class level dataset is used).
+	/// @return The table names, empty if the test does not load any dataset.
+	/// @throws DbUnitException If the dataset cannot be read.
+	public static Set<String> of(Class<?> testClass, Method method) {
+		notNull(testClass, "Test Class must not be null");
+
+		IDataSet dataSet = DbUnitRunner.readDataSet(DbUnitClassContextFactory.from(testClass), method);
+		if (dataSet == null) {
+			return emptySet();
+		}
+
+		try {
+			Set<String> tables = new TreeSet<>();
+			for (String tableName : dataSet.getTableNames()) {
+				tables.add(tableName.toUpperCase(Locale.ROOT));
+			}
+
+			return unmodifiableSet(tables);
+		}
+		catch (DataSetException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new DbUnitException(ex);
+		}
+	}
+
+	/// Get the connection target of given test class: the URL configured with [DbUnitConnection], or
+	/// `default` if the class is not annotated.
+	///
+	/// @param testClass The test class.
+	/// @return The connection target.
+	public static String target(Class<?> testClass) {
+		DbUnitConnection annotation = findAnnotation(notNull(testClass, "Test Class must not be null"), DbUnitConnection.class);
+		return annotation == null ? DEFAULT_TARGET : annotation.url().trim();
+	}
+}
@@ -28,6 +28,7 @@ import com.github.mjeanroy.dbunit.core.jdbc.JdbcForeignKeyManager;
 import org.dbunit.IDatabaseTester;
 
 import java.lang.reflect.Method;
+import java.sql.Connection;
 import java.util.List;
 
 /// Apply DbUnit database operation (setup or tear down).
@@ -46,4 +47,13 @@ interface DbOperation {
 		IDatabaseTester dbTester,
 		List<JdbcForeignKeyManager> fkManagers
 	) throws Exception;
+
+	/// Prepare the SQL connection used to create the DbUnit connection given to
+	/// [#apply(Class, Method, IDatabaseTester, List)].
+	///
+	/// @param connection The SQL connection.
+	/// @return The SQL connection to use, given connection by default.
+	default Connection prepare(Connection connection) {
+		return connection;
+	}
 }
@@ -336,6 +336,8 @@ final class DbUnitAnnotationsParser {
 
 	/// Read and parse SQL initialization scripts configured (with [DbUnitInit] annotation).
 	///
+	/// Scripts executed in chunks (see [DbUnitInit#chunkSize()]) are not parsed here: they are streamed when executed.
+	///
 	/// @param annotation The configured annotation.
 	/// @return The list of SQL Scripts.
 	static List<SqlScript> extractSqlScript(DbUnitInit annotation) {
@@ -346,9 +348,10 @@ final class DbUnitAnnotationsParser {
 		final char delimiter = annotation.delimiter();
 		final SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.builder().setDelimiter(delimiter).build();
 		final String[] sql = annotation.sql();
+		final int chunkSize = annotation.chunkSize();
+		final boolean commit = annotation.commit();
 		return Arrays.stream(sql)
-			.map(input -> parseScript(input, configuration))
-			.map(SqlScript::new)
+			.map(input -> chunkSize > 0 ? new SqlScript(input, configuration, chunkSize, commit) : new SqlScript(parseScript(input, configuration)))
 			.collect(Collectors.toList());
 	}
 
@@ -399,6 +402,17 @@ final class DbUnitAnnotationsParser {
 		return substitute(value, SUBSTITUTION_PREFIX, SUBSTITUTION_SUFFIX, env);
 	}
 
+	/// Evaluate given schema against environment, the worker variable (see [WorkerSchemas]) being
+	/// kept as is, since it depends on the thread using the schema.
+	///
+	/// @param schema The schema.
+	/// @return The evaluated schema.
+	private static String evaluateSchema(String schema) {
+		Map<String, String> env = new HashMap<>(buildEnv());
+		env.put(WorkerSchemas.WORKER_VARIABLE, SUBSTITUTION_PREFIX + WorkerSchemas.WORKER_VARIABLE + SUBSTITUTION_SUFFIX);
+		return evaluate(schema, env);
+	}
+
 	/// Build environment, based on environment variables and system properties.
 	/// Note that system properties takes precedence over environment variables.
 	///
@@ -448,10 +462,10 @@ final class DbUnitAnnotationsParser {
 	/// @throws DbUnitException If instantiating the interceptor failed.
 	static Config readConfig(DbUnitConfig annotation) {
 		if (annotation == null) {
-			return new Config(defaultInterceptors());
+			return Config.builder().setInterceptors(defaultInterceptors()).build();
 		}
 
-		String schema = annotation.schema();
+		String schema = evaluateSchema(annotation.schema());
 		boolean allowEmptyFields = annotation.allowEmptyFields();
 		boolean qualifiedTableNames = annotation.qualifiedTableNames();
 		boolean caseSensitiveTableNames = annotation.caseSensitiveTableNames();
@@ -478,9 +492,28 @@ final class DbUnitAnnotationsParser {
 			.map(ClassUtils::instantiate)
 			.collect(Collectors.toList());
 
+		if (annotation.compiledPlans() && annotation.parallelism() > 1) {
+			throw new DbUnitException("Compiled plans cannot be combined with parallel loading, use either compiledPlans or parallelism");
+		}
+
+		if (annotation.adaptiveBatchSize() && !annotation.compiledPlans()) {
+			throw new DbUnitException("Adaptive batch size requires compiled plans, use compiledPlans with adaptiveBatchSize");
+		}
+
+		Config.Builder builder = Config.builder()
+			.setSchema(schema)
+			.setFkManagers(fkManagers)
+			.setDeltaSetup(annotation.deltaSetup())
+			.setParallelism(annotation.parallelism())
+			.setSharedInit(annotation.sharedInit())
+			.setReplay(annotation.replay())
+			.setCompiledPlans(annotation.compiledPlans())
+			.setStatementCacheSize(annotation.statementCacheSize())
+			.setAdaptiveBatchSize(annotation.adaptiveBatchSize());
+
 		Class<? extends DbUnitConfigInterceptor>[] interceptorClasses = annotation.value();
 		if (interceptorClasses.length == 0) {
-			return new Config(schema, defaultInterceptors, fkManagers);
+			return builder.setInterceptors(defaultInterceptors).build();
 		}
 
 		List<DbUnitConfigInterceptor> customInterceptors = Arrays.stream(interceptorClasses)
@@ -490,7 +523,7 @@ final class DbUnitAnnotationsParser {
 		List<DbUnitConfigInterceptor> interceptors = new ArrayList<>(customInterceptors.size() + defaultInterceptors.size());
 		interceptors.addAll(defaultInterceptors);
 		interceptors.addAll(customInterceptors);
-		return new Config(schema, interceptors, fkManagers);
+		return builder.setInterceptors(interceptors).build();
 	}
 
 	private static List<DbUnitConfigInterceptor> defaultInterceptors() {
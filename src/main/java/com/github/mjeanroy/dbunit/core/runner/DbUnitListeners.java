@@ -0,0 +1,483 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.SPI;
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcForeignKeyManager;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcStatementMetrics;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcStatementStats;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitCache;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitEvent;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitListener;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitPhase;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/// The [DbUnitListener] registered with the [java.util.ServiceLoader] mechanism.
+///
+/// When no listener is registered (and slow statements are not logged), a no-op [Scope] is returned: phases are not timed,
+/// and connections, datasets and foreign key managers are not decorated.
+///
+/// Otherwise, SQL statements executed during setup and tear down operations are measured (see [JdbcStatementMetrics]):
+/// listeners are notified of the counters of each SQL shape once the operation has been applied, and executions slower than
+/// the threshold defined by the `dbunit.jdbc.slowStatementMillis` system property are logged.
+///
+/// This class is immutable and thread-safe.
+final class DbUnitListeners {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DbUnitListeners.class);
+
+	/// The no-op scope, used when no listener is registered.
+	private static final Scope NOOP = new Scope();
+
+	/// The system property defining the threshold above which a SQL statement is logged, in milliseconds.
+	static final String SLOW_STATEMENT_MILLIS_PROPERTY = "dbunit.jdbc.slowStatementMillis";
+
+	/// Get the listeners registered with the [java.util.ServiceLoader] mechanism.
+	///
+	/// @return The listeners.
+	static DbUnitListeners getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/// The listeners.
+	private final List<DbUnitListener> listeners;
+
+	/// The start time of the test body executed by the current thread.
+	private final ThreadLocal<Long> testStarts;
+
+	/// The threshold above which a SQL statement is logged, in milliseconds (negative to disable logging).
+	private final long slowStatementMillis;
+
+	/// Create listeners.
+	///
+	/// @param listeners The listeners.
+	DbUnitListeners(List<DbUnitListener> listeners) {
+		this(listeners, -1);
+	}
+
+	/// Create listeners.
+	///
+	/// @param listeners The listeners.
+	/// @param slowStatementMillis The threshold above which a SQL statement is logged, in milliseconds (negative to disable logging).
+	DbUnitListeners(List<DbUnitListener> listeners, long slowStatementMillis) {
+		this.listeners = unmodifiableList(new ArrayList<>(notNull(listeners, "Listeners must not be null")));
+		this.testStarts = new ThreadLocal<>();
+		this.slowStatementMillis = slowStatementMillis;
+	}
+
+	/// Open the scope of a setup or tear down operation.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @return The scope.
+	Scope open(Class<?> testClass, Method testMethod, DbUnitEvent.Stage stage) {
+		return open(testClass, testMethod, stage, null);
+	}
+
+	/// Open the scope of a setup or tear down operation.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @param stage The operation being executed.
+	/// @param fingerprint The fingerprint of the dataset of the test, may be `null`.
+	/// @return The scope.
+	Scope open(Class<?> testClass, Method testMethod, DbUnitEvent.Stage stage, DataSetFingerprint fingerprint) {
+		if (listeners.isEmpty() && slowStatementMillis < 0) {
+			return NOOP;
+		}
+
+		String dataSet = fingerprint == null ? null : fingerprint.describe();
+		return new ListenedScope(this, testClass, testMethod, stage, dataSet);
+	}
+
+	/// Notify that the test body is about to be executed by the current thread.
+	void testStarted() {
+		if (!listeners.isEmpty()) {
+			testStarts.set(System.nanoTime());
+		}
+	}
+
+	/// Notify listeners that the test body has been executed by the current thread.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	void testFinished(Class<?> testClass, Method testMethod) {
+		Long start = testStarts.get();
+		if (start == null) {
+			return;
+		}
+
+		testStarts.remove();
+		fire(new DbUnitEvent(testClass, testMethod, DbUnitEvent.Stage.TEST, DbUnitPhase.TEST, null, -1, System.nanoTime() - start));
+	}
+
+	private void fire(DbUnitEvent event) {
+		for (DbUnitListener listener : listeners) {
+			try {
+				listener.onEvent(event);
+			}
+			catch (RuntimeException ex) {
+				log.warn("Listener {} failed to handle event {}: {}", listener, event, ex.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("listeners", listeners)
+			.append("slowStatementMillis", slowStatementMillis)
+			.build();
+	}
+
+	/// Timing scope of a setup or tear down operation: the default implementation is a no-op.
+	static class Scope {
+		private Scope() {
+		}
+
+		/// Get the start time of a phase.
+		///
+		/// @return The start time, in nanoseconds.
+		long start() {
+			return 0L;
+		}
+
+		/// Notify listeners that a phase has been executed.
+		///
+		/// @param phase The phase.
+		/// @param start The start time of the phase, as returned by [#start()].
+		void end(DbUnitPhase phase, long start) {
+		}
+
+		/// Decorate given connection, so that executed SQL statements are measured.
+		///
+		/// @param connection The connection.
+		/// @return The decorated connection.
+		Connection instrument(Connection connection) {
+			return connection;
+		}
+
+		/// Notify listeners of the counters of SQL statements executed through the connection returned by [#instrument(Connection)].
+		void endStatements() {
+		}
+
+		/// Notify listeners of the lookups of each cache (see [DbUnitCache]) since the previous notification.
+		void endCaches() {
+		}
+
+		/// Decorate given dataset, so that listeners are notified when the operation has been applied on each table.
+		///
+		/// @param dataSet The dataset.
+		/// @return The decorated dataset.
+		IDataSet decorate(IDataSet dataSet) {
+			return dataSet;
+		}
+
+		/// Decorate given foreign key managers, so that listeners are notified of foreign keys management.
+		///
+		/// @param fkManagers The foreign key managers.
+		/// @return The decorated managers.
+		List<JdbcForeignKeyManager> decorate(List<JdbcForeignKeyManager> fkManagers) {
+			return fkManagers;
+		}
+	}
+
+	private static final class ListenedScope extends Scope {
+		private final DbUnitListeners listeners;
+		private final Class<?> testClass;
+		private final Method testMethod;
+		private final DbUnitEvent.Stage stage;
+		private final String dataSet;
+		private final JdbcStatementMetrics metrics;
+
+		private ListenedScope(DbUnitListeners listeners, Class<?> testClass, Method testMethod, DbUnitEvent.Stage stage, String dataSet) {
+			this.listeners = listeners;
+			this.testClass = testClass;
+			this.testMethod = testMethod;
+			this.stage = stage;
+			this.dataSet = dataSet;
+			this.metrics = new JdbcStatementMetrics(listeners.slowStatementMillis);
+		}
+
+		@Override
+		long start() {
+			return System.nanoTime();
+		}
+
+		@Override
+		void end(DbUnitPhase phase, long start) {
+			end(phase, start, null, -1);
+		}
+
+		private void end(DbUnitPhase phase, long start, String name, int rowCount) {
+			end(phase, start, name, 0, rowCount);
+		}
+
+		private void end(DbUnitPhase phase, long start, String name, int pass, int rowCount) {
+			long nanos = System.nanoTime() - start;
+			listeners.fire(new DbUnitEvent(testClass, testMethod, stage, dataSet, phase, name, pass, rowCount, nanos, null));
+		}
+
+		@Override
+		Connection instrument(Connection connection) {
+			return metrics.instrument(connection);
+		}
+
+		@Override
+		void endStatements() {
+			for (JdbcStatementStats statement : metrics.getStatements()) {
+				int rowCount = (int) Math.min(statement.getRowsAffected(), Integer.MAX_VALUE);
+				listeners.fire(new DbUnitEvent(testClass, testMethod, stage, dataSet, DbUnitPhase.STATEMENT, statement.getSql(), rowCount, statement.getNanos(), statement));
+			}
+		}
+
+		@Override
+		void endCaches() {
+			for (DbUnitCache cache : DbUnitCache.values()) {
+				endCache(DbUnitPhase.CACHE_HIT, cache, cache.drainHits());
+				endCache(DbUnitPhase.CACHE_MISS, cache, cache.drainMisses());
+			}
+		}
+
+		private void endCache(DbUnitPhase phase, DbUnitCache cache, long lookups) {
+			if (lookups > 0) {
+				int rowCount = (int) Math.min(lookups, Integer.MAX_VALUE);
+				listeners.fire(new DbUnitEvent(testClass, testMethod, stage, dataSet, phase, cache.name(), rowCount, 0L));
+			}
+		}
+
+		@Override
+		IDataSet decorate(IDataSet dataSet) {
+			return dataSet == null ? null : new ListenedDataSet(dataSet, this);
+		}
+
+		@Override
+		List<JdbcForeignKeyManager> decorate(List<JdbcForeignKeyManager> fkManagers) {
+			List<JdbcForeignKeyManager> outputs = new ArrayList<>(fkManagers.size());
+			for (JdbcForeignKeyManager fkManager : fkManagers) {
+				outputs.add(new ListenedForeignKeyManager(fkManager, this));
+			}
+
+			return outputs;
+		}
+	}
+
+	/// Dataset notifying listeners when the operation has been applied on a table, i.e. when the iteration
+	/// moves to the next table.
+	///
+	/// Each iteration is a new pass (see [DbUnitEvent#getPass()]), so that tables processed several times by the
+	/// same operation (such as the delete and insert passes of `CLEAN_INSERT`) can be told apart.
+	private static final class ListenedDataSet implements IDataSet {
+		private final IDataSet dataSet;
+		private final ListenedScope scope;
+		private final AtomicInteger passes;
+
+		private ListenedDataSet(IDataSet dataSet, ListenedScope scope) {
+			this.dataSet = dataSet;
+			this.scope = scope;
+			this.passes = new AtomicInteger();
+		}
+
+		@Override
+		public String[] getTableNames() throws DataSetException {
+			return dataSet.getTableNames();
+		}
+
+		@Override
+		public ITableMetaData getTableMetaData(String tableName) throws DataSetException {
+			return dataSet.getTableMetaData(tableName);
+		}
+
+		@Override
+		public ITable getTable(String tableName) throws DataSetException {
+			return dataSet.getTable(tableName);
+		}
+
+		@Override
+		public ITable[] getTables() throws DataSetException {
+			return dataSet.getTables();
+		}
+
+		@Override
+		public ITableIterator iterator() throws DataSetException {
+			return new ListenedTableIterator(dataSet.iterator(), scope, passes.incrementAndGet());
+		}
+
+		@Override
+		public ITableIterator reverseIterator() throws DataSetException {
+			return new ListenedTableIterator(dataSet.reverseIterator(), scope, passes.incrementAndGet());
+		}
+
+		@Override
+		public boolean isCaseSensitiveTableNames() {
+			return dataSet.isCaseSensitiveTableNames();
+		}
+
+		@Override
+		public String toString() {
+			return dataSet.toString();
+		}
+	}
+
+	private static final class ListenedTableIterator implements ITableIterator {
+		private final ITableIterator iterator;
+		private final ListenedScope scope;
+
+		/// The iteration of the dataset.
+		private final int pass;
+
+		/// The current table, `null` before the first table, or once the last table has been notified.
+		private ITable current;
+
+		/// The time the iteration moved to the current table.
+		private long start;
+
+		private ListenedTableIterator(ITableIterator iterator, ListenedScope scope, int pass) {
+			this.iterator = iterator;
+			this.scope = scope;
+			this.pass = pass;
+		}
+
+		@Override
+		public boolean next() throws DataSetException {
+			if (current != null) {
+				scope.end(DbUnitPhase.TABLE, start, current.getTableMetaData().getTableName(), pass, rowCount(current));
+				current = null;
+			}
+
+			boolean next = iterator.next();
+			if (next) {
+				current = iterator.getTable();
+				start = scope.start();
+			}
+
+			return next;
+		}
+
+		@Override
+		public ITableMetaData getTableMetaData() throws DataSetException {
+			return iterator.getTableMetaData();
+		}
+
+		@Override
+		public ITable getTable() throws DataSetException {
+			return current == null ? iterator.getTable() : current;
+		}
+
+		private static int rowCount(ITable table) {
+			try {
+				return table.getRowCount();
+			}
+			catch (UnsupportedOperationException ex) {
+				// Streamed tables cannot be counted.
+				return -1;
+			}
+		}
+	}
+
+	private static final class ListenedForeignKeyManager implements JdbcForeignKeyManager {
+		private final JdbcForeignKeyManager fkManager;
+		private final ListenedScope scope;
+
+		private ListenedForeignKeyManager(JdbcForeignKeyManager fkManager, ListenedScope scope) {
+			this.fkManager = fkManager;
+			this.scope = scope;
+		}
+
+		@Override
+		public void disable(Connection connection) throws SQLException {
+			long start = scope.start();
+			fkManager.disable(connection);
+			scope.end(DbUnitPhase.FK_DISABLE, start, fkManager.getClass().getSimpleName(), -1);
+		}
+
+		@Override
+		public void enable(Connection connection) throws SQLException {
+			long start = scope.start();
+			fkManager.enable(connection);
+			scope.end(DbUnitPhase.FK_ENABLE, start, fkManager.getClass().getSimpleName(), -1);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof ListenedForeignKeyManager) {
+				ListenedForeignKeyManager m = (ListenedForeignKeyManager) o;
+				return Objects.equals(fkManager, m.fkManager);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return fkManager.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return fkManager.toString();
+		}
+	}
+
+	/// Lazy holder of the registered listeners.
+	private static final class Holder {
+		private static final DbUnitListeners INSTANCE = load();
+
+		private static DbUnitListeners load() {
+			List<DbUnitListener> listeners = new ArrayList<>();
+			for (DbUnitListener listener : SPI.load(DbUnitListener.class)) {
+				log.debug("Found DbUnit listener: {}", listener);
+				listeners.add(listener);
+			}
+
+			String slowStatementMillis = System.getProperty(SLOW_STATEMENT_MILLIS_PROPERTY, "-1").trim();
+			return new DbUnitListeners(listeners, Long.parseLong(slowStatementMillis));
+		}
+	}
+}
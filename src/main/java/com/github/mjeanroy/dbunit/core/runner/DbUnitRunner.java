@@ -24,13 +24,22 @@
 
 package com.github.mjeanroy.dbunit.core.runner;
 
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvent;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEventType;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvents;
 import com.github.mjeanroy.dbunit.commons.reflection.Annotations;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitBudget;
 import com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig;
 import com.github.mjeanroy.dbunit.core.annotations.DbUnitConnection;
 import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly;
 import com.github.mjeanroy.dbunit.core.configuration.DbUnitConfigInterceptor;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcDataSourceConnectionFactory;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcReplayPlan;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcStatementCache;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitEvent;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitPhase;
 import com.github.mjeanroy.dbunit.core.replacement.Replacements;
 import com.github.mjeanroy.dbunit.exception.DbUnitException;
 import com.github.mjeanroy.dbunit.exception.JdbcException;
@@ -42,6 +51,7 @@ import org.dbunit.database.DatabaseConnection;
 import org.dbunit.database.IDatabaseConnection;
 import org.dbunit.dataset.IDataSet;
 import org.dbunit.dataset.ReplacementDataSet;
+import org.dbunit.operation.DatabaseOperation;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Method;
@@ -49,6 +59,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 
@@ -104,9 +115,18 @@ public class DbUnitRunner {
 		this.ctx = ctx;
 		this.factory = readConnectionFactory(connectionFactory, ctx);
 
-		// Then, run SQL and/or liquibase initialization
-		runSqlScript(this.factory);
-		runLiquibase(this.factory);
+		// Then, run SQL and/or liquibase initialization: with worker schemas, initialization
+		// is deferred until the schema of the worker is used.
+		if (WorkerSchemas.isWorkerSchema(ctx.getSchema())) {
+			log.debug("Worker schema detected, deferring initialization");
+		}
+		else if (ctx.getConfig().isSharedInit()) {
+			SharedInitializer.initialize(this.factory, ctx.getInitScripts(), ctx.getLiquibaseChangeLogs());
+		}
+		else {
+			runSqlScript(this.factory);
+			runLiquibase(this.factory);
+		}
 	}
 
 	/// Load data set before test execution:
@@ -116,9 +136,17 @@ public class DbUnitRunner {
 	///     - Close SQL connection.
 	/// </ol>
 	///
+	/// Note that setup is skipped if the previous test of the same test class executed against the same database is a
+	/// read-only test (see [DbUnitReadOnly]) with the same dataset, and is replayed if the same dataset has already
+	/// been loaded with replay enabled (see [DbUnitConfig#replay()]).
+	///
+	/// Once the dataset has been loaded, the setup is checked against the budget of the test (see [DbUnitBudget]).
+	///
 	/// @param testMethod Method to execute.
+	/// @throws DbUnitException If the setup exceeded the budget of the test.
 	public void beforeTest(Method testMethod) {
-		setupOrTearDown(testMethod, SetupDbOperation.getInstance());
+		setup(testMethod);
+		DbUnitListeners.getInstance().testStarted();
 	}
 
 	/// Unload data set after test execution:
@@ -126,9 +154,81 @@ public class DbUnitRunner {
 	/// 2. Remove DataSet and execute tear down operation.
 	/// 3. Close SQL connection.
 	///
+	/// Note that if the test is a read-only test (see [DbUnitReadOnly]), the tear down
+	/// operation is deferred until the setup of the next test of the same test class.
+	///
 	/// @param testMethod Executed method.
+	/// @throws DbUnitException If test is a read-only test that modified the database (and verification is enabled).
 	public void afterTest(Method testMethod) {
-		setupOrTearDown(testMethod, TearDownDbOperation.getInstance());
+		DbUnitListeners.getInstance().testFinished(testClass, testMethod);
+
+		DbUnitReadOnly readOnly = Annotations.findAnnotation(testClass, testMethod, DbUnitReadOnly.class);
+		if (readOnly == null) {
+			tearDown(testMethod);
+			return;
+		}
+
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(testClass, testMethod);
+		if (fingerprint.isEmpty()) {
+			tearDown(testMethod);
+			return;
+		}
+
+		DataSetDelta delta = readOnly.verify() ? verifyReadOnly(testMethod) : null;
+		if (!readOnly.verify() || (delta != null && delta.isEmpty())) {
+			log.debug("Deferring tear down operation of read-only test: {}", testMethod);
+			DeferredTearDownTracker.defer(factory, testClass, fingerprint, () -> tearDown(testMethod));
+			return;
+		}
+
+		tearDown(testMethod);
+		checkReadOnly(testMethod, delta);
+	}
+
+	/// Complete execution of a test whose changes are rolled back once the test is done (for example, a test
+	/// executed in a transaction): same as [#afterTest(Method)], except that the tear down operation is skipped
+	/// (and never deferred), since the dataset is removed by the rollback.
+	///
+	/// @param testMethod Executed method.
+	/// @throws DbUnitException If test is a read-only test that modified the database (and verification is enabled).
+	public void afterRolledBackTest(Method testMethod) {
+		DbUnitListeners.getInstance().testFinished(testClass, testMethod);
+		log.debug("Changes will be rolled back, skipping tear down operation of: {}", testMethod);
+
+		DbUnitReadOnly readOnly = Annotations.findAnnotation(testClass, testMethod, DbUnitReadOnly.class);
+		if (readOnly != null && readOnly.verify()) {
+			checkReadOnly(testMethod, verifyReadOnly(testMethod));
+		}
+	}
+
+	private static void checkReadOnly(Method testMethod, DataSetDelta delta) {
+		if (delta != null && !delta.isEmpty()) {
+			throw new DbUnitException(
+				String.format("Test %s is annotated with @DbUnitReadOnly but modified the database: %s", testMethod, delta)
+			);
+		}
+	}
+
+	/// Apply tear down operations deferred by read-only tests (see [DbUnitReadOnly]) of given test class.
+	///
+	/// Deferred tear down operations are automatically applied before the setup of the next test of the same test class
+	/// executed against the same database: this method should be called once all tests of the test class have been executed so
+	/// that the database is not left with the dataset of the last read-only test. Tear down operations deferred by other
+	/// test classes (for example, running in parallel) are left untouched.
+	///
+	/// @param testClass The test class.
+	public static void applyDeferredTearDowns(Class<?> testClass) {
+		DeferredTearDownTracker.flush(testClass);
+	}
+
+	/// Apply tear down operation deferred by read-only tests (see [DbUnitReadOnly]) against given connection target,
+	/// whatever the test class that deferred it.
+	///
+	/// This method should be called before the target database is shut down or released.
+	///
+	/// @param factory The connection factory of the target database.
+	public static void applyDeferredTearDowns(JdbcConnectionFactory factory) {
+		DeferredTearDownTracker.flush(factory);
 	}
 
 	/// Get [#factory]
@@ -142,76 +242,329 @@ public class DbUnitRunner {
 	///
 	/// @return SQL Connection.
 	public Connection getConnection() {
-		return factory.getConnection();
+		return openConnection(factory, resolveConfig(ctx.getConfig()));
 	}
 
-	private void setupOrTearDown(Method testMethod, DbOperation op) {
+	private void setup(Method testMethod) {
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(testClass, testMethod);
+		DbUnitListeners.Scope scope = DbUnitListeners.getInstance().open(testClass, testMethod, DbUnitEvent.Stage.SETUP, fingerprint);
+
+		long start = scope.start();
+		if (DeferredTearDownTracker.reuse(factory, testClass, fingerprint)) {
+			log.debug("Dataset already loaded by previous read-only test, skipping setup of: {}", testMethod);
+			scope.end(DbUnitPhase.REUSE, start);
+			return;
+		}
+
+		start = scope.start();
+		if (replay(testMethod, fingerprint)) {
+			log.debug("Setup replayed for: {}", testMethod);
+			scope.end(DbUnitPhase.REPLAY, start);
+			return;
+		}
+
+		SetupBudget budget = SetupBudget.of(testClass, testMethod);
+		long startNanos = System.nanoTime();
+		IDataSet dataSet = setupOrTearDown(testMethod, fingerprint, DbUnitEvent.Stage.SETUP, config -> setupOperation(config, fingerprint));
+		if (dataSet != null) {
+			budget.check(testMethod, System.nanoTime() - startNanos, dataSet);
+		}
+	}
+
+	private void tearDown(Method testMethod) {
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(testClass, testMethod);
+		setupOrTearDown(testMethod, fingerprint, DbUnitEvent.Stage.TEAR_DOWN, config -> tearDownOperation(config, testMethod));
+	}
+
+	/// Load dataset of given test and apply setup or tear down operation.
+	///
+	/// The JFR event of the operation is always committed, including when the test does not define any dataset, or when
+	/// the operation failed.
+	///
+	/// @param testMethod The test method.
+	/// @param fingerprint The fingerprint of the dataset.
+	/// @param stage The operation being executed.
+	/// @param operation The operation to apply, resolved from the configuration.
+	/// @return The loaded dataset, `null` if the test does not define any dataset.
+	private IDataSet setupOrTearDown(Method testMethod, DataSetFingerprint fingerprint, DbUnitEvent.Stage stage, Function<Config, DbOperation> operation) {
+		JfrEvent event = JfrEvents.begin(stage == DbUnitEvent.Stage.SETUP ? JfrEventType.FIXTURE_SETUP : JfrEventType.FIXTURE_TEARDOWN);
+		if (event.isEnabled()) {
+			event.set("testClass", testClass).set("testMethod", testMethod.getName());
+		}
+
+		try {
+			return setupOrTearDown(testMethod, fingerprint, stage, operation, event);
+		}
+		finally {
+			event.commit();
+		}
+	}
+
+	private IDataSet setupOrTearDown(Method testMethod, DataSetFingerprint fingerprint, DbUnitEvent.Stage stage, Function<Config, DbOperation> operation, JfrEvent event) {
+		DbUnitListeners.Scope scope = DbUnitListeners.getInstance().open(testClass, testMethod, stage, fingerprint);
+
 		// Read dataSet from method.
+		long start = scope.start();
 		IDataSet dataSet = readDataSet(testMethod);
 		if (dataSet == null) {
-			return;
+			return null;
+		}
+
+		IDataSet replacedDataSet = applyReplacements(dataSet);
+		scope.end(DbUnitPhase.DATASET, start);
+
+		if (event.isEnabled()) {
+			count(event, replacedDataSet);
 		}
 
 		Config config = readConfig(testMethod);
+		DbOperation op = operation.apply(config);
 		IDatabaseConnection dbConnection = null;
 
-		try (Connection connection = factory.getConnection()) {
+		start = scope.start();
+		try (Connection connection = openConnection(factory, config)) {
 			log.trace(" 1- Get SQL connection");
-			dbConnection = new DatabaseConnection(connection, config.getSchema());
+			scope.end(DbUnitPhase.CONNECTION, start);
 
 			log.trace(" 2- Try to apply DbUnit connection configuration");
-			List<DbUnitConfigInterceptor> interceptors = config.getInterceptors();
-			if (!interceptors.isEmpty()) {
-				for (DbUnitConfigInterceptor interceptor : interceptors) {
-					interceptor.applyConfiguration(dbConnection.getConfig(), dbConnection);
-				}
-			}
+			start = scope.start();
+			dbConnection = createDatabaseConnection(op.prepare(scope.instrument(connection)), config);
+			scope.end(DbUnitPhase.CONFIGURATION, start);
 
 			IDatabaseTester dbTester = new DefaultDatabaseTester(dbConnection);
 
 			log.trace(" 3- Load data set");
-
-			List<Replacements> allReplacements = ctx.getReplacements();
-			if (!allReplacements.isEmpty()) {
-				dataSet = new ReplacementDataSet(dataSet);
-				for (Replacements replacements : allReplacements) {
-					for (Map.Entry<String, Object> entry : replacements.getReplacements().entrySet()) {
-						((ReplacementDataSet) dataSet).addReplacementObject(entry.getKey(), entry.getValue());
-					}
-				}
-			}
-
-			dbTester.setDataSet(dataSet);
+			dbTester.setDataSet(scope.decorate(replacedDataSet));
 
 			// Apply operation (setup or tear down).
 			log.trace(" 4- Apply database operation");
+			start = scope.start();
 			op.apply(
 				testClass,
 				testMethod,
 				dbTester,
-				config.getFkManagers()
+				scope.decorate(config.getFkManagers())
 			);
+			scope.end(DbUnitPhase.OPERATION, start);
+			scope.endStatements();
+			scope.endCaches();
 
 			log.trace(" 5- Closing SQL connection");
+			start = scope.start();
 			dbConnection.close();
+			scope.end(DbUnitPhase.CLOSE, start);
 		}
 		catch (Exception ex) {
 			log.error(ex.getMessage(), ex);
 			throw new JdbcException(ex);
 		}
 		finally {
-			if (dbConnection != null) {
-				try {
-					dbConnection.close();
+			closeQuietly(dbConnection);
+		}
+
+		return replacedDataSet;
+	}
+
+	/// Set the number of tables and rows of given dataset on given event.
+	///
+	/// @param event The event.
+	/// @param dataSet The dataset.
+	private static void count(JfrEvent event, IDataSet dataSet) {
+		try {
+			Map<String, Integer> rowCounts = DataSetDelta.rowCounts(dataSet);
+			event.set("tables", rowCounts.size()).set("rows", rowCounts.values().stream().mapToInt(Integer::intValue).sum());
+		}
+		catch (Exception ex) {
+			log.debug("Cannot count dataset rows: {}", ex.getMessage());
+		}
+	}
+
+	/// Compare the content of the database with the dataset of given read-only test.
+	///
+	/// @param testMethod The executed method.
+	/// @return The delta between database content and dataset, `null` if it cannot be computed.
+	private DataSetDelta verifyReadOnly(Method testMethod) {
+		IDataSet dataSet = applyReplacements(readDataSet(testMethod));
+		Config config = readConfig(testMethod);
+		IDatabaseConnection dbConnection = null;
+
+		try (Connection connection = openConnection(factory, config)) {
+			dbConnection = createDatabaseConnection(connection, config);
+			return DataSetDelta.compute(dbConnection, dataSet, DataSetDelta.rowCounts(dataSet));
+		}
+		catch (Exception ex) {
+			log.warn("Cannot verify read-only test {}: {}", testMethod, ex.getMessage());
+			return null;
+		}
+		finally {
+			closeQuietly(dbConnection);
+		}
+	}
+
+	/// Get a new SQL connection from given factory, using the schema of given configuration as the default
+	/// schema of the connection if it is a worker schema (see [DbUnitConfig#schema()]).
+	///
+	/// The previous schema of the connection is restored when the returned connection is closed.
+	///
+	/// @param factory The connection factory.
+	/// @param config The DbUnit configuration.
+	/// @return The SQL connection.
+	static Connection openConnection(JdbcConnectionFactory factory, Config config) {
+		Connection connection = factory.getConnection();
+		return config.isDefaultSchema() ? WorkerSchemas.useSchema(connection, config.getSchema()) : connection;
+	}
+
+	/// Create DbUnit connection, and apply DbUnit configuration interceptors.
+	///
+	/// @param connection The SQL connection, opened with [#openConnection(JdbcConnectionFactory, Config)].
+	/// @param config The DbUnit configuration.
+	/// @return The DbUnit connection.
+	/// @throws Exception If an error occurred while creating or configuring the connection.
+	static IDatabaseConnection createDatabaseConnection(Connection connection, Config config) throws Exception {
+		Connection sqlConnection = config.getStatementCacheSize() > 0 ? JdbcStatementCache.of(connection, config.getStatementCacheSize()) : connection;
+		IDatabaseConnection dbConnection = new DatabaseConnection(sqlConnection, config.getSchema());
+
+		List<DbUnitConfigInterceptor> interceptors = config.getInterceptors();
+		if (!interceptors.isEmpty()) {
+			for (DbUnitConfigInterceptor interceptor : interceptors) {
+				interceptor.applyConfiguration(dbConnection.getConfig(), dbConnection);
+			}
+		}
+
+		if (config.isAdaptiveBatchSize()) {
+			AdaptiveBatchSizes.configure(dbConnection);
+		}
+
+		return dbConnection;
+	}
+
+	/// Close DbUnit connection, and log (without failing) any error.
+	///
+	/// @param dbConnection The DbUnit connection, may be `null`.
+	static void closeQuietly(IDatabaseConnection dbConnection) {
+		if (dbConnection != null) {
+			try {
+				dbConnection.close();
+			}
+			catch (SQLException ex) {
+				// No Worries.
+				log.warn(ex.getMessage());
+			}
+		}
+	}
+
+	/// Apply replacements from test class context on given dataset.
+	///
+	/// @param dataSet The dataset.
+	/// @return The dataset with replacements.
+	private IDataSet applyReplacements(IDataSet dataSet) {
+		List<Replacements> allReplacements = ctx.getReplacements();
+		if (allReplacements.isEmpty()) {
+			return dataSet;
+		}
+
+		ReplacementDataSet replacementDataSet = new ReplacementDataSet(dataSet);
+		for (Replacements replacements : allReplacements) {
+			for (Map.Entry<String, Object> entry : replacements.getReplacements().entrySet()) {
+				replacementDataSet.addReplacementObject(entry.getKey(), entry.getValue());
+			}
+		}
+
+		return replacementDataSet;
+	}
+
+	/// Get the setup operation to apply with given configuration.
+	///
+	/// @param config The DbUnit configuration.
+	/// @param fingerprint The fingerprint of the loaded dataset.
+	/// @return The setup operation.
+	private DbOperation setupOperation(Config config, DataSetFingerprint fingerprint) {
+		DeltaSetupTracker tracker = config.isDeltaSetup() ? DeltaSetupTracker.of(factory) : null;
+		boolean parallel = config.getParallelism() > 1;
+		boolean compiled = config.isCompiledPlans();
+
+		DbOperation operation = SetupDbOperation.getInstance();
+		if (tracker != null || parallel || compiled) {
+			operation = SetupDbOperation.decorate(databaseOperation -> {
+				// Delta setup only loads changed rows, so takes precedence over parallel loading and compiled plans (that
+				// cannot be combined, see DbUnitAnnotationsParser).
+				if (tracker != null) {
+					return tracker.decorate(databaseOperation);
 				}
-				catch (SQLException ex) {
-					// No Worries.
-					log.warn(ex.getMessage());
+
+				if (databaseOperation != DatabaseOperation.CLEAN_INSERT) {
+					return databaseOperation;
 				}
-			}
+
+				return parallel ?
+					new ParallelCleanInsertOperation(factory, config) :
+					CompiledDataSetOperation.cleanInsert(fingerprint, config.isAdaptiveBatchSize());
+			});
+		}
+
+		return isReplayable(config, fingerprint) ?
+			new RecordingSetupDbOperation(operation, config, SetupReplayTracker.of(factory), fingerprint) :
+			operation;
+	}
+
+	/// Get the tear down operation to apply with given configuration.
+	///
+	/// @param config The DbUnit configuration.
+	/// @param testMethod The test method.
+	/// @return The tear down operation.
+	private DbOperation tearDownOperation(Config config, Method testMethod) {
+		if (!config.isCompiledPlans()) {
+			return TearDownDbOperation.getInstance();
+		}
+
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(testClass, testMethod);
+		return TearDownDbOperation.decorate(databaseOperation ->
+			databaseOperation == DatabaseOperation.DELETE_ALL ? CompiledDataSetOperation.deleteAll(fingerprint) : databaseOperation
+		);
+	}
+
+	/// Replay the setup statements recorded for the dataset of given test method, if any.
+	///
+	/// @param testMethod The test method.
+	/// @param fingerprint The fingerprint of the dataset.
+	/// @return `true` if the setup has been replayed, `false` otherwise.
+	private boolean replay(Method testMethod, DataSetFingerprint fingerprint) {
+		if (fingerprint.isEmpty() || !fingerprint.isCleanInsert()) {
+			return false;
+		}
+
+		Config config = readConfig(testMethod);
+		if (!isReplayable(config, fingerprint)) {
+			return false;
+		}
+
+		SetupReplayTracker tracker = SetupReplayTracker.of(factory);
+		JdbcReplayPlan plan = tracker.get(fingerprint, config.getSchema());
+		if (plan == null) {
+			return false;
+		}
+
+		try (Connection connection = openConnection(factory, config)) {
+			// Foreign key managers are not recorded, so they are executed around the replay.
+			DatabaseOperation operation = JdbcForeignKeyManagerDatabaseOperation.merge(new ReplayDatabaseOperation(plan), config.getFkManagers());
+			operation.execute(new DatabaseConnection(connection), null);
+			return true;
+		}
+		catch (Exception ex) {
+			log.warn("Cannot replay setup of {}, falling back to DbUnit setup: {}", testMethod, ex.getMessage());
+			tracker.invalidate(fingerprint, config.getSchema());
+			return false;
 		}
 	}
 
+	private static boolean isReplayable(Config config, DataSetFingerprint fingerprint) {
+		return config.isReplay()
+			&& !config.isDeltaSetup()
+			&& config.getParallelism() == 1
+			&& !fingerprint.isEmpty()
+			&& fingerprint.isCleanInsert();
+	}
+
 	/// Read DbUnit configuration interceptor, returns `null` if no configuration is set.
 	///
 	/// @param method The method to scan for.
@@ -219,7 +572,28 @@ public class DbUnitRunner {
 	/// @throws DbUnitException If instantiating the interceptor failed.
 	private Config readConfig(Method method) {
 		DbUnitConfig annotation = Annotations.findAnnotation(method, DbUnitConfig.class);
-		return annotation == null ? ctx.getConfig() : DbUnitAnnotationsParser.readConfig(annotation);
+		Config config = annotation == null ? ctx.getConfig() : DbUnitAnnotationsParser.readConfig(annotation);
+		return resolveConfig(config);
+	}
+
+	/// Resolve the worker schema of given configuration, if any: the schema of the current worker is
+	/// initialized if needed, and used as the default schema of SQL connections.
+	///
+	/// @param config The configuration.
+	/// @return The resolved configuration.
+	private Config resolveConfig(Config config) {
+		if (!WorkerSchemas.isWorkerSchema(config.getSchema())) {
+			return config;
+		}
+
+		String schema = WorkerSchemas.initialize(
+			factory,
+			WorkerSchemas.resolve(config.getSchema()),
+			ctx.getInitScripts(),
+			ctx.getLiquibaseChangeLogs()
+		);
+
+		return config.withDefaultSchema(schema);
 	}
 
 	/// Read DbUnit from tested method.
@@ -230,6 +604,18 @@ public class DbUnitRunner {
 	/// @param method Tested method.
 	/// @return DataSet.
 	private IDataSet readDataSet(Method method) {
+		return readDataSet(ctx, method);
+	}
+
+	/// Read DbUnit from tested method, using given class context.
+	///
+	/// If method is not annotated with [DbUnitDataSet], dataSet from
+	/// class context is returned.
+	///
+	/// @param ctx The test class context.
+	/// @param method Tested method.
+	/// @return DataSet.
+	static IDataSet readDataSet(DbUnitClassContext ctx, Method method) {
 		final IDataSet parentDataSet = ctx.getDataSet();
 		if (method == null) {
 			return parentDataSet;
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Track tear down operations deferred by read-only tests (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly]),
+/// indexed by connection target and test class.
+///
+/// At most one tear down operation is pending for a given connection target and test class: entries are removed as soon
+/// as they are applied or reused, so that the deferred operation (and the runner it references) is not retained once the
+/// test class that deferred it has been executed.
+///
+/// A pending tear down operation is only reused or applied by tests of the test class that deferred it: a test class
+/// running in parallel against the same database never applies (or skips) the tear down operation of another test class.
+///
+/// This class is thread-safe.
+final class DeferredTearDownTracker {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DeferredTearDownTracker.class);
+
+	/// Pending tear down operations, indexed by connection factory and test class.
+	private static final Map<Key, Deferred> PENDING = new ConcurrentHashMap<>();
+
+	// Ensure non instantiation.
+	private DeferredTearDownTracker() {
+	}
+
+	/// Defer given tear down operation.
+	///
+	/// If a tear down operation was already deferred by given test class for given connection target, it is applied first.
+	///
+	/// @param factory The connection factory.
+	/// @param owner The test class that defers its tear down operation.
+	/// @param fingerprint The dataset fingerprint of the read-only test.
+	/// @param tearDown The tear down operation.
+	static void defer(JdbcConnectionFactory factory, Class<?> owner, DataSetFingerprint fingerprint, Runnable tearDown) {
+		notNull(factory, "JDBC Connection Factory must be specified");
+		Deferred previous = PENDING.put(new Key(factory, owner), new Deferred(owner, fingerprint, tearDown));
+		if (previous != null) {
+			previous.apply();
+		}
+	}
+
+	/// Consume the tear down operation deferred by given test class before the setup of a test with given dataset fingerprint:
+	/// - If the deferred tear down belongs to a test with the same dataset, and the setup operation is `CLEAN_INSERT`, the
+	///   tear down is discarded and `true` is returned: the setup can be skipped.
+	/// - Otherwise, the deferred tear down (if any) is applied and `false` is returned.
+	///
+	/// @param factory The connection factory.
+	/// @param owner The test class of the test about to be executed.
+	/// @param fingerprint The dataset fingerprint of the test about to be executed.
+	/// @return `true` if the setup can be skipped, `false` otherwise.
+	static boolean reuse(JdbcConnectionFactory factory, Class<?> owner, DataSetFingerprint fingerprint) {
+		notNull(factory, "JDBC Connection Factory must be specified");
+		notNull(owner, "Test class must not be null");
+
+		Deferred previous = PENDING.remove(new Key(factory, owner));
+		if (previous == null) {
+			return false;
+		}
+
+		if (!fingerprint.isEmpty() && fingerprint.isCleanInsert() && fingerprint.equals(previous.fingerprint)) {
+			log.debug("Dataset loaded by previous read-only test is reused, skipping tear down and setup operations");
+			return true;
+		}
+
+		log.debug("Dataset loaded by previous read-only test cannot be reused, applying deferred tear down operation");
+		previous.apply();
+		return false;
+	}
+
+	/// Apply the deferred tear down operations of given connection target, whatever the test class that deferred them.
+	///
+	/// @param factory The connection factory.
+	static void flush(JdbcConnectionFactory factory) {
+		notNull(factory, "JDBC Connection Factory must be specified");
+		flush((key) -> key.factory.equals(factory));
+	}
+
+	/// Apply the tear down operations deferred by given test class, leaving operations deferred by
+	/// other test classes (possibly running in parallel) untouched.
+	///
+	/// @param owner The test class.
+	static void flush(Class<?> owner) {
+		notNull(owner, "Test class must not be null");
+		flush((key) -> key.owner == owner);
+	}
+
+	private static void flush(Predicate<Key> predicate) {
+		List<Deferred> matching = new ArrayList<>();
+		for (Map.Entry<Key, Deferred> entry : PENDING.entrySet()) {
+			Deferred deferred = entry.getValue();
+			if (predicate.test(entry.getKey()) && PENDING.remove(entry.getKey(), deferred)) {
+				matching.add(deferred);
+			}
+		}
+
+		for (Deferred deferred : matching) {
+			deferred.apply();
+		}
+	}
+
+	/// The key of a pending tear down operation.
+	private static final class Key {
+		/// The connection factory.
+		private final JdbcConnectionFactory factory;
+
+		/// The test class that deferred the tear down operation.
+		private final Class<?> owner;
+
+		private Key(JdbcConnectionFactory factory, Class<?> owner) {
+			this.factory = factory;
+			this.owner = owner;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Key) {
+				Key k = (Key) o;
+				return Objects.equals(factory, k.factory) && Objects.equals(owner, k.owner);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(factory, owner);
+		}
+	}
+
+	/// A pending tear down operation.
+	private static final class Deferred {
+		/// The test class that deferred the tear down operation.
+		private final Class<?> owner;
+
+		/// The dataset fingerprint of the read-only test that deferred its tear down operation.
+		private final DataSetFingerprint fingerprint;
+
+		/// The deferred tear down operation.
+		private final Runnable tearDown;
+
+		private Deferred(Class<?> owner, DataSetFingerprint fingerprint, Runnable tearDown) {
+			this.owner = notNull(owner, "Test class must not be null");
+			this.fingerprint = notNull(fingerprint, "Dataset fingerprint must not be null");
+			this.tearDown = notNull(tearDown, "Tear down operation must not be null");
+		}
+
+		private void apply() {
+			log.debug("Applying deferred tear down operation of: {}", owner);
+			tearDown.run();
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("owner", owner)
+				.append("fingerprint", fingerprint)
+				.build();
+		}
+	}
+}
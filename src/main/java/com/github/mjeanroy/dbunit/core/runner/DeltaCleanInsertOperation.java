@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.operation.DatabaseOperation;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// A `CLEAN_INSERT` operation that only applies the rows that differ from the dataset
+/// loaded by the previous setup operation.
+///
+/// This operation falls back to a full `CLEAN_INSERT` when:
+/// - The previous dataset is unknown.
+/// - The delta cannot be safely computed (see [DataSetDelta#compute(IDatabaseConnection, IDataSet, Map)]).
+/// - Applying the delta failed.
+class DeltaCleanInsertOperation extends DatabaseOperation {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DeltaCleanInsertOperation.class);
+
+	/// The tracker storing the previous loaded dataset.
+	private final DeltaSetupTracker tracker;
+
+	/// Create operation.
+	///
+	/// @param tracker The tracker storing the previous loaded dataset.
+	DeltaCleanInsertOperation(DeltaSetupTracker tracker) {
+		this.tracker = notNull(tracker, "Delta setup tracker must be defined");
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Map<String, Integer> snapshot = tracker.getSnapshot();
+
+		// Database state is unknown until this operation succeeds.
+		tracker.invalidate();
+
+		DataSetDelta delta = snapshot == null ? null : computeDelta(connection, dataSet, snapshot);
+		if (delta == null) {
+			log.debug("Delta setup is not possible, applying full CLEAN_INSERT operation");
+			DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+		}
+		else {
+			applyDelta(connection, dataSet, delta);
+		}
+
+		tracker.record(
+			DataSetDelta.rowCounts(dataSet)
+		);
+	}
+
+	private static DataSetDelta computeDelta(IDatabaseConnection connection, IDataSet dataSet, Map<String, Integer> snapshot) {
+		try {
+			return DataSetDelta.compute(connection, dataSet, snapshot);
+		}
+		catch (DatabaseUnitException | SQLException | RuntimeException ex) {
+			log.debug("Failed to compute delta: {}", ex.getMessage());
+			return null;
+		}
+	}
+
+	private static void applyDelta(IDatabaseConnection connection, IDataSet dataSet, DataSetDelta delta) throws DatabaseUnitException, SQLException {
+		try {
+			log.debug("Applying delta setup: {}", delta);
+			delta.apply(connection);
+		}
+		catch (DatabaseUnitException | SQLException | RuntimeException ex) {
+			log.warn("Failed to apply delta setup, applying full CLEAN_INSERT operation: {}", ex.getMessage());
+			DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("tracker", tracker)
+			.build();
+	}
+}
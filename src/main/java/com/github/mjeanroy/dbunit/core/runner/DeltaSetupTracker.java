@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.operation.DatabaseOperation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableMap;
+
+/// Remember the dataset tables loaded into a given connection target, so that
+/// the next setup operation can be applied as a delta.
+///
+/// Trackers are registered per [JdbcConnectionFactory] and are only referenced weakly: once
+/// the connection factory is garbage collected, the next setup will be a full reload.
+///
+/// This class is thread-safe.
+final class DeltaSetupTracker {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DeltaSetupTracker.class);
+
+	/// Registered trackers, indexed by connection factory.
+	private static final Map<JdbcConnectionFactory, DeltaSetupTracker> TRACKERS = Collections.synchronizedMap(
+		new WeakHashMap<>()
+	);
+
+	/// Get the tracker associated to given connection target.
+	///
+	/// @param factory The connection factory.
+	/// @return The tracker.
+	static DeltaSetupTracker of(JdbcConnectionFactory factory) {
+		notNull(factory, "JDBC Connection Factory must be specified");
+		return TRACKERS.computeIfAbsent(factory, ignored -> new DeltaSetupTracker());
+	}
+
+	/// The row count of each table loaded by the last setup operation, indexed by table name
+	/// (see [DataSetDelta#normalize(String)]), `null` if the database state is unknown.
+	private Map<String, Integer> snapshot;
+
+	// Use static factory.
+	DeltaSetupTracker() {
+	}
+
+	/// Decorate given setup operation: a `CLEAN_INSERT` operation is replaced by
+	/// a [DeltaCleanInsertOperation], any other operation invalidates the tracked state.
+	///
+	/// @param operation The setup operation.
+	/// @return The operation to execute.
+	DatabaseOperation decorate(DatabaseOperation operation) {
+		if (operation == DatabaseOperation.CLEAN_INSERT) {
+			return new DeltaCleanInsertOperation(this);
+		}
+
+		log.debug("Setup operation {} is not eligible for delta setup, invalidating tracked dataset", operation);
+		invalidate();
+		return operation;
+	}
+
+	/// Get [#snapshot]
+	///
+	/// @return Returns [#snapshot]
+	synchronized Map<String, Integer> getSnapshot() {
+		return snapshot;
+	}
+
+	/// Record the row count of each table loaded by the last setup operation.
+	///
+	/// @param snapshot The row count, indexed by table name.
+	synchronized void record(Map<String, Integer> snapshot) {
+		this.snapshot = unmodifiableMap(new HashMap<>(snapshot));
+	}
+
+	/// Forget the tracked state: next setup will be a full reload.
+	synchronized void invalidate() {
+		this.snapshot = null;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("snapshot", snapshot)
+			.build();
+	}
+}
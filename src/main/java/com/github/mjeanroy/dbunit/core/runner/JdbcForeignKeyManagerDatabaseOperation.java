@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.dbunit.core.runner;
 
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvent;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEventType;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvents;
 import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcForeignKeyManager;
 import com.github.mjeanroy.dbunit.loggers.Logger;
@@ -31,16 +34,20 @@ import com.github.mjeanroy.dbunit.loggers.Loggers;
 import org.dbunit.DatabaseUnitException;
 import org.dbunit.database.IDatabaseConnection;
 import org.dbunit.dataset.IDataSet;
-import org.dbunit.operation.CompositeOperation;
 import org.dbunit.operation.DatabaseOperation;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
 
+/// A database operation that disables foreign keys, executes a database operation, and re-enables foreign keys.
+///
+/// This operation is stateless: foreign keys disabled by a given execution are always re-enabled by the same
+/// execution (even if the database operation failed), so a single instance can be safely executed concurrently.
 class JdbcForeignKeyManagerDatabaseOperation extends DatabaseOperation {
 
 	private static final Logger log = Loggers.getLogger(JdbcForeignKeyManagerDatabaseOperation.class);
@@ -53,68 +60,96 @@ class JdbcForeignKeyManagerDatabaseOperation extends DatabaseOperation {
 			return operation;
 		}
 
-		List<JdbcForeignKeyManagerDatabaseOperation> fkManagerOperations = fkManagers.stream()
-			.map(JdbcForeignKeyManagerDatabaseOperation::new)
-			.collect(Collectors.toList());
-
-		int size = fkManagerOperations.size() * 2;
-		if (operation != null) {
-			size++;
-		}
-
-		DatabaseOperation[] operations = new DatabaseOperation[size];
-		int i = 0;
-
-		for (JdbcForeignKeyManagerDatabaseOperation fkManagerOperation : fkManagerOperations) {
-			log.debug("Adding foreign key manager operation (first step): {}", fkManagerOperation);
-			operations[i++] = fkManagerOperation;
-		}
+		return new JdbcForeignKeyManagerDatabaseOperation(operation, fkManagers);
+	}
 
-		if (operation != null) {
-			log.debug("Adding database operation: {}", operation);
-			operations[i++] = operation;
-		}
+	/// The database operation, may be `null`.
+	private final DatabaseOperation operation;
 
-		for (JdbcForeignKeyManagerDatabaseOperation fkManagerOperation : fkManagerOperations) {
-			log.debug("Adding foreign key manager operation (second step): {}", fkManagerOperation);
-			operations[i++] = fkManagerOperation;
-		}
+	/// The foreign key managers.
+	private final List<JdbcForeignKeyManager> fkManagers;
 
-		log.debug("Creating composite list of database operations: {}", (Object) operations);
-		return new CompositeOperation(
-			operations
-		);
+	private JdbcForeignKeyManagerDatabaseOperation(DatabaseOperation operation, List<JdbcForeignKeyManager> fkManagers) {
+		this.operation = operation;
+		this.fkManagers = unmodifiableList(new ArrayList<>(notNull(fkManagers, "Foreign key managers must be defined")));
 	}
 
-	private final JdbcForeignKeyManager fkManager;
-	private boolean applied;
+	@Override
+	public void execute(IDatabaseConnection dbConnection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Connection connection = dbConnection.getConnection();
 
-	private JdbcForeignKeyManagerDatabaseOperation(JdbcForeignKeyManager fkManager) {
-		this.fkManager = notNull(fkManager, "Foreign key manager must be defined");
+		// Keep track of disabled managers, so that only these ones are re-enabled.
+		List<JdbcForeignKeyManager> disabled = new ArrayList<>(fkManagers.size());
+		Exception error = null;
+
+		try {
+			for (JdbcForeignKeyManager fkManager : fkManagers) {
+				log.debug("Disabling database FK constraints: {}", fkManager);
+				JfrEvent event = begin(fkManager, false);
+				fkManager.disable(connection);
+				event.commit();
+				disabled.add(fkManager);
+			}
+
+			if (operation != null) {
+				log.debug("Executing database operation: {}", operation);
+				operation.execute(dbConnection, dataSet);
+			}
+		}
+		catch (DatabaseUnitException | SQLException | RuntimeException ex) {
+			error = ex;
+			throw ex;
+		}
+		finally {
+			enable(connection, disabled, error);
+		}
 	}
 
-	@Override
-	public synchronized void execute(IDatabaseConnection dbConnection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
-		Connection connection = dbConnection.getConnection();
+	private static void enable(Connection connection, List<JdbcForeignKeyManager> fkManagers, Exception error) throws SQLException {
+		Exception enableError = null;
+
+		for (JdbcForeignKeyManager fkManager : fkManagers) {
+			log.debug("Enabling database FK constraints: {}", fkManager);
+
+			try {
+				JfrEvent event = begin(fkManager, true);
+				fkManager.enable(connection);
+				event.commit();
+			}
+			catch (SQLException | RuntimeException ex) {
+				// Do not hide the original error, if any, and always try to re-enable other managers.
+				if (error != null) {
+					error.addSuppressed(ex);
+				}
+				else if (enableError != null) {
+					enableError.addSuppressed(ex);
+				}
+				else {
+					enableError = ex;
+				}
+			}
+		}
 
-		// Toggle depending on the internal state.
-		if (applied) {
-			log.debug("Enabling database FK constraints");
-			fkManager.enable(connection);
+		if (enableError instanceof SQLException) {
+			throw (SQLException) enableError;
 		}
-		else {
-			log.debug("Disabling database FK constraints");
-			fkManager.disable(connection);
+
+		if (enableError != null) {
+			throw (RuntimeException) enableError;
 		}
+	}
 
-		applied = !applied;
+	private static JfrEvent begin(JdbcForeignKeyManager fkManager, boolean enabled) {
+		return JfrEvents.begin(JfrEventType.FOREIGN_KEY_TOGGLE)
+			.set("manager", fkManager.getClass().getSimpleName())
+			.set("enabled", enabled);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
-			.append("fkManager", fkManager)
-			.append("applied", applied)
+			.append("operation", operation)
+			.append("fkManagers", fkManagers)
 			.build();
 	}
 }
@@ -24,6 +24,9 @@
 
 package com.github.mjeanroy.dbunit.core.runner;
 
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvent;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEventType;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvents;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
 import com.github.mjeanroy.dbunit.integration.liquibase.LiquibaseUpdater;
 import com.github.mjeanroy.dbunit.loggers.Logger;
@@ -49,7 +52,9 @@ class LiquibaseChangeLogExecutor {
 
 	void execute(LiquibaseChangeLog changeLog) {
 		log.debug("Running liquibase updater against: {}", changeLog);
+		JfrEvent event = JfrEvents.begin(JfrEventType.LIQUIBASE_UPDATE).set("changeLog", changeLog.getChangeLog());
 		LiquibaseUpdater liquibaseUpdater = new LiquibaseUpdater(changeLog.getChangeLog(), factory);
 		liquibaseUpdater.update();
+		event.commit();
 	}
 }
@@ -0,0 +1,350 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.operation.DatabaseOperation;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.toStoredIdentifier;
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// A `CLEAN_INSERT` operation loading dataset tables concurrently, each table being loaded on its own
+/// connection from the connection factory.
+///
+/// Tables are partitioned into levels of the foreign key dependency graph, where tables of a given level
+/// only reference tables of previous levels:
+/// 1. Levels are cleaned in reverse order, tables of a given level being cleaned concurrently.
+/// 2. Levels are loaded in order, tables of a given level being loaded concurrently.
+///
+/// If any table fails to load, the operation waits for the other tables of the level, then removes the
+/// content of every dataset table, so that no partial dataset is left in the database.
+///
+/// This operation falls back to a sequential `CLEAN_INSERT` when:
+/// - The dataset contains a single table.
+/// - The foreign key dependency graph contains a cycle.
+class ParallelCleanInsertOperation extends DatabaseOperation {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(ParallelCleanInsertOperation.class);
+
+	/// The thread factory used by loader executors.
+	private static final ThreadFactory THREAD_FACTORY = threadFactory();
+
+	/// The connection factory, used to get one connection per loaded table.
+	private final JdbcConnectionFactory factory;
+
+	/// The DbUnit configuration, applied to each opened connection.
+	private final Config config;
+
+	/// Create operation.
+	///
+	/// @param factory The connection factory, used to get one connection per loaded table.
+	/// @param config The DbUnit configuration, applied to each opened connection.
+	ParallelCleanInsertOperation(JdbcConnectionFactory factory, Config config) {
+		this.factory = notNull(factory, "Connection factory must be defined");
+		this.config = notNull(config, "Configuration must be defined");
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Map<String, IDataSet> tables = splitTables(dataSet);
+		List<List<String>> levels = tables.size() > 1 ? levels(connection, new ArrayList<>(tables.keySet())) : null;
+		if (levels == null) {
+			log.debug("Parallel loading is not possible, applying sequential CLEAN_INSERT operation");
+			DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+			return;
+		}
+
+		log.debug("Loading {} tables with {} connections, using levels: {}", tables.size(), config.getParallelism(), levels);
+
+		try {
+			for (int i = levels.size() - 1; i >= 0; i--) {
+				executeLevel(DatabaseOperation.DELETE_ALL, levels.get(i), tables);
+			}
+
+			for (List<String> level : levels) {
+				executeLevel(DatabaseOperation.INSERT, level, tables);
+			}
+		}
+		catch (DatabaseUnitException | RuntimeException ex) {
+			clean(connection, dataSet, ex);
+			throw ex;
+		}
+	}
+
+	/// Apply given operation on all tables of a level, each table using its own connection.
+	///
+	/// This method waits for each table to complete, even if one of them failed.
+	///
+	/// @param operation The operation to apply.
+	/// @param level The table names.
+	/// @param tables The dataset of each table.
+	/// @throws DatabaseUnitException If the operation failed on at least one table.
+	private void executeLevel(DatabaseOperation operation, List<String> level, Map<String, IDataSet> tables) throws DatabaseUnitException {
+		if (level.size() == 1) {
+			executeTable(operation, tables.get(level.get(0)));
+			return;
+		}
+
+		int nbThreads = Math.min(config.getParallelism(), level.size());
+		ExecutorService executor = Executors.newFixedThreadPool(nbThreads, THREAD_FACTORY);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>(level.size());
+			for (String table : level) {
+				IDataSet tableDataSet = tables.get(table);
+				futures.add(executor.submit(() -> {
+					executeTable(operation, tableDataSet);
+					return null;
+				}));
+			}
+
+			DatabaseUnitException error = null;
+			for (int i = 0; i < futures.size(); i++) {
+				Throwable cause = await(futures.get(i));
+				if (cause != null) {
+					DatabaseUnitException ex = new DatabaseUnitException("Failed to load table " + level.get(i) + ": " + cause.getMessage(), cause);
+					if (error == null) {
+						error = ex;
+					}
+					else {
+						error.addSuppressed(ex);
+					}
+				}
+			}
+
+			if (error != null) {
+				throw error;
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/// Apply given operation on given dataset, using a new connection.
+	///
+	/// @param operation The operation.
+	/// @param dataSet The dataset.
+	/// @throws DatabaseUnitException If the operation failed.
+	private void executeTable(DatabaseOperation operation, IDataSet dataSet) throws DatabaseUnitException {
+		IDatabaseConnection dbConnection = null;
+
+		try (Connection connection = DbUnitRunner.openConnection(factory, config)) {
+			dbConnection = DbUnitRunner.createDatabaseConnection(connection, config);
+			operation.execute(dbConnection, dataSet);
+		}
+		catch (DatabaseUnitException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new DatabaseUnitException(ex);
+		}
+		finally {
+			DbUnitRunner.closeQuietly(dbConnection);
+		}
+	}
+
+	private static Throwable await(Future<?> future) {
+		try {
+			future.get();
+			return null;
+		}
+		catch (ExecutionException ex) {
+			return ex.getCause();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return ex;
+		}
+	}
+
+	/// Remove content of all dataset tables after a failure, errors are added as suppressed exceptions to
+	/// the original error.
+	///
+	/// @param connection The connection.
+	/// @param dataSet The dataset.
+	/// @param error The original error.
+	private static void clean(IDatabaseConnection connection, IDataSet dataSet, Exception error) {
+		log.warn("Failed to load dataset, removing content of dataset tables: {}", error.getMessage());
+
+		try {
+			DatabaseOperation.DELETE_ALL.execute(connection, dataSet);
+		}
+		catch (DatabaseUnitException | SQLException | RuntimeException ex) {
+			error.addSuppressed(ex);
+		}
+	}
+
+	/// Split dataset into one dataset per table, preserving dataset order.
+	///
+	/// @param dataSet The dataset.
+	/// @return The dataset of each table, indexed by table name.
+	/// @throws DataSetException If reading dataset failed.
+	private static Map<String, IDataSet> splitTables(IDataSet dataSet) throws DataSetException {
+		Map<String, IDataSet> tables = new LinkedHashMap<>();
+		for (ITable table : dataSet.getTables()) {
+			String tableName = table.getTableMetaData().getTableName();
+			DefaultDataSet tableDataSet = (DefaultDataSet) tables.computeIfAbsent(tableName, name -> new DefaultDataSet());
+			tableDataSet.addTable(table);
+		}
+
+		return tables;
+	}
+
+	/// Partition tables into levels of the foreign key dependency graph: tables of the first level do not
+	/// reference any other table of the dataset, tables of the second level only reference tables of
+	/// the first level, etc.
+	///
+	/// Table order is preserved inside each level.
+	///
+	/// @param connection The connection.
+	/// @param tables The dataset table names.
+	/// @return The levels, `null` if the dependency graph contains a cycle.
+	/// @throws SQLException If reading database metadata failed.
+	static List<List<String>> levels(IDatabaseConnection connection, List<String> tables) throws SQLException {
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+
+		Map<String, String> tablesByKey = new HashMap<>();
+		for (String table : tables) {
+			tablesByKey.put(key(table), table);
+		}
+
+		Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		for (String table : tables) {
+			Set<String> tableDependencies = new HashSet<>();
+			try (ResultSet rs = importedKeys(metaData, connection.getSchema(), table)) {
+				while (rs.next()) {
+					String referenced = tablesByKey.get(key(rs.getString("PKTABLE_NAME")));
+					if (referenced != null && !referenced.equals(table)) {
+						tableDependencies.add(referenced);
+					}
+				}
+			}
+
+			dependencies.put(table, tableDependencies);
+		}
+
+		List<List<String>> levels = new ArrayList<>();
+		Set<String> loaded = new HashSet<>();
+		while (loaded.size() < tables.size()) {
+			List<String> level = new ArrayList<>();
+			for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+				if (!loaded.contains(entry.getKey()) && loaded.containsAll(entry.getValue())) {
+					level.add(entry.getKey());
+				}
+			}
+
+			if (level.isEmpty()) {
+				log.debug("Foreign key cycle detected between tables: {}", dependencies);
+				return null;
+			}
+
+			loaded.addAll(level);
+			levels.add(Collections.unmodifiableList(level));
+		}
+
+		return Collections.unmodifiableList(levels);
+	}
+
+	private static ResultSet importedKeys(DatabaseMetaData metaData, String schema, String table) throws SQLException {
+		String tableSchema = schema;
+		String tableName = table;
+
+		int dot = table.indexOf('.');
+		if (dot > 0) {
+			tableSchema = table.substring(0, dot);
+			tableName = table.substring(dot + 1);
+		}
+
+		return metaData.getImportedKeys(null, toStoredIdentifier(metaData, tableSchema), toStoredIdentifier(metaData, tableName));
+	}
+
+	private static String key(String table) {
+		int dot = table.lastIndexOf('.');
+		String tableName = dot >= 0 ? table.substring(dot + 1) : table;
+		return tableName.toUpperCase(Locale.ROOT);
+	}
+
+	/// Create the thread factory used by loader executors: virtual threads are used when
+	/// available (JDK 21+), platform daemon threads otherwise.
+	///
+	/// @return The thread factory.
+	private static ThreadFactory threadFactory() {
+		try {
+			Method ofVirtual = Thread.class.getMethod("ofVirtual");
+			Object builder = ofVirtual.invoke(null);
+			Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+			return (ThreadFactory) factory.invoke(builder);
+		}
+		catch (Exception ex) {
+			log.trace("Virtual threads are not available, using platform threads");
+		}
+
+		AtomicInteger counter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "dbunit-loader-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("factory", factory)
+			.append("config", config)
+			.build();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcForeignKeyManager;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcRecorder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcReplayPlan;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.IDatabaseTester;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Apply setup operation while recording executed statements, so that the next setup
+/// of the same dataset can be replayed (see [SetupReplayTracker]).
+///
+/// Statements are recorded through the SQL connection returned by [#prepare(Connection)], that must be used to create
+/// the DbUnit connection of the setup. Foreign key managers are not recorded: they are executed again around the replay.
+///
+/// An instance must be used for a single setup.
+final class RecordingSetupDbOperation implements DbOperation {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(RecordingSetupDbOperation.class);
+
+	/// The recorded setup operation.
+	private final DbOperation operation;
+
+	/// The DbUnit configuration.
+	private final Config config;
+
+	/// The tracker storing recorded plans.
+	private final SetupReplayTracker tracker;
+
+	/// The fingerprint of the loaded dataset.
+	private final DataSetFingerprint fingerprint;
+
+	/// The SQL connection that is not recorded, `null` until [#prepare(Connection)] is called.
+	private Connection connection;
+
+	/// The recorder of executed statements, `null` until [#prepare(Connection)] is called.
+	private JdbcRecorder recorder;
+
+	RecordingSetupDbOperation(DbOperation operation, Config config, SetupReplayTracker tracker, DataSetFingerprint fingerprint) {
+		this.operation = notNull(operation, "Setup operation must not be null");
+		this.config = notNull(config, "Configuration must not be null");
+		this.tracker = notNull(tracker, "Replay tracker must not be null");
+		this.fingerprint = notNull(fingerprint, "Dataset fingerprint must not be null");
+	}
+
+	/// Wrap given SQL connection so that statements executed by the setup operation are recorded.
+	///
+	/// @param connection The SQL connection.
+	/// @return The recorded SQL connection.
+	@Override
+	public Connection prepare(Connection connection) {
+		this.connection = notNull(connection, "Connection must not be null");
+		this.recorder = new JdbcRecorder();
+		return recorder.record(connection);
+	}
+
+	@Override
+	public void apply(
+		Class<?> testClass,
+		Method method,
+		IDatabaseTester dbTester,
+		List<JdbcForeignKeyManager> fkManagers
+	) throws Exception {
+		if (recorder == null) {
+			log.info("Setup of {} cannot be replayed: SQL connection has not been recorded", method);
+			operation.apply(testClass, method, dbTester, fkManagers);
+			return;
+		}
+
+		// Foreign keys are toggled around the replay, so statements of foreign key managers are not recorded.
+		operation.apply(testClass, method, dbTester, unrecorded(fkManagers));
+
+		if (!recorder.isValid()) {
+			log.info("Setup of {} cannot be replayed: {}", method, recorder.getInvalidation());
+			return;
+		}
+
+		JdbcReplayPlan plan = recorder.toPlan();
+		log.debug("Recorded {} statement(s) during setup of: {}", plan.size(), method);
+		tracker.record(fingerprint, config.getSchema(), plan);
+	}
+
+	private List<JdbcForeignKeyManager> unrecorded(List<JdbcForeignKeyManager> fkManagers) {
+		if (fkManagers == null || fkManagers.isEmpty()) {
+			return fkManagers;
+		}
+
+		List<JdbcForeignKeyManager> outputs = new ArrayList<>(fkManagers.size());
+		for (JdbcForeignKeyManager fkManager : fkManagers) {
+			outputs.add(new UnrecordedForeignKeyManager(fkManager, connection));
+		}
+
+		return outputs;
+	}
+
+	/// A foreign key manager toggling foreign keys with the SQL connection that is not recorded.
+	private static final class UnrecordedForeignKeyManager implements JdbcForeignKeyManager {
+
+		/// The foreign key manager.
+		private final JdbcForeignKeyManager fkManager;
+
+		/// The SQL connection that is not recorded.
+		private final Connection connection;
+
+		private UnrecordedForeignKeyManager(JdbcForeignKeyManager fkManager, Connection connection) {
+			this.fkManager = fkManager;
+			this.connection = connection;
+		}
+
+		@Override
+		public void disable(Connection connection) throws SQLException {
+			fkManager.disable(this.connection);
+		}
+
+		@Override
+		public void enable(Connection connection) throws SQLException {
+			fkManager.enable(this.connection);
+		}
+
+		@Override
+		public String toString() {
+			return fkManager.toString();
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitBudget;
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
+
+/// The performance budget of a setup operation, see [DbUnitBudget].
+///
+/// A negative limit means that there is no limit.
+///
+/// This class is immutable and thread-safe.
+final class SetupBudget {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(SetupBudget.class);
+
+	/// The system property defining the global maximum setup time.
+	static final String MAX_SETUP_MILLIS_PROPERTY = "dbunit.budget.maxSetupMillis";
+
+	/// The system property defining the global maximum number of rows.
+	static final String MAX_ROWS_PROPERTY = "dbunit.budget.maxRows";
+
+	/// The system property defining the global maximum number of tables.
+	static final String MAX_TABLES_PROPERTY = "dbunit.budget.maxTables";
+
+	/// The system property defining the global failure flag.
+	static final String FAIL_PROPERTY = "dbunit.budget.fail";
+
+	/// Resolve the budget of given test: the [DbUnitBudget] annotation of the test, or the global
+	/// budget defined by system properties.
+	///
+	/// @param testClass The test class.
+	/// @param testMethod The test method.
+	/// @return The budget.
+	static SetupBudget of(Class<?> testClass, Method testMethod) {
+		DbUnitBudget annotation = findAnnotation(testClass, testMethod, DbUnitBudget.class);
+		if (annotation != null) {
+			return new SetupBudget(annotation.maxSetupMillis(), annotation.maxRows(), annotation.maxTables(), annotation.fail());
+		}
+
+		return new SetupBudget(
+			Long.parseLong(System.getProperty(MAX_SETUP_MILLIS_PROPERTY, "-1").trim()),
+			Integer.parseInt(System.getProperty(MAX_ROWS_PROPERTY, "-1").trim()),
+			Integer.parseInt(System.getProperty(MAX_TABLES_PROPERTY, "-1").trim()),
+			Boolean.parseBoolean(System.getProperty(FAIL_PROPERTY, "true").trim())
+		);
+	}
+
+	/// The maximum elapsed time of the setup operation, in milliseconds.
+	private final long maxSetupMillis;
+
+	/// The maximum number of rows of the dataset.
+	private final int maxRows;
+
+	/// The maximum number of tables of the dataset.
+	private final int maxTables;
+
+	/// Fail when the budget is exceeded, log a warning otherwise.
+	private final boolean fail;
+
+	/// Create budget.
+	///
+	/// @param maxSetupMillis The maximum elapsed time of the setup operation, in milliseconds.
+	/// @param maxRows The maximum number of rows of the dataset.
+	/// @param maxTables The maximum number of tables of the dataset.
+	/// @param fail Fail when the budget is exceeded, log a warning otherwise.
+	SetupBudget(long maxSetupMillis, int maxRows, int maxTables, boolean fail) {
+		this.maxSetupMillis = maxSetupMillis;
+		this.maxRows = maxRows;
+		this.maxTables = maxTables;
+		this.fail = fail;
+	}
+
+	/// Check if a limit is defined.
+	///
+	/// @return `true` if at least one limit is defined, `false` otherwise.
+	boolean isDefined() {
+		return maxSetupMillis >= 0 || maxRows >= 0 || maxTables >= 0;
+	}
+
+	/// Check the measured setup against the budget.
+	///
+	/// @param testMethod The test method.
+	/// @param nanos The elapsed time of the setup operation, in nanoseconds.
+	/// @param dataSet The loaded dataset.
+	/// @throws DbUnitException If the budget is exceeded and failure is enabled.
+	void check(Method testMethod, long nanos, IDataSet dataSet) {
+		if (!isDefined()) {
+			return;
+		}
+
+		List<String> violations = new ArrayList<>();
+
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		if (maxSetupMillis >= 0 && millis > maxSetupMillis) {
+			violations.add(String.format("setup took %d ms (max: %d ms)", millis, maxSetupMillis));
+		}
+
+		if (maxRows >= 0 || maxTables >= 0) {
+			Map<String, Integer> rowCounts = rowCounts(dataSet);
+			int rows = rowCounts.values().stream().mapToInt(Integer::intValue).sum();
+			if (maxRows >= 0 && rows > maxRows) {
+				violations.add(String.format("dataset has %d rows (max: %d)", rows, maxRows));
+			}
+
+			if (maxTables >= 0 && rowCounts.size() > maxTables) {
+				violations.add(String.format("dataset has %d tables (max: %d)", rowCounts.size(), maxTables));
+			}
+		}
+
+		if (violations.isEmpty()) {
+			return;
+		}
+
+		String message = String.format("Setup of %s exceeded its budget: %s", testMethod, String.join(", ", violations));
+		if (fail) {
+			throw new DbUnitException(message);
+		}
+
+		log.warn(message);
+	}
+
+	private static Map<String, Integer> rowCounts(IDataSet dataSet) {
+		try {
+			return DataSetDelta.rowCounts(dataSet);
+		}
+		catch (DataSetException ex) {
+			throw new DbUnitException(ex);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof SetupBudget) {
+			SetupBudget b = (SetupBudget) o;
+			return maxSetupMillis == b.maxSetupMillis
+				&& maxRows == b.maxRows
+				&& maxTables == b.maxTables
+				&& fail == b.fail;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxSetupMillis, maxRows, maxTables, fail);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("maxSetupMillis", maxSetupMillis)
+			.append("maxRows", maxRows)
+			.append("maxTables", maxTables)
+			.append("fail", fail)
+			.build();
+	}
+}
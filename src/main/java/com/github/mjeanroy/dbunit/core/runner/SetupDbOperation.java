@@ -33,7 +33,9 @@ import org.dbunit.operation.DatabaseOperation;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
 
 /// Apply setup operations to the test database.
@@ -44,7 +46,7 @@ class SetupDbOperation implements DbOperation {
 	private static final Logger log = Loggers.getLogger(SetupDbOperation.class);
 
 	/// Singleton Instance.
-	private static final SetupDbOperation INSTANCE = new SetupDbOperation();
+	private static final SetupDbOperation INSTANCE = new SetupDbOperation(null);
 
 	/// Get singleton instance.
 	///
@@ -53,8 +55,21 @@ class SetupDbOperation implements DbOperation {
 		return INSTANCE;
 	}
 
-	// Ensure non instantiation.
-	private SetupDbOperation() {
+	/// Get setup operation where the resolved database operation is decorated before being applied, for
+	/// example to apply `CLEAN_INSERT` operations as a delta of the previous setup.
+	///
+	/// @param decorator The decorator, applied to the resolved database operation.
+	/// @return Instance.
+	static SetupDbOperation decorate(UnaryOperator<DatabaseOperation> decorator) {
+		return new SetupDbOperation(notNull(decorator, "Database operation decorator must be defined"));
+	}
+
+	/// The database operation decorator, `null` if resolved database operation is applied as is.
+	private final UnaryOperator<DatabaseOperation> decorator;
+
+	// Use static factories.
+	private SetupDbOperation(UnaryOperator<DatabaseOperation> decorator) {
+		this.decorator = decorator;
 	}
 
 	@Override
@@ -70,6 +85,10 @@ class SetupDbOperation implements DbOperation {
 			dbTester.getSetUpOperation() :
 			annotation.value().getOperation();
 
+		if (decorator != null) {
+			databaseOperation = decorator.apply(databaseOperation);
+		}
+
 		log.debug("-> Merging database operation with FK manager: {} with {}", databaseOperation, fkManagers);
 		DatabaseOperation setupDatabaseOperation = JdbcForeignKeyManagerDatabaseOperation.merge(
 			databaseOperation,
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcReplayPlan;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Remember the statements recorded during the setup of datasets into a given connection target, so that
+/// the next setup of the same dataset can be replayed (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig#replay()]).
+///
+/// Trackers are registered per [JdbcConnectionFactory] and are only referenced weakly: once
+/// the connection factory is garbage collected, the next setup will be recorded again.
+///
+/// This class is thread-safe.
+final class SetupReplayTracker {
+
+	/// Registered trackers, indexed by connection factory.
+	private static final Map<JdbcConnectionFactory, SetupReplayTracker> TRACKERS = Collections.synchronizedMap(
+		new WeakHashMap<>()
+	);
+
+	/// Get the tracker associated to given connection target.
+	///
+	/// @param factory The connection factory.
+	/// @return The tracker.
+	static SetupReplayTracker of(JdbcConnectionFactory factory) {
+		notNull(factory, "JDBC Connection Factory must be specified");
+		return TRACKERS.computeIfAbsent(factory, ignored -> new SetupReplayTracker());
+	}
+
+	/// The recorded plans, indexed by dataset fingerprint and schema.
+	private final Map<Key, JdbcReplayPlan> plans;
+
+	// Use static factory.
+	SetupReplayTracker() {
+		this.plans = new ConcurrentHashMap<>();
+	}
+
+	/// Get the plan recorded for given dataset and schema.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param schema The schema, may be `null`.
+	/// @return The recorded plan, `null` if the setup has not been recorded yet.
+	JdbcReplayPlan get(DataSetFingerprint fingerprint, String schema) {
+		return plans.get(new Key(fingerprint, schema));
+	}
+
+	/// Record the plan of given dataset and schema.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param schema The schema, may be `null`.
+	/// @param plan The recorded plan.
+	void record(DataSetFingerprint fingerprint, String schema, JdbcReplayPlan plan) {
+		plans.put(new Key(fingerprint, schema), notNull(plan, "Replay plan must not be null"));
+	}
+
+	/// Forget the plan of given dataset and schema: next setup will be recorded again.
+	///
+	/// @param fingerprint The dataset fingerprint.
+	/// @param schema The schema, may be `null`.
+	void invalidate(DataSetFingerprint fingerprint, String schema) {
+		plans.remove(new Key(fingerprint, schema));
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("plans", plans.size())
+			.build();
+	}
+
+	/// Identify a recorded plan.
+	private static final class Key {
+		/// The dataset fingerprint.
+		private final DataSetFingerprint fingerprint;
+
+		/// The schema, may be `null`.
+		private final String schema;
+
+		private Key(DataSetFingerprint fingerprint, String schema) {
+			this.fingerprint = notNull(fingerprint, "Dataset fingerprint must not be null");
+			this.schema = schema;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Key) {
+				Key k = (Key) o;
+				return Objects.equals(fingerprint, k.fingerprint) && Objects.equals(schema, k.schema);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fingerprint, schema);
+		}
+	}
+}
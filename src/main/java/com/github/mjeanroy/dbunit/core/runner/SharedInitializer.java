@@ -0,0 +1,249 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.core.sql.SqlStatementIterator;
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.exception.JdbcException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.toStoredIdentifier;
+import static com.github.mjeanroy.dbunit.core.sql.SqlScriptParser.iterateScript;
+
+/// Run initialization items (SQL scripts and liquibase changelogs) once per database, even when several processes
+/// sharing the same database start at the same time.
+///
+/// Processes are serialized using a lock file in the temporary directory (one lock file per database), and each
+/// executed SQL script is recorded, by content hash, in the `DBUNIT_INIT` marker table of the database:
+/// 1. The first process acquires the lock, executes items, records SQL scripts and releases the lock.
+/// 2. Other processes wait for the lock, then skip SQL scripts already recorded.
+///
+/// Liquibase changelogs are not recorded: a changelog may include other changelogs, so its content is not enough to
+/// detect new changesets. Changelogs are always executed under the lock, liquibase itself skipping the changesets
+/// already executed on the database.
+final class SharedInitializer {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(SharedInitializer.class);
+
+	/// The marker table name.
+	static final String MARKER_TABLE = "DBUNIT_INIT";
+
+	/// Monitors, indexed by lock file: a file lock is held by the whole JVM, so threads of the same JVM
+	/// must be serialized before acquiring it.
+	private static final ConcurrentMap<Path, Object> MONITORS = new ConcurrentHashMap<>();
+
+	// Ensure non instantiation.
+	private SharedInitializer() {
+	}
+
+	/// Run given initialization items, skipping items already executed on the target database.
+	///
+	/// @param factory The connection factory.
+	/// @param initScripts The SQL initialization scripts.
+	/// @param changeLogs The liquibase changelogs.
+	static void initialize(JdbcConnectionFactory factory, List<SqlScript> initScripts, List<LiquibaseChangeLog> changeLogs) {
+		if (initScripts.isEmpty() && changeLogs.isEmpty()) {
+			return;
+		}
+
+		Path lockFile = lockFile(factory);
+		synchronized (MONITORS.computeIfAbsent(lockFile, path -> new Object())) {
+			try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+				log.debug("Acquiring initialization lock: {}", lockFile);
+				try (FileLock ignored = channel.lock()) {
+					log.debug("Initialization lock acquired: {}", lockFile);
+					doInitialize(factory, initScripts, changeLogs);
+				}
+			}
+			catch (IOException ex) {
+				log.error(ex.getMessage(), ex);
+				throw new DbUnitException(ex);
+			}
+		}
+	}
+
+	private static void doInitialize(JdbcConnectionFactory factory, List<SqlScript> initScripts, List<LiquibaseChangeLog> changeLogs) {
+		SqlScriptExecutor sqlScriptExecutor = new SqlScriptExecutor(factory);
+		for (SqlScript script : initScripts) {
+			String id = "sql:" + sha256(script);
+			runOnce(factory, id, () -> sqlScriptExecutor.execute(script));
+		}
+
+		// Liquibase records executed changesets in its own tables, so new changesets are applied and others are skipped.
+		LiquibaseChangeLogExecutor liquibaseExecutor = new LiquibaseChangeLogExecutor(factory);
+		for (LiquibaseChangeLog changeLog : changeLogs) {
+			liquibaseExecutor.execute(changeLog);
+		}
+	}
+
+	private static void runOnce(JdbcConnectionFactory factory, String id, Runnable item) {
+		if (isMarked(factory, id)) {
+			log.debug("Initialization item already executed, skipping: {}", id);
+			return;
+		}
+
+		item.run();
+		mark(factory, id);
+	}
+
+	private static boolean isMarked(JdbcConnectionFactory factory, String id) {
+		try (Connection connection = factory.getConnection()) {
+			if (!markerTableExists(connection)) {
+				return false;
+			}
+
+			try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM " + MARKER_TABLE + " WHERE id = ?")) {
+				statement.setString(1, id);
+				try (ResultSet rs = statement.executeQuery()) {
+					return rs.next();
+				}
+			}
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new JdbcException("Cannot read initialization markers", ex);
+		}
+	}
+
+	private static void mark(JdbcConnectionFactory factory, String id) {
+		try (Connection connection = factory.getConnection()) {
+			if (!markerTableExists(connection)) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("CREATE TABLE " + MARKER_TABLE + " (id VARCHAR(100) PRIMARY KEY)");
+				}
+			}
+
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + MARKER_TABLE + " (id) VALUES (?)")) {
+				statement.setString(1, id);
+				statement.executeUpdate();
+			}
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new JdbcException("Cannot write initialization marker", ex);
+		}
+	}
+
+	private static boolean markerTableExists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		String tableName = toStoredIdentifier(metaData, MARKER_TABLE);
+		try (ResultSet rs = metaData.getTables(connection.getCatalog(), connection.getSchema(), tableName, null)) {
+			return rs.next();
+		}
+	}
+
+	/// Get the lock file of the database targeted by given connection factory.
+	///
+	/// @param factory The connection factory.
+	/// @return The lock file.
+	private static Path lockFile(JdbcConnectionFactory factory) {
+		try (Connection connection = factory.getConnection()) {
+			DatabaseMetaData metaData = connection.getMetaData();
+			String target = metaData.getURL() + ":" + metaData.getUserName();
+			return Paths.get(System.getProperty("java.io.tmpdir"), "dbunit-init-" + sha256(target) + ".lock");
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new JdbcException("Cannot read database metadata", ex);
+		}
+	}
+
+	/// Compute the SHA-256 hash of the queries of given script, as an hexadecimal string.
+	///
+	/// Streamed scripts are hashed while they are parsed, so that queries are not kept in memory: the hash of a
+	/// script does not depend on whether it is streamed or not.
+	///
+	/// @param script The script.
+	/// @return The hash.
+	private static String sha256(SqlScript script) {
+		if (!script.isStreamed()) {
+			return sha256(String.join("\n", script.getQueries()));
+		}
+
+		MessageDigest digest = sha256();
+		try (SqlStatementIterator queries = iterateScript(script.getPath(), script.getConfiguration())) {
+			boolean first = true;
+			while (queries.hasNext()) {
+				if (!first) {
+					digest.update((byte) '\n');
+				}
+
+				digest.update(queries.next().getBytes(StandardCharsets.UTF_8));
+				first = false;
+			}
+		}
+
+		return hex(digest.digest());
+	}
+
+	/// Compute the SHA-256 hash of given input, as an hexadecimal string.
+	///
+	/// @param input The input.
+	/// @return The hash.
+	static String sha256(String input) {
+		return hex(sha256().digest(input.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Should not happen, SHA-256 is available on every JVM.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static String hex(byte[] digest) {
+		StringBuilder sb = new StringBuilder(digest.length * 2);
+		for (byte b : digest) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+}
@@ -25,24 +25,68 @@
 package com.github.mjeanroy.dbunit.core.runner;
 
 import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.sql.SqlScriptParserConfiguration;
 
 import java.util.List;
 import java.util.Objects;
 
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.checkArgument;
 import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 
-/// An SQL Script, containing a list of queries.
+/// An SQL Script: either a list of queries, parsed when the script is read, or the path of a script
+/// streamed (and executed in chunks) when the script is executed.
 final class SqlScript {
 
-	/// List of queries in the SQL Script.
+	/// List of queries in the SQL Script, `null` if the script is streamed.
 	private final List<String> queries;
 
+	/// The path of the streamed script, `null` if the script has been parsed.
+	private final String path;
+
+	/// The parser configuration of the streamed script, `null` if the script has been parsed.
+	private final SqlScriptParserConfiguration configuration;
+
+	/// The maximum number of queries per batch, `0` to execute all queries in a single batch.
+	private final int chunkSize;
+
+	/// Commit after each chunk.
+	private final boolean commit;
+
 	/// Create the SQL Script.
 	///
 	/// @param queries The list of queries.
 	/// @throws NullPointerException If `queries` is `null`.
 	SqlScript(List<String> queries) {
 		this.queries = notNull(queries, "Queries must not be null");
+		this.path = null;
+		this.configuration = null;
+		this.chunkSize = 0;
+		this.commit = false;
+	}
+
+	/// Create the SQL Script, streamed when executed: queries are parsed and executed in successive batches of
+	/// (at most) `chunkSize` queries, so that memory use does not depend on the size of the script.
+	///
+	/// @param path The path of the script.
+	/// @param configuration The parser configuration.
+	/// @param chunkSize The maximum number of queries per batch.
+	/// @param commit Commit after each chunk.
+	/// @throws NullPointerException If `path` or `configuration` is `null`.
+	/// @throws IllegalArgumentException If `chunkSize` is not strictly positive.
+	SqlScript(String path, SqlScriptParserConfiguration configuration, int chunkSize, boolean commit) {
+		this.queries = null;
+		this.path = notNull(path, "Path must not be null");
+		this.configuration = notNull(configuration, "SQL Parser configuration must not be null");
+		checkArgument(chunkSize > 0, "Chunk size must be strictly positive");
+		this.chunkSize = chunkSize;
+		this.commit = commit;
+	}
+
+	/// Check if the script is streamed when executed.
+	///
+	/// @return `true` if the script is streamed, `false` if it has been parsed.
+	boolean isStreamed() {
+		return path != null;
 	}
 
 	/// Get [#queries]
@@ -52,6 +96,34 @@ final class SqlScript {
 		return queries;
 	}
 
+	/// Get [#path]
+	///
+	/// @return Returns [#path]
+	String getPath() {
+		return path;
+	}
+
+	/// Get [#configuration]
+	///
+	/// @return Returns [#configuration]
+	SqlScriptParserConfiguration getConfiguration() {
+		return configuration;
+	}
+
+	/// Get [#chunkSize]
+	///
+	/// @return Returns [#chunkSize]
+	int getChunkSize() {
+		return chunkSize;
+	}
+
+	/// Get [#commit]
+	///
+	/// @return Returns [#commit]
+	boolean isCommit() {
+		return commit;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -60,7 +132,11 @@ final class SqlScript {
 
 		if (o instanceof SqlScript) {
 			SqlScript s = (SqlScript) o;
-			return Objects.equals(queries, s.queries);
+			return Objects.equals(queries, s.queries)
+				&& Objects.equals(path, s.path)
+				&& Objects.equals(configuration, s.configuration)
+				&& chunkSize == s.chunkSize
+				&& commit == s.commit;
 		}
 
 		return false;
@@ -68,13 +144,17 @@ final class SqlScript {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(queries);
+		return Objects.hash(queries, path, configuration, chunkSize, commit);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.create(getClass())
 			.append("queries", queries)
+			.append("path", path)
+			.append("configuration", configuration)
+			.append("chunkSize", chunkSize)
+			.append("commit", commit)
 			.build();
 	}
 }
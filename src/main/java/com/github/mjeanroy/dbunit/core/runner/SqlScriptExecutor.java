@@ -24,16 +24,22 @@
 
 package com.github.mjeanroy.dbunit.core.runner;
 
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvent;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEventType;
+import com.github.mjeanroy.dbunit.commons.jfr.JfrEvents;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.core.sql.SqlStatementIterator;
 import com.github.mjeanroy.dbunit.exception.DbUnitException;
 import com.github.mjeanroy.dbunit.loggers.Logger;
 import com.github.mjeanroy.dbunit.loggers.Loggers;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.executeQueries;
 import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static com.github.mjeanroy.dbunit.core.sql.SqlScriptParser.iterateScript;
 
 /// Function to execute SQL scripts against SQL connection.
 ///
@@ -56,8 +62,37 @@ class SqlScriptExecutor {
 	}
 
 	void execute(SqlScript script) {
+		if (script.isStreamed()) {
+			executeStreamed(script);
+			return;
+		}
+
+		List<String> queries = script.getQueries();
+		JfrEvent event = JfrEvents.begin(JfrEventType.INIT_SCRIPT).set("statements", queries.size());
+		if (event.isEnabled() && !queries.isEmpty()) {
+			event.set("firstStatement", queries.get(0));
+		}
+
 		try (Connection connection = factory.getConnection()) {
-			executeQueries(connection, script.getQueries());
+			executeQueries(connection, queries);
+			event.commit();
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new DbUnitException(ex);
+		}
+	}
+
+	/// Parse queries of given script while executing them, in successive batches.
+	///
+	/// @param script The streamed script.
+	private void executeStreamed(SqlScript script) {
+		// Queries are not known before execution, so only the number of executed queries is recorded.
+		JfrEvent event = JfrEvents.begin(JfrEventType.INIT_SCRIPT);
+
+		try (Connection connection = factory.getConnection(); SqlStatementIterator queries = iterateScript(script.getPath(), script.getConfiguration())) {
+			long statements = executeQueries(connection, queries, script.getChunkSize(), script.isCommit());
+			event.set("statements", (int) Math.min(statements, Integer.MAX_VALUE)).commit();
 		}
 		catch (SQLException ex) {
 			log.error(ex.getMessage(), ex);
@@ -33,7 +33,9 @@ import org.dbunit.operation.DatabaseOperation;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
 
 /// Apply tear down operations to the test database.
@@ -44,7 +46,7 @@ class TearDownDbOperation implements DbOperation {
 	private static final Logger log = Loggers.getLogger(TearDownDbOperation.class);
 
 	/// Singleton Instance.
-	private static final TearDownDbOperation INSTANCE = new TearDownDbOperation();
+	private static final TearDownDbOperation INSTANCE = new TearDownDbOperation(null);
 
 	/// Get singleton instance.
 	///
@@ -53,8 +55,21 @@ class TearDownDbOperation implements DbOperation {
 		return INSTANCE;
 	}
 
-	// Ensure non instantiation.
-	private TearDownDbOperation() {
+	/// Get tear down operation where the resolved database operation is decorated before being applied, for
+	/// example to apply `DELETE_ALL` operations with a compiled plan of the dataset.
+	///
+	/// @param decorator The decorator, applied to the resolved database operation.
+	/// @return Instance.
+	static TearDownDbOperation decorate(UnaryOperator<DatabaseOperation> decorator) {
+		return new TearDownDbOperation(notNull(decorator, "Database operation decorator must be defined"));
+	}
+
+	/// The database operation decorator, `null` if resolved database operation is applied as is.
+	private final UnaryOperator<DatabaseOperation> decorator;
+
+	// Use static factories.
+	private TearDownDbOperation(UnaryOperator<DatabaseOperation> decorator) {
+		this.decorator = decorator;
 	}
 
 	@Override
@@ -70,6 +85,10 @@ class TearDownDbOperation implements DbOperation {
 			dbTester.getTearDownOperation() :
 			annotation.value().getOperation();
 
+		if (decorator != null) {
+			databaseOperation = decorator.apply(databaseOperation);
+		}
+
 		log.debug("-> Merging database operation with FK manager: {} with {}", databaseOperation, fkManagers);
 		DatabaseOperation tearDownDatabaseOperation = JdbcForeignKeyManagerDatabaseOperation.merge(
 			databaseOperation,
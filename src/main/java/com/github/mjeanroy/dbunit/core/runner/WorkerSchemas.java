@@ -0,0 +1,289 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcSchemas;
+import com.github.mjeanroy.dbunit.exception.JdbcException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.toStoredIdentifier;
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Schema-per-worker isolation: each worker (i.e. each test thread of each forked JVM) gets its own database schema.
+///
+/// A schema is a worker schema if its name contains the `${dbunit.worker}` variable, for example `dbunit_${dbunit.worker}`.
+/// The worker id is computed as `<fork>_<thread>`, where:
+/// - `fork` is read from the `dbunit.fork` system property, then from the `surefire.forkNumber` and
+///   `org.gradle.test.worker` system properties, and defaults to the process id of the current JVM (so that
+///   concurrent JVMs never share, and drop, the same schema).
+/// - `thread` is a number allocated to each thread the first time it needs a worker schema: a given thread keeps the
+///   same number for the lifetime of the JVM, but numbers are allocated in order of first use, so the same test thread
+///   may get a different schema from one run to another.
+///
+/// Each worker schema is (re-)created and initialized (with SQL scripts and liquibase changelogs) the first time it is
+/// used by the current JVM, and is then reused by all test classes executed by the same worker.
+final class WorkerSchemas {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(WorkerSchemas.class);
+
+	/// The worker variable.
+	static final String WORKER_VARIABLE = "dbunit.worker";
+
+	/// The worker variable, as it appears in a schema name.
+	private static final String WORKER_PLACEHOLDER = "${" + WORKER_VARIABLE + "}";
+
+	/// System properties identifying the forked JVM, by order of precedence.
+	private static final String[] FORK_PROPERTIES = {
+		"dbunit.fork",
+		"surefire.forkNumber",
+		"org.gradle.test.worker",
+	};
+
+	/// The process id of the current JVM, used as the fork id if no fork system property is set.
+	private static final String PROCESS_ID = processId();
+
+	/// Thread number generator.
+	private static final AtomicInteger THREADS = new AtomicInteger(0);
+
+	/// The number of the current thread.
+	private static final ThreadLocal<Integer> THREAD = ThreadLocal.withInitial(THREADS::incrementAndGet);
+
+	/// Initialized schemas, indexed by connection factory, then by schema name.
+	private static final Map<JdbcConnectionFactory, Map<String, WorkerSchema>> SCHEMAS = Collections.synchronizedMap(
+		new WeakHashMap<>()
+	);
+
+	// Ensure non instantiation.
+	private WorkerSchemas() {
+	}
+
+	/// Check if given schema is a worker schema, i.e. contains the `${dbunit.worker}` variable.
+	///
+	/// @param schema The schema, may be `null`.
+	/// @return `true` if given schema is a worker schema, `false` otherwise.
+	static boolean isWorkerSchema(String schema) {
+		return schema != null && schema.contains(WORKER_PLACEHOLDER);
+	}
+
+	/// Get the worker id of the current thread.
+	///
+	/// @return The worker id.
+	static String workerId() {
+		return forkId() + "_" + THREAD.get();
+	}
+
+	/// Resolve given worker schema for the current thread.
+	///
+	/// @param schema The schema.
+	/// @return The schema name of the current worker.
+	static String resolve(String schema) {
+		return notNull(schema, "Schema must not be null").replace(WORKER_PLACEHOLDER, workerId());
+	}
+
+	/// Create and initialize given schema, if it has not already been done by the current JVM.
+	///
+	/// Initialization items (SQL scripts and liquibase changelogs) already applied to the schema are not applied
+	/// again, so that the schema can be reused by another test class.
+	///
+	/// @param factory The connection factory.
+	/// @param schema The (resolved) schema name.
+	/// @param initScripts The SQL initialization scripts.
+	/// @param changeLogs The liquibase changelogs.
+	/// @return The schema name, as stored by the database (for example, upper-cased).
+	static String initialize(JdbcConnectionFactory factory, String schema, List<SqlScript> initScripts, List<LiquibaseChangeLog> changeLogs) {
+		Map<String, WorkerSchema> schemas;
+		synchronized (SCHEMAS) {
+			schemas = SCHEMAS.computeIfAbsent(factory, f -> new ConcurrentHashMap<>());
+		}
+
+		WorkerSchema workerSchema = schemas.computeIfAbsent(schema, s -> createSchema(factory, s));
+		Set<Object> initialized = workerSchema.initialized;
+
+		// A schema is dedicated to a single worker, so no other thread initializes it concurrently.
+		JdbcConnectionFactory schemaFactory = connectionFactory(factory, workerSchema.name);
+
+		// Items are flagged once applied, so that a failed item is applied again by the next test class.
+		SqlScriptExecutor sqlScriptExecutor = new SqlScriptExecutor(schemaFactory);
+		for (SqlScript script : initScripts) {
+			if (!initialized.contains(script)) {
+				sqlScriptExecutor.execute(script);
+				initialized.add(script);
+			}
+		}
+
+		LiquibaseChangeLogExecutor liquibaseExecutor = new LiquibaseChangeLogExecutor(schemaFactory);
+		for (LiquibaseChangeLog changeLog : changeLogs) {
+			if (!initialized.contains(changeLog)) {
+				liquibaseExecutor.execute(changeLog);
+				initialized.add(changeLog);
+			}
+		}
+
+		return workerSchema.name;
+	}
+
+	/// Get a connection factory returning connections using given schema as default schema.
+	///
+	/// @param factory The connection factory.
+	/// @param schema The schema.
+	/// @return The connection factory.
+	static JdbcConnectionFactory connectionFactory(JdbcConnectionFactory factory, String schema) {
+		return () -> useSchema(factory.getConnection(), schema);
+	}
+
+	/// Use given schema as the default schema of given connection: the returned connection must be closed
+	/// (instead of given connection) so that the previous schema of the connection is restored (see [JdbcSchemas#useSchema(Connection, String)]).
+	///
+	/// If the schema cannot be changed, given connection is closed.
+	///
+	/// @param connection The connection.
+	/// @param schema The schema.
+	/// @return The connection using given schema.
+	static Connection useSchema(Connection connection, String schema) {
+		try {
+			return JdbcSchemas.useSchema(connection, schema);
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			closeQuietly(connection);
+			throw new JdbcException("Cannot use schema " + schema, ex);
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException ex) {
+			// No Worries.
+			log.warn(ex.getMessage());
+		}
+	}
+
+	private static WorkerSchema createSchema(JdbcConnectionFactory factory, String schema) {
+		log.info("Creating worker schema: {}", schema);
+
+		try (Connection connection = factory.getConnection(); Statement statement = connection.createStatement()) {
+			DatabaseMetaData metaData = connection.getMetaData();
+			if (exists(metaData, schema)) {
+				log.debug("Dropping existing worker schema: {}", schema);
+				dropSchema(statement, schema);
+			}
+
+			statement.execute("CREATE SCHEMA " + schema);
+			return new WorkerSchema(toStoredIdentifier(metaData, schema));
+		}
+		catch (SQLException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new JdbcException("Cannot create worker schema " + schema, ex);
+		}
+	}
+
+	private static void dropSchema(Statement statement, String schema) throws SQLException {
+		try {
+			statement.execute("DROP SCHEMA " + schema + " CASCADE");
+		}
+		catch (SQLException ex) {
+			// Some databases (such as MySQL) does not support the CASCADE option.
+			log.debug("Cannot drop schema with CASCADE option, retrying without: {}", ex.getMessage());
+			statement.execute("DROP SCHEMA " + schema);
+		}
+	}
+
+	private static boolean exists(DatabaseMetaData metaData, String schema) throws SQLException {
+		try (ResultSet rs = metaData.getSchemas()) {
+			if (contains(rs, "TABLE_SCHEM", schema)) {
+				return true;
+			}
+		}
+
+		// Schemas are catalogs on some databases (such as MySQL).
+		try (ResultSet rs = metaData.getCatalogs()) {
+			return contains(rs, "TABLE_CAT", schema);
+		}
+	}
+
+	private static boolean contains(ResultSet rs, String column, String schema) throws SQLException {
+		while (rs.next()) {
+			if (schema.equalsIgnoreCase(rs.getString(column))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	static String forkId() {
+		for (String property : FORK_PROPERTIES) {
+			String value = System.getProperty(property);
+			if (value != null && !value.trim().isEmpty()) {
+				return value.trim();
+			}
+		}
+
+		return PROCESS_ID;
+	}
+
+	/// Get the process id of the current JVM, read from the runtime name (formatted as `<pid>@<hostname>` on
+	/// most JVM implementations).
+	///
+	/// @return The process id, sanitized so that it can be used in a schema name.
+	static String processId() {
+		String name = ManagementFactory.getRuntimeMXBean().getName();
+		int index = name.indexOf('@');
+		String pid = index > 0 ? name.substring(0, index) : name;
+		return pid.replaceAll("\\W", "_");
+	}
+
+	/// A worker schema, created by the current JVM.
+	private static final class WorkerSchema {
+		/// The schema name, as stored by the database.
+		private final String name;
+
+		/// The initialization items (SQL scripts and liquibase changelogs) already applied to the schema.
+		private final Set<Object> initialized;
+
+		private WorkerSchema(String name) {
+			this.name = name;
+			this.initialized = ConcurrentHashMap.newKeySet();
+		}
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.cache.Cache;
+import com.github.mjeanroy.dbunit.cache.CacheFactory;
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitCache;
+import com.github.mjeanroy.dbunit.core.resources.Resource;
+import com.github.mjeanroy.dbunit.exception.SqlParserException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Cache of parsed SQL scripts, keyed by resource path and parser configuration: a script shared by several test
+/// classes (for example, with [com.github.mjeanroy.dbunit.core.annotations.DbUnitInit]) is parsed only once, as long
+/// as its content does not change.
+///
+/// The hash of the content is stored with the parsed queries: the content of the script is still read (to compute
+/// its hash) on each lookup, but it is not kept in memory, and a script is parsed again (replacing the previous
+/// entry) when its content changed.
+///
+/// The cache is bounded (see [#MAXIMUM_SIZE_PROPERTY]): the oldest scripts are evicted first. Scripts larger than
+/// [#MAXIMUM_SCRIPT_SIZE_PROPERTY] are parsed on each call and never cached: large scripts should rather be streamed
+/// (see [SqlScriptParser#iterateScript(Resource, SqlScriptParserConfiguration)]).
+final class SqlScriptCache {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(SqlScriptCache.class);
+
+	/// System property used to define the maximum number of cached scripts.
+	static final String MAXIMUM_SIZE_PROPERTY = "dbunit.sql.cacheSize";
+
+	/// The default maximum number of cached scripts.
+	private static final long DEFAULT_MAXIMUM_SIZE = 64;
+
+	/// System property used to define the maximum size, in bytes, of a cached script.
+	static final String MAXIMUM_SCRIPT_SIZE_PROPERTY = "dbunit.sql.cacheMaxScriptSize";
+
+	/// The default maximum size, in bytes, of a cached script (1 MB).
+	private static final long DEFAULT_MAXIMUM_SCRIPT_SIZE = 1024 * 1024;
+
+	/// The shared cache, bounded with [#MAXIMUM_SIZE_PROPERTY] and [#MAXIMUM_SCRIPT_SIZE_PROPERTY] system properties.
+	static final SqlScriptCache INSTANCE = new SqlScriptCache(maximumSize(), maximumScriptSize());
+
+	/// Read the maximum number of cached scripts from [#MAXIMUM_SIZE_PROPERTY] system property.
+	///
+	/// @return The maximum number of cached scripts, the default one if the property is not set or is not a number.
+	static long maximumSize() {
+		return longProperty(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/// Read the maximum size of a cached script from [#MAXIMUM_SCRIPT_SIZE_PROPERTY] system property.
+	///
+	/// @return The maximum size of a cached script, the default one if the property is not set or is not a number.
+	static long maximumScriptSize() {
+		return longProperty(MAXIMUM_SCRIPT_SIZE_PROPERTY, DEFAULT_MAXIMUM_SCRIPT_SIZE);
+	}
+
+	private static long longProperty(String name, long defaultValue) {
+		String value = System.getProperty(name);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			log.warn("Invalid value of system property {}: {}, using default value: {}", name, value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	/// Parsed scripts.
+	private final Cache<Key, Entry> scripts;
+
+	/// The maximum size, in bytes, of a cached script.
+	private final long maximumScriptSize;
+
+	/// Create cache.
+	///
+	/// @param maximumSize The maximum number of cached scripts.
+	/// @param maximumScriptSize The maximum size, in bytes, of a cached script.
+	SqlScriptCache(long maximumSize, long maximumScriptSize) {
+		this.scripts = CacheFactory.newCache(SqlScriptCache::missing, maximumSize);
+		this.maximumScriptSize = maximumScriptSize;
+	}
+
+	/// Get the queries of given SQL script, parse it if needed.
+	///
+	/// @param sqlFile SQL File.
+	/// @param configuration Parsing configuration.
+	/// @return List of query parsed in given file.
+	/// @throws SqlParserException If an error occurred during parsing.
+	List<String> parse(Resource sqlFile, SqlScriptParserConfiguration configuration) {
+		notNull(sqlFile, "SQL File must not be null");
+		notNull(configuration, "SQL Parser configuration must not be null");
+
+		Key key = new Key(sqlFile, configuration);
+		Hash hash = hash(sqlFile);
+		Entry entry = scripts.getIfPresent(key);
+		DbUnitCache.SQL_SCRIPT.lookup(entry != null && entry.hash.equals(hash.value));
+
+		if (hash.size > maximumScriptSize) {
+			log.debug("SQL script is too large to be cached ({} bytes), parsing it: {}", hash.size, key);
+			if (entry != null) {
+				scripts.invalidate(key);
+			}
+
+			return load(key, hash.value).queries;
+		}
+
+		if (entry == null) {
+			entry = scripts.load(key, k -> load(k, hash.value));
+		}
+
+		if (!entry.hash.equals(hash.value)) {
+			log.debug("SQL script changed, parsing it again: {}", key);
+			scripts.invalidate(key);
+			entry = scripts.load(key, k -> load(k, hash.value));
+		}
+
+		return entry.queries;
+	}
+
+	/// Parse the script of given key.
+	///
+	/// The hash is computed by the caller before parsing: if the content changes while parsing, the next lookup
+	/// will parse it again.
+	///
+	/// @param key The cache key.
+	/// @param hash The hash of the script content.
+	/// @return The parsed script, with the hash of its content.
+	/// @throws SqlParserException If the script cannot be read.
+	private static Entry load(Key key, String hash) {
+		log.debug("Parsing SQL script: {}", key);
+
+		try (InputStream stream = key.sqlFile.openStream()) {
+			return new Entry(hash, SqlScriptParser.parseScript(stream, key.configuration));
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new SqlParserException(ex);
+		}
+	}
+
+	/// Scripts are always loaded with an explicit loader (see [#load(Key, String)]), since the hash of their
+	/// content must be computed first.
+	///
+	/// @param key The cache key.
+	/// @return Nothing, always fail.
+	private static Entry missing(Key key) {
+		throw new UnsupportedOperationException("SQL scripts must be loaded with their hash: " + key);
+	}
+
+	/// Get the number of cached scripts.
+	///
+	/// @return The number of cached scripts.
+	long size() {
+		return scripts.size();
+	}
+
+	/// Remove all cached scripts.
+	void clear() {
+		scripts.clear();
+	}
+
+	/// Compute the SHA-256 hash and the size of given resource, reading it through a small buffer.
+	///
+	/// @param sqlFile SQL File.
+	/// @return Hexadecimal hash, with the size of the content.
+	/// @throws SqlParserException If the file cannot be read.
+	private static Hash hash(Resource sqlFile) {
+		try (InputStream stream = sqlFile.openStream()) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[8192];
+			long size = 0;
+			int n;
+			while ((n = stream.read(buffer)) >= 0) {
+				digest.update(buffer, 0, n);
+				size += n;
+			}
+
+			byte[] hash = digest.digest();
+			StringBuilder sb = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+
+			return new Hash(sb.toString(), size);
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new SqlParserException(ex);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Should not happen, SHA-256 is available on every JVM.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/// Cache key: the resource is used to parse the script, but only its path is used to identify it.
+	private static final class Key {
+
+		/// The resource.
+		private final Resource sqlFile;
+
+		/// The resource path.
+		private final String path;
+
+		/// The parser configuration.
+		private final SqlScriptParserConfiguration configuration;
+
+		private Key(Resource sqlFile, SqlScriptParserConfiguration configuration) {
+			this.sqlFile = sqlFile;
+			this.path = sqlFile.getPath();
+			this.configuration = configuration;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof Key) {
+				Key k = (Key) o;
+				return Objects.equals(path, k.path)
+					&& Objects.equals(configuration, k.configuration);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(path, configuration);
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.create(getClass())
+				.append("path", path)
+				.append("configuration", configuration)
+				.build();
+		}
+	}
+
+	/// Hash of a script content.
+	private static final class Hash {
+
+		/// The hexadecimal hash.
+		private final String value;
+
+		/// The size of the content, in bytes.
+		private final long size;
+
+		private Hash(String value, long size) {
+			this.value = value;
+			this.size = size;
+		}
+	}
+
+	/// Parsed script.
+	private static final class Entry {
+
+		/// The hash of the parsed content.
+		private final String hash;
+
+		/// The parsed queries.
+		private final List<String> queries;
+
+		private Entry(String hash, List<String> queries) {
+			this.hash = hash;
+			this.queries = queries;
+		}
+	}
+}
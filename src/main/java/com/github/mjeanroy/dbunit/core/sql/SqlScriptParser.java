@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.dbunit.core.sql;
 
+import com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils;
 import com.github.mjeanroy.dbunit.core.resources.Resource;
 import com.github.mjeanroy.dbunit.core.resources.ResourceLoader;
 import com.github.mjeanroy.dbunit.exception.SqlParserException;
@@ -32,13 +33,15 @@ import com.github.mjeanroy.dbunit.loggers.Loggers;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
-import static com.github.mjeanroy.dbunit.commons.io.Io.readLines;
 import static com.github.mjeanroy.dbunit.commons.jdbc.JdbcUtils.executeQueries;
 import static com.github.mjeanroy.dbunit.commons.lang.Objects.firstNonNull;
+import static java.util.Collections.unmodifiableList;
 
 /// Run SQL scripts against SQL [java.sql.Connection].
 public final class SqlScriptParser {
@@ -56,20 +59,20 @@ public final class SqlScriptParser {
 	/// @return List of query parsed in given input.
 	/// @throws SqlParserException If an error occurred during parsing.
 	public static List<String> parseScript(InputStream stream, SqlScriptParserConfiguration configuration) {
-		SqlScriptParserContext ctx = new SqlScriptParserContext();
+		List<String> queries = new ArrayList<>();
 
-		try {
-			readLines(stream, new SqlLineVisitor(ctx, configuration));
+		try (SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(new InputStreamReader(stream), configuration)) {
+			String query;
+			while ((query = tokenizer.next()) != null) {
+				queries.add(query);
+			}
 		}
 		catch (IOException ex) {
 			log.error(ex.getMessage(), ex);
 			throw new SqlParserException(ex);
 		}
 
-		// Flush remaining query.
-		ctx.flush();
-
-		return ctx.getQueries();
+		return unmodifiableList(queries);
 	}
 
 	/// Parse SQL scripts and return list of SQL query.
@@ -85,13 +88,43 @@ public final class SqlScriptParser {
 
 	/// Parse SQL scripts file and return list of SQL query.
 	///
+	/// Parsed queries are cached by file path, content hash and configuration (see `dbunit.sql.cacheSize` system
+	/// property to bound the number of cached scripts, default is 64): the same script is parsed only once, as long
+	/// as its content does not change. Scripts larger than `dbunit.sql.cacheMaxScriptSize` bytes (default is 1 MB)
+	/// are not cached: use [#iterateScript(Resource, SqlScriptParserConfiguration)] to stream them instead.
+	///
 	/// @param sqlFile SQL File.
 	/// @param configuration Parsing configuration.
 	/// @return List of query parsed in given input.
 	/// @throws SqlParserException If an error occurred during parsing.
 	public static List<String> parseScript(Resource sqlFile, SqlScriptParserConfiguration configuration) {
-		try (InputStream stream = sqlFile.openStream()) {
-			return parseScript(stream, configuration);
+		return SqlScriptCache.INSTANCE.parse(sqlFile, configuration);
+	}
+
+	/// Parse SQL scripts lazily: queries are parsed while the returned iterator is consumed, so
+	/// that memory use does not depend on the size of the script.
+	///
+	/// The iterator should be closed once used (the stream is also closed once the iterator is exhausted).
+	///
+	/// @param stream Stream input.
+	/// @param configuration Parsing configuration.
+	/// @return Iterator over the queries of the given input.
+	public static SqlStatementIterator iterateScript(InputStream stream, SqlScriptParserConfiguration configuration) {
+		return new SqlStatementIterator(stream, configuration);
+	}
+
+	/// Parse SQL scripts file lazily: queries are parsed while the returned iterator is consumed, so
+	/// that memory use does not depend on the size of the script.
+	///
+	/// The iterator should be closed once used (the file is also closed once the iterator is exhausted).
+	///
+	/// @param sqlFile SQL File.
+	/// @param configuration Parsing configuration.
+	/// @return Iterator over the queries of the given file.
+	/// @throws SqlParserException If the file cannot be opened.
+	public static SqlStatementIterator iterateScript(Resource sqlFile, SqlScriptParserConfiguration configuration) {
+		try {
+			return iterateScript(sqlFile.openStream(), configuration);
 		}
 		catch (IOException ex) {
 			log.error(ex.getMessage(), ex);
@@ -99,6 +132,20 @@ public final class SqlScriptParser {
 		}
 	}
 
+	/// Parse SQL scripts file lazily: queries are parsed while the returned iterator is consumed, so
+	/// that memory use does not depend on the size of the script.
+	///
+	/// The iterator should be closed once used (the file is also closed once the iterator is exhausted).
+	///
+	/// @param path SQL file path.
+	/// @param configuration Parsing configuration.
+	/// @return Iterator over the queries of the given file.
+	/// @throws SqlParserException If the file cannot be opened.
+	public static SqlStatementIterator iterateScript(String path, SqlScriptParserConfiguration configuration) {
+		ResourceLoader loader = firstNonNull(ResourceLoader.find(path), ResourceLoader.CLASSPATH);
+		return iterateScript(loader.load(path), configuration);
+	}
+
 	/// Parse SQL scripts and execute queries one by one (if a query failed, next queries are not executed).
 	///
 	/// @param connection SQL Connection.
@@ -131,4 +178,52 @@ public final class SqlScriptParser {
 		List<String> queries = parseScript(sqlFilePath, configuration);
 		executeQueries(connection, queries);
 	}
+
+	/// Parse SQL scripts and execute queries in successive batches of (at most) `chunkSize` queries, while
+	/// the script is being parsed: memory use does not depend on the size of the script.
+	///
+	/// @param connection SQL Connection.
+	/// @param stream Stream of SQL Script.
+	/// @param configuration SQL parser configuration.
+	/// @param chunkSize Maximum number of queries per batch.
+	/// @param commit Commit after each chunk.
+	/// @return The number of executed queries.
+	/// @see JdbcUtils#executeQueries(Connection, java.util.Iterator, int, boolean)
+	public static long executeScript(Connection connection, InputStream stream, SqlScriptParserConfiguration configuration, int chunkSize, boolean commit) {
+		try (SqlStatementIterator queries = iterateScript(stream, configuration)) {
+			return executeQueries(connection, queries, chunkSize, commit);
+		}
+	}
+
+	/// Parse SQL scripts file and execute queries in successive batches of (at most) `chunkSize` queries, while
+	/// the script is being parsed: memory use does not depend on the size of the script.
+	///
+	/// @param connection SQL Connection.
+	/// @param sqlFile SQL Script.
+	/// @param configuration SQL parser configuration.
+	/// @param chunkSize Maximum number of queries per batch.
+	/// @param commit Commit after each chunk.
+	/// @return The number of executed queries.
+	/// @see JdbcUtils#executeQueries(Connection, java.util.Iterator, int, boolean)
+	public static long executeScript(Connection connection, Resource sqlFile, SqlScriptParserConfiguration configuration, int chunkSize, boolean commit) {
+		try (SqlStatementIterator queries = iterateScript(sqlFile, configuration)) {
+			return executeQueries(connection, queries, chunkSize, commit);
+		}
+	}
+
+	/// Parse SQL scripts file and execute queries in successive batches of (at most) `chunkSize` queries, while
+	/// the script is being parsed: memory use does not depend on the size of the script.
+	///
+	/// @param connection SQL Connection.
+	/// @param sqlFilePath SQL scripts path.
+	/// @param configuration SQL parser configuration.
+	/// @param chunkSize Maximum number of queries per batch.
+	/// @param commit Commit after each chunk.
+	/// @return The number of executed queries.
+	/// @see JdbcUtils#executeQueries(Connection, java.util.Iterator, int, boolean)
+	public static long executeScript(Connection connection, String sqlFilePath, SqlScriptParserConfiguration configuration, int chunkSize, boolean commit) {
+		try (SqlStatementIterator queries = iterateScript(sqlFilePath, configuration)) {
+			return executeQueries(connection, queries, chunkSize, commit);
+		}
+	}
 }
@@ -0,0 +1,526 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.exception.SqlParserException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Split an SQL script into queries, reading the script through a (reusable) char buffer.
+///
+/// The script is split using the following rules:
+/// - A query ends with the delimiter, that is kept at the end of the query, or with the end of the script.
+/// - Each line terminator (`\n`, `\r` or `\r\n`) is replaced with a space.
+/// - Line comments are skipped until the end of the line, block comments are skipped until the end marker (possibly
+///   on another line). Comment markers never match across lines.
+/// - Varchar values start with a single or a double quote, and end with the same quote: the delimiter and comment
+///   markers are not interpreted inside, and a backslash escapes the next character.
+/// - Queries are trimmed, and blank queries are never returned.
+/// - A script ending inside a varchar value or a block comment is invalid.
+///
+/// Lines are never materialized: line terminators are detected in the buffer, runs of ordinary characters are found with
+/// a lookup table and copied in bulk into the current query, and comment markers are only compared when the first
+/// character matches.
+final class SqlScriptTokenizer implements Closeable {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(SqlScriptTokenizer.class);
+
+	/// Default buffer size.
+	static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/// Minimum buffer size: the buffer must always be able to hold a comment marker.
+	private static final int MIN_BUFFER_SIZE = 16;
+
+	/// Size of ASCII lookup tables: other characters are checked one by one.
+	private static final int TABLE_SIZE = 128;
+
+	/// The script reader.
+	private final Reader reader;
+
+	/// The SQL delimiter.
+	private final char delimiter;
+
+	/// The line comment marker, `null` if it can never match.
+	private final char[] lineComment;
+
+	/// The start block comment marker, `null` if it can never match.
+	private final char[] startBlockComment;
+
+	/// The end block comment marker, `null` if it can never match.
+	private final char[] endBlockComment;
+
+	/// Characters that stop the bulk scan in [State#DEFAULT] state.
+	private final CharTable defaultTable;
+
+	/// Characters that stop the bulk scan in [State#VARCHAR] state.
+	private final CharTable varcharTable;
+
+	/// Characters that stop the bulk scan in [State#BLOCK_COMMENT] state.
+	private final CharTable blockCommentTable;
+
+	/// Characters that stop the bulk scan in [State#LINE_COMMENT] state.
+	private final CharTable lineCommentTable;
+
+	/// The char buffer.
+	private final char[] buf;
+
+	/// The current query.
+	private final StringBuilder query;
+
+	/// Position of the next character to read in [#buf].
+	private int pos;
+
+	/// Number of valid characters in [#buf].
+	private int limit;
+
+	/// Flag set once the end of the script has been reached.
+	private boolean eof;
+
+	/// Flag set once the last query has been flushed.
+	private boolean done;
+
+	/// Flag set if the current line is not empty.
+	private boolean inLine;
+
+	/// Current state.
+	private State state;
+
+	/// Open quote character, used to detect end of varchar value.
+	private char openQuote;
+
+	/// Create tokenizer.
+	///
+	/// @param reader The script reader.
+	/// @param configuration The parser configuration.
+	SqlScriptTokenizer(Reader reader, SqlScriptParserConfiguration configuration) {
+		this(reader, configuration, DEFAULT_BUFFER_SIZE);
+	}
+
+	/// Create tokenizer.
+	///
+	/// @param reader The script reader.
+	/// @param configuration The parser configuration.
+	/// @param bufferSize The buffer size.
+	SqlScriptTokenizer(Reader reader, SqlScriptParserConfiguration configuration, int bufferSize) {
+		notNull(configuration, "SQL Parser configuration must not be null");
+
+		this.reader = notNull(reader, "SQL Script reader must not be null");
+		this.delimiter = configuration.getDelimiter();
+		this.lineComment = marker(configuration.getLineComment());
+		this.startBlockComment = marker(configuration.getStartBlockComment());
+		this.endBlockComment = marker(configuration.getEndBlockComment());
+
+		this.defaultTable = new CharTable('\'', '"', delimiter, lineComment, startBlockComment);
+		this.varcharTable = new CharTable('\\', '\'', '"', null, null);
+		this.blockCommentTable = new CharTable(null, endBlockComment);
+		this.lineCommentTable = new CharTable(null, null);
+
+		this.buf = new char[Math.max(bufferSize, MIN_BUFFER_SIZE + configuration.getLineComment().length() + configuration.getStartBlockComment().length() + configuration.getEndBlockComment().length())];
+		this.query = new StringBuilder();
+		this.state = State.DEFAULT;
+	}
+
+	/// Read next query.
+	///
+	/// @return The next query, `null` if the end of the script has been reached.
+	/// @throws IOException If reading the script failed.
+	/// @throws SqlParserException If the script ends within a comment or a varchar value.
+	String next() throws IOException {
+		while (!done) {
+			if (pos == limit && !fill()) {
+				if (inLine) {
+					endLine();
+				}
+
+				done = true;
+				return flush();
+			}
+
+			String statement = step();
+			if (statement != null) {
+				return statement;
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		done = true;
+		reader.close();
+	}
+
+	/// Handle next token: either a run of ordinary characters, or a single special character.
+	///
+	/// @return The flushed query, if any.
+	/// @throws IOException If reading the script failed.
+	private String step() throws IOException {
+		switch (state) {
+			case VARCHAR:
+				return varchar();
+			case ESCAPE:
+				return escape();
+			case BLOCK_COMMENT:
+				return blockComment();
+			case LINE_COMMENT:
+				return lineComment();
+			default:
+				return defaultState();
+		}
+	}
+
+	private String defaultState() throws IOException {
+		if (copyRun(defaultTable) || isEndOfLine()) {
+			return null;
+		}
+
+		if (matches(lineComment)) {
+			// This is a line comment: just go to the next line.
+			state = State.LINE_COMMENT;
+			return null;
+		}
+
+		if (matches(startBlockComment)) {
+			// This is a block comment, we need to ignore next characters until we find
+			// close comment (second character of the marker is skipped).
+			state = State.BLOCK_COMMENT;
+			skipMarker();
+			return null;
+		}
+
+		char currentChar = consume();
+		query.append(currentChar);
+
+		if (currentChar == '\'' || currentChar == '"') {
+			openQuote = currentChar;
+			state = State.VARCHAR;
+		}
+		else if (currentChar == delimiter) {
+			return flush();
+		}
+
+		return null;
+	}
+
+	private String varchar() throws IOException {
+		if (copyRun(varcharTable) || isEndOfLine()) {
+			return null;
+		}
+
+		boolean doubleQuote = buf[pos] == '\'' && ensure(2) && buf[pos + 1] == '\'';
+		char character = consume();
+		query.append(character);
+
+		if (character == '\\' || doubleQuote) {
+			state = State.ESCAPE;
+		}
+		else if (character == openQuote) {
+			openQuote = 0;
+			state = State.DEFAULT;
+		}
+
+		return null;
+	}
+
+	private String escape() throws IOException {
+		if (!isEndOfLine()) {
+			query.append(consume());
+			state = State.VARCHAR;
+		}
+
+		return null;
+	}
+
+	private String blockComment() throws IOException {
+		if (skipRun(blockCommentTable) || isEndOfLine()) {
+			return null;
+		}
+
+		if (matches(endBlockComment)) {
+			// Stop comment parsing and skip next character.
+			state = State.DEFAULT;
+			skipMarker();
+		}
+		else {
+			consume();
+		}
+
+		return null;
+	}
+
+	private String lineComment() throws IOException {
+		if (!skipRun(lineCommentTable) && !isEndOfLine()) {
+			consume();
+		}
+
+		return null;
+	}
+
+	/// Copy the run of ordinary characters starting at current position into the current query.
+	///
+	/// @param table The table of special characters.
+	/// @return `true` if a non-empty run has been copied, `false` if current character is a special one.
+	private boolean copyRun(CharTable table) {
+		int end = scan(table);
+		if (end == pos) {
+			return false;
+		}
+
+		query.append(buf, pos, end - pos);
+		pos = end;
+		inLine = true;
+		return true;
+	}
+
+	/// Skip the run of ordinary characters starting at current position.
+	///
+	/// @param table The table of special characters.
+	/// @return `true` if a non-empty run has been skipped, `false` if current character is a special one.
+	private boolean skipRun(CharTable table) {
+		int end = scan(table);
+		if (end == pos) {
+			return false;
+		}
+
+		pos = end;
+		inLine = true;
+		return true;
+	}
+
+	private int scan(CharTable table) {
+		int i = pos;
+		while (i < limit && !table.contains(buf[i])) {
+			i++;
+		}
+
+		return i;
+	}
+
+	/// Handle line terminator at current position, if any: a space is appended to the current query at the end of
+	/// each line.
+	///
+	/// @return `true` if current character was a line terminator, `false` otherwise.
+	/// @throws IOException If reading the script failed.
+	private boolean isEndOfLine() throws IOException {
+		char character = buf[pos];
+		if (character != '\n' && character != '\r') {
+			return false;
+		}
+
+		pos++;
+
+		if (character == '\r' && ensure(1) && buf[pos] == '\n') {
+			pos++;
+		}
+
+		endLine();
+		return true;
+	}
+
+	private void endLine() {
+		query.append(' ');
+		inLine = false;
+
+		if (state == State.LINE_COMMENT) {
+			state = State.DEFAULT;
+		}
+	}
+
+	/// Skip comment marker: only the first two characters are skipped here (the second one only if it belongs to the
+	/// current line).
+	///
+	/// @throws IOException If reading the script failed.
+	private void skipMarker() throws IOException {
+		consume();
+
+		if (ensure(1) && buf[pos] != '\n' && buf[pos] != '\r') {
+			consume();
+		}
+	}
+
+	private char consume() {
+		inLine = true;
+		return buf[pos++];
+	}
+
+	/// Check if given marker starts at current position.
+	///
+	/// @param marker The marker.
+	/// @return `true` if marker starts at current position, `false` otherwise.
+	/// @throws IOException If reading the script failed.
+	private boolean matches(char[] marker) throws IOException {
+		if (marker == null || !ensure(marker.length)) {
+			return false;
+		}
+
+		for (int i = 0; i < marker.length; i++) {
+			if (buf[pos + i] != marker[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/// Ensure that at least `n` characters are available in the buffer.
+	///
+	/// @param n Number of characters.
+	/// @return `true` if `n` characters are available, `false` if end of script has been reached before.
+	/// @throws IOException If reading the script failed.
+	private boolean ensure(int n) throws IOException {
+		while (limit - pos < n) {
+			if (!fill()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/// Read next characters in the buffer, remaining characters being moved at the beginning of the buffer.
+	///
+	/// @return `true` if new characters have been read, `false` if end of script has been reached.
+	/// @throws IOException If reading the script failed.
+	private boolean fill() throws IOException {
+		if (eof) {
+			return false;
+		}
+
+		int remaining = limit - pos;
+		if (remaining > 0 && pos > 0) {
+			System.arraycopy(buf, pos, buf, 0, remaining);
+		}
+
+		pos = 0;
+		limit = remaining;
+
+		int n = reader.read(buf, limit, buf.length - limit);
+		if (n < 0) {
+			eof = true;
+			return false;
+		}
+
+		limit += n;
+		return true;
+	}
+
+	/// Flush current pending query.
+	/// **Important: ** empty (or blank) query is never returned.
+	///
+	/// @return The query, `null` if it is blank.
+	/// @throws SqlParserException If a comment or a varchar value is not terminated.
+	private String flush() {
+		if (state != State.DEFAULT && state != State.LINE_COMMENT) {
+			throw new SqlParserException("Cannot flush query: " + query);
+		}
+
+		String statement = query.toString().trim();
+		query.setLength(0);
+		openQuote = 0;
+		state = State.DEFAULT;
+
+		if (statement.isEmpty()) {
+			return null;
+		}
+
+		log.debug("Add pending query: {}", statement);
+		return statement;
+	}
+
+	/// Get comment marker: markers containing line terminators can never match, since they
+	/// are searched within a single line.
+	///
+	/// @param marker The marker.
+	/// @return Marker characters, `null` if marker can never match.
+	private static char[] marker(String marker) {
+		if (marker.indexOf('\n') >= 0 || marker.indexOf('\r') >= 0) {
+			return null;
+		}
+
+		return marker.toCharArray();
+	}
+
+	/// Parser states.
+	private enum State {
+		DEFAULT,
+		VARCHAR,
+		ESCAPE,
+		BLOCK_COMMENT,
+		LINE_COMMENT,
+	}
+
+	/// Set of characters stopping a bulk scan (line terminators are always included).
+	private static final class CharTable {
+
+		/// ASCII characters.
+		private final boolean[] ascii;
+
+		/// Other characters.
+		private String others;
+
+		private CharTable(char c1, char c2, char c3, char[] marker1, char[] marker2) {
+			this(marker1, marker2);
+			add(c1);
+			add(c2);
+			add(c3);
+		}
+
+		private CharTable(char[] marker1, char[] marker2) {
+			this.ascii = new boolean[TABLE_SIZE];
+			this.others = "";
+			add('\n');
+			add('\r');
+
+			if (marker1 != null) {
+				add(marker1[0]);
+			}
+
+			if (marker2 != null) {
+				add(marker2[0]);
+			}
+		}
+
+		private void add(char character) {
+			if (character < TABLE_SIZE) {
+				ascii[character] = true;
+			}
+			else {
+				others += character;
+			}
+		}
+
+		private boolean contains(char character) {
+			return character < TABLE_SIZE ? ascii[character] : others.indexOf(character) >= 0;
+		}
+	}
+}
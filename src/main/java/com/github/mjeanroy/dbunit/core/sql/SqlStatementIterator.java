@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.exception.SqlParserException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+
+/// Lazy iterator over the queries of an SQL script.
+///
+/// The script is read through a [SqlScriptTokenizer], and a query is returned as soon as its
+/// delimiter has been parsed: at most one query (and one buffer) is kept in memory, whatever
+/// the size of the script is.
+///
+/// The underlying stream is closed once the end of the script has been reached, or when
+/// [#close()] is called.
+public final class SqlStatementIterator implements Iterator<String>, Closeable {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(SqlStatementIterator.class);
+
+	/// The script tokenizer.
+	private final SqlScriptTokenizer tokenizer;
+
+	/// The next query to return, `null` if it has not been parsed yet.
+	private String next;
+
+	/// Flag set when the end of the script has been reached.
+	private boolean done;
+
+	/// Create the iterator.
+	///
+	/// @param stream The SQL script.
+	/// @param configuration The parser configuration.
+	/// @throws NullPointerException If `stream` or `configuration` is `null`.
+	SqlStatementIterator(InputStream stream, SqlScriptParserConfiguration configuration) {
+		this.tokenizer = new SqlScriptTokenizer(new InputStreamReader(notNull(stream, "SQL Script stream must not be null")), configuration);
+		this.done = false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = readNext();
+		}
+
+		return next != null;
+	}
+
+	@Override
+	public String next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		String query = next;
+		next = null;
+		return query;
+	}
+
+	@Override
+	public void close() {
+		done = true;
+
+		try {
+			tokenizer.close();
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new SqlParserException(ex);
+		}
+	}
+
+	/// Read next query, the script being closed once the end has been reached.
+	///
+	/// @return The next query, `null` if there is no more query in the script.
+	/// @throws SqlParserException If an error occurred during parsing.
+	private String readNext() {
+		if (done) {
+			return null;
+		}
+
+		try {
+			String query = tokenizer.next();
+			if (query == null) {
+				close();
+			}
+
+			return query;
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new SqlParserException(ex);
+		}
+	}
+}
@@ -25,9 +25,12 @@
 package com.github.mjeanroy.dbunit.integration.junit4;
 
 import com.github.mjeanroy.dbunit.core.annotations.DbUnitConnection;
+import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
 import org.junit.rules.TestRule;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
 
 import java.util.List;
 
@@ -66,4 +69,20 @@ public class DbUnitJunitRunner extends BlockJUnit4ClassRunner {
 		testRules.add(new DbUnitRule());
 		return testRules;
 	}
+
+	@Override
+	protected Statement classBlock(RunNotifier notifier) {
+		final Statement statement = super.classBlock(notifier);
+		return new Statement() {
+			@Override
+			public void evaluate() throws Throwable {
+				try {
+					statement.evaluate();
+				}
+				finally {
+					DbUnitRunner.applyDeferredTearDowns(getTestClass().getJavaClass());
+				}
+			}
+		};
+	}
 }
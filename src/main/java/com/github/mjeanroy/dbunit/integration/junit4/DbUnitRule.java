@@ -38,6 +38,10 @@ import java.lang.reflect.Method;
 import java.sql.Connection;
 
 /// JUnit Rule to setup DbUnit database for each tests.
+///
+/// Note that when this rule is used with read-only tests (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly]),
+/// the tear down operation of the last read-only test is only applied before the next test executed against the same
+/// database: use [DbUnitJunitRunner] or call [DbUnitRunner#applyDeferredTearDowns(Class)] once all tests of the class have been executed.
 public class DbUnitRule implements TestRule {
 
 	/// Factory to create instance of [Connection] for each test.
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.runner.DataSetFingerprint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/// Static utilities to group items (test methods or test classes) by dataset fingerprint.
+final class DataSetAffinity {
+
+	// Ensure non instantiation.
+	private DataSetAffinity() {
+	}
+
+	/// Sort given items so that items with the same dataset fingerprint are consecutive: groups are
+	/// ordered by their first occurrence, and the initial order is kept within a group.
+	///
+	/// @param items The items to sort (sorted in place).
+	/// @param fingerprint The function computing dataset fingerprint of an item.
+	/// @param <T> Type of items.
+	/// @return The number of dataset changes between consecutive items saved by the new order.
+	static <T> int order(List<? extends T> items, Function<? super T, DataSetFingerprint> fingerprint) {
+		Map<T, DataSetFingerprint> fingerprints = new HashMap<>();
+		Map<DataSetFingerprint, Integer> groups = new HashMap<>();
+		for (T item : items) {
+			DataSetFingerprint itemFingerprint = fingerprint.apply(item);
+			fingerprints.put(item, itemFingerprint);
+			groups.putIfAbsent(itemFingerprint, groups.size());
+		}
+
+		int reloadsBefore = countReloads(items, fingerprints);
+		items.sort((i1, i2) -> Integer.compare(groups.get(fingerprints.get(i1)), groups.get(fingerprints.get(i2))));
+		int reloadsAfter = countReloads(items, fingerprints);
+
+		return reloadsBefore - reloadsAfter;
+	}
+
+	/// Count the number of dataset reloads, i.e. the number of times the dataset changes between two
+	/// consecutive items (items without dataset are ignored).
+	///
+	/// @param items The items.
+	/// @param fingerprints The dataset fingerprint of each item.
+	/// @param <T> Type of items.
+	/// @return The number of reloads.
+	private static <T> int countReloads(List<? extends T> items, Map<T, DataSetFingerprint> fingerprints) {
+		List<DataSetFingerprint> sequence = new ArrayList<>(items.size());
+		for (T item : items) {
+			DataSetFingerprint itemFingerprint = fingerprints.get(item);
+			if (!itemFingerprint.isEmpty()) {
+				sequence.add(itemFingerprint);
+			}
+		}
+
+		int reloads = 0;
+		DataSetFingerprint previous = null;
+		for (DataSetFingerprint current : sequence) {
+			if (!Objects.equals(previous, current)) {
+				reloads++;
+			}
+
+			previous = current;
+		}
+
+		return reloads;
+	}
+}
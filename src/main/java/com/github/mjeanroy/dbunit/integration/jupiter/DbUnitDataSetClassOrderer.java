@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.runner.DataSetFingerprint;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+/// A JUnit Jupiter [ClassOrderer] that groups test classes loading the same dataset.
+///
+/// Test classes are grouped by the fingerprint of their class level dataset (see [DbUnitDataSetMethodOrderer]),
+/// so that consecutive test classes share identical fixtures.
+///
+/// Note that this order does not save any dataset reload: the tear down operations deferred by read-only tests
+/// (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly]) are applied once all tests of a test class
+/// have been executed, so each test class loads its own dataset.
+///
+/// This orderer can be registered globally, using the `junit.jupiter.testclass.order.default` configuration parameter:
+///
+/// ```
+///   junit.jupiter.testclass.order.default = com.github.mjeanroy.dbunit.integration.jupiter.DbUnitDataSetClassOrderer
+/// ```
+public class DbUnitDataSetClassOrderer implements ClassOrderer {
+
+	/// Create orderer.
+	public DbUnitDataSetClassOrderer() {
+	}
+
+	@Override
+	public void orderClasses(ClassOrdererContext context) {
+		DataSetAffinity.order(
+			context.getClassDescriptors(),
+			descriptor -> DataSetFingerprint.of(descriptor.getTestClass(), null)
+		);
+	}
+}
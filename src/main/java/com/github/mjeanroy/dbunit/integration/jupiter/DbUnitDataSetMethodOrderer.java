@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.runner.DataSetFingerprint;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+/// A JUnit Jupiter [MethodOrderer] that groups test methods loading the same dataset.
+///
+/// Test methods are grouped by dataset fingerprint, i.e. the resolved [com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet],
+/// [com.github.mjeanroy.dbunit.core.annotations.DbUnitReplacements], [com.github.mjeanroy.dbunit.core.annotations.DbUnitConfig] and
+/// [com.github.mjeanroy.dbunit.core.annotations.DbUnitSetup] annotations: consecutive tests share identical fixtures, so that
+/// redundant reloads can be skipped (see [com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly]).
+///
+/// The number of dataset reloads saved by the new order is logged.
+///
+/// Here is an example:
+///
+/// ```
+///   @ExtendWith(DbUnitExtension.class)
+///   @TestMethodOrder(DbUnitDataSetMethodOrderer.class)
+///   @DbUnitDataSet("classpath:/dataset/xml")
+///   class MyDaoTest {
+///     @Test
+///     @DbUnitReadOnly
+///     void test1() {
+///       // ...
+///     }
+///   }
+/// ```
+public class DbUnitDataSetMethodOrderer implements MethodOrderer {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DbUnitDataSetMethodOrderer.class);
+
+	/// Create orderer.
+	public DbUnitDataSetMethodOrderer() {
+	}
+
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		Class<?> testClass = context.getTestClass();
+		int saved = DataSetAffinity.order(
+			context.getMethodDescriptors(),
+			descriptor -> DataSetFingerprint.of(testClass, descriptor.getMethod())
+		);
+
+		log.info("Ordering test methods of {} by dataset: {} dataset reload(s) saved", testClass.getName(), saved);
+	}
+}
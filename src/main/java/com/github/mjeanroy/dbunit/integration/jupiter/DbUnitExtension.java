@@ -71,6 +71,9 @@ import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
 ///
 /// This extension can also be used with [RegisterExtension] annotation as a static field or as an instance field.
 ///
+/// When running tests concurrently, [DbUnitResourceLocksProvider] can be used to derive JUnit resource locks from
+/// the dataset tables of each test, using `@ResourceLock(providers = DbUnitResourceLocksProvider.class)`.
+///
 /// Here is an example:
 ///
 /// ```
@@ -133,7 +136,12 @@ public class DbUnitExtension implements BeforeAllCallback, AfterAllCallback, Bef
 
 	@Override
 	public void afterAll(ExtensionContext context) {
-		getStore(context).remove(DB_UNIT_RUNNER_KEY);
+		try {
+			DbUnitRunner.applyDeferredTearDowns(getTestClass(context));
+		}
+		finally {
+			getStore(context).remove(DB_UNIT_RUNNER_KEY);
+		}
 	}
 
 	@Override
@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly;
+import com.github.mjeanroy.dbunit.core.runner.DataSetTables;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+import org.junit.jupiter.api.parallel.Resources;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableSet;
+
+/// A JUnit Jupiter [ResourceLocksProvider] that derives resource locks from the dataset of each test method.
+///
+/// Each test method gets a [ResourceAccessMode#READ_WRITE] lock on each table of its resolved dataset, qualified
+/// by the connection target (the URL configured with [com.github.mjeanroy.dbunit.core.annotations.DbUnitConnection]),
+/// so that, when parallel execution is enabled:
+/// - Test methods with disjoint datasets run concurrently.
+/// - Test methods loading (at least) one common table are serialized.
+///
+/// Here is an example:
+///
+/// ```
+///   @ExtendWith(DbUnitExtension.class)
+///   @Execution(ExecutionMode.CONCURRENT)
+///   @ResourceLock(providers = DbUnitResourceLocksProvider.class)
+///   @DbUnitConnection(url = "jdbc:hsqldb:mem:testdb", user = "SA", password = "")
+///   class MyDaoTest {
+///     @Test
+///     @DbUnitDataSet("classpath:/dataset/xml/users.xml")
+///     void test1() {
+///       // ...
+///     }
+///
+///     @Test
+///     @DbUnitDataSet("classpath:/dataset/xml/movies.xml")
+///     void test2() {
+///       // ...
+///     }
+///   }
+/// ```
+///
+/// Note that tables touched by the test itself (and not part of its dataset) are not detected.
+///
+/// The tear down operation of a read-only test (see [DbUnitReadOnly]) is deferred, and may be applied by the next
+/// test of the same test class, or once all tests of the class have been executed, i.e. outside the locks of the
+/// read-only test. To keep this deferred tear down operation under the locks of its tables, a test class
+/// containing read-only tests gets a [ResourceAccessMode#READ_WRITE] lock on each table of its class dataset and
+/// of the datasets of its read-only tests: tests of this class are executed sequentially, in the same thread, and
+/// are not executed concurrently with tests loading (at least) one of these tables.
+///
+/// If the dataset of a test method cannot be read, the test method gets a [ResourceAccessMode#READ_WRITE] lock
+/// on [Resources#GLOBAL]: it is executed in isolation (and is expected to fail during its setup).
+public class DbUnitResourceLocksProvider implements ResourceLocksProvider {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DbUnitResourceLocksProvider.class);
+
+	/// The prefix of lock keys.
+	private static final String KEY_PREFIX = "dbunit:";
+
+	/// Create provider.
+	public DbUnitResourceLocksProvider() {
+	}
+
+	@Override
+	public Set<Lock> provideForClass(Class<?> testClass) {
+		if (!hasReadOnlyTests(testClass)) {
+			return emptySet();
+		}
+
+		Set<String> tables = new LinkedHashSet<>();
+
+		try {
+			tables.addAll(DataSetTables.of(testClass, null));
+			for (Method method : methods(testClass)) {
+				if (findAnnotation(testClass, method, DbUnitReadOnly.class) != null) {
+					tables.addAll(DataSetTables.of(testClass, method));
+				}
+			}
+		}
+		catch (RuntimeException ex) {
+			log.warn("Cannot read dataset tables of {}, falling back to global lock: {}", testClass, ex.getMessage());
+			return singleton(new Lock(Resources.GLOBAL, ResourceAccessMode.READ_WRITE));
+		}
+
+		return locks(testClass, tables);
+	}
+
+	@Override
+	public Set<Lock> provideForNestedClass(List<Class<?>> enclosingInstanceTypes, Class<?> testClass) {
+		return provideForClass(testClass);
+	}
+
+	@Override
+	public Set<Lock> provideForMethod(List<Class<?>> enclosingInstanceTypes, Class<?> testClass, Method testMethod) {
+		Set<String> tables;
+
+		try {
+			tables = DataSetTables.of(testClass, testMethod);
+		}
+		catch (RuntimeException ex) {
+			log.warn("Cannot read dataset tables of {}, falling back to global lock: {}", testMethod, ex.getMessage());
+			return singleton(new Lock(Resources.GLOBAL, ResourceAccessMode.READ_WRITE));
+		}
+
+		return locks(testClass, tables);
+	}
+
+	private static Set<Lock> locks(Class<?> testClass, Set<String> tables) {
+		String target = DataSetTables.target(testClass);
+		Set<Lock> locks = new LinkedHashSet<>();
+		for (String table : tables) {
+			locks.add(new Lock(key(target, table), ResourceAccessMode.READ_WRITE));
+		}
+
+		return unmodifiableSet(locks);
+	}
+
+	/// Check if given test class contains (at least) one read-only test, i.e. if the class itself, or one of
+	/// its methods, is annotated with [DbUnitReadOnly].
+	///
+	/// @param testClass The test class.
+	/// @return `true` if the test class contains read-only tests, `false` otherwise.
+	private static boolean hasReadOnlyTests(Class<?> testClass) {
+		if (findAnnotation(testClass, DbUnitReadOnly.class) != null) {
+			return true;
+		}
+
+		for (Method method : methods(testClass)) {
+			if (findAnnotation(method, DbUnitReadOnly.class) != null) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/// Get the instance methods declared by given class, or by one of its parents.
+	///
+	/// @param testClass The test class.
+	/// @return The methods.
+	private static List<Method> methods(Class<?> testClass) {
+		List<Method> methods = new ArrayList<>();
+		for (Class<?> current = testClass; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Method method : current.getDeclaredMethods()) {
+				if (!method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+					methods.add(method);
+				}
+			}
+		}
+
+		return methods;
+	}
+
+	/// Compute the lock key of given table.
+	///
+	/// @param target The connection target.
+	/// @param table The table name.
+	/// @return The lock key.
+	static String key(String target, String table) {
+		return KEY_PREFIX + target + ":" + table;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Load DbUnit datasets inside the Spring test transaction, so that the transaction rollback replaces the tear down operation.
+///
+/// With this annotation, [DbUnitTestExecutionListener] loads datasets using the connection bound to the current transaction
+/// (see [org.springframework.jdbc.datasource.DataSourceUtils]). If the test transaction is rolled back (the default behavior
+/// of the [org.springframework.test.context.transaction.TransactionalTestExecutionListener]), the tear down operation is skipped:
+/// the rollback removes the dataset. Otherwise (for example, if the test is not transactional or if the transaction is committed),
+/// the tear down operation is applied as usual.
+///
+/// Note that the [org.springframework.test.context.transaction.TransactionalTestExecutionListener] must be executed before
+/// [DbUnitTestExecutionListener] (as configured by [DbUnitSpring] or [TransactionalDbUnitTestExecutionListener]), and that
+/// statements implicitly committing the transaction (such as DDL statements executed by some foreign key managers) should not
+/// be used.
+///
+/// This annotation can be used on:
+/// - Class (i.e test class).
+/// - Annotation (i.e as a meta-annotation).
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Target({
+	ElementType.TYPE,
+})
+public @interface DbUnitRollback {
+}
@@ -28,21 +28,49 @@ import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcDataSourceConnectionFactory;
 import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
 import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.context.transaction.TestTransaction;
 
 import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.dbunit.commons.reflection.Annotations.findAnnotation;
 
 /// Spring test execution listener running DbUnit data set before and after test methods:
 /// 1. Get [DataSource] bean from [ApplicationContext].
 /// 2. Load data set, retrieved using [com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet] annotation.
 /// 3. Run setup operation before test method execution.
 /// 4. Run tear down operation after test method method execution..
+///
+/// Runners are cached per [ApplicationContext] and test class: the [DataSource] is resolved, and init scripts are executed,
+/// once per test class and application context, just like Spring caches application contexts between test classes. Cached
+/// runners are evicted when the application context is closed (for example, when it is evicted from the Spring context cache).
+///
+/// Test classes annotated with [DbUnitRollback] load datasets inside the Spring test transaction, and skip the tear down operation
+/// when this transaction is rolled back.
 public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
 
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(DbUnitTestExecutionListener.class);
+
 	private static final String DBUNIT_RUNNER = "DBUNIT_RUNNER";
 
+	/// Runners, indexed by application context and test class.
+	private static final Map<ApplicationContext, Map<Class<?>, DbUnitRunner>> runners = Collections.synchronizedMap(
+		new WeakHashMap<>()
+	);
+
 	/// Create listener.
 	public DbUnitTestExecutionListener() {
 		super();
@@ -53,13 +81,7 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
 		super.prepareTestInstance(ctx);
 
 		// Initialize runner
-		ApplicationContext appContext = ctx.getApplicationContext();
-		DataSource dataSource = appContext.getBean(DataSource.class);
-		JdbcConnectionFactory factory = new JdbcDataSourceConnectionFactory(
-			dataSource
-		);
-
-		DbUnitRunner runner = new DbUnitRunner(ctx.getTestClass(), factory);
+		DbUnitRunner runner = getOrCreateRunner(ctx.getApplicationContext(), ctx.getTestClass());
 		ctx.setAttribute(DBUNIT_RUNNER, runner);
 	}
 
@@ -74,7 +96,58 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
 	public void afterTestMethod(TestContext ctx) throws Exception {
 		super.afterTestMethod(ctx);
 		DbUnitRunner runner = getRunner(ctx);
+
+		if (!isRollback(ctx.getTestClass())) {
+			runner.afterTest(ctx.getTestMethod());
+			return;
+		}
+
+		if (TestTransaction.isActive() && TestTransaction.isFlaggedForRollback()) {
+			log.debug("Test transaction will be rolled back: {}", ctx.getTestMethod());
+			runner.afterRolledBackTest(ctx.getTestMethod());
+			return;
+		}
+
+		// Tear down operations must not be deferred: they would be executed in the transaction of
+		// the next test, and rolled back.
 		runner.afterTest(ctx.getTestMethod());
+		DbUnitRunner.applyDeferredTearDowns(runner.getFactory());
+	}
+
+	@Override
+	public void afterTestClass(TestContext ctx) throws Exception {
+		super.afterTestClass(ctx);
+		DbUnitRunner.applyDeferredTearDowns(ctx.getTestClass());
+	}
+
+	private static DbUnitRunner getOrCreateRunner(ApplicationContext appContext, Class<?> testClass) {
+		Map<Class<?>, DbUnitRunner> contextRunners;
+
+		synchronized (runners) {
+			contextRunners = runners.get(appContext);
+			if (contextRunners == null) {
+				contextRunners = new ConcurrentHashMap<>();
+				runners.put(appContext, contextRunners);
+
+				if (appContext instanceof ConfigurableApplicationContext) {
+					((ConfigurableApplicationContext) appContext).addApplicationListener(new EvictionListener());
+				}
+			}
+		}
+
+		return contextRunners.computeIfAbsent(testClass, (klass) -> {
+			// With rollback, datasets are loaded using the connection bound to the test transaction.
+			DataSource dataSource = appContext.getBean(DataSource.class);
+			JdbcConnectionFactory factory = new JdbcDataSourceConnectionFactory(
+				isRollback(klass) ? new TransactionAwareDataSourceProxy(dataSource) : dataSource
+			);
+
+			return new DbUnitRunner(klass, factory);
+		});
+	}
+
+	private static boolean isRollback(Class<?> testClass) {
+		return findAnnotation(testClass, DbUnitRollback.class) != null;
 	}
 
 	private static DbUnitRunner getRunner(TestContext ctx) {
@@ -86,4 +159,12 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
 
 		return runner;
 	}
+
+	/// Evict cached runners when the application context is closed.
+	private static final class EvictionListener implements ApplicationListener<ContextClosedEvent> {
+		@Override
+		public void onApplicationEvent(ContextClosedEvent event) {
+			runners.remove(event.getApplicationContext());
+		}
+	}
 }
@@ -92,4 +92,18 @@ public @interface EmbeddedDatabaseConfiguration {
 	/// @return `true` if errors in `DROP` statement should be ignored, `false` otherwise.
 	/// @see EmbeddedDatabaseBuilder#ignoreFailedDrops(boolean)
 	boolean ignoreFailedDrops() default false;
+
+	/// Number of databases kept initialized by a pool shared by all test classes using the same configuration, default
+	/// is `0` (i.e. no pool: a database is built for each test class, and shut down afterwards).
+	///
+	/// When greater than `0`, databases are built in background threads, handed to each test class, and reset (when
+	/// possible) instead of being shut down once the test class is done.
+	///
+	/// Each pooled database gets its own name: if [#databaseName()] is set, it is used as a prefix, suffixed by the
+	/// index of the database (for example, `testdb_1`, `testdb_2`, etc.), so the configured name cannot be used in
+	/// a JDBC URL. Otherwise, a unique name is generated.
+	///
+	/// @return The pool size.
+	/// @see EmbeddedDatabasePool
+	int poolSize() default 0;
 }
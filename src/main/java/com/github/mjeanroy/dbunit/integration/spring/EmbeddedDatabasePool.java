@@ -0,0 +1,468 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.integration.spring;
+
+import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.dbunit.loggers.Logger;
+import com.github.mjeanroy.dbunit.loggers.Loggers;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.dbunit.commons.lang.PreConditions.notNull;
+import static java.util.Arrays.asList;
+
+/// A pool of pre-warmed embedded databases.
+///
+/// The pool keeps up to `size` initialized databases, built in background threads:
+/// - [#acquire()] hands out a ready database if available, or waits for a database being built in background (a hit),
+///   or builds a new one if no database is being built (a miss).
+/// - [#release(EmbeddedDatabase)] resets the database and keeps it for the next acquisition.
+///
+/// A database is reset by truncating the tables of all its (non-system) schemas, restarting identity columns and
+/// sequences, which is only possible when:
+/// - The database is an H2 or HSQL database.
+/// - All tables were empty once the database was initialized (i.e. initialization scripts did not insert any data).
+/// - Tests did not create or drop tables.
+///
+/// Otherwise, the database is shut down, and a new one is built in background.
+///
+/// The hit rate and warm-up time are logged when the JVM exits.
+public final class EmbeddedDatabasePool {
+
+	/// Class Logger.
+	private static final Logger log = Loggers.getLogger(EmbeddedDatabasePool.class);
+
+	/// Schemas managed by the database itself, never reset.
+	private static final Set<String> SYSTEM_SCHEMAS = new HashSet<>(asList("INFORMATION_SCHEMA", "SYSTEM_LOBS"));
+
+	/// The interval between two checks of ready databases, while databases are being built in background.
+	private static final long WAIT_INTERVAL_MILLIS = 50;
+
+	/// The pools, indexed by database configuration.
+	private static final ConcurrentMap<EmbeddedDatabaseConfiguration, EmbeddedDatabasePool> POOLS = new ConcurrentHashMap<>();
+
+	/// Get the pool of databases created with given configuration.
+	///
+	/// @param configuration The database configuration.
+	/// @return The pool.
+	static EmbeddedDatabasePool of(EmbeddedDatabaseConfiguration configuration) {
+		notNull(configuration, "Embedded database configuration must not be null");
+		return POOLS.computeIfAbsent(configuration, conf -> {
+			EmbeddedDatabasePool pool = new EmbeddedDatabasePool(databaseFactory(conf), conf.poolSize());
+
+			Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "dbunit-embedded-database-pool-shutdown"));
+			return pool;
+		});
+	}
+
+	/// Create the factory building databases of a pool: each pooled database must have its own name, so:
+	/// - If a database name is configured, it is used as a prefix, suffixed by the index of the database in the pool.
+	/// - Otherwise, a unique name is generated.
+	///
+	/// @param configuration The database configuration.
+	/// @return The database factory.
+	static Supplier<EmbeddedDatabase> databaseFactory(EmbeddedDatabaseConfiguration configuration) {
+		String name = configuration.databaseName();
+		if (configuration.generateUniqueName() || EmbeddedDatabaseFactory.DEFAULT_DATABASE_NAME.equals(name)) {
+			return () -> EmbeddedDatabaseRunner.extractBuilder(configuration).generateUniqueName(true).build();
+		}
+
+		AtomicInteger counter = new AtomicInteger(0);
+		return () -> EmbeddedDatabaseRunner.extractBuilder(configuration).setName(name + "_" + counter.incrementAndGet()).build();
+	}
+
+	/// The database factory.
+	private final Supplier<EmbeddedDatabase> factory;
+
+	/// The pool size.
+	private final int size;
+
+	/// The ready databases.
+	private final BlockingQueue<EmbeddedDatabase> ready;
+
+	/// The (qualified) tables of each pooled database, as listed once the database was initialized, `null` if database cannot be reset.
+	private final Map<EmbeddedDatabase, Set<String>> tables;
+
+	/// The executor building databases in background.
+	private final ExecutorService executor;
+
+	/// Number of acquisitions served by a ready database.
+	private final AtomicInteger hits;
+
+	/// Number of acquisitions that had to build a database.
+	private final AtomicInteger misses;
+
+	/// Number of databases built.
+	private final AtomicInteger warmUps;
+
+	/// Number of databases being built in background.
+	private final AtomicInteger pendingWarmUps;
+
+	/// Total time spent building databases, in nanoseconds.
+	private final AtomicLong warmUpNanos;
+
+	/// Create pool, and start building databases in background.
+	///
+	/// @param factory The database factory.
+	/// @param size The pool size.
+	EmbeddedDatabasePool(Supplier<EmbeddedDatabase> factory, int size) {
+		this.factory = notNull(factory, "Embedded database factory must not be null");
+		this.size = Math.max(size, 1);
+		this.ready = new LinkedBlockingQueue<>(this.size);
+		this.tables = new ConcurrentHashMap<>();
+		this.hits = new AtomicInteger(0);
+		this.misses = new AtomicInteger(0);
+		this.warmUps = new AtomicInteger(0);
+		this.pendingWarmUps = new AtomicInteger(0);
+		this.warmUpNanos = new AtomicLong(0);
+
+		AtomicInteger counter = new AtomicInteger(0);
+		this.executor = Executors.newFixedThreadPool(Math.min(this.size, Runtime.getRuntime().availableProcessors()), runnable -> {
+			Thread thread = new Thread(runnable, "dbunit-embedded-database-pool-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		for (int i = 0; i < this.size; i++) {
+			warmUpInBackground();
+		}
+	}
+
+	/// Get a database from the pool: if no database is ready, wait for a database being built in background (if any),
+	/// otherwise build a new one.
+	///
+	/// @return The database.
+	public EmbeddedDatabase acquire() {
+		EmbeddedDatabase db = awaitReady();
+		if (db != null) {
+			hits.incrementAndGet();
+			log.debug("Embedded database acquired from pool: {}", db);
+			return db;
+		}
+
+		misses.incrementAndGet();
+		log.debug("No embedded database ready, building a new one");
+		return warmUp();
+	}
+
+	/// Get a ready database, waiting for databases being built in background: building a new database would
+	/// take (at least) as long as waiting for a warm-up already started.
+	///
+	/// @return The database, `null` if no database is ready, and no database is being built.
+	private EmbeddedDatabase awaitReady() {
+		try {
+			EmbeddedDatabase db = ready.poll();
+			while (db == null && pendingWarmUps.get() > 0 && !executor.isShutdown()) {
+				db = ready.poll(WAIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			}
+
+			// A database may have been added between the last check and the end of its warm-up.
+			return db == null ? ready.poll() : db;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return ready.poll();
+		}
+	}
+
+	/// Give back given database to the pool: the database is reset and kept for the next acquisition if possible,
+	/// otherwise it is shut down and replaced in background.
+	///
+	/// @param db The database.
+	public void release(EmbeddedDatabase db) {
+		notNull(db, "Embedded database must not be null");
+
+		if (reset(db) && ready.offer(db)) {
+			log.debug("Embedded database reset and returned to pool: {}", db);
+			return;
+		}
+
+		log.debug("Embedded database cannot be reused, shutting it down: {}", db);
+		shutdown(db);
+
+		if (ready.size() < size && !executor.isShutdown()) {
+			warmUpInBackground();
+		}
+	}
+
+	/// Get [#hits]
+	///
+	/// @return Returns [#hits]
+	public int getHits() {
+		return hits.get();
+	}
+
+	/// Get [#misses]
+	///
+	/// @return Returns [#misses]
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/// Get the ratio of acquisitions served by a ready database.
+	///
+	/// @return The hit rate, between `0` and `1`.
+	public double getHitRate() {
+		int nbHits = hits.get();
+		int total = nbHits + misses.get();
+		return total == 0 ? 0 : (double) nbHits / total;
+	}
+
+	/// Get the average time spent building a database.
+	///
+	/// @return The average warm-up time, in milliseconds.
+	public long getAverageWarmUpMillis() {
+		int nbWarmUps = warmUps.get();
+		return nbWarmUps == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(warmUpNanos.get() / nbWarmUps);
+	}
+
+	/// Get the number of databases ready to be acquired.
+	///
+	/// @return The number of ready databases.
+	int available() {
+		return ready.size();
+	}
+
+	/// Shut down idle databases, and log pool statistics.
+	void close() {
+		executor.shutdownNow();
+
+		EmbeddedDatabase db;
+		while ((db = ready.poll()) != null) {
+			shutdown(db);
+		}
+
+		log.info(
+			"Embedded database pool: {} acquisitions, hit rate {}%, {} databases built in {} ms on average",
+			hits.get() + misses.get(),
+			Math.round(getHitRate() * 100),
+			warmUps.get(),
+			getAverageWarmUpMillis()
+		);
+	}
+
+	private void warmUpInBackground() {
+		pendingWarmUps.incrementAndGet();
+		executor.execute(() -> {
+			try {
+				EmbeddedDatabase db = warmUp();
+				if (!ready.offer(db)) {
+					shutdown(db);
+				}
+			}
+			catch (RuntimeException ex) {
+				log.warn("Failed to build embedded database in background: {}", ex.getMessage());
+			}
+			finally {
+				pendingWarmUps.decrementAndGet();
+			}
+		});
+	}
+
+	private EmbeddedDatabase warmUp() {
+		long start = System.nanoTime();
+		EmbeddedDatabase db = factory.get();
+
+		Set<String> dbTables = emptyTables(db);
+		if (dbTables != null) {
+			tables.put(db, dbTables);
+		}
+
+		warmUpNanos.addAndGet(System.nanoTime() - start);
+		warmUps.incrementAndGet();
+		return db;
+	}
+
+	private void shutdown(EmbeddedDatabase db) {
+		tables.remove(db);
+
+		try {
+			db.shutdown();
+		}
+		catch (RuntimeException ex) {
+			log.warn("Failed to shut down embedded database: {}", ex.getMessage());
+		}
+	}
+
+	/// Reset given database, by truncating all its tables and restarting identity columns and sequences.
+	///
+	/// @param db The database.
+	/// @return `true` if database has been reset, `false` otherwise.
+	private boolean reset(EmbeddedDatabase db) {
+		Set<String> dbTables = tables.get(db);
+		if (dbTables == null) {
+			return false;
+		}
+
+		try (Connection connection = db.getConnection(); Statement statement = connection.createStatement()) {
+			if (!dbTables.equals(listTables(connection))) {
+				log.debug("Tables have been created or dropped, embedded database cannot be reset");
+				return false;
+			}
+
+			String productName = connection.getMetaData().getDatabaseProductName();
+			if (productName.startsWith("HSQL")) {
+				// Sequences of truncated schemas are restarted as well.
+				for (String schema : listSchemas(connection)) {
+					statement.execute("TRUNCATE SCHEMA " + quote(schema) + " RESTART IDENTITY AND COMMIT NO CHECK");
+				}
+
+				return true;
+			}
+
+			if (productName.startsWith("H2")) {
+				statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+				for (String table : dbTables) {
+					statement.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+				}
+
+				for (String sequence : listH2Sequences(connection)) {
+					statement.execute("ALTER SEQUENCE " + sequence + " RESTART");
+				}
+
+				statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+				return true;
+			}
+
+			return false;
+		}
+		catch (SQLException ex) {
+			log.warn("Failed to reset embedded database: {}", ex.getMessage());
+			return false;
+		}
+	}
+
+	/// List tables of given database, if all of them are empty.
+	///
+	/// @param db The database.
+	/// @return The tables, `null` if at least one table is not empty.
+	private static Set<String> emptyTables(EmbeddedDatabase db) {
+		try (Connection connection = db.getConnection(); Statement statement = connection.createStatement()) {
+			Set<String> dbTables = listTables(connection);
+			for (String table : dbTables) {
+				try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+					if (rs.next() && rs.getLong(1) > 0) {
+						log.debug("Table {} is not empty, embedded database will not be reset", table);
+						return null;
+					}
+				}
+			}
+
+			return dbTables;
+		}
+		catch (SQLException ex) {
+			log.warn("Failed to read embedded database tables: {}", ex.getMessage());
+			return null;
+		}
+	}
+
+	/// List (quoted and qualified) tables of all non-system schemas.
+	///
+	/// @param connection The connection.
+	/// @return The tables.
+	private static Set<String> listTables(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		Set<String> dbTables = new TreeSet<>();
+		try (ResultSet rs = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
+			while (rs.next()) {
+				String schema = rs.getString("TABLE_SCHEM");
+				if (!SYSTEM_SCHEMAS.contains(schema)) {
+					dbTables.add(quote(schema) + "." + quote(rs.getString("TABLE_NAME")));
+				}
+			}
+		}
+
+		return dbTables;
+	}
+
+	/// List all non-system schemas.
+	///
+	/// @param connection The connection.
+	/// @return The schemas.
+	private static Set<String> listSchemas(Connection connection) throws SQLException {
+		Set<String> schemas = new TreeSet<>();
+		try (ResultSet rs = connection.getMetaData().getSchemas()) {
+			while (rs.next()) {
+				String schema = rs.getString("TABLE_SCHEM");
+				if (!SYSTEM_SCHEMAS.contains(schema)) {
+					schemas.add(schema);
+				}
+			}
+		}
+
+		return schemas;
+	}
+
+	/// List (quoted and qualified) sequences of all non-system schemas of an H2 database.
+	///
+	/// @param connection The connection.
+	/// @return The sequences.
+	private static Set<String> listH2Sequences(Connection connection) throws SQLException {
+		Set<String> sequences = new TreeSet<>();
+		String query = "SELECT SEQUENCE_SCHEMA, SEQUENCE_NAME FROM INFORMATION_SCHEMA.SEQUENCES";
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(query)) {
+			while (rs.next()) {
+				String schema = rs.getString(1);
+				if (!SYSTEM_SCHEMAS.contains(schema)) {
+					sequences.add(quote(schema) + "." + quote(rs.getString(2)));
+				}
+			}
+		}
+
+		return sequences;
+	}
+
+	private static String quote(String identifier) {
+		return "\"" + identifier + "\"";
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.create(getClass())
+			.append("size", size)
+			.append("hits", hits.get())
+			.append("misses", misses.get())
+			.build();
+	}
+}
@@ -26,6 +26,8 @@ package com.github.mjeanroy.dbunit.integration.spring;
 
 import com.github.mjeanroy.dbunit.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.dbunit.commons.reflection.Annotations;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcDataSourceConnectionFactory;
+import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 
@@ -38,18 +40,33 @@ public class EmbeddedDatabaseRunner {
 	/// Instance of [EmbeddedDatabase].
 	private final EmbeddedDatabase db;
 
+	/// The pool [#db] has been acquired from, `null` if database is not pooled.
+	private final EmbeddedDatabasePool pool;
+
 	/// Create runner.
 	///
+	/// If the test class is annotated with [EmbeddedDatabaseConfiguration] with a positive pool size,
+	/// the database is acquired from a pool (see [EmbeddedDatabasePool]).
+	///
 	/// @param testClass The tested class.
 	public EmbeddedDatabaseRunner(Class<?> testClass) {
-		this(extractBuilder(testClass).build());
+		this(findPool(testClass), testClass);
+	}
+
+	private EmbeddedDatabaseRunner(EmbeddedDatabasePool pool, Class<?> testClass) {
+		this(pool == null ? extractBuilder(testClass).build() : pool.acquire(), pool);
 	}
 
 	/// Create rule.
 	///
 	/// @param db Embedded database.
 	public EmbeddedDatabaseRunner(EmbeddedDatabase db) {
+		this(db, null);
+	}
+
+	private EmbeddedDatabaseRunner(EmbeddedDatabase db, EmbeddedDatabasePool pool) {
 		this.db = notNull(db, "Embedded database must not be null");
+		this.pool = pool;
 	}
 
 	/// Create rule with default builder.
@@ -62,8 +79,21 @@ public class EmbeddedDatabaseRunner {
 	}
 
 	/// Execute the after test handler.
+	///
+	/// Tear down operations deferred by read-only tests are applied before the database is shut down
+	/// (or released to its pool).
 	public void after() {
-		this.db.shutdown();
+		try {
+			DbUnitRunner.applyDeferredTearDowns(new JdbcDataSourceConnectionFactory(db));
+		}
+		finally {
+			if (pool == null) {
+				this.db.shutdown();
+			}
+			else {
+				pool.release(this.db);
+			}
+		}
 	}
 
 	/// Gets currently created database instance.
@@ -77,15 +107,29 @@ public class EmbeddedDatabaseRunner {
 	public String toString() {
 		return ToStringBuilder.create(getClass())
 			.append("db", db)
+			.append("pool", pool)
 			.build();
 	}
 
+	private static EmbeddedDatabasePool findPool(Class<?> testClass) {
+		final EmbeddedDatabaseConfiguration dbConfiguration = Annotations.findAnnotation(testClass, EmbeddedDatabaseConfiguration.class);
+		return dbConfiguration == null || dbConfiguration.poolSize() <= 0 ? null : EmbeddedDatabasePool.of(dbConfiguration);
+	}
+
 	private static EmbeddedDatabaseBuilder extractBuilder(Class<?> testClass) {
 		final EmbeddedDatabaseConfiguration dbConfiguration = Annotations.findAnnotation(testClass, EmbeddedDatabaseConfiguration.class);
 		if (dbConfiguration == null) {
 			return new EmbeddedDatabaseBuilder();
 		}
 
+		return extractBuilder(dbConfiguration);
+	}
+
+	/// Create the database builder from given configuration.
+	///
+	/// @param dbConfiguration The database configuration.
+	/// @return The database builder.
+	static EmbeddedDatabaseBuilder extractBuilder(EmbeddedDatabaseConfiguration dbConfiguration) {
 		final EmbeddedDatabaseBuilder builder = new EmbeddedDatabaseBuilder()
 			.setType(dbConfiguration.databaseType())
 			.generateUniqueName(dbConfiguration.generateUniqueName())
@@ -28,6 +28,8 @@ import com.github.mjeanroy.dbunit.tests.builders.CacheLoaderMockBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -75,5 +77,111 @@ abstract class AbstractCacheTest {
 		assertThat(cache.size()).isZero();
 	}
 
+	@Test
+	void it_should_put_value_in_cache_with_given_loader() throws Exception {
+		String key = "foo";
+		String value = "bar";
+
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>().build();
+		CacheLoader<String, String> otherLoader = new CacheLoaderMockBuilder<String, String>()
+			.add(key, value)
+			.build();
+
+		Cache<String, String> cache = createCache(loader);
+
+		assertThat(cache.load(key, otherLoader)).isEqualTo(value);
+		assertThat(cache.load(key)).isEqualTo(value);
+		assertThat(cache.size()).isEqualTo(1);
+		verify(otherLoader, times(1)).load(key);
+		verify(loader, never()).load(key);
+	}
+
+	@Test
+	void it_should_get_value_if_present() throws Exception {
+		String key = "foo";
+		String value = "bar";
+
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>()
+			.add(key, value)
+			.build();
+
+		Cache<String, String> cache = createCache(loader);
+		assertThat(cache.getIfPresent(key)).isNull();
+		verify(loader, never()).load(key);
+
+		cache.load(key);
+		assertThat(cache.getIfPresent(key)).isEqualTo(value);
+		verify(loader, times(1)).load(key);
+	}
+
+	@Test
+	void it_should_not_keep_failures_in_cache() throws Exception {
+		String key = "foo";
+		String value = "bar";
+
+		CacheLoader<String, String> failingLoader = k -> {
+			throw new IllegalArgumentException(k);
+		};
+
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>()
+			.add(key, value)
+			.build();
+
+		Cache<String, String> cache = createCache(loader);
+		assertThatThrownBy(() -> cache.load(key, failingLoader)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cache.getIfPresent(key)).isNull();
+		assertThat(cache.size()).isZero();
+
+		assertThat(cache.load(key)).isEqualTo(value);
+	}
+
+	@Test
+	void it_should_invalidate_value() throws Exception {
+		String key = "foo";
+		String value = "bar";
+
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>()
+			.add(key, value)
+			.build();
+
+		Cache<String, String> cache = createCache(loader);
+		cache.load(key);
+		assertThat(cache.size()).isEqualTo(1);
+
+		cache.invalidate(key);
+		assertThat(cache.size()).isZero();
+
+		cache.load(key);
+		verify(loader, times(2)).load(key);
+	}
+
+	@Test
+	void it_should_evict_oldest_value_from_bounded_cache() throws Exception {
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>()
+			.add("k1", "v1")
+			.add("k2", "v2")
+			.add("k3", "v3")
+			.build();
+
+		Cache<String, String> cache = createCache(loader, 2);
+		cache.load("k1");
+		cache.load("k2");
+		assertThat(cache.size()).isEqualTo(2);
+
+		cache.load("k3");
+		assertThat(cache.size()).isEqualTo(2);
+
+		cache.load("k3");
+		cache.load("k2");
+		verify(loader, times(1)).load("k2");
+		verify(loader, times(1)).load("k3");
+
+		cache.load("k1");
+		verify(loader, times(2)).load("k1");
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
 	abstract Cache<String, String> createCache(CacheLoader<String, String> loader);
+
+	abstract Cache<String, String> createCache(CacheLoader<String, String> loader, long maximumSize);
 }
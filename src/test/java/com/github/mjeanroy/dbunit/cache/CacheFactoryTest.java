@@ -37,4 +37,11 @@ class CacheFactoryTest {
 		Cache<String, String> cache = CacheFactory.newCache(loader);
 		assertThat(cache).isExactlyInstanceOf(GuavaCache.class);
 	}
+
+	@Test
+	void it_should_return_bounded_guava_cache() {
+		CacheLoader<String, String> loader = new CacheLoaderMockBuilder<String, String>().build();
+		Cache<String, String> cache = CacheFactory.newCache(loader, 10);
+		assertThat(cache).isExactlyInstanceOf(GuavaCache.class);
+	}
 }
@@ -24,10 +24,61 @@
 
 package com.github.mjeanroy.dbunit.cache;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 class DefaultCacheTest extends AbstractCacheTest {
 
+	@Test
+	void it_should_not_register_entry_removed_while_loading() throws Exception {
+		List<String> loads = new CopyOnWriteArrayList<>();
+		DefaultCache<String, String> cache = new DefaultCache<>(key -> {
+			loads.add(key);
+			return key;
+		}, 2);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread thread = new Thread(() -> cache.load("k1", key -> {
+			started.countDown();
+			release.await();
+			return key;
+		}));
+
+		thread.start();
+		started.await();
+
+		// Waiting for the other thread fails: the entry is removed, and loaded again by the current thread.
+		Thread.currentThread().interrupt();
+		assertThat(cache.load("k1")).isEqualTo("k1");
+		assertThat(Thread.interrupted()).isTrue();
+
+		release.countDown();
+		thread.join();
+
+		cache.invalidate("k1");
+		cache.load("k2");
+		cache.load("k1");
+		cache.load("k3");
+
+		// The oldest entry (k2) has been evicted, not the entry loaded by the other thread.
+		cache.load("k1");
+		cache.load("k2");
+		assertThat(loads).containsExactly("k1", "k2", "k1", "k3", "k2");
+	}
+
 	@Override
 	Cache<String, String> createCache(CacheLoader<String, String> loader) {
 		return new DefaultCache<>(loader);
 	}
+
+	@Override
+	Cache<String, String> createCache(CacheLoader<String, String> loader, long maximumSize) {
+		return new DefaultCache<>(loader, maximumSize);
+	}
 }
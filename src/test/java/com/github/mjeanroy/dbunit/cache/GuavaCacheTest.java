@@ -30,4 +30,9 @@ class GuavaCacheTest extends AbstractCacheTest {
 	Cache<String, String> createCache(CacheLoader<String, String> loader) {
 		return new GuavaCache<>(loader);
 	}
+
+	@Override
+	Cache<String, String> createCache(CacheLoader<String, String> loader, long maximumSize) {
+		return new GuavaCache<>(loader, maximumSize);
+	}
 }
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.commons.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class JfrEventsTest {
+
+	@Test
+	void it_should_not_record_event_without_recording() {
+		JfrEvent event = JfrEvents.begin(JfrEventType.FIXTURE_SETUP);
+
+		assertThat(event.isEnabled()).isFalse();
+		assertThatCode(() -> event.set("testClass", JfrEventsTest.class).set("rows", 2).commit()).doesNotThrowAnyException();
+	}
+
+	// The jdk.jfr API is not available when compiling for Java 8, so the recording is driven through reflection.
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_11)
+	void it_should_record_event(@TempDir Path tmp) throws Exception {
+		Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		Object recording = recordingClass.getConstructor().newInstance();
+		recordingClass.getMethod("enable", String.class).invoke(recording, JfrEventType.FIXTURE_SETUP.getName());
+		recordingClass.getMethod("start").invoke(recording);
+
+		try {
+			JfrEvent event = JfrEvents.begin(JfrEventType.FIXTURE_SETUP);
+			assertThat(event.isEnabled()).isTrue();
+			event.set("testClass", JfrEventsTest.class).set("testMethod", "method1").set("tables", 2).set("rows", 5).commit();
+
+			recordingClass.getMethod("stop").invoke(recording);
+			Path file = tmp.resolve("dbunit.jfr");
+			recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+
+			List<Object> events = readEvents(file, JfrEventType.FIXTURE_SETUP);
+			assertThat(events).hasSize(1);
+
+			Object recorded = events.get(0);
+			Object testClass = recorded.getClass().getMethod("getClass", String.class).invoke(recorded, "testClass");
+			assertThat(testClass.getClass().getMethod("getName").invoke(testClass)).isEqualTo(JfrEventsTest.class.getName());
+			assertThat(recorded.getClass().getMethod("getString", String.class).invoke(recorded, "testMethod")).isEqualTo("method1");
+			assertThat(recorded.getClass().getMethod("getInt", String.class).invoke(recorded, "tables")).isEqualTo(2);
+			assertThat(recorded.getClass().getMethod("getInt", String.class).invoke(recorded, "rows")).isEqualTo(5);
+		}
+		finally {
+			recordingClass.getMethod("close").invoke(recording);
+		}
+	}
+
+	@Test
+	void it_should_prefix_event_names() {
+		assertThat(JfrEventType.DATASET_PARSE.getName()).isEqualTo("com.github.mjeanroy.dbunit.DatasetParse");
+		assertThat(JfrEventType.FOREIGN_KEY_TOGGLE.getName()).isEqualTo("com.github.mjeanroy.dbunit.ForeignKeyToggle");
+	}
+
+	@Test
+	void it_should_get_field_index() {
+		assertThat(JfrEventType.FIXTURE_SETUP.indexOf("testClass")).isZero();
+		assertThat(JfrEventType.FIXTURE_SETUP.indexOf("rows")).isEqualTo(3);
+		assertThat(JfrEventType.FIXTURE_SETUP.indexOf("unknown")).isEqualTo(-1);
+	}
+
+	private static List<Object> readEvents(Path file, JfrEventType type) throws Exception {
+		List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+			.getMethod("readAllEvents", Path.class)
+			.invoke(null, file);
+
+		return events.stream()
+			.filter(event -> type.getName().equals(eventName(event)))
+			.collect(Collectors.toList());
+	}
+
+	private static String eventName(Object event) {
+		try {
+			Object eventType = event.getClass().getMethod("getEventType").invoke(event);
+			return (String) eventType.getClass().getMethod("getName").invoke(eventType);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new AssertionError(ex);
+		}
+	}
+}
@@ -27,6 +27,7 @@ package com.github.mjeanroy.dbunit.commons.lang;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -167,6 +168,17 @@ class StringsTest {
 		assertThat(Strings.substitute(input, prefix, suffix, variables)).isEqualTo("John Doe");
 	}
 
+	@Test
+	void it_should_substitute_multiple_variables() {
+		String input = "${firstName} ${lastName}";
+		String prefix = "${";
+		String suffix = "}";
+		Map<String, String> variables = new HashMap<>();
+		variables.put("firstName", "John");
+		variables.put("lastName", "Doe");
+		assertThat(Strings.substitute(input, prefix, suffix, variables)).isEqualTo("John Doe");
+	}
+
 	@Test
 	void it_should_substitute_unknown_variable_with_empty_string() {
 		String input = "${name}";
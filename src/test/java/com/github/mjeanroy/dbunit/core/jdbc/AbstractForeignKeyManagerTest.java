@@ -73,6 +73,28 @@ abstract class AbstractForeignKeyManagerTest {
 			.hasMessage("Cannot enable foreign key constraints, please check your dataset");
 	}
 
+	@Test
+	void it_should_re_enable_constraints_after_last_enable(Connection connection) throws Exception {
+		manager.disable(connection);
+		manager.disable(connection);
+		manager.enable(connection);
+
+		executeUpdate(connection, "INSERT INTO users_movies (user_id, movie_id) VALUES (10, 10)");
+		executeUpdate(connection, "DELETE FROM users_movies");
+
+		manager.enable(connection);
+
+		assertThatThrownBy(() -> executeUpdate(connection, "INSERT INTO users_movies (user_id, movie_id) VALUES (10, 10)"))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void it_should_fail_to_enable_constraints_without_disabling_them(Connection connection) {
+		assertThatThrownBy(() -> manager.enable(connection))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Cannot enable constraints, foreign keys have not been introspected, try disabling constraints first");
+	}
+
 	abstract JdbcForeignKeyManager foreignKeyManager();
 
 	private static void executeUpdate(Connection connection, String query) {
@@ -26,10 +26,12 @@ package com.github.mjeanroy.dbunit.core.jdbc;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.sql.Connection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
 class ConnectionProxyTest {
@@ -45,8 +47,24 @@ class ConnectionProxyTest {
 		ConnectionProxy cp = ConnectionProxy.of(connection);
 		assertThat(cp).hasToString(
 			"ConnectionProxy{" +
-				"connection: MockConnection" +
+				"connection: MockConnection, " +
+				"recorder: null, " +
+				"statements: null, " +
+				"metrics: null, " +
+				"schema: null" +
 			"}"
 		);
 	}
+
+	@Test
+	void it_should_restore_schema_when_closing_connection() throws Exception {
+		Connection connection = mock(Connection.class);
+		ConnectionProxy cp = ConnectionProxy.restoring(connection, "PUBLIC");
+
+		cp.close();
+
+		InOrder inOrder = inOrder(connection);
+		inOrder.verify(connection).setSchema("PUBLIC");
+		inOrder.verify(connection).close();
+	}
 }
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EmbeddedDatabaseTest(
+	resolveConnection = true
+)
+class JdbcRecorderTest {
+
+	@BeforeEach
+	@AfterEach
+	void cleanupDatabase(Connection connection) throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("DELETE FROM users_movies");
+			statement.executeUpdate("DELETE FROM users");
+		}
+	}
+
+	@Test
+	void it_should_record_and_replay_statements(Connection connection) throws Exception {
+		JdbcRecorder recorder = new JdbcRecorder();
+		Connection recorded = recorder.record(connection);
+
+		try (Statement statement = recorded.createStatement()) {
+			statement.executeUpdate("DELETE FROM users");
+		}
+
+		try (PreparedStatement statement = recorded.prepareStatement("INSERT INTO users (id, name) VALUES (?, ?)")) {
+			statement.setInt(1, 1);
+			statement.setString(2, "John Doe");
+			statement.addBatch();
+			statement.setInt(1, 2);
+			statement.setString(2, "Jane Doe");
+			statement.addBatch();
+			statement.executeBatch();
+		}
+
+		JdbcReplayPlan plan = recorder.toPlan();
+		assertThat(plan).isNotNull();
+		assertThat(plan.size()).isEqualTo(3);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("DELETE FROM users");
+		}
+
+		assertThat(countUsers(connection)).isZero();
+
+		plan.replay(connection);
+		assertThat(countUsers(connection)).isEqualTo(2);
+
+		plan.replay(connection);
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_record_single_executions(Connection connection) throws Exception {
+		JdbcRecorder recorder = new JdbcRecorder();
+		Connection recorded = recorder.record(connection);
+
+		try (PreparedStatement statement = recorded.prepareStatement("INSERT INTO users (id, name) VALUES (?, ?)")) {
+			statement.setInt(1, 1);
+			statement.setString(2, "John Doe");
+			statement.executeUpdate();
+			statement.setInt(1, 2);
+			statement.setString(2, "Jane Doe");
+			statement.executeUpdate();
+		}
+
+		JdbcReplayPlan plan = recorder.toPlan();
+		assertThat(plan).isNotNull();
+		assertThat(plan.size()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_copy_mutable_bound_values() throws Exception {
+		Connection connection = mockConnection();
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		JdbcRecorder recorder = new JdbcRecorder();
+		Connection recorded = recorder.record(connection);
+
+		Timestamp timestamp = new Timestamp(1000L);
+		timestamp.setNanos(123456789);
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(2000L);
+
+		try (PreparedStatement recordedStatement = recorded.prepareStatement("INSERT INTO events (id, created_at, updated_at) VALUES (?, ?, ?)")) {
+			recordedStatement.setInt(1, 1);
+			recordedStatement.setTimestamp(2, timestamp);
+			recordedStatement.setTimestamp(3, timestamp, calendar);
+			recordedStatement.executeUpdate();
+		}
+
+		Timestamp expectedTimestamp = (Timestamp) timestamp.clone();
+		Calendar expectedCalendar = (Calendar) calendar.clone();
+		timestamp.setTime(0L);
+		calendar.setTimeInMillis(0L);
+
+		JdbcReplayPlan plan = recorder.toPlan();
+		assertThat(plan).isNotNull();
+
+		Connection replayConnection = mockConnection();
+		PreparedStatement replayStatement = mock(PreparedStatement.class);
+		when(replayConnection.prepareStatement(anyString())).thenReturn(replayStatement);
+
+		plan.replay(replayConnection);
+
+		verify(replayStatement).setInt(1, 1);
+		verify(replayStatement).setTimestamp(2, expectedTimestamp);
+		verify(replayStatement).setTimestamp(3, expectedTimestamp, expectedCalendar);
+		verify(replayStatement).executeUpdate();
+	}
+
+	@Test
+	void it_should_not_replay_queries(Connection connection) throws Exception {
+		JdbcRecorder recorder = new JdbcRecorder();
+		Connection recorded = recorder.record(connection);
+
+		try (Statement statement = recorded.createStatement()) {
+			statement.executeQuery("SELECT COUNT(*) FROM users").close();
+		}
+
+		assertThat(recorder.isValid()).isFalse();
+		assertThat(recorder.getInvalidation()).isEqualTo("Query executed: SELECT COUNT(*) FROM users");
+		assertThat(recorder.toPlan()).isNull();
+	}
+
+	@Test
+	void it_should_not_replay_streams(Connection connection) throws Exception {
+		JdbcRecorder recorder = new JdbcRecorder();
+		Connection recorded = recorder.record(connection);
+
+		try (PreparedStatement statement = recorded.prepareStatement("INSERT INTO users (id, name) VALUES (?, ?)")) {
+			statement.setInt(1, 1);
+			statement.setAsciiStream(2, new ByteArrayInputStream("John Doe".getBytes()), 8);
+			statement.executeUpdate();
+		}
+
+		assertThat(recorder.isValid()).isFalse();
+		assertThat(recorder.toPlan()).isNull();
+	}
+
+	private static Connection mockConnection() throws Exception {
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		when(connection.getMetaData()).thenReturn(metaData);
+		return connection;
+	}
+}
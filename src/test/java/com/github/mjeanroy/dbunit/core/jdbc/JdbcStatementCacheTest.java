@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JdbcStatementCacheTest {
+
+	private static final String INSERT = "INSERT INTO users (id, name) VALUES (?, ?)";
+	private static final String DELETE = "DELETE FROM users WHERE id = ?";
+
+	private Connection connection;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+	}
+
+	@Test
+	void it_should_reuse_closed_statement() throws Exception {
+		Connection cached = JdbcStatementCache.of(connection, 8);
+
+		PreparedStatement s1 = cached.prepareStatement(INSERT);
+		s1.setInt(1, 1);
+		s1.close();
+
+		PreparedStatement s2 = cached.prepareStatement(INSERT);
+		s2.setInt(1, 2);
+		s2.close();
+
+		verify(connection, times(1)).prepareStatement(INSERT);
+		assertThat(s1.isClosed()).isTrue();
+		assertThat(s2.isClosed()).isTrue();
+	}
+
+	@Test
+	void it_should_clear_statement_returned_to_cache() throws Exception {
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(INSERT)).thenReturn(statement);
+
+		Connection cached = JdbcStatementCache.of(connection, 8);
+		cached.prepareStatement(INSERT).close();
+
+		verify(statement).clearParameters();
+		verify(statement).clearBatch();
+		verify(statement, never()).close();
+	}
+
+	@Test
+	void it_should_prepare_new_statement_if_cached_statement_is_in_use() throws Exception {
+		Connection cached = JdbcStatementCache.of(connection, 8);
+
+		PreparedStatement s1 = cached.prepareStatement(INSERT);
+		PreparedStatement s2 = cached.prepareStatement(INSERT);
+
+		assertThat(s1).isNotSameAs(s2);
+		verify(connection, times(2)).prepareStatement(INSERT);
+	}
+
+	@Test
+	void it_should_close_least_recently_used_statement() throws Exception {
+		PreparedStatement insert = mock(PreparedStatement.class);
+		PreparedStatement delete = mock(PreparedStatement.class);
+		when(connection.prepareStatement(INSERT)).thenReturn(insert);
+		when(connection.prepareStatement(DELETE)).thenReturn(delete);
+
+		Connection cached = JdbcStatementCache.of(connection, 1);
+		cached.prepareStatement(INSERT).close();
+		cached.prepareStatement(DELETE).close();
+
+		verify(insert).close();
+		verify(delete, never()).close();
+	}
+
+	@Test
+	void it_should_fail_to_use_statement_returned_to_cache() throws Exception {
+		Connection cached = JdbcStatementCache.of(connection, 8);
+
+		PreparedStatement statement = cached.prepareStatement(INSERT);
+		statement.close();
+
+		assertThatThrownBy(() -> statement.setInt(1, 1))
+			.isInstanceOf(SQLException.class)
+			.hasMessage("Statement is closed");
+	}
+
+	@Test
+	void it_should_reuse_statements_across_connection_proxies() throws Exception {
+		JdbcStatementCache.of(connection, 8).prepareStatement(INSERT).close();
+		JdbcStatementCache.of(ConnectionProxy.of(connection), 8).prepareStatement(INSERT).close();
+
+		verify(connection, times(1)).prepareStatement(INSERT);
+	}
+
+	@Test
+	void it_should_release_cache_when_connection_is_closed() throws Exception {
+		Connection cached = JdbcStatementCache.of(connection, 8);
+		cached.prepareStatement(INSERT).close();
+
+		when(connection.isClosed()).thenReturn(true);
+		cached.close();
+
+		JdbcStatementCache.of(connection, 8).prepareStatement(INSERT).close();
+		verify(connection, times(2)).prepareStatement(INSERT);
+	}
+
+	@Test
+	void it_should_release_cache_when_connection_is_closed_directly() throws Exception {
+		JdbcStatementCache.of(connection, 8).prepareStatement(INSERT).close();
+
+		// Closed without the caching connection, for example by a connection pool.
+		when(connection.isClosed()).thenReturn(true);
+		JdbcStatementCache.of(mock(Connection.class), 8);
+		when(connection.isClosed()).thenReturn(false);
+
+		JdbcStatementCache.of(connection, 8).prepareStatement(INSERT).close();
+		verify(connection, times(2)).prepareStatement(INSERT);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JdbcStatementMetricsTest {
+
+	private static final String INSERT = "INSERT INTO users (id, name) VALUES (?, ?)";
+
+	private Connection connection;
+	private Statement statement;
+	private PreparedStatement preparedStatement;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		statement = mock(Statement.class);
+		preparedStatement = mock(PreparedStatement.class);
+		connection = mock(Connection.class);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+	}
+
+	@Test
+	void it_should_compute_sql_shape() {
+		assertThat(JdbcStatementMetrics.shape("DELETE FROM  users\nWHERE id = 1 AND name = 'John ''Doe'''")).isEqualTo("DELETE FROM users WHERE id = ? AND name = ?");
+		assertThat(JdbcStatementMetrics.shape("UPDATE t1 SET amount = -1.5")).isEqualTo("UPDATE t1 SET amount = ?");
+	}
+
+	@Test
+	void it_should_measure_statements() throws Exception {
+		when(statement.executeUpdate("DELETE FROM users WHERE id = 1")).thenReturn(1);
+		when(statement.executeUpdate("DELETE FROM users WHERE id = 2")).thenReturn(0);
+
+		JdbcStatementMetrics metrics = new JdbcStatementMetrics(-1);
+		Connection instrumented = metrics.instrument(connection);
+
+		try (Statement s = instrumented.createStatement()) {
+			s.executeUpdate("DELETE FROM users WHERE id = 1");
+			s.executeUpdate("DELETE FROM users WHERE id = 2");
+		}
+
+		verify(statement).close();
+		assertThat(metrics.getStatements())
+			.extracting(JdbcStatementStats::getSql, JdbcStatementStats::getExecutions, JdbcStatementStats::getBatches, JdbcStatementStats::getRowsAffected)
+			.containsExactly(
+				tuple("DELETE FROM users WHERE id = ?", 2L, 0L, 1L)
+			);
+	}
+
+	@Test
+	void it_should_measure_prepared_statement_batches() throws Exception {
+		when(preparedStatement.executeBatch()).thenReturn(new int[] { 1, 1, Statement.SUCCESS_NO_INFO });
+
+		JdbcStatementMetrics metrics = new JdbcStatementMetrics(-1);
+		Connection instrumented = metrics.instrument(connection);
+
+		try (PreparedStatement ps = instrumented.prepareStatement(INSERT)) {
+			for (int i = 0; i < 3; i++) {
+				ps.setInt(1, i);
+				ps.setString(2, "user-" + i);
+				ps.addBatch();
+			}
+
+			ps.executeBatch();
+		}
+
+		assertThat(metrics.getStatements()).hasSize(1);
+
+		JdbcStatementStats stats = metrics.getStatements().get(0);
+		assertThat(stats.getSql()).isEqualTo(INSERT);
+		assertThat(stats.getExecutions()).isEqualTo(1L);
+		assertThat(stats.getBatches()).isEqualTo(1L);
+		assertThat(stats.getBatchedRows()).isEqualTo(3L);
+		assertThat(stats.getRowsAffected()).isEqualTo(2L);
+		assertThat(stats.getMaxNanos()).isEqualTo(stats.getNanos());
+	}
+
+	@Test
+	void it_should_keep_metrics_when_statements_are_cached() throws Exception {
+		JdbcStatementMetrics metrics = new JdbcStatementMetrics(-1);
+		Connection instrumented = JdbcStatementCache.of(metrics.instrument(connection), 8);
+
+		try (PreparedStatement ps = instrumented.prepareStatement(INSERT)) {
+			ps.executeUpdate();
+		}
+
+		assertThat(metrics.getStatements())
+			.extracting(JdbcStatementStats::getSql, JdbcStatementStats::getExecutions)
+			.containsExactly(
+				tuple(INSERT, 1L)
+			);
+	}
+}
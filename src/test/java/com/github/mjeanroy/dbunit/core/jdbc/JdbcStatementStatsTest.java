@@ -22,42 +22,35 @@
  * SOFTWARE.
  */
 
-package com.github.mjeanroy.dbunit.core.sql;
+package com.github.mjeanroy.dbunit.core.jdbc;
 
+import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
-import org.mockito.InOrder;
-import org.mockito.stubbing.Answer;
 
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.Mockito.inOrder;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
 
-class SqlLineVisitorTest {
+class JdbcStatementStatsTest {
 
 	@Test
-	void it_should_handle_character() {
-		SqlScriptParserContext ctx = mock(SqlScriptParserContext.class);
-		SqlScriptParserConfiguration configuration = mock(SqlScriptParserConfiguration.class);
-		SqlLineVisitor visitor = new SqlLineVisitor(ctx, configuration);
+	void it_should_implement_equals_hash_code() {
+		EqualsVerifier.forClass(JdbcStatementStats.class)
+			.withNonnullFields("sql")
+			.verify();
+	}
 
-		String line = "DROP TABLE foo;";
-		SqlQueryState state = mock(SqlQueryState.class);
-		when(ctx.getState()).thenReturn(state);
-		when(state.handleToken(anyString(), anyInt(), same(ctx), same(configuration))).thenAnswer((Answer<Integer>) invocationOnMock ->
-			(Integer) invocationOnMock.getArguments()[1]
+	@Test
+	void it_should_implement_to_string() {
+		JdbcStatementStats stats = new JdbcStatementStats("DELETE FROM users", 1, 0, 0, 2, 1000L, 1000L);
+		assertThat(stats).hasToString(
+			"JdbcStatementStats{" +
+				"sql: DELETE FROM users, " +
+				"executions: 1, " +
+				"batches: 0, " +
+				"batchedRows: 0, " +
+				"rowsAffected: 2, " +
+				"nanos: 1000, " +
+				"maxNanos: 1000" +
+			"}"
 		);
-
-		visitor.visit(line);
-
-		InOrder inOrder = inOrder(ctx, state);
-
-		for (int i = 0; i < line.length(); i++) {
-			inOrder.verify(state).handleToken(line, i, ctx, configuration);
-		}
-
-		inOrder.verify(ctx).append(' ');
 	}
 }
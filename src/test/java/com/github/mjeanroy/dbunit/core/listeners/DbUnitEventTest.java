@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSet;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbUnitEventTest {
+
+	@Test
+	void it_should_create_event() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		DbUnitEvent event = new DbUnitEvent(WithDataSet.class, method, DbUnitEvent.Stage.SETUP, DbUnitPhase.TABLE, "users", 2, 1000L);
+
+		assertThat(event.getTestClass()).isEqualTo(WithDataSet.class);
+		assertThat(event.getTestMethod()).isEqualTo(method);
+		assertThat(event.getStage()).isEqualTo(DbUnitEvent.Stage.SETUP);
+		assertThat(event.getDataSet()).isNull();
+		assertThat(event.getPhase()).isEqualTo(DbUnitPhase.TABLE);
+		assertThat(event.getName()).isEqualTo("users");
+		assertThat(event.getPass()).isZero();
+		assertThat(event.getRowCount()).isEqualTo(2);
+		assertThat(event.getNanos()).isEqualTo(1000L);
+	}
+
+	@Test
+	void it_should_create_event_with_dataset() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		DbUnitEvent event = new DbUnitEvent(WithDataSet.class, method, DbUnitEvent.Stage.SETUP, "/dataset/xml", DbUnitPhase.OPERATION, null, -1, 1000L);
+
+		assertThat(event.getStage()).isEqualTo(DbUnitEvent.Stage.SETUP);
+		assertThat(event.getDataSet()).isEqualTo("/dataset/xml");
+		assertThat(event.getPhase()).isEqualTo(DbUnitPhase.OPERATION);
+		assertThat(event.getName()).isNull();
+	}
+
+	@Test
+	void it_should_create_table_event_with_pass() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		DbUnitEvent event = new DbUnitEvent(WithDataSet.class, method, DbUnitEvent.Stage.SETUP, "/dataset/xml", DbUnitPhase.TABLE, "users", 2, 3, 1000L, null);
+
+		assertThat(event.getPhase()).isEqualTo(DbUnitPhase.TABLE);
+		assertThat(event.getName()).isEqualTo("users");
+		assertThat(event.getPass()).isEqualTo(2);
+		assertThat(event.getRowCount()).isEqualTo(3);
+		assertThat(event.getStatement()).isNull();
+	}
+
+	@Test
+	void it_should_implement_equals_hash_code() throws Exception {
+		EqualsVerifier.forClass(DbUnitEvent.class)
+			.withPrefabValues(Method.class, WithDataSet.class.getMethod("method1"), Object.class.getMethod("toString"))
+			.withNonnullFields("testClass", "testMethod", "stage", "phase")
+			.verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		DbUnitEvent event = new DbUnitEvent(WithDataSet.class, method, DbUnitEvent.Stage.TEAR_DOWN, DbUnitPhase.CLOSE, null, -1, 1000L);
+
+		assertThat(event).hasToString(
+			"DbUnitEvent{" +
+				"testClass: " + WithDataSet.class + ", " +
+				"testMethod: " + method + ", " +
+				"stage: TEAR_DOWN, " +
+				"dataSet: null, " +
+				"phase: CLOSE, " +
+				"name: null, " +
+				"pass: 0, " +
+				"rowCount: -1, " +
+				"nanos: 1000, " +
+				"statement: null" +
+			"}"
+		);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.listeners;
+
+import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixtureCostReportTest {
+
+	@Test
+	void it_should_write_empty_report(@TempDir Path tmp) throws Exception {
+		FixtureCostReport report = new FixtureCostReport(tmp, 10);
+		report.write();
+
+		assertThat(read(tmp, FixtureCostReport.JSON_FILE)).isEqualTo(
+			"{\n" +
+				"  \"dbUnitNanos\": 0,\n" +
+				"  \"testNanos\": 0,\n" +
+				"  \"dbUnitRatio\": 0.0000,\n" +
+				"  \"setups\": 0,\n" +
+				"  \"hits\": 0,\n" +
+				"  \"hitRate\": 0.0000,\n" +
+				"  \"caches\": [\n" +
+				"    {\"cache\": \"COMPILED_PLAN\", \"hits\": 0, \"misses\": 0, \"hitRate\": 0.0000},\n" +
+				"    {\"cache\": \"STATEMENT\", \"hits\": 0, \"misses\": 0, \"hitRate\": 0.0000},\n" +
+				"    {\"cache\": \"SQL_SCRIPT\", \"hits\": 0, \"misses\": 0, \"hitRate\": 0.0000}\n" +
+				"  ],\n" +
+				"  \"slowestDataSets\": [],\n" +
+				"  \"mostReloaded\": []\n" +
+			"}\n"
+		);
+
+		assertThat(read(tmp, FixtureCostReport.DATASETS_CSV_FILE)).isEqualTo("dataSet,nanos,loads,reused,replayed\n");
+		assertThat(read(tmp, FixtureCostReport.CLASSES_CSV_FILE)).isEqualTo("testClass,dataSet,loads\n");
+	}
+
+	@Test
+	void it_should_aggregate_events(@TempDir Path tmp) throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		FixtureCostReport report = new FixtureCostReport(tmp.resolve("reports"), 1);
+
+		// First test: full setup, nested phases must be ignored.
+		report.onEvent(event(method, DbUnitEvent.Stage.SETUP, "/users.xml", DbUnitPhase.DATASET, 100));
+		report.onEvent(event(method, DbUnitEvent.Stage.SETUP, "/users.xml", DbUnitPhase.TABLE, 1000));
+		report.onEvent(event(method, DbUnitEvent.Stage.SETUP, "/users.xml", DbUnitPhase.OPERATION, 200));
+		report.onEvent(cacheEvent(method, DbUnitPhase.CACHE_MISS, DbUnitCache.COMPILED_PLAN, 1));
+		report.onEvent(cacheEvent(method, DbUnitPhase.CACHE_MISS, DbUnitCache.STATEMENT, 2));
+		report.onEvent(cacheEvent(method, DbUnitPhase.CACHE_HIT, DbUnitCache.STATEMENT, 2));
+		report.onEvent(event(method, DbUnitEvent.Stage.TEST, null, DbUnitPhase.TEST, 500));
+
+		// Second test: same dataset, loaded again.
+		report.onEvent(event(method, DbUnitEvent.Stage.SETUP, "/users.xml", DbUnitPhase.OPERATION, 200));
+		report.onEvent(cacheEvent(method, DbUnitPhase.CACHE_HIT, DbUnitCache.COMPILED_PLAN, 1));
+		report.onEvent(cacheEvent(method, DbUnitPhase.CACHE_HIT, DbUnitCache.STATEMENT, 4));
+		report.onEvent(event(method, DbUnitEvent.Stage.TEST, null, DbUnitPhase.TEST, 500));
+
+		// Third test: another dataset, replayed.
+		report.onEvent(event(method, DbUnitEvent.Stage.SETUP, "/a,\"b\".xml", DbUnitPhase.REPLAY, 50));
+		report.onEvent(event(method, DbUnitEvent.Stage.TEAR_DOWN, "/a,\"b\".xml", DbUnitPhase.OPERATION, 50));
+
+		report.write();
+
+		assertThat(read(tmp.resolve("reports"), FixtureCostReport.JSON_FILE)).isEqualTo(
+			"{\n" +
+				"  \"dbUnitNanos\": 600,\n" +
+				"  \"testNanos\": 1000,\n" +
+				"  \"dbUnitRatio\": 0.3750,\n" +
+				"  \"setups\": 2,\n" +
+				"  \"hits\": 1,\n" +
+				"  \"hitRate\": 0.3333,\n" +
+				"  \"caches\": [\n" +
+				"    {\"cache\": \"COMPILED_PLAN\", \"hits\": 1, \"misses\": 1, \"hitRate\": 0.5000},\n" +
+				"    {\"cache\": \"STATEMENT\", \"hits\": 6, \"misses\": 2, \"hitRate\": 0.7500},\n" +
+				"    {\"cache\": \"SQL_SCRIPT\", \"hits\": 0, \"misses\": 0, \"hitRate\": 0.0000}\n" +
+				"  ],\n" +
+				"  \"slowestDataSets\": [\n" +
+				"    {\"dataSet\": \"/users.xml\", \"nanos\": 500, \"loads\": 2, \"reused\": 0, \"replayed\": 0}\n" +
+				"  ],\n" +
+				"  \"mostReloaded\": [\n" +
+				"    {\"testClass\": \"" + WithDataSet.class.getName() + "\", \"dataSet\": \"/users.xml\", \"loads\": 2}\n" +
+				"  ]\n" +
+			"}\n"
+		);
+
+		assertThat(read(tmp.resolve("reports"), FixtureCostReport.DATASETS_CSV_FILE)).isEqualTo(
+			"dataSet,nanos,loads,reused,replayed\n" +
+			"/users.xml,500,2,0,0\n" +
+			"\"/a,\"\"b\"\".xml\",100,0,0,1\n"
+		);
+
+		assertThat(read(tmp.resolve("reports"), FixtureCostReport.CLASSES_CSV_FILE)).isEqualTo(
+			"testClass,dataSet,loads\n" +
+			WithDataSet.class.getName() + ",/users.xml,2\n"
+		);
+	}
+
+	private static DbUnitEvent event(Method method, DbUnitEvent.Stage stage, String dataSet, DbUnitPhase phase, long nanos) {
+		return new DbUnitEvent(WithDataSet.class, method, stage, dataSet, phase, null, -1, nanos);
+	}
+
+	private static DbUnitEvent cacheEvent(Method method, DbUnitPhase phase, DbUnitCache cache, int lookups) {
+		return new DbUnitEvent(WithDataSet.class, method, DbUnitEvent.Stage.SETUP, "/users.xml", phase, cache.name(), lookups, 0L);
+	}
+
+		private static String read(Path dir, String fileName) throws Exception {
+		return new String(Files.readAllBytes(dir.resolve(fileName)), StandardCharsets.UTF_8);
+	}
+}
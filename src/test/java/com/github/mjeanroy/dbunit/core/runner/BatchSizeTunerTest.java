@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchSizeTunerTest {
+
+	@Test
+	void it_should_start_with_initial_size() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+		assertThat(tuner.getSize()).isEqualTo(100);
+		assertThat(tuner.isConverged()).isFalse();
+	}
+
+	@Test
+	void it_should_bound_initial_size() {
+		assertThat(new BatchSizeTuner("users", 0).getSize()).isEqualTo(BatchSizeTuner.MIN_SIZE);
+		assertThat(new BatchSizeTuner("users", 100_000).getSize()).isEqualTo(BatchSizeTuner.MAX_SIZE);
+	}
+
+	@Test
+	void it_should_increase_size_while_throughput_increases() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		measure(tuner, 100, 1000);
+		assertThat(tuner.getSize()).isEqualTo(200);
+
+		measure(tuner, 200, 1000);
+		assertThat(tuner.getSize()).isEqualTo(400);
+		assertThat(tuner.getBestSize()).isEqualTo(200);
+	}
+
+	@Test
+	void it_should_converge_on_best_size() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		measure(tuner, 100, 1000);
+		measure(tuner, 200, 1000);
+
+		// Same throughput: try smaller sizes, starting from the best size.
+		measure(tuner, 400, 2000);
+		assertThat(tuner.getSize()).isEqualTo(100);
+		assertThat(tuner.isConverged()).isFalse();
+
+		measure(tuner, 100, 1000);
+		assertThat(tuner.getSize()).isEqualTo(200);
+		assertThat(tuner.isConverged()).isTrue();
+
+		measure(tuner, 200, 1);
+		assertThat(tuner.getSize()).isEqualTo(200);
+	}
+
+	@Test
+	void it_should_decrease_size_while_throughput_increases() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		measure(tuner, 100, 1000);
+		measure(tuner, 200, 4000);
+		assertThat(tuner.getSize()).isEqualTo(50);
+
+		measure(tuner, 50, 100);
+		assertThat(tuner.getSize()).isEqualTo(25);
+
+		measure(tuner, 25, 1000);
+		assertThat(tuner.getSize()).isEqualTo(50);
+		assertThat(tuner.isConverged()).isTrue();
+	}
+
+	@Test
+	void it_should_ignore_partial_batches() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		tuner.record(42, 1000);
+
+		assertThat(tuner.getSize()).isEqualTo(100);
+		assertThat(tuner.getBestSize()).isEqualTo(100);
+	}
+
+	@Test
+	void it_should_not_change_size_before_several_samples() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		for (int i = 1; i < BatchSizeTuner.SAMPLES; i++) {
+			tuner.record(100, 1000);
+			assertThat(tuner.getSize()).isEqualTo(100);
+		}
+
+		tuner.record(100, 1000);
+		assertThat(tuner.getSize()).isEqualTo(200);
+	}
+
+	@Test
+	void it_should_ignore_outlier_sample() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+		measure(tuner, 100, 1000);
+
+		// A single fast batch (for example, measured while the database was idle) does not make size 200 better.
+		tuner.record(200, 100);
+		tuner.record(200, 4000);
+		tuner.record(200, 4000);
+
+		assertThat(tuner.getSize()).isEqualTo(50);
+		assertThat(tuner.getBestSize()).isEqualTo(100);
+	}
+
+	@Test
+	void it_should_converge_on_size_with_best_synthetic_throughput() {
+		BatchSizeTuner tuner = new BatchSizeTuner("users", 100);
+
+		for (int i = 0; i < 100 && !tuner.isConverged(); i++) {
+			int size = tuner.getSize();
+			tuner.record(size, syntheticNanos(size));
+		}
+
+		assertThat(tuner.isConverged()).isTrue();
+		assertThat(tuner.getSize()).isEqualTo(400);
+		assertThat(tuner.getBestSize()).isEqualTo(400);
+	}
+
+	/// Record the same measure for each sample of the current size.
+	private static void measure(BatchSizeTuner tuner, int rows, long nanos) {
+		for (int i = 0; i < BatchSizeTuner.SAMPLES; i++) {
+			tuner.record(rows, nanos);
+		}
+	}
+
+	/// Synthetic execution time of a batch: a fixed round trip cost plus a cost per row, that increases
+	/// sharply above 400 rows (for example, when the batch no longer fits into a network buffer).
+	private static long syntheticNanos(int size) {
+		long nanos = 50_000 + size * 100L;
+		return size > 400 ? nanos + (size - 400) * 400L : nanos;
+	}
+}
@@ -31,7 +31,6 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -40,10 +39,12 @@ class ConfigTest {
 
 	@Test
 	void it_should_create_empty_config() {
-		Config config = new Config(emptyList());
+		Config config = Config.builder().build();
 		assertThat(config.getSchema()).isNull();
 		assertThat(config.getInterceptors()).isEmpty();
 		assertThat(config.getFkManagers()).isEmpty();
+		assertThat(config.isDeltaSetup()).isFalse();
+		assertThat(config.getParallelism()).isEqualTo(1);
 	}
 
 	@Test
@@ -52,7 +53,7 @@ class ConfigTest {
 		List<DbUnitConfigInterceptor> interceptors = defaultInterceptors();
 		List<JdbcForeignKeyManager> fkManagers = defaultFkManagers();
 
-		Config config = new Config(schema, interceptors, fkManagers);
+		Config config = Config.builder().setSchema(schema).setInterceptors(interceptors).setFkManagers(fkManagers).build();
 
 		assertThat(config.getSchema()).isEqualTo(schema);
 		assertThat(config.getInterceptors()).isEqualTo(interceptors);
@@ -65,13 +66,121 @@ class ConfigTest {
 		List<DbUnitConfigInterceptor> interceptors = defaultInterceptors();
 		List<JdbcForeignKeyManager> fkManagers = defaultFkManagers();
 
-		Config config = new Config(schema, interceptors, fkManagers);
+		Config config = Config.builder().setSchema(schema).setInterceptors(interceptors).setFkManagers(fkManagers).build();
 
 		assertThat(config.getSchema()).isNull();
 		assertThat(config.getInterceptors()).isEqualTo(interceptors);
 		assertThat(config.getFkManagers()).isEqualTo(fkManagers);
 	}
 
+	@Test
+	void it_should_create_config_with_delta_setup() {
+		String schema = "public";
+		List<DbUnitConfigInterceptor> interceptors = defaultInterceptors();
+		List<JdbcForeignKeyManager> fkManagers = defaultFkManagers();
+
+		Config config = Config.builder().setSchema(schema).setInterceptors(interceptors).setFkManagers(fkManagers).setDeltaSetup(true).build();
+
+		assertThat(config.getSchema()).isEqualTo(schema);
+		assertThat(config.getInterceptors()).isEqualTo(interceptors);
+		assertThat(config.getFkManagers()).isEqualTo(fkManagers);
+		assertThat(config.isDeltaSetup()).isTrue();
+	}
+
+	@Test
+	void it_should_create_config_with_parallelism() {
+		String schema = "public";
+		List<DbUnitConfigInterceptor> interceptors = defaultInterceptors();
+		List<JdbcForeignKeyManager> fkManagers = defaultFkManagers();
+
+		Config config = Config.builder().setSchema(schema).setInterceptors(interceptors).setFkManagers(fkManagers).setParallelism(4).build();
+
+		assertThat(config.getSchema()).isEqualTo(schema);
+		assertThat(config.isDeltaSetup()).isFalse();
+		assertThat(config.getParallelism()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_create_config_with_at_least_one_connection() {
+		Config config = Config.builder().setParallelism(0).build();
+		assertThat(config.getParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_create_config_with_shared_init() {
+		Config config = Config.builder().setSchema("public").setSharedInit(true).build();
+		assertThat(config.isSharedInit()).isTrue();
+		assertThat(config.withDefaultSchema("dbunit_1_1").isSharedInit()).isTrue();
+	}
+
+	@Test
+	void it_should_create_config_with_replay() {
+		Config config = Config.builder().setSchema("public").setReplay(true).build();
+		assertThat(config.isReplay()).isTrue();
+		assertThat(config.withDefaultSchema("dbunit_1_1").isReplay()).isTrue();
+	}
+
+	@Test
+	void it_should_create_config_with_compiled_plans() {
+		Config config = Config.builder().setSchema("public").setCompiledPlans(true).build();
+		assertThat(config.isCompiledPlans()).isTrue();
+		assertThat(config.withDefaultSchema("dbunit_1_1").isCompiledPlans()).isTrue();
+	}
+
+	@Test
+	void it_should_create_config_with_statement_cache_size() {
+		Config config = Config.builder().setSchema("public").setStatementCacheSize(32).build();
+		assertThat(config.getStatementCacheSize()).isEqualTo(32);
+		assertThat(config.withDefaultSchema("dbunit_1_1").getStatementCacheSize()).isEqualTo(32);
+	}
+
+	@Test
+	void it_should_create_config_with_adaptive_batch_size() {
+		Config config = Config.builder().setSchema("public").setAdaptiveBatchSize(true).build();
+		assertThat(config.isAdaptiveBatchSize()).isTrue();
+		assertThat(config.withDefaultSchema("dbunit_1_1").isAdaptiveBatchSize()).isTrue();
+	}
+
+	@Test
+	void it_should_create_config_with_default_schema() {
+		Config config = Config.builder().setSchema("public").setInterceptors(defaultInterceptors()).setFkManagers(defaultFkManagers()).setDeltaSetup(true).setParallelism(4).build();
+
+		Config copy = config.withDefaultSchema("dbunit_1_1");
+
+		assertThat(copy.getSchema()).isEqualTo("dbunit_1_1");
+		assertThat(copy.isDefaultSchema()).isTrue();
+		assertThat(copy.getInterceptors()).isEqualTo(config.getInterceptors());
+		assertThat(copy.getFkManagers()).isEqualTo(config.getFkManagers());
+		assertThat(copy.isDeltaSetup()).isTrue();
+		assertThat(copy.getParallelism()).isEqualTo(4);
+		assertThat(config.isDefaultSchema()).isFalse();
+	}
+
+	@Test
+	void it_should_create_config_with_negative_statement_cache_size() {
+		Config config = Config.builder().setStatementCacheSize(-1).build();
+		assertThat(config.getStatementCacheSize()).isZero();
+	}
+
+	@Test
+	void it_should_copy_config_to_builder() {
+		Config config = Config.builder()
+			.setSchema("public")
+			.setInterceptors(defaultInterceptors())
+			.setFkManagers(defaultFkManagers())
+			.setDeltaSetup(true)
+			.setParallelism(4)
+			.setSharedInit(true)
+			.setReplay(true)
+			.setCompiledPlans(true)
+			.setStatementCacheSize(32)
+			.setAdaptiveBatchSize(true)
+			.setDefaultSchema(true)
+			.build();
+
+		assertThat(config.toBuilder().build()).isEqualTo(config);
+	}
+
 	@Test
 	void it_should_implement_equals_hash_code() {
 		EqualsVerifier.forClass(Config.class).verify();
@@ -83,13 +192,21 @@ class ConfigTest {
 		List<DbUnitConfigInterceptor> interceptors = defaultInterceptors();
 		List<JdbcForeignKeyManager> fkManagers = defaultFkManagers();
 
-		Config config = new Config(schema, interceptors, fkManagers);
+		Config config = Config.builder().setSchema(schema).setInterceptors(interceptors).setFkManagers(fkManagers).build();
 
 		assertThat(config).hasToString(
 			"Config{" +
 				"schema: \"public\", " +
 				"interceptors: [MockDbUnitConfigInterceptor], " +
-				"fkManagers: [MockJdbcForeignKeyManager]" +
+				"fkManagers: [MockJdbcForeignKeyManager], " +
+				"deltaSetup: false, " +
+				"parallelism: 1, " +
+				"sharedInit: false, " +
+				"replay: false, " +
+				"compiledPlans: false, " +
+				"statementCacheSize: 0, " +
+				"adaptiveBatchSize: false, " +
+				"defaultSchema: false" +
 			"}"
 		);
 	}
@@ -44,6 +44,8 @@ import com.github.mjeanroy.dbunit.core.jdbc.JdbcConfiguration;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcDefaultConnectionFactory;
 import com.github.mjeanroy.dbunit.core.replacement.Replacements;
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithChunkedSqlInit;
 import com.github.mjeanroy.dbunit.tests.fixtures.WithCustomConfiguration;
 import com.github.mjeanroy.dbunit.tests.fixtures.WithCustomConfiguration.QualifiedTableNameConfigurationInterceptor;
 import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSetAndLiquibase;
@@ -70,6 +72,7 @@ import static com.github.mjeanroy.dbunit.tests.utils.TestUtils.readPrivate;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
 
@@ -214,6 +217,20 @@ class DbUnitAnnotationsParserTest {
 		);
 	}
 
+	@Test
+	void it_should_extract_streamed_sql_scripts_from_annotation() {
+		Class<WithChunkedSqlInit> testClass = WithChunkedSqlInit.class;
+		DbUnitInit annotation = testClass.getAnnotation(DbUnitInit.class);
+		List<SqlScript> sqlScripts = DbUnitAnnotationsParser.extractSqlScript(annotation);
+
+		assertThat(sqlScripts).hasSize(1);
+		assertThat(sqlScripts.get(0).isStreamed()).isTrue();
+		assertThat(sqlScripts.get(0).getQueries()).isNull();
+		assertThat(sqlScripts.get(0).getPath()).isEqualTo("/sql/data.sql");
+		assertThat(sqlScripts.get(0).getChunkSize()).isEqualTo(2);
+		assertThat(sqlScripts.get(0).isCommit()).isTrue();
+	}
+
 	@Test
 	void it_should_extract_liquibase_changelogs_scripts_from_class_context() {
 		Class<WithDataSetAndLiquibase> testClass = WithDataSetAndLiquibase.class;
@@ -393,6 +410,22 @@ class DbUnitAnnotationsParserTest {
 		assertThat(schema).isNull();
 	}
 
+	@Test
+	void it_should_reject_compiled_plans_with_parallel_loading() {
+		DbUnitConfig annotation = TestClassWithCompiledPlansAndParallelism.class.getAnnotation(DbUnitConfig.class);
+		assertThatThrownBy(() -> DbUnitAnnotationsParser.readConfig(annotation))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessage("Compiled plans cannot be combined with parallel loading, use either compiledPlans or parallelism");
+	}
+
+	@Test
+	void it_should_reject_adaptive_batch_size_without_compiled_plans() {
+		DbUnitConfig annotation = TestClassWithAdaptiveBatchSizeWithoutCompiledPlans.class.getAnnotation(DbUnitConfig.class);
+		assertThatThrownBy(() -> DbUnitAnnotationsParser.readConfig(annotation))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessage("Adaptive batch size requires compiled plans, use compiledPlans with adaptiveBatchSize");
+	}
+
 	private void test_it_should_read_connection_factory_from_annotation_and_environment_variable() {
 		String url = "jdbc:hsqldb:mem:testdb";
 		String username = "SA";
@@ -467,4 +500,12 @@ class DbUnitAnnotationsParserTest {
 	@DbUnitConfig
 	private static class TestClassWithDefaultDbUnitConfig {
 	}
+
+	@DbUnitConfig(compiledPlans = true, parallelism = 2)
+	private static class TestClassWithCompiledPlansAndParallelism {
+	}
+
+	@DbUnitConfig(adaptiveBatchSize = true)
+	private static class TestClassWithAdaptiveBatchSizeWithoutCompiledPlans {
+	}
 }
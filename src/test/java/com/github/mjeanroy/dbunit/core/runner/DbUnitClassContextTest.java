@@ -74,11 +74,11 @@ class DbUnitClassContextTest {
 			mock(JdbcForeignKeyManager.class)
 		);
 
-		Config config = new Config(
-			schema,
-			interceptors,
-			fkManagers
-		);
+		Config config = Config.builder()
+			.setSchema(schema)
+			.setInterceptors(interceptors)
+			.setFkManagers(fkManagers)
+			.build();
 
 		DbUnitClassContext ctx = new DbUnitClassContext(
 			config,
@@ -130,11 +130,11 @@ class DbUnitClassContextTest {
 			mock(JdbcForeignKeyManager.class, "MockJdbcForeignKeyManager")
 		);
 
-		Config config = new Config(
-			schema,
-			interceptors,
-			fkManagers
-		);
+		Config config = Config.builder()
+			.setSchema(schema)
+			.setInterceptors(interceptors)
+			.setFkManagers(fkManagers)
+			.build();
 
 		DbUnitClassContext ctx = new DbUnitClassContext(
 			config,
@@ -152,7 +152,15 @@ class DbUnitClassContextTest {
 				"config: Config{" +
 					"schema: null, " +
 					"interceptors: [MockDbUnitConfigInterceptor], " +
-					"fkManagers: [MockJdbcForeignKeyManager]" +
+					"fkManagers: [MockJdbcForeignKeyManager], " +
+					"deltaSetup: false, " +
+					"parallelism: 1, " +
+					"sharedInit: false, " +
+					"replay: false, " +
+					"compiledPlans: false, " +
+					"statementCacheSize: 0, " +
+					"adaptiveBatchSize: false, " +
+					"defaultSchema: false" +
 				"}, " +
 
 				"connectionFactory: JdbcDefaultConnectionFactory{" +
@@ -169,7 +177,11 @@ class DbUnitClassContextTest {
 						"queries: [" +
 							"INSERT INTO foo VALUES(1, 'John Doe');, " +
 							"INSERT INTO foo VALUES(2, 'Jane Doe');" +
-						"]" +
+						"], " +
+						"path: null, " +
+						"configuration: null, " +
+						"chunkSize: 0, " +
+						"commit: false" +
 					"}" +
 				"], " +
 
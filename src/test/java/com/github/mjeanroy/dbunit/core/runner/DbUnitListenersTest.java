@@ -0,0 +1,290 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.HsqldbForeignKeyManager;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcForeignKeyManager;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitCache;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitEvent;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitListener;
+import com.github.mjeanroy.dbunit.core.listeners.DbUnitPhase;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSet;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableIterator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.USERS_XML;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DbUnitListenersTest {
+
+	@Test
+	void it_should_not_decorate_without_listeners() throws Exception {
+		DbUnitListeners listeners = new DbUnitListeners(emptyList());
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+
+		IDataSet dataSet = new DefaultDataSet(new DefaultTable("users"));
+		List<JdbcForeignKeyManager> fkManagers = singletonList(mock(JdbcForeignKeyManager.class));
+
+		assertThat(scope.start()).isZero();
+		assertThat(scope.decorate(dataSet)).isSameAs(dataSet);
+		assertThat(scope.decorate(fkManagers)).isSameAs(fkManagers);
+	}
+
+	@Test
+	void it_should_notify_phase() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		Method method = method1();
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method, DbUnitEvent.Stage.SETUP);
+
+		scope.end(DbUnitPhase.CONNECTION, scope.start());
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getTestClass()).isEqualTo(WithDataSet.class);
+		assertThat(events.get(0).getTestMethod()).isEqualTo(method);
+		assertThat(events.get(0).getStage()).isEqualTo(DbUnitEvent.Stage.SETUP);
+		assertThat(events.get(0).getPhase()).isEqualTo(DbUnitPhase.CONNECTION);
+		assertThat(events.get(0).getName()).isNull();
+		assertThat(events.get(0).getRowCount()).isEqualTo(-1);
+		assertThat(events.get(0).getNanos()).isGreaterThanOrEqualTo(0L);
+	}
+
+	@Test
+	void it_should_notify_phase_with_dataset() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		Method method = WithDataSet.class.getMethod("method2");
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(WithDataSet.class, method);
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method, DbUnitEvent.Stage.SETUP, fingerprint);
+
+		scope.end(DbUnitPhase.REUSE, scope.start());
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getStage, DbUnitEvent::getDataSet, DbUnitEvent::getPhase)
+			.containsExactly(
+				tuple(DbUnitEvent.Stage.SETUP, USERS_XML, DbUnitPhase.REUSE)
+			);
+	}
+
+	@Test
+	void it_should_notify_test_body() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		Method method = method1();
+
+		listeners.testFinished(WithDataSet.class, method);
+		assertThat(events).isEmpty();
+
+		listeners.testStarted();
+		listeners.testFinished(WithDataSet.class, method);
+		listeners.testFinished(WithDataSet.class, method);
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getTestMethod, DbUnitEvent::getStage, DbUnitEvent::getPhase)
+			.containsExactly(
+				tuple(method, DbUnitEvent.Stage.TEST, DbUnitPhase.TEST)
+			);
+	}
+
+	@Test
+	void it_should_notify_statements() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.TEAR_DOWN);
+
+		Statement statement = mock(Statement.class);
+		Connection connection = mock(Connection.class);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeUpdate("DELETE FROM users")).thenReturn(2);
+
+		Connection instrumented = scope.instrument(connection);
+		try (Statement s = instrumented.createStatement()) {
+			s.executeUpdate("DELETE FROM users");
+		}
+
+		scope.endStatements();
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getStage, DbUnitEvent::getPhase, DbUnitEvent::getName, DbUnitEvent::getRowCount)
+			.containsExactly(
+				tuple(DbUnitEvent.Stage.TEAR_DOWN, DbUnitPhase.STATEMENT, "DELETE FROM users", 2)
+			);
+
+		assertThat(events.get(0).getStatement().getExecutions()).isEqualTo(1L);
+	}
+
+	@Test
+	void it_should_notify_cache_lookups() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+
+		// Report lookups counted by previous tests first.
+		listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP).endCaches();
+		events.clear();
+
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+		DbUnitCache.STATEMENT.lookup(false);
+		DbUnitCache.STATEMENT.lookup(true);
+		DbUnitCache.STATEMENT.lookup(true);
+		DbUnitCache.COMPILED_PLAN.lookup(true);
+		scope.endCaches();
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getStage, DbUnitEvent::getPhase, DbUnitEvent::getName, DbUnitEvent::getRowCount)
+			.containsExactly(
+				tuple(DbUnitEvent.Stage.SETUP, DbUnitPhase.CACHE_HIT, "COMPILED_PLAN", 1),
+				tuple(DbUnitEvent.Stage.SETUP, DbUnitPhase.CACHE_HIT, "STATEMENT", 2),
+				tuple(DbUnitEvent.Stage.SETUP, DbUnitPhase.CACHE_MISS, "STATEMENT", 1)
+			);
+
+		events.clear();
+		scope.endCaches();
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void it_should_not_instrument_connection_without_listeners() throws Exception {
+		DbUnitListeners listeners = new DbUnitListeners(emptyList());
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+		Connection connection = mock(Connection.class);
+		assertThat(scope.instrument(connection)).isSameAs(connection);
+	}
+
+	@Test
+	void it_should_notify_each_table() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.TEAR_DOWN);
+
+		IDataSet dataSet = scope.decorate(new DefaultDataSet(new DefaultTable("users"), new DefaultTable("movies")));
+		ITableIterator it = dataSet.reverseIterator();
+		while (it.next()) {
+			assertThat(it.getTable()).isNotNull();
+		}
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getStage, DbUnitEvent::getPhase, DbUnitEvent::getName, DbUnitEvent::getPass, DbUnitEvent::getRowCount)
+			.containsExactly(
+				tuple(DbUnitEvent.Stage.TEAR_DOWN, DbUnitPhase.TABLE, "movies", 1, 0),
+				tuple(DbUnitEvent.Stage.TEAR_DOWN, DbUnitPhase.TABLE, "users", 1, 0)
+			);
+	}
+
+	@Test
+	void it_should_notify_each_pass_of_operation() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+
+		IDataSet dataSet = scope.decorate(new DefaultDataSet(new DefaultTable("users"), new DefaultTable("movies")));
+
+		// Iterate as CLEAN_INSERT does: delete tables in reverse order, then insert them.
+		for (ITableIterator it : asList(dataSet.reverseIterator(), dataSet.iterator())) {
+			while (it.next()) {
+				assertThat(it.getTable()).isNotNull();
+			}
+		}
+
+		assertThat(events)
+			.extracting(DbUnitEvent::getPhase, DbUnitEvent::getName, DbUnitEvent::getPass)
+			.containsExactly(
+				tuple(DbUnitPhase.TABLE, "movies", 1),
+				tuple(DbUnitPhase.TABLE, "users", 1),
+				tuple(DbUnitPhase.TABLE, "users", 2),
+				tuple(DbUnitPhase.TABLE, "movies", 2)
+			);
+	}
+
+	@Test
+	void it_should_notify_foreign_key_management() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(events::add));
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+
+		JdbcForeignKeyManager fkManager = mock(JdbcForeignKeyManager.class);
+		Connection connection = mock(Connection.class);
+
+		List<JdbcForeignKeyManager> fkManagers = scope.decorate(singletonList(fkManager));
+		fkManagers.get(0).disable(connection);
+		fkManagers.get(0).enable(connection);
+
+		verify(fkManager).disable(connection);
+		verify(fkManager).enable(connection);
+		assertThat(events)
+			.extracting(DbUnitEvent::getPhase)
+			.containsExactly(DbUnitPhase.FK_DISABLE, DbUnitPhase.FK_ENABLE);
+	}
+
+	@Test
+	void it_should_delegate_equals_hash_code_to_string_to_foreign_key_manager() throws Exception {
+		DbUnitListeners listeners = new DbUnitListeners(singletonList(event -> {}));
+		JdbcForeignKeyManager fkManager = new HsqldbForeignKeyManager();
+
+		JdbcForeignKeyManager m1 = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP).decorate(singletonList(fkManager)).get(0);
+		JdbcForeignKeyManager m2 = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP).decorate(singletonList(fkManager)).get(0);
+
+		assertThat(m1).isEqualTo(m2);
+		assertThat(m1).hasSameHashCodeAs(fkManager);
+		assertThat(m1).hasToString(fkManager.toString());
+	}
+
+	@Test
+	void it_should_ignore_listener_failure() throws Exception {
+		List<DbUnitEvent> events = new ArrayList<>();
+		DbUnitListener failing = event -> {
+			throw new IllegalStateException("Boom");
+		};
+
+		List<DbUnitListener> all = new ArrayList<>();
+		all.add(failing);
+		all.add(events::add);
+
+		DbUnitListeners listeners = new DbUnitListeners(all);
+		DbUnitListeners.Scope scope = listeners.open(WithDataSet.class, method1(), DbUnitEvent.Stage.SETUP);
+		scope.end(DbUnitPhase.CLOSE, scope.start());
+
+		assertThat(events).hasSize(1);
+	}
+
+	private static Method method1() throws Exception {
+		return WithDataSet.class.getMethod("method1");
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.tests.fixtures.WithRunnerFeatures;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithAdaptiveBatchSizeTest {
+
+	@BeforeEach
+	void setUp() {
+		AdaptiveBatchSizes.clear();
+	}
+
+	@Test
+	void it_should_tune_batch_size_of_each_table(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("adaptiveBatchSize");
+		Connection connection = db.getConnection();
+
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+
+		// Each setup inserts the two users in a single full batch: the size is changed once enough batches have been measured.
+		for (int i = 0; i < BatchSizeTuner.SAMPLES; i++) {
+			runner.beforeTest(testMethod);
+			assertThat(users(connection).getSize()).isEqualTo(i < BatchSizeTuner.SAMPLES - 1 ? 2 : 4);
+		}
+
+		// The users table does not fill a batch of four rows anymore: partial batches do not change the size.
+		runner.beforeTest(testMethod);
+		assertThat(users(connection).getSize()).isEqualTo(4);
+		assertThat(users(connection).getBestSize()).isEqualTo(2);
+	}
+
+	private static BatchSizeTuner users(Connection connection) throws Exception {
+		return AdaptiveBatchSizes.of(new DatabaseConnection(connection, null)).get("users", 0);
+	}
+
+	@Test
+	void it_should_enable_batched_statements(EmbeddedDatabase db) throws Exception {
+		IDatabaseConnection dbConnection = new DatabaseConnection(db.getConnection());
+		DatabaseConfig config = dbConnection.getConfig();
+		config.setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 50);
+
+		AdaptiveBatchSizes.configure(dbConnection);
+
+		assertThat(config.getProperty(DatabaseConfig.FEATURE_BATCHED_STATEMENTS)).isEqualTo(true);
+		assertThat(config.getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE)).isEqualTo(AdaptiveBatchSizes.of(dbConnection).median(50));
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithBudget;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithBudgetTest {
+
+	@Test
+	void it_should_load_data_set_within_budget(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithBudget.class.getMethod("method1");
+		DbUnitRunner runner = new DbUnitRunner(WithBudget.class, db);
+
+		assertThatCode(() -> runner.beforeTest(testMethod)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void it_should_fail_if_budget_is_exceeded(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithBudget.class.getMethod("method2");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithBudget.class, db);
+
+		assertThatThrownBy(() -> runner.beforeTest(testMethod))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessage("Setup of " + testMethod + " exceeded its budget: dataset has 10 rows (max: 5)");
+
+		// Budget is checked once the dataset has been loaded.
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_not_fail_if_budget_is_exceeded_with_failure_disabled(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithBudget.class.getMethod("method3");
+		DbUnitRunner runner = new DbUnitRunner(WithBudget.class, db);
+
+		assertThatCode(() -> runner.beforeTest(testMethod)).doesNotThrowAnyException();
+	}
+}
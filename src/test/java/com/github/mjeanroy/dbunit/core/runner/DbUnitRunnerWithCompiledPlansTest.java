@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.tests.fixtures.WithRunnerFeatures;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsersMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteUsersMovies;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithCompiledPlansTest {
+
+	@Test
+	void it_should_reuse_compiled_plan(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("compiledPlans");
+		Connection connection = db.getConnection();
+
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(klass, testMethod);
+		IDatabaseConnection dbConnection = new DatabaseConnection(connection, null);
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+
+		CompiledDataSetPlan plan = CompiledDataSetPlan.get(fingerprint, dbConnection);
+		assertThat(plan).isNotNull();
+		assertThat(deleteUsersMovies(connection)).isEqualTo(3L);
+		assertThat(deleteUsers(connection)).isEqualTo(2L);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(CompiledDataSetPlan.get(fingerprint, dbConnection)).isSameAs(plan);
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_tear_down_with_compiled_plan(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("compiledPlans");
+		Connection connection = db.getConnection();
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+		runner.afterTest(testMethod);
+
+		assertThat(countUsers(connection)).isZero();
+		assertThat(countMovies(connection)).isZero();
+		assertThat(countUsersMovies(connection)).isZero();
+	}
+
+	@Test
+	void it_should_not_compile_plan_during_tear_down(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("compiledPlans");
+		Connection connection = db.getConnection();
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(klass, testMethod);
+		IDatabaseConnection dbConnection = new DatabaseConnection(connection, null);
+		CompiledDataSetPlan.invalidate(fingerprint, dbConnection);
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.afterTest(testMethod);
+
+		assertThat(CompiledDataSetPlan.get(fingerprint, dbConnection)).isNull();
+		assertThat(countUsers(connection)).isZero();
+	}
+}
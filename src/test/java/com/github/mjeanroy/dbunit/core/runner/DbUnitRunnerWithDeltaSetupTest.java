@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.tests.db.JdbcQueries;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithRunnerFeatures;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithDeltaSetupTest {
+
+	@Test
+	void it_should_load_data_set_and_track_it(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("deltaSetup");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		auditUsers(connection);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(findAuditedStatements(connection)).containsExactly("INSERT 1", "INSERT 2");
+		assertThat(tracker(runner).getSnapshot()).containsExactly(entry("USERS", 2));
+	}
+
+	@Test
+	void it_should_only_update_modified_rows(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("deltaSetup");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		runner.beforeTest(testMethod);
+		executeUpdate(connection, "UPDATE users SET name = 'Luke Skywalker' WHERE id = 1");
+		auditUsers(connection);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(findAuditedStatements(connection)).containsExactly("UPDATE 1");
+		assertThat(findUserNames(connection)).containsExactly("John Doe", "Jane Doe");
+	}
+
+	@Test
+	void it_should_only_delete_and_insert_modified_rows(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("deltaSetup");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		runner.beforeTest(testMethod);
+		executeUpdate(connection, "DELETE FROM users WHERE id = 2");
+		executeUpdate(connection, "INSERT INTO users (id, name) VALUES (3, 'Luke Skywalker')");
+		auditUsers(connection);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(findAuditedStatements(connection)).containsExactly("DELETE 3", "INSERT 2");
+		assertThat(findUserNames(connection)).containsExactly("John Doe", "Jane Doe");
+	}
+
+	@Test
+	void it_should_not_issue_any_statement_if_data_set_is_unchanged(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("deltaSetup");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		runner.beforeTest(testMethod);
+		auditUsers(connection);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(findAuditedStatements(connection)).isEmpty();
+	}
+
+	@Test
+	void it_should_fallback_to_full_reload_if_row_count_changed(EmbeddedDatabase db) throws Exception {
+		Method testMethod = WithRunnerFeatures.class.getMethod("deltaSetup");
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		runner.beforeTest(testMethod);
+		executeUpdate(connection, "INSERT INTO users (id, name) VALUES (3, 'Luke Skywalker')");
+		auditUsers(connection);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(findAuditedStatements(connection)).containsExactlyInAnyOrder(
+			"DELETE 1", "DELETE 2", "DELETE 3", "INSERT 1", "INSERT 2"
+		);
+
+		assertThat(findUserNames(connection)).containsExactly("John Doe", "Jane Doe");
+	}
+
+	@Test
+	void it_should_invalidate_tracked_data_set_with_other_setup_operation(EmbeddedDatabase db) throws Exception {
+		Connection connection = db.getConnection();
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		runner.beforeTest(WithRunnerFeatures.class.getMethod("deltaSetup"));
+		assertThat(tracker(runner).getSnapshot()).isNotNull();
+
+		executeUpdate(connection, "DELETE FROM users");
+		runner.beforeTest(WithRunnerFeatures.class.getMethod("deltaSetupWithInsert"));
+
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(tracker(runner).getSnapshot()).isNull();
+	}
+
+	private static DeltaSetupTracker tracker(DbUnitRunner runner) {
+		return DeltaSetupTracker.of(runner.getFactory());
+	}
+
+	private static void executeUpdate(Connection connection, String query) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(query)) {
+			statement.executeUpdate();
+		}
+	}
+
+	private static List<String> findUserNames(Connection connection) {
+		return JdbcQueries.findAll(connection, "SELECT name FROM users ORDER BY id", rs -> rs.getString("name"));
+	}
+
+	// Record each statement executed on the users table, so that tests can check the statements issued by the delta setup.
+	private static void auditUsers(Connection connection) throws SQLException {
+		executeUpdate(connection, "DROP TABLE IF EXISTS users_audit");
+		executeUpdate(connection, "CREATE TABLE users_audit (seq INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, operation VARCHAR(10), id INT)");
+		executeUpdate(connection, "CREATE TRIGGER users_audit_insert AFTER INSERT ON users REFERENCING NEW ROW AS row FOR EACH ROW INSERT INTO users_audit (operation, id) VALUES ('INSERT', row.id)");
+		executeUpdate(connection, "CREATE TRIGGER users_audit_update AFTER UPDATE ON users REFERENCING NEW ROW AS row FOR EACH ROW INSERT INTO users_audit (operation, id) VALUES ('UPDATE', row.id)");
+		executeUpdate(connection, "CREATE TRIGGER users_audit_delete AFTER DELETE ON users REFERENCING OLD ROW AS row FOR EACH ROW INSERT INTO users_audit (operation, id) VALUES ('DELETE', row.id)");
+	}
+
+	private static List<String> findAuditedStatements(Connection connection) {
+		return JdbcQueries.findAll(connection, "SELECT operation, id FROM users_audit ORDER BY seq", rs -> rs.getString("operation") + " " + rs.getInt("id"));
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.exception.JdbcException;
+import com.github.mjeanroy.dbunit.tests.db.JdbcQueries;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithRunnerFeatures;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsersMovies;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithParallelLoadingTest {
+
+	@Test
+	void it_should_load_tables_of_same_level_on_loader_threads(EmbeddedDatabase db) throws Exception {
+		Connection connection = db.getConnection();
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		JdbcConnectionFactory factory = () -> {
+			threads.add(Thread.currentThread());
+			try {
+				return db.getConnection();
+			}
+			catch (SQLException ex) {
+				throw new JdbcException(ex);
+			}
+		};
+
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, factory);
+		runner.beforeTest(WithRunnerFeatures.class.getMethod("parallelLoading"));
+
+		// Users and movies do not depend on each other, each one is loaded by its own thread.
+		assertThat(threads).filteredOn(thread -> thread != Thread.currentThread()).hasSizeGreaterThanOrEqualTo(2);
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countMovies(connection)).isEqualTo(3);
+		assertThat(countUsersMovies(connection)).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_remove_loaded_tables_if_a_table_fails_to_load(EmbeddedDatabase db) throws Exception {
+		Connection connection = db.getConnection();
+
+		// Users and movies (first level) are loaded, then users_movies (second level) fails.
+		executeUpdate(connection, "ALTER TABLE users_movies ADD CONSTRAINT ck_users_movies_movie_id CHECK (movie_id < 0)");
+
+		DbUnitRunner runner = new DbUnitRunner(WithRunnerFeatures.class, db);
+		assertThatThrownBy(() -> runner.beforeTest(WithRunnerFeatures.class.getMethod("parallelLoading")))
+			.isExactlyInstanceOf(JdbcException.class)
+			.hasRootCauseInstanceOf(SQLException.class);
+
+		assertThat(countUsers(connection)).isZero();
+		assertThat(countMovies(connection)).isZero();
+		assertThat(countUsersMovies(connection)).isZero();
+		assertThat(JdbcQueries.countFrom(connection, "users_movies_events")).isZero();
+	}
+
+	@Test
+	void it_should_compute_foreign_key_levels(EmbeddedDatabase db) throws Exception {
+		IDatabaseConnection connection = new DatabaseConnection(db.getConnection());
+		List<String> tables = asList("users_movies_events", "users_movies", "users", "movies");
+
+		List<List<String>> levels = ParallelCleanInsertOperation.levels(connection, tables);
+
+		assertThat(levels).containsExactly(
+			asList("users", "movies"),
+			asList("users_movies"),
+			asList("users_movies_events")
+		);
+	}
+
+	private static void executeUpdate(Connection connection, String query) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(query)) {
+			statement.executeUpdate();
+		}
+	}
+}
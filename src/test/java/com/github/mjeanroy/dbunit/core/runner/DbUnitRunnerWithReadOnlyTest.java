@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.tests.db.JdbcQueries;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithMoviesDataSet;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithReadOnlyDataSet;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithReadOnlyTest {
+
+	@AfterEach
+	void tearDown() {
+		DbUnitRunner.applyDeferredTearDowns(WithReadOnlyDataSet.class);
+	}
+
+	@Test
+	void it_should_skip_tear_down_and_setup_between_read_only_tests_with_same_data_set(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+
+		assertThat(countUsers(connection)).isEqualTo(2);
+
+		// Should not be restored, since setup is skipped.
+		executeUpdate(connection, "UPDATE users SET name = 'Luke Skywalker' WHERE id = 1");
+		runner.beforeTest(klass.getMethod("readOnly2"));
+
+		assertThat(findUserNames(connection)).containsExactly("Luke Skywalker", "Jane Doe");
+	}
+
+	@Test
+	void it_should_apply_deferred_tear_down_before_setup_of_another_data_set(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+		runner.beforeTest(klass.getMethod("method1"));
+
+		assertThat(countUsers(connection)).isZero();
+		assertThat(countMovies(connection)).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_apply_deferred_tear_downs(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+		assertThat(countUsers(connection)).isEqualTo(2);
+
+		DbUnitRunner.applyDeferredTearDowns(klass);
+		assertThat(countUsers(connection)).isZero();
+	}
+
+	@Test
+	void it_should_not_apply_deferred_tear_downs_of_another_test_class(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+
+		DbUnitRunner.applyDeferredTearDowns(DbUnitRunnerWithReadOnlyTest.class);
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_not_apply_deferred_tear_down_during_setup_of_another_test_class(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		DbUnitRunner otherRunner = new DbUnitRunner(WithMoviesDataSet.class, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+
+		// Setup of another test class, running in parallel against the same database.
+		CompletableFuture.runAsync(() -> {
+			try {
+				otherRunner.beforeTest(WithMoviesDataSet.class.getMethod("method1"));
+			}
+			catch (NoSuchMethodException ex) {
+				throw new AssertionError(ex);
+			}
+		}).get();
+
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countMovies(connection)).isEqualTo(3);
+
+		runner.beforeTest(klass.getMethod("readOnly2"));
+		assertThat(findUserNames(connection)).containsExactly("John Doe", "Jane Doe");
+
+		runner.afterTest(klass.getMethod("readOnly2"));
+		DbUnitRunner.applyDeferredTearDowns(klass);
+		assertThat(countUsers(connection)).isZero();
+		assertThat(countMovies(connection)).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_apply_deferred_tear_downs_of_connection_target(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("readOnly1"));
+		runner.afterTest(klass.getMethod("readOnly1"));
+
+		DbUnitRunner.applyDeferredTearDowns(runner.getFactory());
+		assertThat(countUsers(connection)).isZero();
+	}
+
+	@Test
+	void it_should_defer_tear_down_of_verified_read_only_test(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("verified"));
+		runner.afterTest(klass.getMethod("verified"));
+
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_fail_if_verified_read_only_test_modified_database(EmbeddedDatabase db) throws Exception {
+		Class<WithReadOnlyDataSet> klass = WithReadOnlyDataSet.class;
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		Connection connection = db.getConnection();
+
+		runner.beforeTest(klass.getMethod("verified"));
+		executeUpdate(connection, "UPDATE users SET name = 'Luke Skywalker' WHERE id = 1");
+
+		assertThatThrownBy(() -> runner.afterTest(klass.getMethod("verified")))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessageContaining("is annotated with @DbUnitReadOnly but modified the database");
+
+		assertThat(countUsers(connection)).isZero();
+	}
+
+	private static void executeUpdate(Connection connection, String query) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(query)) {
+			statement.executeUpdate();
+		}
+	}
+
+	private static List<String> findUserNames(Connection connection) {
+		return JdbcQueries.findAll(connection, "SELECT name FROM users ORDER BY id", rs -> rs.getString("name"));
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcRecorder;
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcReplayPlan;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithRunnerFeatures;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsersMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithReplayTest {
+
+	@Test
+	void it_should_record_setup(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("replay");
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+
+		JdbcReplayPlan plan = SetupReplayTracker.of(runner.getFactory()).get(DataSetFingerprint.of(klass, testMethod), null);
+		assertThat(plan).isNotNull();
+		assertThat(plan.size()).isGreaterThanOrEqualTo(8);
+	}
+
+	@Test
+	void it_should_replay_setup(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("replay");
+		Connection connection = db.getConnection();
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+		runner.afterTest(testMethod);
+
+		SetupReplayTracker tracker = SetupReplayTracker.of(runner.getFactory());
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(klass, testMethod);
+		JdbcReplayPlan plan = tracker.get(fingerprint, null);
+		assertThat(plan).isNotNull();
+		assertThat(countUsers(connection)).isZero();
+
+		runner.beforeTest(testMethod);
+
+		// A DbUnit setup would have recorded a new plan.
+		assertThat(tracker.get(fingerprint, null)).isSameAs(plan);
+		assertThat(countUsers(connection)).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_replay_recorded_plan_instead_of_data_set(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("replay");
+		Connection connection = db.getConnection();
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+		runner.afterTest(testMethod);
+
+		// Replace recorded plan by a plan inserting a single user: replaying it must not load the dataset.
+		JdbcReplayPlan plan = recordPlan(connection, "INSERT INTO users (id, name) VALUES (99, 'Replayed')");
+		SetupReplayTracker.of(runner.getFactory()).record(DataSetFingerprint.of(klass, testMethod), null, plan);
+
+		runner.beforeTest(testMethod);
+
+		assertThat(countUsers(connection)).isEqualTo(1);
+		assertThat(countMovies(connection)).isZero();
+		assertThat(countUsersMovies(connection)).isZero();
+	}
+
+	@Test
+	void it_should_not_record_foreign_key_managers(EmbeddedDatabase db) throws Exception {
+		Class<WithRunnerFeatures> klass = WithRunnerFeatures.class;
+		Method testMethod = klass.getMethod("replayWithForeignKeyManager");
+		Connection connection = db.getConnection();
+		long foreignKeys = countForeignKeys(connection);
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+		runner.afterTest(testMethod);
+
+		// Foreign key managers query the database, so recording them would prevent any replay.
+		SetupReplayTracker tracker = SetupReplayTracker.of(runner.getFactory());
+		DataSetFingerprint fingerprint = DataSetFingerprint.of(klass, testMethod);
+		JdbcReplayPlan plan = tracker.get(fingerprint, null);
+		assertThat(plan).isNotNull();
+
+		runner.beforeTest(testMethod);
+
+		assertThat(tracker.get(fingerprint, null)).isSameAs(plan);
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countUsersMovies(connection)).isEqualTo(3);
+		assertThat(countForeignKeys(connection)).isEqualTo(foreignKeys).isPositive();
+	}
+
+	private static long countForeignKeys(Connection connection) throws SQLException {
+		String query = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE CONSTRAINT_TYPE = 'FOREIGN KEY'";
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+	private static JdbcReplayPlan recordPlan(Connection connection, String query) throws SQLException {
+		JdbcRecorder recorder = new JdbcRecorder();
+		try (Statement statement = recorder.record(connection).createStatement()) {
+			statement.executeUpdate(query);
+		}
+
+		deleteUsers(connection);
+		return recorder.toPlan();
+	}
+}
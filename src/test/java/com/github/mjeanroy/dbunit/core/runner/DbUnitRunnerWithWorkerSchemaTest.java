@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.tests.fixtures.WithWorkerSchema;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
+class DbUnitRunnerWithWorkerSchemaTest {
+
+	@Test
+	void it_should_load_data_set_in_worker_schema(EmbeddedDatabase db) throws Exception {
+		Class<WithWorkerSchema> klass = WithWorkerSchema.class;
+		Method testMethod = klass.getMethod("method1");
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+
+		try (Connection connection = runner.getConnection()) {
+			assertThat(connection.getSchema()).isEqualToIgnoringCase("dbunit_" + WorkerSchemas.workerId());
+			assertThat(countUsers(connection)).isEqualTo(2);
+		}
+
+		try (Connection connection = db.getConnection()) {
+			assertThat(countUsers(connection)).isZero();
+		}
+
+		runner.afterTest(testMethod);
+
+		try (Connection connection = runner.getConnection()) {
+			assertThat(countUsers(connection)).isZero();
+		}
+	}
+
+	@Test
+	void it_should_use_one_schema_per_thread(EmbeddedDatabase db) throws Exception {
+		Class<WithWorkerSchema> klass = WithWorkerSchema.class;
+		Method testMethod = klass.getMethod("method1");
+
+		DbUnitRunner runner = new DbUnitRunner(klass, db);
+		runner.beforeTest(testMethod);
+
+		String otherSchema = CompletableFuture.supplyAsync(() -> {
+			try (Connection connection = runner.getConnection()) {
+				assertThat(countUsers(connection)).isZero();
+				return connection.getSchema();
+			}
+			catch (Exception ex) {
+				throw new AssertionError(ex);
+			}
+		}).get();
+
+		try (Connection connection = runner.getConnection()) {
+			assertThat(connection.getSchema()).isNotEqualTo(otherSchema);
+			assertThat(countUsers(connection)).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void it_should_restore_schema_of_connection(EmbeddedDatabase db) throws Exception {
+		Class<WithWorkerSchema> klass = WithWorkerSchema.class;
+		Method testMethod = klass.getMethod("method1");
+
+		try (Connection connection = db.getConnection()) {
+			String schema = connection.getSchema();
+
+			// Simulate a pool, always returning the same connection.
+			DbUnitRunner runner = new DbUnitRunner(klass, new SingleConnectionDataSource(connection, true));
+			runner.beforeTest(testMethod);
+			assertThat(connection.getSchema()).isEqualTo(schema);
+
+			try (Connection workerConnection = runner.getConnection()) {
+				assertThat(workerConnection.getSchema()).isEqualToIgnoringCase("dbunit_" + WorkerSchemas.workerId());
+			}
+
+			assertThat(connection.getSchema()).isEqualTo(schema);
+
+			runner.afterTest(testMethod);
+			assertThat(connection.getSchema()).isEqualTo(schema);
+		}
+	}
+}
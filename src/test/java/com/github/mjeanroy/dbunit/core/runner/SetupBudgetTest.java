@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithBudget;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSet;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SetupBudgetTest {
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(SetupBudget.MAX_SETUP_MILLIS_PROPERTY);
+		System.clearProperty(SetupBudget.MAX_ROWS_PROPERTY);
+		System.clearProperty(SetupBudget.MAX_TABLES_PROPERTY);
+		System.clearProperty(SetupBudget.FAIL_PROPERTY);
+	}
+
+	@Test
+	void it_should_read_budget_from_annotations() throws Exception {
+		assertThat(SetupBudget.of(WithBudget.class, WithBudget.class.getMethod("method1"))).isEqualTo(new SetupBudget(-1, -1, 4, true));
+		assertThat(SetupBudget.of(WithBudget.class, WithBudget.class.getMethod("method2"))).isEqualTo(new SetupBudget(-1, 5, -1, true));
+		assertThat(SetupBudget.of(WithBudget.class, WithBudget.class.getMethod("method3"))).isEqualTo(new SetupBudget(-1, 5, -1, false));
+	}
+
+	@Test
+	void it_should_read_global_budget() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		assertThat(SetupBudget.of(WithDataSet.class, method).isDefined()).isFalse();
+
+		System.setProperty(SetupBudget.MAX_SETUP_MILLIS_PROPERTY, "500");
+		System.setProperty(SetupBudget.MAX_ROWS_PROPERTY, "1000");
+		System.setProperty(SetupBudget.FAIL_PROPERTY, "false");
+
+		SetupBudget budget = SetupBudget.of(WithDataSet.class, method);
+		assertThat(budget.isDefined()).isTrue();
+		assertThat(budget).isEqualTo(new SetupBudget(500, 1000, -1, false));
+	}
+
+	@Test
+	void it_should_check_setup_time() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		SetupBudget budget = new SetupBudget(100, -1, -1, true);
+
+		assertThatCode(() -> budget.check(method, TimeUnit.MILLISECONDS.toNanos(100), dataSet())).doesNotThrowAnyException();
+		assertThatThrownBy(() -> budget.check(method, TimeUnit.MILLISECONDS.toNanos(150), dataSet()))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessage("Setup of " + method + " exceeded its budget: setup took 150 ms (max: 100 ms)");
+	}
+
+	@Test
+	void it_should_check_rows_and_tables() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		SetupBudget budget = new SetupBudget(-1, 1, 1, true);
+
+		assertThatThrownBy(() -> budget.check(method, 0L, dataSet()))
+			.isExactlyInstanceOf(DbUnitException.class)
+			.hasMessage("Setup of " + method + " exceeded its budget: dataset has 2 rows (max: 1), dataset has 2 tables (max: 1)");
+	}
+
+	@Test
+	void it_should_not_fail_if_failure_is_disabled() throws Exception {
+		Method method = WithDataSet.class.getMethod("method1");
+		SetupBudget budget = new SetupBudget(0, 0, 0, false);
+		assertThatCode(() -> budget.check(method, TimeUnit.SECONDS.toNanos(1), dataSet())).doesNotThrowAnyException();
+	}
+
+	@Test
+	void it_should_implement_equals_hash_code() {
+		EqualsVerifier.forClass(SetupBudget.class).verify();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		SetupBudget budget = new SetupBudget(100, 1000, 10, true);
+		assertThat(budget).hasToString(
+			"SetupBudget{" +
+				"maxSetupMillis: 100, " +
+				"maxRows: 1000, " +
+				"maxTables: 10, " +
+				"fail: true" +
+			"}"
+		);
+	}
+
+	private static IDataSet dataSet() throws Exception {
+		DefaultTable users = new DefaultTable("users", new Column[] {
+			new Column("id", DataType.INTEGER),
+		});
+
+		users.addRow(new Object[] { 1 });
+		users.addRow(new Object[] { 2 });
+
+		return new DefaultDataSet(users, new DefaultTable("movies"));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import com.github.mjeanroy.dbunit.core.jdbc.JdbcDataSourceConnectionFactory;
+import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static com.github.mjeanroy.dbunit.tests.db.JdbcQueries.countFrom;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH, initScript = false)
+class SharedInitializerTest {
+
+	@Test
+	void it_should_run_scripts_once(EmbeddedDatabase db) throws Exception {
+		JdbcDataSourceConnectionFactory factory = new JdbcDataSourceConnectionFactory(db);
+		List<SqlScript> scripts = asList(
+			new SqlScript(singletonList("CREATE TABLE foo (id INT PRIMARY KEY)")),
+			new SqlScript(singletonList("INSERT INTO foo (id) VALUES (1)"))
+		);
+
+		SharedInitializer.initialize(factory, scripts, emptyList());
+		SharedInitializer.initialize(factory, scripts, emptyList());
+
+		try (Connection connection = db.getConnection()) {
+			assertThat(countFrom(connection, "foo")).isEqualTo(1);
+			assertThat(countFrom(connection, SharedInitializer.MARKER_TABLE)).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void it_should_run_new_scripts(EmbeddedDatabase db) throws Exception {
+		JdbcDataSourceConnectionFactory factory = new JdbcDataSourceConnectionFactory(db);
+		SqlScript createTable = new SqlScript(singletonList("CREATE TABLE foo (id INT PRIMARY KEY)"));
+		SqlScript insert = new SqlScript(singletonList("INSERT INTO foo (id) VALUES (1)"));
+
+		SharedInitializer.initialize(factory, singletonList(createTable), emptyList());
+		SharedInitializer.initialize(factory, asList(createTable, insert), emptyList());
+
+		try (Connection connection = db.getConnection()) {
+			assertThat(countFrom(connection, "foo")).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void it_should_run_liquibase_change_logs_without_markers(EmbeddedDatabase db) throws Exception {
+		JdbcDataSourceConnectionFactory factory = new JdbcDataSourceConnectionFactory(db);
+		List<LiquibaseChangeLog> changeLogs = singletonList(new LiquibaseChangeLog("/liquibase/changelog.xml"));
+
+		SharedInitializer.initialize(factory, emptyList(), changeLogs);
+
+		long changeSets;
+		try (Connection connection = db.getConnection()) {
+			changeSets = countFrom(connection, "DATABASECHANGELOG");
+			assertThat(changeSets).isPositive();
+		}
+
+		// Liquibase skips changesets already executed.
+		SharedInitializer.initialize(factory, emptyList(), changeLogs);
+
+		try (Connection connection = db.getConnection()) {
+			assertThat(countFrom(connection, "users")).isZero();
+			assertThat(countFrom(connection, "DATABASECHANGELOG")).isEqualTo(changeSets);
+			assertThat(connection.getMetaData().getTables(null, null, SharedInitializer.MARKER_TABLE, null).next()).isFalse();
+		}
+	}
+
+	@Test
+	void it_should_compute_sha256() {
+		assertThat(SharedInitializer.sha256("abc")).isEqualTo(
+			"ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"
+		);
+	}
+}
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.dbunit.core.runner;
 
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
+import com.github.mjeanroy.dbunit.core.sql.SqlScriptParserConfiguration;
 import com.github.mjeanroy.dbunit.exception.JdbcException;
 import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,17 +37,19 @@ import java.sql.Connection;
 
 import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
 import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest.Lifecycle.BEFORE_EACH;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("SameParameterValue")
-@EmbeddedDatabaseTest
+@EmbeddedDatabaseTest(lifecycle = BEFORE_EACH)
 class SqlScriptRunnerFunctionTest {
 
 	private JdbcConnectionFactory factory;
@@ -82,6 +85,21 @@ class SqlScriptRunnerFunctionTest {
 		verify(factory).getConnection();
 	}
 
+	@Test
+	void it_should_stream_script_in_chunks(EmbeddedDatabase db) throws Exception {
+		SqlScriptExecutor executor = new SqlScriptExecutor(factory);
+		Connection connection = db.getConnection();
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.builder().build();
+		SqlScript sqlScript = new SqlScript("/sql/data.sql", configuration, 2, true);
+
+		executor.execute(sqlScript);
+
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countMovies(connection)).isEqualTo(3);
+		verify(this.connection, times(3)).commit();
+		verify(this.connection).close();
+	}
+
 	@Test
 	void it_should_wrap_sql_exception(EmbeddedDatabase db) throws Exception {
 		SqlScriptExecutor executor = new SqlScriptExecutor(factory);
@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.dbunit.core.runner;
 
+import com.github.mjeanroy.dbunit.core.sql.SqlScriptParserConfiguration;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +32,7 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SqlScriptTest {
 
@@ -65,8 +67,33 @@ class SqlScriptTest {
 				"queries: [" +
 					"INSERT INTO users(name) VALUES('John Doe');, " +
 					"INSERT INTO users(name) VALUES('Jane Doe');" +
-				"]" +
+				"], " +
+				"path: null, " +
+				"configuration: null, " +
+				"chunkSize: 0, " +
+				"commit: false" +
 			"}"
 		);
 	}
+
+	@Test
+	void it_should_create_streamed_sql_script() {
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.builder().build();
+		SqlScript sqlScript = new SqlScript("/sql/data.sql", configuration, 100, true);
+
+		assertThat(sqlScript.isStreamed()).isTrue();
+		assertThat(sqlScript.getQueries()).isNull();
+		assertThat(sqlScript.getPath()).isEqualTo("/sql/data.sql");
+		assertThat(sqlScript.getConfiguration()).isSameAs(configuration);
+		assertThat(sqlScript.getChunkSize()).isEqualTo(100);
+		assertThat(sqlScript.isCommit()).isTrue();
+	}
+
+	@Test
+	void it_should_not_create_streamed_sql_script_without_chunk_size() {
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.builder().build();
+		assertThatThrownBy(() -> new SqlScript("/sql/data.sql", configuration, 0, false))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Chunk size must be strictly positive");
+	}
 }
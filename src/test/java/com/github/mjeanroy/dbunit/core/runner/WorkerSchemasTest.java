@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.core.runner;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkerSchemasTest {
+
+	@Test
+	void it_should_detect_worker_schema() {
+		assertThat(WorkerSchemas.isWorkerSchema(null)).isFalse();
+		assertThat(WorkerSchemas.isWorkerSchema("public")).isFalse();
+		assertThat(WorkerSchemas.isWorkerSchema("dbunit_${dbunit.worker}")).isTrue();
+	}
+
+	@Test
+	void it_should_resolve_worker_schema() {
+		String workerId = WorkerSchemas.workerId();
+		assertThat(WorkerSchemas.resolve("dbunit_${dbunit.worker}")).isEqualTo("dbunit_" + workerId);
+		assertThat(WorkerSchemas.resolve("dbunit_${dbunit.worker}")).isEqualTo("dbunit_" + workerId);
+	}
+
+	@Test
+	void it_should_compute_one_worker_id_per_thread() throws Exception {
+		String workerId = WorkerSchemas.workerId();
+		String otherWorkerId = CompletableFuture.supplyAsync(WorkerSchemas::workerId).get();
+		assertThat(workerId).matches("\\w+_\\d+");
+		assertThat(otherWorkerId).isNotEqualTo(workerId);
+	}
+
+	@Test
+	void it_should_keep_worker_id_of_current_thread() {
+		assertThat(WorkerSchemas.workerId()).isEqualTo(WorkerSchemas.workerId());
+	}
+
+	@Test
+	void it_should_compute_fork_id_from_system_property() {
+		String previous = System.getProperty("dbunit.fork");
+		System.setProperty("dbunit.fork", "42");
+
+		try {
+			assertThat(WorkerSchemas.forkId()).isEqualTo("42");
+		}
+		finally {
+			if (previous == null) {
+				System.clearProperty("dbunit.fork");
+			}
+			else {
+				System.setProperty("dbunit.fork", previous);
+			}
+		}
+	}
+
+	@Test
+	void it_should_compute_process_id() {
+		String name = ManagementFactory.getRuntimeMXBean().getName();
+		assertThat(WorkerSchemas.processId()).matches("\\w+").isEqualTo(name.substring(0, name.indexOf('@')));
+	}
+}
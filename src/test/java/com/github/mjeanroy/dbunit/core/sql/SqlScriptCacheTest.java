@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.core.resources.Resource;
+import com.github.mjeanroy.dbunit.tests.builders.ResourceMockBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqlScriptCacheTest {
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(SqlScriptCache.MAXIMUM_SIZE_PROPERTY);
+		System.clearProperty(SqlScriptCache.MAXIMUM_SCRIPT_SIZE_PROPERTY);
+	}
+
+	@Test
+	void it_should_parse_script_once() {
+		SqlScriptCache cache = new SqlScriptCache(10, 4096);
+		Resource resource = new ResourceMockBuilder().fromClasspath("/sql/schema.sql").build();
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.defaultConfiguration();
+
+		List<String> q1 = cache.parse(resource, configuration);
+		List<String> q2 = cache.parse(resource, configuration);
+
+		assertThat(q1).hasSize(4);
+		assertThat(q2).isSameAs(q1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_read_script_twice_on_cache_miss_and_once_on_cache_hit() throws Exception {
+		Resource resource = mock(Resource.class);
+		when(resource.getPath()).thenReturn("/sql/drop.sql");
+		when(resource.openStream()).thenAnswer(invocation -> new ByteArrayInputStream("DROP TABLE users;".getBytes(StandardCharsets.UTF_8)));
+
+		SqlScriptCache cache = new SqlScriptCache(10, 4096);
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.defaultConfiguration();
+
+		cache.parse(resource, configuration);
+		verify(resource, times(2)).openStream();
+
+		cache.parse(resource, configuration);
+		verify(resource, times(3)).openStream();
+	}
+
+	@Test
+	void it_should_not_cache_large_scripts() {
+		SqlScriptCache cache = new SqlScriptCache(10, 16);
+		Resource resource = new ResourceMockBuilder().fromClasspath("/sql/schema.sql").build();
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.defaultConfiguration();
+
+		List<String> q1 = cache.parse(resource, configuration);
+		List<String> q2 = cache.parse(resource, configuration);
+
+		assertThat(q1).hasSize(4);
+		assertThat(q2).isNotSameAs(q1).isEqualTo(q1);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void it_should_parse_script_again_with_another_configuration() {
+		SqlScriptCache cache = new SqlScriptCache(10, 4096);
+		Resource resource = new ResourceMockBuilder().fromClasspath("/sql/schema.sql").build();
+		SqlScriptParserConfiguration c1 = SqlScriptParserConfiguration.defaultConfiguration();
+		SqlScriptParserConfiguration c2 = SqlScriptParserConfiguration.builder().setDelimiter('/').build();
+
+		List<String> q1 = cache.parse(resource, c1);
+		List<String> q2 = cache.parse(resource, c2);
+
+		assertThat(q1).hasSize(4);
+		assertThat(q2).hasSize(1);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_parse_script_again_if_content_changed() throws Exception {
+		AtomicReference<String> content = new AtomicReference<>("DROP TABLE users;");
+		Resource resource = mock(Resource.class);
+		when(resource.getPath()).thenReturn("/sql/drop.sql");
+		when(resource.openStream()).thenAnswer(invocation -> new ByteArrayInputStream(content.get().getBytes(StandardCharsets.UTF_8)));
+
+		SqlScriptCache cache = new SqlScriptCache(10, 4096);
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.defaultConfiguration();
+
+		assertThat(cache.parse(resource, configuration)).containsExactly("DROP TABLE users;");
+
+		content.set("DROP TABLE movies;");
+		assertThat(cache.parse(resource, configuration)).containsExactly("DROP TABLE movies;");
+		assertThat(cache.size()).isEqualTo(1);
+
+		List<String> queries = cache.parse(resource, configuration);
+		assertThat(cache.parse(resource, configuration)).isSameAs(queries);
+	}
+
+	@Test
+	void it_should_read_maximum_size_from_system_property() {
+		assertThat(SqlScriptCache.maximumSize()).isEqualTo(64L);
+
+		System.setProperty(SqlScriptCache.MAXIMUM_SIZE_PROPERTY, " 10 ");
+		assertThat(SqlScriptCache.maximumSize()).isEqualTo(10L);
+	}
+
+	@Test
+	void it_should_read_maximum_script_size_from_system_property() {
+		assertThat(SqlScriptCache.maximumScriptSize()).isEqualTo(1024L * 1024L);
+
+		System.setProperty(SqlScriptCache.MAXIMUM_SCRIPT_SIZE_PROPERTY, "2048");
+		assertThat(SqlScriptCache.maximumScriptSize()).isEqualTo(2048L);
+	}
+
+	@Test
+	void it_should_use_default_maximum_size_with_invalid_system_property() {
+		System.setProperty(SqlScriptCache.MAXIMUM_SIZE_PROPERTY, "ten");
+		assertThat(SqlScriptCache.maximumSize()).isEqualTo(64L);
+	}
+
+	@Test
+	void it_should_evict_scripts() {
+		SqlScriptCache cache = new SqlScriptCache(1, 4096);
+		SqlScriptParserConfiguration configuration = SqlScriptParserConfiguration.defaultConfiguration();
+		Resource r1 = new ResourceMockBuilder().fromClasspath("/sql/schema.sql").build();
+		Resource r2 = new ResourceMockBuilder().fromClasspath("/sql/drop.sql").build();
+
+		cache.parse(r1, configuration);
+		cache.parse(r2, configuration);
+
+		assertThat(cache.size()).isEqualTo(1);
+	}
+}
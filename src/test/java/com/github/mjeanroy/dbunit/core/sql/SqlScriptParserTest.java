@@ -25,6 +25,7 @@
 package com.github.mjeanroy.dbunit.core.sql;
 
 import com.github.mjeanroy.dbunit.core.resources.Resource;
+import com.github.mjeanroy.dbunit.exception.JdbcException;
 import com.github.mjeanroy.dbunit.tests.builders.ResourceMockBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,10 +37,12 @@ import java.nio.charset.Charset;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -255,6 +258,134 @@ class SqlScriptParserTest {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void it_should_iterate_over_queries() {
+		String q1 = "DROP TABLE users;";
+		String q2 = "DROP TABLE movies;";
+		String query = join(asList(
+			"-- Drop Table users",
+			q1,
+			"-- Drop Table movies",
+			q2
+		));
+
+		InputStream stream = createStream(query);
+
+		try (SqlStatementIterator queries = SqlScriptParser.iterateScript(stream, configuration)) {
+			assertThat(queries).toIterable().containsExactly(q1, q2);
+		}
+	}
+
+	@Test
+	void it_should_iterate_over_file_path() {
+		String script = "/sql/schema.sql";
+		try (SqlStatementIterator queries = SqlScriptParser.iterateScript(script, configuration)) {
+			List<String> outputs = new ArrayList<>();
+			queries.forEachRemaining(outputs::add);
+			verifyParsedQueries(outputs);
+		}
+	}
+
+	@Test
+	void it_should_execute_queries_in_chunks() throws Exception {
+		String q1 = "UPDATE users SET name = 'John';";
+		String q2 = "UPDATE users SET name = 'Jane';";
+		String q3 = "UPDATE users SET name = 'Jack';";
+		String query = join(asList(q1, q2, q3));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.createStatement()).thenReturn(statement);
+
+		InputStream stream = createStream(query);
+
+		long count = SqlScriptParser.executeScript(connection, stream, configuration, 2, false);
+
+		assertThat(count).isEqualTo(3);
+
+		InOrder inOrder = inOrder(connection, statement);
+		inOrder.verify(connection).createStatement();
+		inOrder.verify(statement).addBatch(q1);
+		inOrder.verify(statement).addBatch(q2);
+		inOrder.verify(statement).executeBatch();
+		inOrder.verify(statement).clearBatch();
+		inOrder.verify(statement).addBatch(q3);
+		inOrder.verify(statement).executeBatch();
+		inOrder.verify(statement).clearBatch();
+		inOrder.verify(statement).close();
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void it_should_execute_queries_in_chunks_and_commit_each_chunk() throws Exception {
+		String q1 = "UPDATE users SET name = 'John';";
+		String q2 = "UPDATE users SET name = 'Jane';";
+		String q3 = "UPDATE users SET name = 'Jack';";
+		String query = join(asList(q1, q2, q3));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+
+		InputStream stream = createStream(query);
+
+		long count = SqlScriptParser.executeScript(connection, stream, configuration, 2, true);
+
+		assertThat(count).isEqualTo(3);
+
+		InOrder inOrder = inOrder(connection, statement);
+		inOrder.verify(connection).getAutoCommit();
+		inOrder.verify(connection).setAutoCommit(false);
+		inOrder.verify(connection).createStatement();
+		inOrder.verify(statement).addBatch(q1);
+		inOrder.verify(statement).addBatch(q2);
+		inOrder.verify(statement).executeBatch();
+		inOrder.verify(statement).clearBatch();
+		inOrder.verify(connection).commit();
+		inOrder.verify(statement).addBatch(q3);
+		inOrder.verify(statement).executeBatch();
+		inOrder.verify(statement).clearBatch();
+		inOrder.verify(connection).commit();
+		inOrder.verify(statement).close();
+		inOrder.verify(connection).setAutoCommit(true);
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void it_should_rollback_failing_chunk() throws Exception {
+		String q1 = "UPDATE users SET name = 'John';";
+		String q2 = "UPDATE users SET name = 'Jane';";
+		String query = join(asList(q1, q2));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeBatch()).thenReturn(new int[]{1}).thenThrow(new SQLException("Fail"));
+
+		InputStream stream = createStream(query);
+
+		assertThatThrownBy(() -> SqlScriptParser.executeScript(connection, stream, configuration, 1, true))
+			.isExactlyInstanceOf(JdbcException.class)
+			.hasMessage("Cannot execute chunk #2 (1 queries already executed)");
+
+		InOrder inOrder = inOrder(connection);
+		inOrder.verify(connection).commit();
+		inOrder.verify(connection).rollback();
+		inOrder.verify(connection).setAutoCommit(true);
+	}
+
+	@Test
+	void it_should_fail_to_execute_queries_with_invalid_chunk_size() {
+		Connection connection = mock(Connection.class);
+		InputStream stream = createStream("DROP TABLE users;");
+
+		assertThatThrownBy(() -> SqlScriptParser.executeScript(connection, stream, configuration, 0, false))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Chunk size must be strictly positive");
+	}
+
 	private static void verifyParsedQueries(List<String> queries) {
 		assertThat(queries).isNotEmpty().containsExactly(
 			"CREATE TABLE users (id INT PRIMARY KEY, name varchar(100));",
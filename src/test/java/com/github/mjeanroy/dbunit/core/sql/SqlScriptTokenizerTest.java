@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import com.github.mjeanroy.dbunit.exception.SqlParserException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlScriptTokenizerTest {
+
+	private static final SqlScriptParserConfiguration DEFAULT = SqlScriptParserConfiguration.defaultConfiguration();
+
+	private static final SqlScriptParserConfiguration CUSTOM = SqlScriptParserConfiguration.builder()
+		.setDelimiter('/')
+		.setLineComment("#")
+		.setStartBlockComment("{{")
+		.setEndBlockComment("}}")
+		.build();
+
+	@Test
+	void it_should_parse_queries() throws Exception {
+		String script = "DROP TABLE users;\nDROP TABLE movies;\n";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(
+			"DROP TABLE users;",
+			"DROP TABLE movies;"
+		);
+	}
+
+	@Test
+	void it_should_parse_query_without_end_delimiter() throws Exception {
+		assertThat(tokenize("DROP TABLE users", DEFAULT)).containsExactly("DROP TABLE users");
+	}
+
+	@Test
+	void it_should_join_lines_with_a_space() throws Exception {
+		String script = "CREATE TABLE users (\r\n  id INT\r  name VARCHAR(100)\n);";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(
+			"CREATE TABLE users (   id INT   name VARCHAR(100) );"
+		);
+	}
+
+	@Test
+	void it_should_skip_comments() throws Exception {
+		String script = "-- Drop users\nDROP /* table; */ TABLE users; -- Done;\n/*\n * Drop movies;\n */\nDROP TABLE movies;";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(
+			"DROP  TABLE users;",
+			"DROP TABLE movies;"
+		);
+	}
+
+	@Test
+	void it_should_keep_varchar_values() throws Exception {
+		String script = "INSERT INTO users VALUES ('John; -- /* Doe');\nINSERT INTO users VALUES (\"Jane; Doe\");";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(
+			"INSERT INTO users VALUES ('John; -- /* Doe');",
+			"INSERT INTO users VALUES (\"Jane; Doe\");"
+		);
+	}
+
+	@Test
+	void it_should_handle_escaping() throws Exception {
+		String script = "SELECT 'John\\'s; file', 'Jane''s; file';";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(script);
+	}
+
+	@Test
+	void it_should_use_custom_configuration() throws Exception {
+		String script = "# Comment /\nDROP TABLE users /\n{{ DROP TABLE foo / }} DROP TABLE movies/";
+		assertThat(tokenize(script, CUSTOM)).containsExactly(
+			"DROP TABLE users /",
+			"DROP TABLE movies/"
+		);
+	}
+
+	@Test
+	void it_should_fail_with_unterminated_varchar() {
+		assertThatThrownBy(() -> tokenize("SELECT 'foo", DEFAULT))
+			.isExactlyInstanceOf(SqlParserException.class)
+			.hasMessage("Cannot flush query: SELECT 'foo ");
+	}
+
+	@Test
+	void it_should_fail_with_unterminated_block_comment() {
+		assertThatThrownBy(() -> tokenize("SELECT 1 /* foo", DEFAULT))
+			.isExactlyInstanceOf(SqlParserException.class)
+			.hasMessage("Cannot flush query: SELECT 1  ");
+	}
+
+	@Test
+	void it_should_parse_tokens_across_buffer_boundaries() throws Exception {
+		StringBuilder script = new StringBuilder();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			script.append("INSERT INTO users VALUES (").append(i).append(", 'it''s -- ").append(i).append("');\r\n");
+			script.append("/* Comment */ -- Comment\r\n");
+			expected.add("INSERT INTO users VALUES (" + i + ", 'it''s -- " + i + "');");
+		}
+
+		for (int bufferSize = 1; bufferSize < 64; bufferSize++) {
+			assertThat(tokenize(script.toString(), DEFAULT, bufferSize)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void it_should_parse_empty_script() throws Exception {
+		assertThat(tokenize("", DEFAULT)).isEmpty();
+		assertThat(tokenize("\n", DEFAULT)).isEmpty();
+	}
+
+	@Test
+	void it_should_keep_empty_queries() throws Exception {
+		assertThat(tokenize(";;", DEFAULT)).containsExactly(";", ";");
+	}
+
+	@Test
+	void it_should_skip_empty_lines() throws Exception {
+		String script = "SELECT 1;\n\n\nSELECT 2;\r\n\r\nSELECT 3";
+		assertThat(tokenize(script, DEFAULT)).containsExactly("SELECT 1;", "SELECT 2;", "SELECT 3");
+		assertThat(tokenize(script, CUSTOM)).containsExactly("SELECT 1;   SELECT 2;  SELECT 3");
+	}
+
+	@Test
+	void it_should_trim_queries() throws Exception {
+		assertThat(tokenize("DROP TABLE foo;   \t  ", DEFAULT)).containsExactly("DROP TABLE foo;");
+	}
+
+	@Test
+	void it_should_keep_line_terminators_of_varchar_values_as_spaces() throws Exception {
+		assertThat(tokenize("SELECT 'a''\n';", DEFAULT)).containsExactly("SELECT 'a'' ';");
+	}
+
+	@Test
+	void it_should_fail_with_escaped_line_terminator() {
+		assertThatThrownBy(() -> tokenize("SELECT '\\\n';", DEFAULT))
+			.isExactlyInstanceOf(SqlParserException.class)
+			.hasMessage("Cannot flush query: SELECT '\\ '; ");
+	}
+
+	@Test
+	void it_should_not_mix_quote_characters() throws Exception {
+		String script = "SELECT '\"', \"'\";";
+		assertThat(tokenize(script, DEFAULT)).containsExactly(script);
+	}
+
+	@Test
+	void it_should_not_end_block_comment_with_start_marker() throws Exception {
+		assertThat(tokenize("SELECT 1 /*/ SELECT 2 */;", DEFAULT)).containsExactly("SELECT 1 ;");
+	}
+
+	@Test
+	void it_should_not_match_comment_markers_across_lines() throws Exception {
+		assertThat(tokenize("SELECT 1 -\n- 1; SELECT 2 /\n* 1 */;", DEFAULT)).containsExactly(
+			"SELECT 1 - - 1;",
+			"SELECT 2 / * 1 */;"
+		);
+	}
+
+	@Test
+	void it_should_split_queries_after_comments() throws Exception {
+		assertThat(tokenize("SELECT 1; /* */ -- ;\n SELECT 2", DEFAULT)).containsExactly("SELECT 1;", "SELECT 2");
+	}
+
+	@Test
+	void it_should_split_on_custom_delimiter_before_default_comment_markers() throws Exception {
+		assertThat(tokenize("SELECT 1 /*/ SELECT 2 */;", CUSTOM)).containsExactly("SELECT 1 /", "*/", "SELECT 2 */", ";");
+		assertThat(tokenize("SELECT 1; /* */ -- ;\n SELECT 2", CUSTOM)).containsExactly("SELECT 1; /", "* */", "-- ;  SELECT 2");
+	}
+
+	private static List<String> tokenize(String script, SqlScriptParserConfiguration configuration) throws IOException {
+		return tokenize(script, configuration, SqlScriptTokenizer.DEFAULT_BUFFER_SIZE);
+	}
+
+	private static List<String> tokenize(String script, SqlScriptParserConfiguration configuration, int bufferSize) throws IOException {
+		List<String> queries = new ArrayList<>();
+		try (SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(new StringReader(script), configuration, bufferSize)) {
+			String query;
+			while ((query = tokenizer.next()) != null) {
+				queries.add(query);
+			}
+		}
+
+		return queries;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.core.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SqlStatementIteratorTest {
+
+	private static final String BR = System.getProperty("line.separator");
+
+	@Test
+	void it_should_iterate_over_queries() {
+		String q1 = "DROP TABLE users;";
+		String q2 = "INSERT INTO users VALUES ('John; Doe');";
+		String q3 = "SELECT 1";
+		InputStream stream = createStream("-- Comment" + BR + q1 + BR + "/* ; */ " + q2 + BR + q3);
+
+		try (SqlStatementIterator iterator = new SqlStatementIterator(stream, SqlScriptParserConfiguration.defaultConfiguration())) {
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next()).isEqualTo(q1);
+			assertThat(iterator.next()).isEqualTo(q2);
+			assertThat(iterator.next()).isEqualTo(q3);
+			assertThat(iterator.hasNext()).isFalse();
+			assertThatThrownBy(iterator::next).isExactlyInstanceOf(NoSuchElementException.class);
+		}
+	}
+
+	@Test
+	void it_should_parse_several_queries_on_the_same_line() {
+		String q1 = "DROP TABLE users;";
+		String q2 = "DROP TABLE movies;";
+		InputStream stream = createStream(q1 + " " + q2);
+
+		try (SqlStatementIterator iterator = new SqlStatementIterator(stream, SqlScriptParserConfiguration.defaultConfiguration())) {
+			assertThat(iterator).toIterable().containsExactly(q1, q2);
+		}
+	}
+
+	@Test
+	void it_should_close_stream_once_exhausted() throws Exception {
+		InputStream stream = spy(createStream("DROP TABLE users;"));
+
+		SqlStatementIterator iterator = new SqlStatementIterator(stream, SqlScriptParserConfiguration.defaultConfiguration());
+		assertThat(iterator.next()).isEqualTo("DROP TABLE users;");
+		assertThat(iterator.hasNext()).isFalse();
+
+		verify(stream).close();
+	}
+
+	@Test
+	void it_should_stop_iteration_once_closed() {
+		InputStream stream = createStream("DROP TABLE users;" + BR + "DROP TABLE movies;");
+
+		SqlStatementIterator iterator = new SqlStatementIterator(stream, SqlScriptParserConfiguration.defaultConfiguration());
+		assertThat(iterator.next()).isEqualTo("DROP TABLE users;");
+
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	private static InputStream createStream(String query) {
+		return new ByteArrayInputStream(query.getBytes(Charset.defaultCharset()));
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.MOVIES_XML;
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.USERS_XML;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class DbUnitDataSetClassOrdererTest {
+
+	@Test
+	void it_should_group_classes_by_data_set() {
+		ClassDescriptor users1 = mockClassDescriptor(Users1.class);
+		ClassDescriptor movies = mockClassDescriptor(Movies.class);
+		ClassDescriptor users2 = mockClassDescriptor(Users2.class);
+		ClassDescriptor none = mockClassDescriptor(WithoutDataSet.class);
+
+		List<ClassDescriptor> descriptors = new ArrayList<>(asList(users1, movies, none, users2));
+		ClassOrdererContext context = mock(ClassOrdererContext.class);
+		doReturn(descriptors).when(context).getClassDescriptors();
+
+		new DbUnitDataSetClassOrderer().orderClasses(context);
+
+		assertThat(descriptors).containsExactly(users1, users2, movies, none);
+	}
+
+	private static ClassDescriptor mockClassDescriptor(Class<?> testClass) {
+		ClassDescriptor descriptor = mock(ClassDescriptor.class, testClass.getSimpleName());
+		doReturn(testClass).when(descriptor).getTestClass();
+		return descriptor;
+	}
+
+	@DbUnitDataSet(USERS_XML)
+	private static class Users1 {
+	}
+
+	@DbUnitDataSet(MOVIES_XML)
+	private static class Movies {
+	}
+
+	@DbUnitDataSet(USERS_XML)
+	private static class Users2 {
+	}
+
+	private static class WithoutDataSet {
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.runner.DataSetFingerprint;
+import com.github.mjeanroy.dbunit.tests.fixtures.WithReadOnlyDataSet;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class DbUnitDataSetMethodOrdererTest {
+
+	@Test
+	void it_should_group_methods_by_data_set() throws Exception {
+		Class<WithReadOnlyDataSet> testClass = WithReadOnlyDataSet.class;
+		MethodDescriptor readOnly1 = mockMethodDescriptor(testClass, "readOnly1");
+		MethodDescriptor method1 = mockMethodDescriptor(testClass, "method1");
+		MethodDescriptor readOnly2 = mockMethodDescriptor(testClass, "readOnly2");
+		MethodDescriptor verified = mockMethodDescriptor(testClass, "verified");
+
+		List<MethodDescriptor> descriptors = new ArrayList<>(asList(readOnly1, method1, readOnly2, verified));
+		MethodOrdererContext context = mock(MethodOrdererContext.class);
+		doReturn(testClass).when(context).getTestClass();
+		doReturn(descriptors).when(context).getMethodDescriptors();
+
+		new DbUnitDataSetMethodOrderer().orderMethods(context);
+
+		assertThat(descriptors).containsExactly(readOnly1, readOnly2, verified, method1);
+	}
+
+	@Test
+	void it_should_count_saved_reloads() throws Exception {
+		Class<WithReadOnlyDataSet> testClass = WithReadOnlyDataSet.class;
+		List<String> methods = new ArrayList<>(asList("readOnly1", "method1", "readOnly2", "verified"));
+
+		int saved = DataSetAffinity.order(
+			methods,
+			methodName -> fingerprint(testClass, methodName)
+		);
+
+		assertThat(saved).isEqualTo(1);
+		assertThat(methods).containsExactly("readOnly1", "readOnly2", "verified", "method1");
+	}
+
+	private static MethodDescriptor mockMethodDescriptor(Class<?> testClass, String methodName) throws Exception {
+		MethodDescriptor descriptor = mock(MethodDescriptor.class, methodName);
+		doReturn(testClass.getMethod(methodName)).when(descriptor).getMethod();
+		return descriptor;
+	}
+
+	private static DataSetFingerprint fingerprint(Class<?> testClass, String methodName) {
+		try {
+			return DataSetFingerprint.of(testClass, testClass.getMethod(methodName));
+		}
+		catch (NoSuchMethodException ex) {
+			throw new AssertionError(ex);
+		}
+	}
+}
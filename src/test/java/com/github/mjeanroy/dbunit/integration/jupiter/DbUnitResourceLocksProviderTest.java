@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.integration.jupiter;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitConnection;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitReadOnly;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider.Lock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.MOVIES_XML;
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.USERS_XML;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
+
+class DbUnitResourceLocksProviderTest {
+
+	@Test
+	void it_should_provide_locks_for_class_data_set() throws Exception {
+		Method method = WithConnection.class.getMethod("method1");
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForMethod(emptyList(), WithConnection.class, method);
+		assertThat(locks).containsExactly(
+			new Lock("dbunit:jdbc:hsqldb:mem:testdb:USERS", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_provide_locks_for_method_data_set() throws Exception {
+		Method method = WithConnection.class.getMethod("method2");
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForMethod(emptyList(), WithConnection.class, method);
+		assertThat(locks).containsExactly(
+			new Lock("dbunit:jdbc:hsqldb:mem:testdb:MOVIES", READ_WRITE),
+			new Lock("dbunit:jdbc:hsqldb:mem:testdb:USERS", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_provide_locks_with_default_target() throws Exception {
+		Method method = WithoutConnection.class.getMethod("method1");
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForMethod(emptyList(), WithoutConnection.class, method);
+		assertThat(locks).containsExactly(
+			new Lock("dbunit:default:MOVIES", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_not_provide_locks_without_data_set() throws Exception {
+		Method method = WithoutDataSet.class.getMethod("method1");
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForMethod(emptyList(), WithoutDataSet.class, method);
+		assertThat(locks).isEmpty();
+	}
+
+	@Test
+	void it_should_provide_global_lock_if_data_set_cannot_be_read() throws Exception {
+		Method method = WithUnknownDataSet.class.getMethod("method1");
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForMethod(emptyList(), WithUnknownDataSet.class, method);
+		assertThat(locks).containsExactly(
+			new Lock(Resources.GLOBAL, READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_provide_class_locks_for_read_only_tests() {
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForClass(WithReadOnlyMethod.class);
+		assertThat(locks).containsExactlyInAnyOrder(
+			new Lock("dbunit:jdbc:hsqldb:mem:testdb:MOVIES", READ_WRITE),
+			new Lock("dbunit:jdbc:hsqldb:mem:testdb:USERS", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_provide_class_locks_for_read_only_class() {
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForClass(WithReadOnlyClass.class);
+		assertThat(locks).containsExactly(
+			new Lock("dbunit:default:MOVIES", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_provide_class_locks_for_nested_read_only_class() {
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForNestedClass(emptyList(), WithReadOnlyClass.class);
+		assertThat(locks).containsExactly(
+			new Lock("dbunit:default:MOVIES", READ_WRITE)
+		);
+	}
+
+	@Test
+	void it_should_not_provide_class_locks_without_read_only_tests() {
+		Set<Lock> locks = new DbUnitResourceLocksProvider().provideForClass(WithConnection.class);
+		assertThat(locks).isEmpty();
+	}
+
+	@DbUnitConnection(url = "jdbc:hsqldb:mem:testdb", user = "SA", password = "")
+	@DbUnitDataSet(USERS_XML)
+	public static class WithConnection {
+		public void method1() {
+		}
+
+		@DbUnitDataSet(MOVIES_XML)
+		public void method2() {
+		}
+	}
+
+	@DbUnitDataSet(MOVIES_XML)
+	public static class WithoutConnection {
+		public void method1() {
+		}
+	}
+
+	@DbUnitConnection(url = "jdbc:hsqldb:mem:testdb", user = "SA", password = "")
+	@DbUnitDataSet(USERS_XML)
+	public static class WithReadOnlyMethod {
+		public void method1() {
+		}
+
+		@DbUnitReadOnly
+		@DbUnitDataSet(MOVIES_XML)
+		public void method2() {
+		}
+	}
+
+	@DbUnitReadOnly
+	@DbUnitDataSet(MOVIES_XML)
+	public static class WithReadOnlyClass {
+		public void method1() {
+		}
+	}
+
+	public static class WithUnknownDataSet {
+		@DbUnitDataSet("classpath:/dataset/xml/unknown.xml")
+		public void method1() {
+		}
+	}
+
+	public static class WithoutDataSet {
+		public void method1() {
+		}
+	}
+}
@@ -28,22 +28,33 @@ import com.github.mjeanroy.dbunit.core.jdbc.JdbcConnectionFactory;
 import com.github.mjeanroy.dbunit.core.jdbc.JdbcDataSourceConnectionFactory;
 import com.github.mjeanroy.dbunit.core.runner.DbUnitRunner;
 import com.github.mjeanroy.dbunit.exception.DbUnitException;
+import com.github.mjeanroy.dbunit.it.configuration.TestSpringConfiguration;
 import com.github.mjeanroy.dbunit.tests.fixtures.WithDataSet;
 import com.github.mjeanroy.dbunit.tests.jupiter.EmbeddedDatabaseTest;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import static com.github.mjeanroy.dbunit.tests.utils.TestUtils.readPrivate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -85,6 +96,37 @@ class DbUnitTestExecutionListenerTest {
 		verify(appContext).getBean(DataSource.class);
 	}
 
+	@Test
+	void it_should_reuse_runner_for_same_application_context_and_test_class(EmbeddedDatabase db) throws Exception {
+		ApplicationContext appContext = mock(ApplicationContext.class);
+		when(appContext.getBean(DataSource.class)).thenReturn(db);
+
+		DbUnitTestExecutionListener listener = new DbUnitTestExecutionListener();
+		DbUnitRunner runner1 = prepareTestInstance(listener, appContext);
+		DbUnitRunner runner2 = prepareTestInstance(listener, appContext);
+
+		assertThat(runner1).isNotNull().isSameAs(runner2);
+		verify(appContext, times(1)).getBean(DataSource.class);
+	}
+
+	@Test
+	void it_should_evict_runners_when_application_context_is_closed(EmbeddedDatabase db) throws Exception {
+		GenericApplicationContext appContext = new GenericApplicationContext();
+		appContext.registerBean(DataSource.class, () -> db);
+		appContext.refresh();
+
+		DbUnitTestExecutionListener listener = new DbUnitTestExecutionListener();
+		DbUnitRunner runner = prepareTestInstance(listener, appContext);
+		assertThat(runner).isNotNull();
+
+		Map<ApplicationContext, ?> runners = readPrivate(listener, "runners");
+		assertThat(runners).containsKey(appContext);
+
+		appContext.close();
+
+		assertThat(runners).doesNotContainKey(appContext);
+	}
+
 	@Test
 	void it_should_execute_before_test() throws Exception {
 		DbUnitRunner runner = mock(DbUnitRunner.class);
@@ -111,6 +153,34 @@ class DbUnitTestExecutionListenerTest {
 		verify(runner).afterTest(tst.method);
 	}
 
+	@Test
+	void it_should_skip_tear_down_of_rolled_back_test() throws Exception {
+		DbUnitRunner runner = mock(DbUnitRunner.class);
+		Class<WithRollback> klass = WithRollback.class;
+		Method method = klass.getMethod("method1");
+
+		TestContext ctx = mock(TestContext.class);
+		when(ctx.getTestClass()).thenAnswer(invocation -> klass);
+		when(ctx.getTestMethod()).thenReturn(method);
+		when(ctx.getAttribute(DBUNIT_RUNNER_KEY)).thenReturn(runner);
+
+		// Start the test transaction, flagged for rollback by default.
+		WithRollback testInstance = new WithRollback();
+		TestContextManager testContextManager = new TestContextManager(klass);
+		testContextManager.prepareTestInstance(testInstance);
+		testContextManager.beforeTestMethod(testInstance, method);
+
+		try {
+			new DbUnitTestExecutionListener().afterTestMethod(ctx);
+		}
+		finally {
+			testContextManager.afterTestMethod(testInstance, method, null);
+		}
+
+		verify(runner).afterRolledBackTest(method);
+		verify(runner, never()).afterTest(any());
+	}
+
 	@Test
 	void it_should_fail_before_test_if_dbunit_runner_is_not_found() throws Exception {
 		TestSetup tst = setupTest(null);
@@ -133,6 +203,18 @@ class DbUnitTestExecutionListenerTest {
 			.hasMessage("DbUnit runner is missing, attribute DBUNIT_RUNNER may have been removed from TestContext instance");
 	}
 
+	private static DbUnitRunner prepareTestInstance(DbUnitTestExecutionListener listener, ApplicationContext appContext) throws Exception {
+		TestContext ctx = mock(TestContext.class);
+		when(ctx.getTestClass()).thenAnswer(invocation -> WithDataSet.class);
+		when(ctx.getApplicationContext()).thenReturn(appContext);
+
+		listener.prepareTestInstance(ctx);
+
+		ArgumentCaptor<DbUnitRunner> captor = ArgumentCaptor.forClass(DbUnitRunner.class);
+		verify(ctx).setAttribute(same(DBUNIT_RUNNER_KEY), captor.capture());
+		return captor.getValue();
+	}
+
 	private TestSetup setupTest(DbUnitRunner runner) throws Exception {
 		TestContext ctx = mock(TestContext.class);
 		Class<WithDataSet> klass = WithDataSet.class;
@@ -145,6 +227,15 @@ class DbUnitTestExecutionListenerTest {
 		return new TestSetup(ctx, method);
 	}
 
+	@ContextConfiguration(classes = TestSpringConfiguration.class)
+	@TestExecutionListeners(TransactionalTestExecutionListener.class)
+	@Transactional
+	@DbUnitRollback
+	public static class WithRollback {
+		public void method1() {
+		}
+	}
+
 	private static class TestSetup {
 		private final TestContext ctx;
 		private final Method method;
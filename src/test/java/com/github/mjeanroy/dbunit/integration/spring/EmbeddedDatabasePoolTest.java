@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.mjeanroy.dbunit.integration.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedDatabasePoolTest {
+
+	@Test
+	void it_should_reset_and_reuse_database() throws Exception {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> newDatabase(EmbeddedDatabaseType.H2), 1);
+
+		try {
+			awaitAvailable(pool);
+			EmbeddedDatabase db = pool.acquire();
+			executeUpdate(db, "INSERT INTO users (id, name) VALUES (1, 'John Doe')");
+			pool.release(db);
+
+			EmbeddedDatabase reused = pool.acquire();
+			assertThat(reused).isSameAs(db);
+			try (Connection connection = reused.getConnection()) {
+				assertThat(countUsers(connection)).isZero();
+			}
+
+			pool.release(reused);
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	void it_should_reset_hsql_database() throws Exception {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> newDatabase(EmbeddedDatabaseType.HSQL), 1);
+
+		try {
+			awaitAvailable(pool);
+			EmbeddedDatabase db = pool.acquire();
+			executeUpdate(db, "INSERT INTO users (id, name) VALUES (1, 'John Doe')");
+			pool.release(db);
+
+			EmbeddedDatabase reused = pool.acquire();
+			assertThat(reused).isSameAs(db);
+			try (Connection connection = reused.getConnection()) {
+				assertThat(countUsers(connection)).isZero();
+			}
+
+			pool.release(reused);
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	void it_should_restart_identities_and_sequences_of_h2_database() throws Exception {
+		verifyRestartIdentitiesAndSequences(EmbeddedDatabaseType.H2);
+	}
+
+	@Test
+	void it_should_restart_identities_and_sequences_of_hsql_database() throws Exception {
+		verifyRestartIdentitiesAndSequences(EmbeddedDatabaseType.HSQL);
+	}
+
+	@Test
+	void it_should_build_pooled_databases_with_configured_name_as_prefix() throws Exception {
+		EmbeddedDatabaseConfiguration configuration = WithDatabaseName.class.getAnnotation(EmbeddedDatabaseConfiguration.class);
+		Supplier<EmbeddedDatabase> factory = EmbeddedDatabasePool.databaseFactory(configuration);
+		EmbeddedDatabase db1 = factory.get();
+		EmbeddedDatabase db2 = factory.get();
+
+		try (Connection c1 = db1.getConnection(); Connection c2 = db2.getConnection()) {
+			assertThat(c1.getMetaData().getURL()).endsWith(":pooled_1");
+			assertThat(c2.getMetaData().getURL()).endsWith(":pooled_2");
+		}
+		finally {
+			db1.shutdown();
+			db2.shutdown();
+		}
+	}
+
+	@Test
+	void it_should_not_reuse_database_with_new_tables() throws Exception {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> newDatabase(EmbeddedDatabaseType.H2), 1);
+
+		try {
+			awaitAvailable(pool);
+			EmbeddedDatabase db = pool.acquire();
+			executeUpdate(db, "CREATE TABLE foo (id INT)");
+			pool.release(db);
+
+			EmbeddedDatabase other = pool.acquire();
+			assertThat(other).isNotSameAs(db);
+			pool.release(other);
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	void it_should_compute_hit_rate() {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> newDatabase(EmbeddedDatabaseType.H2), 1);
+
+		try {
+			EmbeddedDatabase db1 = pool.acquire();
+			EmbeddedDatabase db2 = pool.acquire();
+			pool.release(db1);
+			pool.release(db2);
+
+			// First acquisition waits for the database built in background, the second one builds a new database.
+			assertThat(pool.getHits()).isEqualTo(1);
+			assertThat(pool.getMisses()).isEqualTo(1);
+			assertThat(pool.getHitRate()).isEqualTo(0.5);
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	void it_should_wait_for_database_built_in_background() {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> {
+			sleep(200);
+			return newDatabase(EmbeddedDatabaseType.H2);
+		}, 1);
+
+		try {
+			EmbeddedDatabase db = pool.acquire();
+			pool.release(db);
+
+			assertThat(pool.getHits()).isEqualTo(1);
+			assertThat(pool.getMisses()).isZero();
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	private static void verifyRestartIdentitiesAndSequences(EmbeddedDatabaseType type) throws Exception {
+		EmbeddedDatabasePool pool = new EmbeddedDatabasePool(() -> newDatabaseWithIdentities(type), 1);
+
+		try {
+			awaitAvailable(pool);
+			EmbeddedDatabase db = pool.acquire();
+			executeUpdate(db, "INSERT INTO other.events (name) VALUES ('first')");
+			assertThat(querySingleInt(db, "SELECT NEXT VALUE FOR other.event_seq FROM other.events")).isEqualTo(10);
+			pool.release(db);
+
+			EmbeddedDatabase reused = pool.acquire();
+			assertThat(reused).isSameAs(db);
+			executeUpdate(reused, "INSERT INTO other.events (name) VALUES ('second')");
+			assertThat(querySingleInt(reused, "SELECT id FROM other.events")).isEqualTo(1);
+			assertThat(querySingleInt(reused, "SELECT NEXT VALUE FOR other.event_seq FROM other.events")).isEqualTo(10);
+			pool.release(reused);
+		}
+		finally {
+			pool.close();
+		}
+	}
+
+	private static void awaitAvailable(EmbeddedDatabasePool pool) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (pool.available() == 0 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+
+		assertThat(pool.available()).isEqualTo(1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new AssertionError(ex);
+		}
+	}
+
+	private static EmbeddedDatabase newDatabase(EmbeddedDatabaseType type) {
+		return new EmbeddedDatabaseBuilder()
+			.setType(type)
+			.generateUniqueName(true)
+			.addScript("classpath:/sql/schema.sql")
+			.build();
+	}
+
+	private static EmbeddedDatabase newDatabaseWithIdentities(EmbeddedDatabaseType type) {
+		EmbeddedDatabase db = new EmbeddedDatabaseBuilder().setType(type).generateUniqueName(true).build();
+
+		try {
+			executeUpdate(db, "CREATE SCHEMA other");
+			executeUpdate(db, "CREATE TABLE other.events (id INT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY, name VARCHAR(50))");
+			executeUpdate(db, "CREATE SEQUENCE other.event_seq START WITH 10");
+			return db;
+		}
+		catch (SQLException ex) {
+			db.shutdown();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static int querySingleInt(EmbeddedDatabase db, String query) throws SQLException {
+		try (Connection connection = db.getConnection(); Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(query)) {
+			assertThat(rs.next()).isTrue();
+			return rs.getInt(1);
+		}
+	}
+
+	private static void executeUpdate(EmbeddedDatabase db, String query) throws SQLException {
+		try (Connection connection = db.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate(query);
+		}
+	}
+
+	@EmbeddedDatabaseConfiguration(databaseName = "pooled", poolSize = 2)
+	private static class WithDatabaseName {
+	}
+}
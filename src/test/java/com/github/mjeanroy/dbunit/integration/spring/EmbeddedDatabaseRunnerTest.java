@@ -26,7 +26,12 @@ package com.github.mjeanroy.dbunit.integration.spring;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -54,14 +59,40 @@ class EmbeddedDatabaseRunnerTest {
 		verify(db).shutdown();
 	}
 
+	@Test
+	void it_should_acquire_db_from_pool_and_release_it_after_test() throws Exception {
+		EmbeddedDatabaseRunner runner1 = new EmbeddedDatabaseRunner(WithPool.class);
+		try (Connection connection = runner1.getDb().getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("INSERT INTO users (id, name) VALUES (1, 'John Doe')");
+		}
+
+		runner1.after();
+
+		EmbeddedDatabaseRunner runner2 = new EmbeddedDatabaseRunner(WithPool.class);
+		try (Connection connection = runner2.getDb().getConnection()) {
+			assertThat(countUsers(connection)).isZero();
+		}
+
+		runner2.after();
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		EmbeddedDatabase db = mock(EmbeddedDatabase.class, "MockEmbeddedDatabase");
 		EmbeddedDatabaseRunner runner = new EmbeddedDatabaseRunner(db);
 		assertThat(runner).hasToString(
 			"EmbeddedDatabaseRunner{" +
-				"db: MockEmbeddedDatabase" +
+				"db: MockEmbeddedDatabase, " +
+				"pool: null" +
 			"}"
 		);
 	}
+
+	@EmbeddedDatabaseConfiguration(
+		databaseType = EmbeddedDatabaseType.H2,
+		scripts = "classpath:/sql/schema.sql",
+		poolSize = 1
+	)
+	private static class WithPool {
+	}
 }
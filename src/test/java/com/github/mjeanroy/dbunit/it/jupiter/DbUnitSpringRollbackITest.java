@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.mjeanroy.dbunit.it.jupiter;
+
+import com.github.mjeanroy.dbunit.core.annotations.DbUnitDataSet;
+import com.github.mjeanroy.dbunit.integration.spring.DbUnitRollback;
+import com.github.mjeanroy.dbunit.integration.spring.DbUnitSpring;
+import com.github.mjeanroy.dbunit.it.configuration.DbUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.countUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteMovies;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteUsers;
+import static com.github.mjeanroy.dbunit.tests.db.TestDbUtils.deleteUsersMovies;
+import static com.github.mjeanroy.dbunit.tests.utils.TestDatasets.CLASSPATH_USERS_XML;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = DbUnitSpringRollbackITest.MvccConfiguration.class)
+@Transactional
+@DbUnitSpring
+@DbUnitRollback
+@DbUnitTest
+class DbUnitSpringRollbackITest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void method1() throws Exception {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countMovies(connection)).isEqualTo(3);
+		assertDataSetNotCommitted();
+	}
+
+	@Test
+	@DbUnitDataSet(CLASSPATH_USERS_XML)
+	void method2() throws Exception {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		assertThat(countUsers(connection)).isEqualTo(2);
+		assertThat(countMovies(connection)).isZero();
+		assertDataSetNotCommitted();
+	}
+
+	@Test
+	void method3() {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		assertThat(deleteUsersMovies(connection)).isEqualTo(3L);
+		assertThat(deleteMovies(connection)).isEqualTo(3L);
+		assertThat(deleteUsers(connection)).isEqualTo(2L);
+	}
+
+	private void assertDataSetNotCommitted() throws SQLException {
+		// The dataset is loaded in the test transaction: it must not be visible from another connection.
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(countUsers(connection)).isZero();
+			assertThat(countMovies(connection)).isZero();
+		}
+	}
+
+	// With the default (locking) transaction control, HSQLDB blocks readers of tables modified by an
+	// uncommitted transaction: multi-version concurrency control is needed to read from another connection.
+	@Configuration
+	static class MvccConfiguration {
+
+		@Bean(destroyMethod = "shutdown")
+		public DataSource dataSource() throws SQLException {
+			EmbeddedDatabase db = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.HSQL)
+				.generateUniqueName(true)
+				.addScript("classpath:/sql/drop.sql")
+				.addScript("classpath:/sql/schema.sql")
+				.build();
+
+			try (Connection connection = db.getConnection(); Statement statement = connection.createStatement()) {
+				statement.execute("SET DATABASE TRANSACTION CONTROL MVCC");
+			}
+
+			return db;
+		}
+
+		@Bean
+		public TransactionManager transactionManager(DataSource dataSource) {
+			JdbcTransactionManager txManager = new JdbcTransactionManager();
+			txManager.setDataSource(dataSource);
+			return txManager;
+		}
+	}
+}